@@ -13,10 +13,10 @@ import org.apache.avro.message.SchemaStore;
 
 @org.apache.avro.specific.AvroGenerated
 public class ProductCatalogChangedAvroModel extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = 4607678151797103051L;
+  private static final long serialVersionUID = 3956041502261542855L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"ProductCatalogChangedAvroModel\",\"namespace\":\"com.project.young.kafka.product.avro.model\",\"fields\":[{\"name\":\"eventId\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},{\"name\":\"productId\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},{\"name\":\"categoryId\",\"type\":[\"null\",\"long\"],\"default\":null},{\"name\":\"changeType\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},{\"name\":\"occurredAt\",\"type\":\"long\"}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"ProductCatalogChangedAvroModel\",\"namespace\":\"com.project.young.kafka.product.avro.model\",\"fields\":[{\"name\":\"eventId\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},{\"name\":\"productId\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},{\"name\":\"categoryId\",\"type\":[\"null\",\"long\"],\"default\":null},{\"name\":\"changeType\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},{\"name\":\"occurredAt\",\"type\":\"long\"},{\"name\":\"previousCategoryId\",\"type\":[\"null\",\"long\"],\"default\":null}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -77,6 +77,7 @@ public class ProductCatalogChangedAvroModel extends org.apache.avro.specific.Spe
   private java.lang.Long categoryId;
   private java.lang.String changeType;
   private long occurredAt;
+  private java.lang.Long previousCategoryId;
 
   /**
    * Default constructor.  Note that this does not initialize fields
@@ -92,13 +93,15 @@ public class ProductCatalogChangedAvroModel extends org.apache.avro.specific.Spe
    * @param categoryId The new value for categoryId
    * @param changeType The new value for changeType
    * @param occurredAt The new value for occurredAt
+   * @param previousCategoryId The new value for previousCategoryId
    */
-  public ProductCatalogChangedAvroModel(java.lang.String eventId, java.lang.String productId, java.lang.Long categoryId, java.lang.String changeType, java.lang.Long occurredAt) {
+  public ProductCatalogChangedAvroModel(java.lang.String eventId, java.lang.String productId, java.lang.Long categoryId, java.lang.String changeType, java.lang.Long occurredAt, java.lang.Long previousCategoryId) {
     this.eventId = eventId;
     this.productId = productId;
     this.categoryId = categoryId;
     this.changeType = changeType;
     this.occurredAt = occurredAt;
+    this.previousCategoryId = previousCategoryId;
   }
 
   @Override
@@ -116,6 +119,7 @@ public class ProductCatalogChangedAvroModel extends org.apache.avro.specific.Spe
     case 2: return categoryId;
     case 3: return changeType;
     case 4: return occurredAt;
+    case 5: return previousCategoryId;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -130,6 +134,7 @@ public class ProductCatalogChangedAvroModel extends org.apache.avro.specific.Spe
     case 2: categoryId = (java.lang.Long)value$; break;
     case 3: changeType = value$ != null ? value$.toString() : null; break;
     case 4: occurredAt = (java.lang.Long)value$; break;
+    case 5: previousCategoryId = (java.lang.Long)value$; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -219,6 +224,23 @@ public class ProductCatalogChangedAvroModel extends org.apache.avro.specific.Spe
     this.occurredAt = value;
   }
 
+  /**
+   * Gets the value of the 'previousCategoryId' field.
+   * @return The value of the 'previousCategoryId' field.
+   */
+  public java.lang.Long getPreviousCategoryId() {
+    return previousCategoryId;
+  }
+
+
+  /**
+   * Sets the value of the 'previousCategoryId' field.
+   * @param value the value to set.
+   */
+  public void setPreviousCategoryId(java.lang.Long value) {
+    this.previousCategoryId = value;
+  }
+
   /**
    * Creates a new ProductCatalogChangedAvroModel RecordBuilder.
    * @return A new ProductCatalogChangedAvroModel RecordBuilder
@@ -265,6 +287,7 @@ public class ProductCatalogChangedAvroModel extends org.apache.avro.specific.Spe
     private java.lang.Long categoryId;
     private java.lang.String changeType;
     private long occurredAt;
+    private java.lang.Long previousCategoryId;
 
     /** Creates a new Builder */
     private Builder() {
@@ -297,6 +320,10 @@ public class ProductCatalogChangedAvroModel extends org.apache.avro.specific.Spe
         this.occurredAt = data().deepCopy(fields()[4].schema(), other.occurredAt);
         fieldSetFlags()[4] = other.fieldSetFlags()[4];
       }
+      if (isValidValue(fields()[5], other.previousCategoryId)) {
+        this.previousCategoryId = data().deepCopy(fields()[5].schema(), other.previousCategoryId);
+        fieldSetFlags()[5] = other.fieldSetFlags()[5];
+      }
     }
 
     /**
@@ -325,6 +352,10 @@ public class ProductCatalogChangedAvroModel extends org.apache.avro.specific.Spe
         this.occurredAt = data().deepCopy(fields()[4].schema(), other.occurredAt);
         fieldSetFlags()[4] = true;
       }
+      if (isValidValue(fields()[5], other.previousCategoryId)) {
+        this.previousCategoryId = data().deepCopy(fields()[5].schema(), other.previousCategoryId);
+        fieldSetFlags()[5] = true;
+      }
     }
 
     /**
@@ -526,6 +557,46 @@ public class ProductCatalogChangedAvroModel extends org.apache.avro.specific.Spe
       return this;
     }
 
+    /**
+      * Gets the value of the 'previousCategoryId' field.
+      * @return The value.
+      */
+    public java.lang.Long getPreviousCategoryId() {
+      return previousCategoryId;
+    }
+
+
+    /**
+      * Sets the value of the 'previousCategoryId' field.
+      * @param value The value of 'previousCategoryId'.
+      * @return This builder.
+      */
+    public com.project.young.kafka.product.avro.model.ProductCatalogChangedAvroModel.Builder setPreviousCategoryId(java.lang.Long value) {
+      validate(fields()[5], value);
+      this.previousCategoryId = value;
+      fieldSetFlags()[5] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'previousCategoryId' field has been set.
+      * @return True if the 'previousCategoryId' field has been set, false otherwise.
+      */
+    public boolean hasPreviousCategoryId() {
+      return fieldSetFlags()[5];
+    }
+
+
+    /**
+      * Clears the value of the 'previousCategoryId' field.
+      * @return This builder.
+      */
+    public com.project.young.kafka.product.avro.model.ProductCatalogChangedAvroModel.Builder clearPreviousCategoryId() {
+      previousCategoryId = null;
+      fieldSetFlags()[5] = false;
+      return this;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public ProductCatalogChangedAvroModel build() {
@@ -536,6 +607,7 @@ public class ProductCatalogChangedAvroModel extends org.apache.avro.specific.Spe
         record.categoryId = fieldSetFlags()[2] ? this.categoryId : (java.lang.Long) defaultValue(fields()[2]);
         record.changeType = fieldSetFlags()[3] ? this.changeType : (java.lang.String) defaultValue(fields()[3]);
         record.occurredAt = fieldSetFlags()[4] ? this.occurredAt : (java.lang.Long) defaultValue(fields()[4]);
+        record.previousCategoryId = fieldSetFlags()[5] ? this.previousCategoryId : (java.lang.Long) defaultValue(fields()[5]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
@@ -584,6 +656,14 @@ public class ProductCatalogChangedAvroModel extends org.apache.avro.specific.Spe
 
     out.writeLong(this.occurredAt);
 
+    if (this.previousCategoryId == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      out.writeLong(this.previousCategoryId);
+    }
+
   }
 
   @Override public void customDecode(org.apache.avro.io.ResolvingDecoder in)
@@ -606,8 +686,15 @@ public class ProductCatalogChangedAvroModel extends org.apache.avro.specific.Spe
 
       this.occurredAt = in.readLong();
 
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.previousCategoryId = null;
+      } else {
+        this.previousCategoryId = in.readLong();
+      }
+
     } else {
-      for (int i = 0; i < 5; i++) {
+      for (int i = 0; i < 6; i++) {
         switch (fieldOrder[i].pos()) {
         case 0:
           this.eventId = in.readString();
@@ -634,6 +721,15 @@ public class ProductCatalogChangedAvroModel extends org.apache.avro.specific.Spe
           this.occurredAt = in.readLong();
           break;
 
+        case 5:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.previousCategoryId = null;
+          } else {
+            this.previousCategoryId = in.readLong();
+          }
+          break;
+
         default:
           throw new java.io.IOException("Corrupt ResolvingDecoder.");
         }
@@ -0,0 +1,148 @@
+package com.project.young.orderservice.dataaccess.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.project.young.orderservice.application.port.output.CartCatalogLineCachePort;
+import com.project.young.orderservice.application.port.output.CartCatalogLineKey;
+import com.project.young.orderservice.application.port.output.view.CartCatalogLineView;
+import com.project.young.orderservice.dataaccess.config.CartCatalogLineCacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-instance catalog lines keyed by variant id, served for {@code ttl-seconds} and bounded by {@code max-entries};
+ * only missing variants are sent to product-service. Not-found variants are not cached.
+ * <p>
+ * Each product with cached lines has a current {@link Generation}, and a line is served only while the generation
+ * it was stored under is still current. Invalidation replaces the generation and drops the product's lines; a load
+ * that started before it stores under the replaced generation, so its lines are never served. A generation is
+ * dropped once the product has no lines left, so invalidations of products nobody has in a cart cost nothing.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "order-service.cart-catalog-cache", name = "enabled", havingValue = "true")
+public class InMemoryCartCatalogLineCacheAdapter implements CartCatalogLineCachePort {
+
+    private final Cache<UUID, CachedLine> entries;
+    private final ConcurrentHashMap<UUID, Generation> productGenerations = new ConcurrentHashMap<>();
+
+    public InMemoryCartCatalogLineCacheAdapter(CartCatalogLineCacheProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    InMemoryCartCatalogLineCacheAdapter(CartCatalogLineCacheProperties properties, LongSupplier nanoClock) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(properties.getTtlSeconds()))
+                .ticker(nanoClock::getAsLong)
+                .executor(Runnable::run)
+                .<UUID, CachedLine>removalListener((variantId, line, cause) -> onRemoval(variantId, line, cause))
+                .build();
+    }
+
+    @Override
+    public Map<UUID, CartCatalogLineView> getOrLoadAll(
+            Collection<CartCatalogLineKey> lines,
+            Function<Collection<CartCatalogLineKey>, Map<UUID, CartCatalogLineView>> loader
+    ) {
+        if (lines == null || lines.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, CartCatalogLineView> found = new HashMap<>();
+        List<CartCatalogLineKey> missing = new ArrayList<>();
+        for (CartCatalogLineKey line : lines) {
+            CachedLine cached = entries.getIfPresent(line.productVariantId());
+            if (cached != null && isCurrent(cached) && cached.view().productId().equals(line.productId())) {
+                found.put(line.productVariantId(), cached.view());
+            } else {
+                missing.add(line);
+            }
+        }
+        if (missing.isEmpty()) {
+            return Map.copyOf(found);
+        }
+
+        // Captured before loading so an eviction during the load leaves the loaded lines unservable.
+        Map<UUID, Generation> generations = new HashMap<>();
+        missing.forEach(line -> generations.computeIfAbsent(line.productId(),
+                productId -> productGenerations.computeIfAbsent(productId, id -> new Generation())));
+        Map<UUID, CartCatalogLineView> loaded = loader.apply(missing);
+        loaded.forEach((variantId, view) -> {
+            Generation generation = generations.get(view.productId());
+            if (generation != null && productGenerations.get(view.productId()) == generation) {
+                generation.variantIds().add(variantId);
+                entries.put(variantId, new CachedLine(view, generation));
+            }
+        });
+        // Products the load returned nothing for (or lost to an eviction) keep no generation.
+        generations.forEach(this::dropIfEmpty);
+        found.putAll(loaded);
+        return Map.copyOf(found);
+    }
+
+    @Override
+    public void evictProduct(UUID productId) {
+        if (productId == null) {
+            return;
+        }
+        Generation generation = productGenerations.remove(productId);
+        if (generation != null) {
+            entries.invalidateAll(Set.copyOf(generation.variantIds()));
+        }
+    }
+
+    int size() {
+        entries.cleanUp();
+        return (int) entries.estimatedSize();
+    }
+
+    int trackedProducts() {
+        return productGenerations.size();
+    }
+
+    private boolean isCurrent(CachedLine cached) {
+        return productGenerations.get(cached.view().productId()) == cached.generation();
+    }
+
+    private void onRemoval(UUID variantId, CachedLine line, RemovalCause cause) {
+        // A replacement is stored under the current generation, so the variant is still cached under it.
+        if (variantId == null || line == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+        line.generation().variantIds().remove(variantId);
+        dropIfEmpty(line.view().productId(), line.generation());
+    }
+
+    private void dropIfEmpty(UUID productId, Generation generation) {
+        if (generation.variantIds().isEmpty()) {
+            productGenerations.remove(productId, generation);
+        }
+    }
+
+    /**
+     * Compared by identity: a replaced generation never becomes current again, even after being dropped.
+     */
+    private static final class Generation {
+
+        private final Set<UUID> variantIds = ConcurrentHashMap.newKeySet();
+
+        Set<UUID> variantIds() {
+            return variantIds;
+        }
+    }
+
+    private record CachedLine(CartCatalogLineView view, Generation generation) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.young.orderservice.dataaccess.adapter;
+
+import com.project.young.orderservice.application.port.output.CartCatalogLineCachePort;
+import com.project.young.orderservice.application.port.output.CartCatalogLineKey;
+import com.project.young.orderservice.application.port.output.view.CartCatalogLineView;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Repository
+@ConditionalOnProperty(prefix = "order-service.cart-catalog-cache", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class PassthroughCartCatalogLineCacheAdapter implements CartCatalogLineCachePort {
+
+    @Override
+    public Map<UUID, CartCatalogLineView> getOrLoadAll(
+            Collection<CartCatalogLineKey> lines,
+            Function<Collection<CartCatalogLineKey>, Map<UUID, CartCatalogLineView>> loader
+    ) {
+        return loader.apply(lines);
+    }
+
+    @Override
+    public void evictProduct(UUID productId) {
+        // no-op
+    }
+}
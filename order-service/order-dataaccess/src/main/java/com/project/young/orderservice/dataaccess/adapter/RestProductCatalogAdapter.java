@@ -1,5 +1,6 @@
 package com.project.young.orderservice.dataaccess.adapter;
 
+import com.project.young.orderservice.application.port.output.CartCatalogLineCachePort;
 import com.project.young.orderservice.application.port.output.CartCatalogLineKey;
 import com.project.young.orderservice.application.port.output.ProductCatalogClientException;
 import com.project.young.orderservice.application.port.output.ProductCatalogPort;
@@ -27,6 +28,10 @@ import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * {@link #resolveLines} answers cached variants from {@link CartCatalogLineCachePort} and posts only the missing ones;
+ * {@link #resolveLatestLines} always posts every requested variant.
+ */
 @Component
 @Slf4j
 public class RestProductCatalogAdapter implements ProductCatalogPort {
@@ -37,13 +42,16 @@ public class RestProductCatalogAdapter implements ProductCatalogPort {
 
     private final RestClient productCatalogRestClient;
     private final CircuitBreakerFactory<?, ?> circuitBreakerFactory;
+    private final CartCatalogLineCachePort cartCatalogLineCachePort;
 
     public RestProductCatalogAdapter(
             @Qualifier("productCatalogRestClient") RestClient productCatalogRestClient,
-            CircuitBreakerFactory<?, ?> circuitBreakerFactory
+            CircuitBreakerFactory<?, ?> circuitBreakerFactory,
+            CartCatalogLineCachePort cartCatalogLineCachePort
     ) {
         this.productCatalogRestClient = productCatalogRestClient;
         this.circuitBreakerFactory = circuitBreakerFactory;
+        this.cartCatalogLineCachePort = cartCatalogLineCachePort;
     }
 
     @Override
@@ -51,18 +59,18 @@ public class RestProductCatalogAdapter implements ProductCatalogPort {
         if (lines == null || lines.isEmpty()) {
             return Map.of();
         }
+        Map<UUID, CartCatalogLineKey> keyByVariantId = distinctByVariantId(lines);
+        return cartCatalogLineCachePort.getOrLoadAll(keyByVariantId.values(), this::resolveLatestLines);
+    }
 
-        Map<UUID, CartCatalogLineKey> keyByVariantId = lines.stream()
-                .collect(Collectors.toMap(
-                        CartCatalogLineKey::productVariantId,
-                        Function.identity(),
-                        (left, right) -> left
-                ));
+    @Override
+    public Map<UUID, CartCatalogLineView> resolveLatestLines(Collection<CartCatalogLineKey> lines) {
+        if (lines == null || lines.isEmpty()) {
+            return Map.of();
+        }
 
+        Map<UUID, CartCatalogLineKey> keyByVariantId = distinctByVariantId(lines);
         List<UUID> variantIds = List.copyOf(keyByVariantId.keySet());
-        if (variantIds.size() > MAX_BATCH_SIZE) {
-            throw new IllegalArgumentException("Cannot resolve more than " + MAX_BATCH_SIZE + " cart catalog lines at once.");
-        }
 
         CircuitBreaker circuitBreaker = circuitBreakerFactory.create(CIRCUIT_BREAKER_ID);
         return circuitBreaker.run(
@@ -71,6 +79,19 @@ public class RestProductCatalogAdapter implements ProductCatalogPort {
         );
     }
 
+    private static Map<UUID, CartCatalogLineKey> distinctByVariantId(Collection<CartCatalogLineKey> lines) {
+        Map<UUID, CartCatalogLineKey> keyByVariantId = lines.stream()
+                .collect(Collectors.toMap(
+                        CartCatalogLineKey::productVariantId,
+                        Function.identity(),
+                        (left, right) -> left
+                ));
+        if (keyByVariantId.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Cannot resolve more than " + MAX_BATCH_SIZE + " cart catalog lines at once.");
+        }
+        return keyByVariantId;
+    }
+
     private Map<UUID, CartCatalogLineView> fetchAndMap(
             List<UUID> variantIds,
             Map<UUID, CartCatalogLineKey> keyByVariantId
@@ -0,0 +1,17 @@
+package com.project.young.orderservice.dataaccess.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "order-service.cart-catalog-cache")
+public class CartCatalogLineCacheProperties {
+
+    private boolean enabled = false;
+    private long ttlSeconds = 30;
+    private int maxEntries = 20_000;
+}
@@ -0,0 +1,165 @@
+package com.project.young.orderservice.dataaccess.adapter;
+
+import com.project.young.orderservice.application.port.output.CartCatalogLineKey;
+import com.project.young.orderservice.application.port.output.view.CartCatalogLineView;
+import com.project.young.orderservice.dataaccess.config.CartCatalogLineCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryCartCatalogLineCacheAdapterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Collection<CartCatalogLineKey>> loaderCalls = new ArrayList<>();
+
+    private InMemoryCartCatalogLineCacheAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        CartCatalogLineCacheProperties properties = new CartCatalogLineCacheProperties();
+        properties.setEnabled(true);
+        properties.setTtlSeconds(30);
+        properties.setMaxEntries(2);
+        adapter = new InMemoryCartCatalogLineCacheAdapter(properties, clock::get);
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 캐시된 variant를 제외하고 없는 variant만 loader에 넘긴다")
+    void getOrLoadAll_loadsOnlyMissingVariants() {
+        UUID productId = UUID.randomUUID();
+        CartCatalogLineKey first = new CartCatalogLineKey(productId, UUID.randomUUID());
+        CartCatalogLineKey second = new CartCatalogLineKey(productId, UUID.randomUUID());
+
+        adapter.getOrLoadAll(List.of(first), loader());
+        advanceSeconds(29);
+        Map<UUID, CartCatalogLineView> resolved = adapter.getOrLoadAll(List.of(first, second), loader());
+
+        assertThat(resolved).containsOnlyKeys(first.productVariantId(), second.productVariantId());
+        assertThat(loaderCalls).containsExactly(List.of(first), List.of(second));
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 로드한다")
+    void getOrLoadAll_afterTtl_reloads() {
+        CartCatalogLineKey line = new CartCatalogLineKey(UUID.randomUUID(), UUID.randomUUID());
+
+        adapter.getOrLoadAll(List.of(line), loader());
+        advanceSeconds(30);
+        adapter.getOrLoadAll(List.of(line), loader());
+
+        assertThat(loaderCalls).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("evictProduct: 해당 상품의 라인만 캐시에서 지우고 세대도 남기지 않는다")
+    void evictProduct_invalidatesOnlyThatProduct() {
+        CartCatalogLineKey evicted = new CartCatalogLineKey(UUID.randomUUID(), UUID.randomUUID());
+        CartCatalogLineKey kept = new CartCatalogLineKey(UUID.randomUUID(), UUID.randomUUID());
+        adapter.getOrLoadAll(List.of(evicted, kept), loader());
+
+        adapter.evictProduct(evicted.productId());
+        adapter.evictProduct(UUID.randomUUID());
+        assertThat(adapter.size()).isEqualTo(1);
+        assertThat(adapter.trackedProducts()).isEqualTo(1);
+        adapter.getOrLoadAll(List.of(evicted, kept), loader());
+
+        assertThat(loaderCalls).hasSize(2);
+        assertThat(loaderCalls.getLast()).containsExactly(evicted);
+    }
+
+    @Test
+    @DisplayName("로드 중에 무효화된 상품의 라인은 반환하되 캐시에서 제공하지 않는다")
+    void getOrLoadAll_evictionDuringLoad_isNotServedFromCache() {
+        CartCatalogLineKey line = new CartCatalogLineKey(UUID.randomUUID(), UUID.randomUUID());
+
+        Map<UUID, CartCatalogLineView> resolved = adapter.getOrLoadAll(List.of(line), keys -> {
+            adapter.evictProduct(line.productId());
+            return loader().apply(keys);
+        });
+        adapter.getOrLoadAll(List.of(line), loader());
+
+        assertThat(resolved).containsOnlyKeys(line.productVariantId());
+        assertThat(loaderCalls).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("캐시된 라인의 productId가 요청 productId와 다르면 캐시를 쓰지 않는다")
+    void getOrLoadAll_productIdMismatch_reloads() {
+        UUID variantId = UUID.randomUUID();
+        adapter.getOrLoadAll(List.of(new CartCatalogLineKey(UUID.randomUUID(), variantId)), loader());
+
+        adapter.getOrLoadAll(List.of(new CartCatalogLineKey(UUID.randomUUID(), variantId)), loader());
+
+        assertThat(loaderCalls).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("max-entries를 넘으면 라인을 내보내고, 라인이 남지 않은 상품의 세대도 함께 정리한다")
+    void getOrLoadAll_overCapacity_evictsLinesAndTheirGenerations() {
+        CartCatalogLineKey first = new CartCatalogLineKey(UUID.randomUUID(), UUID.randomUUID());
+        CartCatalogLineKey second = new CartCatalogLineKey(UUID.randomUUID(), UUID.randomUUID());
+        CartCatalogLineKey third = new CartCatalogLineKey(UUID.randomUUID(), UUID.randomUUID());
+
+        adapter.getOrLoadAll(List.of(first, second), loader());
+        adapter.getOrLoadAll(List.of(third), loader());
+
+        assertThat(adapter.size()).isEqualTo(2);
+        assertThat(adapter.trackedProducts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("TTL로 만료된 라인과 로드 결과가 없는 상품은 세대를 남기지 않는다")
+    void getOrLoadAll_expiredOrNotFound_leavesNoGenerations() {
+        CartCatalogLineKey line = new CartCatalogLineKey(UUID.randomUUID(), UUID.randomUUID());
+        CartCatalogLineKey notFound = new CartCatalogLineKey(UUID.randomUUID(), UUID.randomUUID());
+
+        adapter.getOrLoadAll(List.of(line, notFound), keys -> loader().apply(List.of(line)));
+        assertThat(adapter.trackedProducts()).isEqualTo(1);
+
+        advanceSeconds(31);
+        assertThat(adapter.size()).isZero();
+        assertThat(adapter.trackedProducts()).isZero();
+    }
+
+    private Function<Collection<CartCatalogLineKey>, Map<UUID, CartCatalogLineView>> loader() {
+        return keys -> {
+            loaderCalls.add(List.copyOf(keys));
+            return keys.stream().collect(Collectors.toMap(
+                    CartCatalogLineKey::productVariantId,
+                    key -> line(key.productId(), key.productVariantId())
+            ));
+        };
+    }
+
+    private void advanceSeconds(long seconds) {
+        clock.addAndGet(Duration.ofSeconds(seconds).toNanos());
+    }
+
+    private static CartCatalogLineView line(UUID productId, UUID variantId) {
+        return new CartCatalogLineView(
+                productId,
+                variantId,
+                "Phone",
+                "Brand",
+                "SKU-1",
+                null,
+                new BigDecimal("100.00"),
+                true,
+                5,
+                List.of()
+        );
+    }
+}
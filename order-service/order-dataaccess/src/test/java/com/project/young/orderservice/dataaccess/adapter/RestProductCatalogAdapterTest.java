@@ -4,6 +4,7 @@ import com.project.young.orderservice.application.port.output.CartCatalogLineKey
 import com.project.young.orderservice.application.port.output.ProductCatalogClientException;
 import com.project.young.orderservice.application.port.output.ProductCatalogUnavailableException;
 import com.project.young.orderservice.application.port.output.view.CartCatalogLineView;
+import com.project.young.orderservice.dataaccess.config.CartCatalogLineCacheProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.ExpectedCount.times;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
@@ -39,13 +41,16 @@ import static org.springframework.test.web.client.response.MockRestResponseCreat
 class RestProductCatalogAdapterTest {
 
     private MockRestServiceServer server;
+    private RestClient restClient;
     private RestProductCatalogAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        RestClient.Builder restClient = RestClient.builder().baseUrl("http://product-service");
-        server = MockRestServiceServer.bindTo(restClient).build();
-        adapter = new RestProductCatalogAdapter(restClient.build(), circuitBreakerFactory());
+        RestClient.Builder builder = RestClient.builder().baseUrl("http://product-service");
+        server = MockRestServiceServer.bindTo(builder).build();
+        restClient = builder.build();
+        adapter = new RestProductCatalogAdapter(
+                restClient, circuitBreakerFactory(), new PassthroughCartCatalogLineCacheAdapter());
     }
 
     /**
@@ -228,4 +233,77 @@ class RestProductCatalogAdapterTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("50");
     }
+
+    @Test
+    @DisplayName("resolveLines: 캐시에 있는 variant는 제외하고 없는 variant만 product-service에 요청한다")
+    void resolveLines_withCache_requestsOnlyMissingVariants() {
+        RestProductCatalogAdapter cached = cachedAdapter();
+        UUID productId = UUID.randomUUID();
+        UUID cachedVariantId = UUID.randomUUID();
+        UUID newVariantId = UUID.randomUUID();
+
+        server.expect(requestTo("http://product-service/public/catalog/cart-lines/search"))
+                .andExpect(content().json("""
+                        {"productVariantIds":["%s"]}
+                        """.formatted(cachedVariantId)))
+                .andRespond(withSuccess(linesJson(productId, cachedVariantId), MediaType.APPLICATION_JSON));
+        server.expect(requestTo("http://product-service/public/catalog/cart-lines/search"))
+                .andExpect(content().json("""
+                        {"productVariantIds":["%s"]}
+                        """.formatted(newVariantId)))
+                .andRespond(withSuccess(linesJson(productId, newVariantId), MediaType.APPLICATION_JSON));
+
+        cached.resolveLines(List.of(new CartCatalogLineKey(productId, cachedVariantId)));
+        Map<UUID, CartCatalogLineView> resolved = cached.resolveLines(List.of(
+                new CartCatalogLineKey(productId, cachedVariantId),
+                new CartCatalogLineKey(productId, newVariantId)
+        ));
+
+        server.verify();
+        assertThat(resolved).containsOnlyKeys(cachedVariantId, newVariantId);
+    }
+
+    @Test
+    @DisplayName("resolveLatestLines: 캐시에 있어도 모든 variant를 product-service에 다시 요청한다")
+    void resolveLatestLines_bypassesCache() {
+        RestProductCatalogAdapter cached = cachedAdapter();
+        UUID productId = UUID.randomUUID();
+        UUID variantId = UUID.randomUUID();
+
+        server.expect(times(2), requestTo("http://product-service/public/catalog/cart-lines/search"))
+                .andRespond(withSuccess(linesJson(productId, variantId), MediaType.APPLICATION_JSON));
+
+        cached.resolveLines(List.of(new CartCatalogLineKey(productId, variantId)));
+        Map<UUID, CartCatalogLineView> resolved =
+                cached.resolveLatestLines(List.of(new CartCatalogLineKey(productId, variantId)));
+
+        server.verify();
+        assertThat(resolved).containsOnlyKeys(variantId);
+    }
+
+    private RestProductCatalogAdapter cachedAdapter() {
+        CartCatalogLineCacheProperties properties = new CartCatalogLineCacheProperties();
+        properties.setEnabled(true);
+        return new RestProductCatalogAdapter(
+                restClient, circuitBreakerFactory(), new InMemoryCartCatalogLineCacheAdapter(properties));
+    }
+
+    private static String linesJson(UUID productId, UUID variantId) {
+        return """
+                {
+                  "lines": [{
+                    "productId": "%s",
+                    "productVariantId": "%s",
+                    "productName": "Phone",
+                    "brand": "Brand",
+                    "sku": "SKU-1",
+                    "imageUrl": null,
+                    "unitPrice": 100.00,
+                    "purchasable": true,
+                    "stockQuantity": 5,
+                    "variantOptions": []
+                  }]
+                }
+                """.formatted(productId, variantId);
+    }
 }
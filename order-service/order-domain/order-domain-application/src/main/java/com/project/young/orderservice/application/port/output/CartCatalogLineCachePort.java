@@ -0,0 +1,32 @@
+package com.project.young.orderservice.application.port.output;
+
+import com.project.young.orderservice.application.port.output.view.CartCatalogLineView;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Short-lived per-variant cache of resolved catalog lines in front of {@link ProductCatalogPort}.
+ * Entries are dropped per product when product-service reports a catalog change.
+ */
+public interface CartCatalogLineCachePort {
+
+    /**
+     * Serves cached lines and resolves the rest with one {@code loader} call for the missing keys only.
+     *
+     * @param lines distinct cart lines to resolve
+     * @param loader resolves missing keys; same contract as {@link ProductCatalogPort#resolveLines}
+     * @return resolved lines keyed by {@code productVariantId}; absent keys mean variant not found
+     */
+    Map<UUID, CartCatalogLineView> getOrLoadAll(
+            Collection<CartCatalogLineKey> lines,
+            Function<Collection<CartCatalogLineKey>, Map<UUID, CartCatalogLineView>> loader
+    );
+
+    /**
+     * Drops every cached line of the product.
+     */
+    void evictProduct(UUID productId);
+}
@@ -10,6 +10,7 @@ import java.util.UUID;
  * Resolves storefront catalog data for cart mutations and {@code POST /carts/current/sync}.
  * Implemented via product-service {@code POST /public/catalog/cart-lines/search}.
  * Implementations must resolve all requested lines in a single outbound call (batch).
+ * {@link #resolveLines} may answer from {@link CartCatalogLineCachePort}; {@link #resolveLatestLines} never does.
  */
 public interface ProductCatalogPort {
 
@@ -18,4 +19,9 @@ public interface ProductCatalogPort {
      * @return resolved lines keyed by {@code productVariantId}; absent keys mean variant not found
      */
     Map<UUID, CartCatalogLineView> resolveLines(Collection<CartCatalogLineKey> lines);
+
+    /**
+     * Same as {@link #resolveLines} but always asks product-service, for price-critical revalidation at checkout.
+     */
+    Map<UUID, CartCatalogLineView> resolveLatestLines(Collection<CartCatalogLineKey> lines);
 }
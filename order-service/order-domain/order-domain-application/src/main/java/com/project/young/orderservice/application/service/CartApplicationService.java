@@ -33,11 +33,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 public class CartApplicationService {
@@ -154,12 +156,12 @@ public class CartApplicationService {
     @Transactional
     public CartSyncResult syncCart(CartOwner owner) {
         Objects.requireNonNull(owner, "owner must not be null");
-        return syncWithCatalog(getOrCreateCart(owner));
+        return syncWithCatalog(getOrCreateCart(owner), productCatalogPort::resolveLines);
     }
 
     /**
      * Syncs an existing authenticated user's cart without creating a new one.
-     * Used at checkout when an empty cart must be rejected.
+     * Used at checkout when an empty cart must be rejected; prices and stock are read past the catalog line cache.
      */
     @Transactional
     public CartSyncResult syncExistingUserCart(UserId userId) {
@@ -169,7 +171,7 @@ public class CartApplicationService {
         if (cart.isEmpty()) {
             throw new CartDomainException("Cart is empty.");
         }
-        return syncWithCatalog(cart);
+        return syncWithCatalog(cart, productCatalogPort::resolveLatestLines);
     }
 
     /**
@@ -258,7 +260,7 @@ public class CartApplicationService {
             mergedLineCount++;
         }
 
-        CartSyncResult syncResult = reconcileCartWithCatalog(userCart);
+        CartSyncResult syncResult = reconcileCartWithCatalog(userCart, productCatalogPort::resolveLines);
         cartRepository.update(userCart);
         guestCartRepository.delete(guestCartId);
 
@@ -360,23 +362,29 @@ public class CartApplicationService {
         return cart;
     }
 
-    private CartSyncResult syncWithCatalog(Cart cart) {
+    private CartSyncResult syncWithCatalog(
+            Cart cart,
+            Function<Collection<CartCatalogLineKey>, Map<UUID, CartCatalogLineView>> resolver
+    ) {
         if (cart.isEmpty()) {
             return new CartSyncResult(cart, List.of());
         }
-        CartSyncResult result = reconcileCartWithCatalog(cart);
+        CartSyncResult result = reconcileCartWithCatalog(cart, resolver);
         if (!result.changes().isEmpty()) {
             updateCart(cart);
         }
         return result;
     }
 
-    private CartSyncResult reconcileCartWithCatalog(Cart cart) {
+    private CartSyncResult reconcileCartWithCatalog(
+            Cart cart,
+            Function<Collection<CartCatalogLineKey>, Map<UUID, CartCatalogLineView>> resolver
+    ) {
         if (cart.isEmpty()) {
             return new CartSyncResult(cart, List.of());
         }
 
-        Map<UUID, CartCatalogLineView> resolved = productCatalogPort.resolveLines(toCatalogLineKeys(cart));
+        Map<UUID, CartCatalogLineView> resolved = resolver.apply(toCatalogLineKeys(cart));
         return cart.reconcileWithCatalog(CartCatalogMapper.toLineStateByItemId(cart, resolved));
     }
 
@@ -225,6 +225,31 @@ class CartApplicationServiceTest {
         verify(guestCartRepository, never()).update(any());
     }
 
+    @Test
+    @DisplayName("syncExistingUserCart: checkout 재검증은 catalog line 캐시를 거치지 않는 resolveLatestLines로 조회한다")
+    void syncExistingUserCart_resolvesLatestLines() {
+        CartCatalogLineView catalog = catalogView(true, 5);
+        Cart cart = Cart.createForUser(USER_ID, CART_ID);
+        cart.addOrMergeItem(
+                PRODUCT_ID,
+                VARIANT_ID,
+                CartCatalogMapper.toSnapshot(catalog),
+                1,
+                new CartItemId(UUID.randomUUID())
+        );
+        when(cartRepository.findByUserId(USER_ID)).thenReturn(Optional.of(cart));
+        when(productCatalogPort.resolveLatestLines(any())).thenReturn(Map.of(
+                VARIANT_ID.getValue(),
+                catalog
+        ));
+
+        CartSyncResult result = cartApplicationService.syncExistingUserCart(USER_ID);
+
+        assertThat(result.changes()).isEmpty();
+        verify(productCatalogPort).resolveLatestLines(any());
+        verify(productCatalogPort, never()).resolveLines(any());
+    }
+
     @Test
     @DisplayName("syncCart: cart item별 productId를 catalog key에 포함한다")
     void syncCart_passesProductIdInKeys() {
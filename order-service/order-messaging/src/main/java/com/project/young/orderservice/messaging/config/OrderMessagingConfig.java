@@ -0,0 +1,9 @@
+package com.project.young.orderservice.messaging.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafka;
+
+@Configuration
+@EnableKafka
+public class OrderMessagingConfig {
+}
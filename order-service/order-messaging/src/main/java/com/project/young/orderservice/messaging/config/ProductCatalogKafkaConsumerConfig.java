@@ -0,0 +1,62 @@
+package com.project.young.orderservice.messaging.config;
+
+import com.project.young.kafka.config.KafkaConfigData;
+import com.project.young.orderservice.messaging.dto.ProductCatalogChangedMessage;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Every instance reads the catalog stream by manual assignment of the partitions listed in
+ * {@code order-service.catalog-events.partitions}, without a consumer group, so no group is left behind on restart.
+ * The list must name every partition of the topic. Without a group nothing can be committed: auto commit is off and
+ * the container acks manually (the listener never acks).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "order-service.cart-catalog-cache", name = "enabled", havingValue = "true")
+public class ProductCatalogKafkaConsumerConfig {
+
+    private final KafkaConfigData kafkaConfigData;
+
+    public ProductCatalogKafkaConsumerConfig(KafkaConfigData kafkaConfigData) {
+        this.kafkaConfigData = kafkaConfigData;
+    }
+
+    @Bean
+    public ConsumerFactory<String, ProductCatalogChangedMessage> productCatalogConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigData.getBootstrapServers());
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, ProductCatalogChangedMessage.class.getName());
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, ProductCatalogChangedMessage.class.getPackageName());
+        props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ProductCatalogChangedMessage>
+    productCatalogKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, ProductCatalogChangedMessage> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(productCatalogConsumerFactory());
+        factory.setConcurrency(1);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+}
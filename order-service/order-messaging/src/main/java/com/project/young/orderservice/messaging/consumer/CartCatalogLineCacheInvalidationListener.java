@@ -0,0 +1,52 @@
+package com.project.young.orderservice.messaging.consumer;
+
+import com.project.young.orderservice.application.port.output.CartCatalogLineCachePort;
+import com.project.young.orderservice.messaging.config.ProductCatalogKafkaConsumerConfig;
+import com.project.young.orderservice.messaging.dto.ProductCatalogChangedMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.PartitionOffset;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Component;
+
+/**
+ * Catalog lines are cached per instance, so every instance reads the whole of product-service's outbox stream
+ * (see {@link ProductCatalogKafkaConsumerConfig}), from the end (older events predate its cache).
+ * Consumes Debezium JSON from {@code product.catalog.changed}.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "order-service.cart-catalog-cache", name = "enabled", havingValue = "true")
+public class CartCatalogLineCacheInvalidationListener {
+
+    private final CartCatalogLineCachePort cartCatalogLineCachePort;
+
+    public CartCatalogLineCacheInvalidationListener(CartCatalogLineCachePort cartCatalogLineCachePort) {
+        this.cartCatalogLineCachePort = cartCatalogLineCachePort;
+    }
+
+    @KafkaListener(
+            topicPartitions = @TopicPartition(
+                    topic = "${order-service.catalog-events.topic-name}",
+                    partitionOffsets = @PartitionOffset(
+                            partition = "${order-service.catalog-events.partitions}",
+                            initialOffset = "0",
+                            seekPosition = "END"
+                    )
+            ),
+            containerFactory = "productCatalogKafkaListenerContainerFactory"
+    )
+    public void onProductCatalogChanged(ProductCatalogChangedMessage message) {
+        if (message == null || message.productId() == null) {
+            log.warn("Skipping cart catalog line invalidation message with missing productId");
+            return;
+        }
+        cartCatalogLineCachePort.evictProduct(message.productId());
+        log.debug(
+                "Kafka-evicted cart catalog lines of product {} ({})",
+                message.productId(),
+                message.changeType()
+        );
+    }
+}
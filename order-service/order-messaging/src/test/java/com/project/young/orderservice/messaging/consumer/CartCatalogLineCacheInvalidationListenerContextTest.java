@@ -0,0 +1,74 @@
+package com.project.young.orderservice.messaging.consumer;
+
+import com.project.young.kafka.config.KafkaConfigData;
+import com.project.young.orderservice.application.port.output.CartCatalogLineCachePort;
+import com.project.young.orderservice.messaging.config.ProductCatalogKafkaConsumerConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.TopicPartitionOffset;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the listener container the way the application does, so a listener definition Spring Kafka rejects
+ * fails here instead of at startup. No broker is needed: partitions are assigned without a group.
+ */
+@SpringJUnitConfig(CartCatalogLineCacheInvalidationListenerContextTest.Config.class)
+@TestPropertySource(properties = {
+        "order-service.cart-catalog-cache.enabled=true",
+        "order-service.catalog-events.topic-name=product.catalog.changed",
+        "order-service.catalog-events.partitions=0-2"
+})
+class CartCatalogLineCacheInvalidationListenerContextTest {
+
+    @Autowired
+    private KafkaListenerEndpointRegistry registry;
+
+    @MockitoBean
+    private CartCatalogLineCachePort cartCatalogLineCachePort;
+
+    @Test
+    @DisplayName("리스너 컨테이너가 기동되고, 설정된 모든 파티션을 그룹 없이 끝 오프셋부터 할당받는다")
+    void listenerContainer_startsWithEveryConfiguredPartitionAtEnd() {
+        assertThat(registry.getListenerContainers()).singleElement().satisfies(container -> {
+            assertThat(container.isRunning()).isTrue();
+            assertThat(container.getGroupId()).isNull();
+            assertThat(partitions(container))
+                    .extracting(TopicPartitionOffset::getPartition)
+                    .containsExactly(0, 1, 2);
+            assertThat(partitions(container))
+                    .extracting(TopicPartitionOffset::getPosition)
+                    .containsOnly(TopicPartitionOffset.SeekPosition.END);
+        });
+    }
+
+    private static TopicPartitionOffset[] partitions(MessageListenerContainer container) {
+        TopicPartitionOffset[] partitions = container.getContainerProperties().getTopicPartitions();
+        return partitions == null ? new TopicPartitionOffset[0] : Arrays.copyOf(partitions, partitions.length);
+    }
+
+    @Configuration
+    @EnableKafka
+    @Import({ProductCatalogKafkaConsumerConfig.class, CartCatalogLineCacheInvalidationListener.class})
+    static class Config {
+
+        @Bean
+        KafkaConfigData kafkaConfigData() {
+            KafkaConfigData kafkaConfigData = new KafkaConfigData();
+            kafkaConfigData.setBootstrapServers("localhost:9");
+            return kafkaConfigData;
+        }
+    }
+}
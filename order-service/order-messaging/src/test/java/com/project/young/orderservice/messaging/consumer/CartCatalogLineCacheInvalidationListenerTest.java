@@ -0,0 +1,59 @@
+package com.project.young.orderservice.messaging.consumer;
+
+import com.project.young.orderservice.application.port.output.CartCatalogLineCachePort;
+import com.project.young.orderservice.messaging.dto.ProductCatalogChangedMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CartCatalogLineCacheInvalidationListenerTest {
+
+    @Mock
+    private CartCatalogLineCachePort cartCatalogLineCachePort;
+
+    @InjectMocks
+    private CartCatalogLineCacheInvalidationListener listener;
+
+    @Test
+    @DisplayName("Debezium catalog 메시지를 받으면 productId의 카트 catalog line 캐시를 무효화한다")
+    void onProductCatalogChanged_evictsProductLines() {
+        UUID productId = UUID.randomUUID();
+
+        listener.onProductCatalogChanged(message(productId));
+
+        verify(cartCatalogLineCachePort).evictProduct(productId);
+    }
+
+    @Test
+    @DisplayName("productId가 없으면 무효화를 건너뛴다")
+    void onProductCatalogChanged_whenProductIdNull_skipsEvict() {
+        listener.onProductCatalogChanged(message(null));
+        listener.onProductCatalogChanged(null);
+
+        verify(cartCatalogLineCachePort, never()).evictProduct(any());
+    }
+
+    private static ProductCatalogChangedMessage message(UUID productId) {
+        return new ProductCatalogChangedMessage(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                productId,
+                4L,
+                "PRODUCT_UPDATED",
+                Instant.parse("2026-06-13T08:03:10.343300Z"),
+                null,
+                Instant.parse("2026-06-13T08:03:10.345273Z")
+        );
+    }
+}
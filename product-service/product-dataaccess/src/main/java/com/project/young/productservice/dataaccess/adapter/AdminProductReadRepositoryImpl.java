@@ -22,10 +22,10 @@ import com.project.young.productservice.dataaccess.projection.AdminProductListPr
 import com.project.young.productservice.dataaccess.entity.ProductOptionValueImageEntity;
 import com.project.young.productservice.dataaccess.repository.AdminProductJpaRepository;
 import com.project.young.productservice.dataaccess.repository.AdminProductSearchQueryRepository;
+import com.project.young.productservice.dataaccess.repository.ProductSearchPage;
 import com.project.young.productservice.dataaccess.repository.ProductImageJpaRepository;
 import com.project.young.productservice.dataaccess.repository.ProductOptionValueImageJpaRepository;
 import com.project.young.productservice.domain.exception.ProductNotFoundException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -124,7 +124,8 @@ public class AdminProductReadRepositoryImpl implements AdminProductReadRepositor
                         .and(Sort.by(Sort.Direction.DESC, "id"))
         );
 
-        Page<AdminProductListProjection> rowPage = adminProductSearchQueryRepository.search(condition, pageable);
+        ProductSearchPage<AdminProductListProjection> rowPage =
+                adminProductSearchQueryRepository.search(condition, pageable);
 
         List<ReadProductView> views = rowPage.getContent().stream()
                 .map(this::toReadProductView)
@@ -135,7 +136,8 @@ public class AdminProductReadRepositoryImpl implements AdminProductReadRepositor
                 rowPage.getNumber(),
                 rowPage.getSize(),
                 rowPage.getTotalElements(),
-                rowPage.getTotalPages()
+                rowPage.getTotalPages(),
+                rowPage.getTotalCountMode()
         );
     }
 
@@ -2,18 +2,20 @@ package com.project.young.productservice.dataaccess.adapter;
 
 import com.project.young.productservice.application.port.output.view.ReadCategoryView;
 import com.project.young.productservice.application.port.output.CategoryReadRepository;
+import com.project.young.productservice.dataaccess.cache.CategorySnapshot;
+import com.project.young.productservice.dataaccess.cache.CategorySnapshotCache;
 import com.project.young.productservice.dataaccess.entity.CategoryEntity;
 import com.project.young.productservice.dataaccess.enums.CategoryStatusEntity;
 import com.project.young.productservice.dataaccess.mapper.CategoryDataAccessMapper;
 import com.project.young.productservice.dataaccess.repository.CategoryJpaRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @Repository
 @Transactional(readOnly = true)
@@ -22,63 +24,73 @@ public class CategoryReadRepositoryImpl implements CategoryReadRepository {
 
     private final CategoryJpaRepository categoryJpaRepository;
     private final CategoryDataAccessMapper categoryDataAccessMapper;
+    private final CategorySnapshotCache categorySnapshotCache;
 
     public CategoryReadRepositoryImpl(CategoryJpaRepository categoryJpaRepository,
-                                      CategoryDataAccessMapper categoryDataAccessMapper) {
+                                      CategoryDataAccessMapper categoryDataAccessMapper,
+                                      CategorySnapshotCache categorySnapshotCache) {
         this.categoryJpaRepository = categoryJpaRepository;
         this.categoryDataAccessMapper = categoryDataAccessMapper;
+        this.categorySnapshotCache = categorySnapshotCache;
     }
 
+    /**
+     * Served from the in-memory snapshot; touches the DB only when the snapshot is rebuilt.
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<ReadCategoryView> findAllActiveCategoryHierarchy() {
-        List<CategoryEntity> allActiveCategories = categoryJpaRepository.findAllWithParentByStatus(CategoryStatusEntity.ACTIVE);
-        log.info("Found {} active categories from the database.", allActiveCategories.size());
-        return buildHierarchyFromEntities(allActiveCategories);
+        return activeSnapshot().roots();
     }
 
     @Override
     public List<ReadCategoryView> findAllCategoryHierarchy() {
         List<CategoryEntity> allCategories = categoryJpaRepository.findAllWithParent();
         log.info("Found {} total categories from the database for admin.", allCategories.size());
-        return buildHierarchyFromEntities(allCategories);
+        return CategorySnapshot.buildTree(toFlatViews(allCategories));
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean existsActiveById(long categoryId) {
-        return categoryJpaRepository.existsByIdAndStatus(categoryId, CategoryStatusEntity.ACTIVE);
+        return activeSnapshot().contains(categoryId);
     }
 
-    private List<ReadCategoryView> buildHierarchyFromEntities(List<CategoryEntity> entities) {
-        if (entities.isEmpty()) {
-            return Collections.emptyList();
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<Long> findActiveAncestorIds(long categoryId) {
+        CategorySnapshot snapshot = activeSnapshot();
+        List<Long> ancestorIds = new ArrayList<>();
+        Long parentId = snapshot.findById(categoryId).map(ReadCategoryView::parentId).orElse(null);
+        while (parentId != null && !ancestorIds.contains(parentId)) {
+            Optional<ReadCategoryView> parent = snapshot.findById(parentId);
+            if (parent.isEmpty()) {
+                break;
+            }
+            ancestorIds.add(parentId);
+            parentId = parent.get().parentId();
         }
-
-        Map<Long, List<CategoryEntity>> childrenByParentIdMap = entities.stream()
-                .filter(category -> category.getParent() != null)
-                .collect(Collectors.groupingBy(category -> category.getParent().getId()));
-
-        return entities.stream()
-                .filter(category -> category.getParent() == null)
-                .map(rootEntity -> buildViewTree(rootEntity, childrenByParentIdMap))
-                .collect(Collectors.toList());
+        return List.copyOf(ancestorIds);
     }
 
-    private ReadCategoryView buildViewTree(CategoryEntity entity, Map<Long, List<CategoryEntity>> childrenMap) {
-        List<CategoryEntity> childEntities = childrenMap.getOrDefault(entity.getId(), Collections.emptyList());
-
-        // Recursively build views for each child. This creates the list of child views.
-        List<ReadCategoryView> childViews = childEntities.stream()
-                .map(childEntity -> buildViewTree(childEntity, childrenMap))
-                .collect(Collectors.toList());
+    private CategorySnapshot activeSnapshot() {
+        return categorySnapshotCache.get(this::loadActiveCategories);
+    }
 
-        Long parentId = (entity.getParent() != null) ? entity.getParent().getId() : null;
+    private List<ReadCategoryView> loadActiveCategories() {
+        List<CategoryEntity> allActiveCategories = categoryJpaRepository.findAllWithParentByStatus(CategoryStatusEntity.ACTIVE);
+        log.info("Found {} active categories from the database.", allActiveCategories.size());
+        return toFlatViews(allActiveCategories);
+    }
 
-        return new ReadCategoryView(
-                entity.getId(),
-                entity.getName(),
-                parentId,
-                categoryDataAccessMapper.toDomainStatus(entity.getStatus()),
-                childViews
-        );
+    private List<ReadCategoryView> toFlatViews(List<CategoryEntity> entities) {
+        return entities.stream()
+                .map(entity -> new ReadCategoryView(
+                        entity.getId(),
+                        entity.getName(),
+                        (entity.getParent() != null) ? entity.getParent().getId() : null,
+                        categoryDataAccessMapper.toDomainStatus(entity.getStatus())
+                ))
+                .toList();
     }
 }
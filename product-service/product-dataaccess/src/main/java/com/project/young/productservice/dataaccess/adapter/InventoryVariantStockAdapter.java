@@ -1,9 +1,11 @@
 package com.project.young.productservice.dataaccess.adapter;
 
+import com.project.young.common.domain.valueobject.ProductId;
 import com.project.young.common.domain.valueobject.ProductVariantId;
 import com.project.young.productservice.application.port.output.InventoryVariantStockPort;
 import com.project.young.productservice.dataaccess.entity.ProductVariantEntity;
 import com.project.young.productservice.dataaccess.enums.ProductStatusEntity;
+import com.project.young.productservice.dataaccess.projection.VariantOnHandProjection;
 import com.project.young.productservice.dataaccess.repository.ProductVariantJpaRepository;
 import com.project.young.productservice.domain.exception.InventoryDomainException;
 import com.project.young.productservice.domain.exception.ProductDomainException;
@@ -14,9 +16,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 @Transactional(readOnly = true)
@@ -56,6 +62,34 @@ public class InventoryVariantStockAdapter implements InventoryVariantStockPort {
         return List.copyOf(snapshots);
     }
 
+    @Override
+    public Map<ProductId, Map<UUID, Integer>> findOnHandByProductIds(Collection<ProductId> productIds) {
+        Objects.requireNonNull(productIds, "productIds must not be null");
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> ids = productIds.stream().map(ProductId::getValue).distinct().toList();
+
+        Map<ProductId, Map<UUID, Integer>> onHandByProduct = new HashMap<>();
+        for (VariantOnHandProjection row : productVariantJpaRepository.findOnHandByProductIdIn(ids)) {
+            onHandByProduct.computeIfAbsent(new ProductId(row.productId()), ignored -> new HashMap<>())
+                    .put(row.variantId(), row.stockQuantity());
+        }
+        return onHandByProduct;
+    }
+
+    @Override
+    public Set<ProductId> findProductIdsByVariantIds(Collection<ProductVariantId> variantIds) {
+        Objects.requireNonNull(variantIds, "variantIds must not be null");
+        if (variantIds.isEmpty()) {
+            return Set.of();
+        }
+        List<UUID> ids = variantIds.stream().map(ProductVariantId::getValue).distinct().toList();
+        return productVariantJpaRepository.findProductIdsByIdIn(ids).stream()
+                .map(ProductId::new)
+                .collect(Collectors.toSet());
+    }
+
     @Override
     @Transactional
     public void touchVersions(Collection<ProductVariantId> variantIds) {
@@ -23,6 +23,7 @@ public class ProductCatalogOutboxAdapter implements ProductCatalogOutboxPort {
                 .eventId(event.eventId())
                 .productId(event.productId())
                 .categoryId(event.categoryId())
+                .previousCategoryId(event.previousCategoryId())
                 .changeType(event.changeType().name())
                 .occurredAt(event.occurredAt())
                 .build());
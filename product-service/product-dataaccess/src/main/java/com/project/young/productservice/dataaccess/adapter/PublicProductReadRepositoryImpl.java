@@ -2,6 +2,7 @@ package com.project.young.productservice.dataaccess.adapter;
 
 import com.project.young.common.domain.valueobject.ProductId;
 import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductListCursor;
 import com.project.young.productservice.application.dto.query.PublicProductSort;
 import com.project.young.productservice.application.dto.result.PublicProductListPageResult;
 import com.project.young.productservice.application.port.output.PublicProductReadRepository;
@@ -14,6 +15,7 @@ import com.project.young.productservice.application.port.output.view.ReadProduct
 import com.project.young.productservice.application.port.output.view.ReadProductOptionValueView;
 import com.project.young.productservice.application.port.output.view.ReadProductVariantView;
 import com.project.young.productservice.application.port.output.view.ReadPublicProductSummaryView;
+import com.project.young.productservice.dataaccess.cache.InMemoryPublicProductSearchIndexAdapter;
 import com.project.young.productservice.dataaccess.entity.OptionGroupEntity;
 import com.project.young.productservice.dataaccess.entity.OptionValueEntity;
 import com.project.young.productservice.dataaccess.entity.ProductEntity;
@@ -29,19 +31,25 @@ import com.project.young.productservice.dataaccess.enums.ProductImageRoleEntity;
 import com.project.young.productservice.dataaccess.enums.ProductStatusEntity;
 import com.project.young.productservice.dataaccess.mapper.ProductDataAccessMapper;
 import com.project.young.productservice.dataaccess.projection.PublicProductListProjection;
+import com.project.young.productservice.dataaccess.projection.StorefrontCartLineProjection;
 import com.project.young.productservice.dataaccess.repository.OptionGroupJpaRepository;
 import com.project.young.productservice.dataaccess.repository.ProductImageJpaRepository;
 import com.project.young.productservice.dataaccess.repository.ProductJpaRepository;
 import com.project.young.productservice.dataaccess.repository.ProductOptionValueImageJpaRepository;
+import com.project.young.productservice.dataaccess.repository.ProductSearchPage;
 import com.project.young.productservice.dataaccess.repository.ProductVariantJpaRepository;
 import com.project.young.productservice.dataaccess.repository.PublicProductSearchQueryRepository;
+import com.project.young.productservice.dataaccess.repository.StorefrontCartLineProjectionQueryRepository;
+import com.project.young.productservice.dataaccess.repository.StorefrontProductDetailJsonQueryRepository;
 import com.project.young.productservice.domain.valueobject.ProductStatus;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -67,6 +75,9 @@ public class PublicProductReadRepositoryImpl implements PublicProductReadReposit
     private final ProductOptionValueImageJpaRepository productOptionValueImageJpaRepository;
     private final OptionGroupJpaRepository optionGroupJpaRepository;
     private final ProductVariantJpaRepository productVariantJpaRepository;
+    private final InMemoryPublicProductSearchIndexAdapter publicProductSearchIndex;
+    private final StorefrontProductDetailJsonQueryRepository storefrontProductDetailJsonQueryRepository;
+    private final StorefrontCartLineProjectionQueryRepository storefrontCartLineProjectionQueryRepository;
 
     public PublicProductReadRepositoryImpl(PublicProductSearchQueryRepository publicProductSearchQueryRepository,
                                            ProductJpaRepository productJpaRepository,
@@ -74,7 +85,10 @@ public class PublicProductReadRepositoryImpl implements PublicProductReadReposit
                                            ProductImageJpaRepository productImageJpaRepository,
                                            ProductOptionValueImageJpaRepository productOptionValueImageJpaRepository,
                                            OptionGroupJpaRepository optionGroupJpaRepository,
-                                           ProductVariantJpaRepository productVariantJpaRepository) {
+                                           ProductVariantJpaRepository productVariantJpaRepository,
+                                           InMemoryPublicProductSearchIndexAdapter publicProductSearchIndex,
+                                           StorefrontProductDetailJsonQueryRepository storefrontProductDetailJsonQueryRepository,
+                                           StorefrontCartLineProjectionQueryRepository storefrontCartLineProjectionQueryRepository) {
         this.publicProductSearchQueryRepository = publicProductSearchQueryRepository;
         this.productJpaRepository = productJpaRepository;
         this.productDataAccessMapper = productDataAccessMapper;
@@ -82,9 +96,19 @@ public class PublicProductReadRepositoryImpl implements PublicProductReadReposit
         this.productOptionValueImageJpaRepository = productOptionValueImageJpaRepository;
         this.optionGroupJpaRepository = optionGroupJpaRepository;
         this.productVariantJpaRepository = productVariantJpaRepository;
+        this.publicProductSearchIndex = publicProductSearchIndex;
+        this.storefrontProductDetailJsonQueryRepository = storefrontProductDetailJsonQueryRepository;
+        this.storefrontCartLineProjectionQueryRepository = storefrontCartLineProjectionQueryRepository;
     }
 
+    /**
+     * Served from the in-memory search index when it is active and loaded; otherwise by SQL in
+     * {@link PublicProductSearchQueryRepository}'s read-only transaction. Joins the caller's transaction if there is
+     * one, so the index path takes no DB connection only when called outside a transaction (as
+     * {@code PublicProductQueryService} does).
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PublicProductListPageResult search(
             PublicProductSearchCondition condition,
             PublicProductSort sort,
@@ -92,8 +116,9 @@ public class PublicProductReadRepositoryImpl implements PublicProductReadReposit
             int size
     ) {
         Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1));
-        Page<PublicProductListProjection> rowPage =
-                publicProductSearchQueryRepository.search(condition, sort, pageable);
+        ProductSearchPage<PublicProductListProjection> rowPage = publicProductSearchIndex
+                .search(condition, sort, pageable)
+                .orElseGet(() -> publicProductSearchQueryRepository.search(condition, sort, pageable));
 
         List<ReadPublicProductSummaryView> content = rowPage.getContent().stream()
                 .map(this::toReadPublicProductSummaryView)
@@ -104,10 +129,40 @@ public class PublicProductReadRepositoryImpl implements PublicProductReadReposit
                 rowPage.getNumber(),
                 rowPage.getSize(),
                 rowPage.getTotalElements(),
-                rowPage.getTotalPages()
+                rowPage.getTotalPages(),
+                rowPage.getTotalCountMode()
         );
     }
 
+    @Override
+    public PublicProductListPageResult searchByCursor(
+            PublicProductSearchCondition condition,
+            PublicProductSort sort,
+            PublicProductListCursor cursor,
+            int size
+    ) {
+        int pageSize = Math.max(size, 1);
+        Slice<PublicProductListProjection> slice =
+                publicProductSearchQueryRepository.searchAfter(condition, sort, cursor, pageSize);
+
+        List<ReadPublicProductSummaryView> content = slice.getContent().stream()
+                .map(this::toReadPublicProductSummaryView)
+                .toList();
+
+        String nextCursor = slice.hasNext() && !slice.getContent().isEmpty()
+                ? toNextCursor(sort, slice.getContent().getLast()).encode()
+                : null;
+
+        return PublicProductListPageResult.keyset(content, pageSize, nextCursor);
+    }
+
+    private static PublicProductListCursor toNextCursor(PublicProductSort sort, PublicProductListProjection lastRow) {
+        if (sort == PublicProductSort.NEWEST) {
+            return PublicProductListCursor.ofCreatedAt(lastRow.createdAt(), lastRow.id());
+        }
+        return PublicProductListCursor.ofBasePrice(sort, lastRow.basePrice(), lastRow.id());
+    }
+
     private ReadPublicProductSummaryView toReadPublicProductSummaryView(PublicProductListProjection row) {
         return ReadPublicProductSummaryView.builder()
                 .id(row.id())
@@ -119,12 +174,21 @@ public class PublicProductReadRepositoryImpl implements PublicProductReadReposit
                 .build();
     }
 
+    /**
+     * One JSON-aggregation statement when that load strategy is configured; otherwise the entity fetch path below.
+     */
     @Override
     public Optional<ReadProductDetailView> findStorefrontProductDetailById(ProductId productId) {
         if (productId == null) {
             throw new IllegalArgumentException("productId must not be null.");
         }
 
+        Optional<Map<UUID, ReadProductDetailView>> aggregated =
+                storefrontProductDetailJsonQueryRepository.findDetailsByIds(List.of(productId.getValue()));
+        if (aggregated.isPresent()) {
+            return Optional.ofNullable(aggregated.get().get(productId.getValue()));
+        }
+
         Optional<ProductEntity> optionLoaded = fetchStorefrontDetailRoot(productId.getValue());
         if (optionLoaded.isEmpty()) {
             return Optional.empty();
@@ -132,7 +196,61 @@ public class PublicProductReadRepositoryImpl implements PublicProductReadReposit
 
         hydrateStorefrontVariants(productId.getValue());
 
-        return optionLoaded.map(this::toReadProductDetailView);
+        return optionLoaded.map(entity -> toReadProductDetailView(
+                entity,
+                loadDetailImages(entity),
+                loadOptionMetadata(entity)
+        ));
+    }
+
+    @Override
+    public Map<ProductId, ReadProductDetailView> findStorefrontProductDetailsByIds(Collection<ProductId> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UUID> distinctProductIds = productIds.stream()
+                .map(productId -> Objects.requireNonNull(productId, "productId must not be null.").getValue())
+                .distinct()
+                .toList();
+
+        Optional<Map<UUID, ReadProductDetailView>> aggregated =
+                storefrontProductDetailJsonQueryRepository.findDetailsByIds(distinctProductIds);
+        if (aggregated.isPresent()) {
+            Map<ProductId, ReadProductDetailView> viewsById = new HashMap<>();
+            aggregated.get().forEach((id, view) -> viewsById.put(new ProductId(id), view));
+            return viewsById;
+        }
+
+        List<ProductEntity> products = productJpaRepository.findStorefrontOptionsByIdIn(
+                distinctProductIds,
+                EXCLUDED_STOREFRONT_STATUSES,
+                CategoryStatusEntity.DELETED
+        );
+        if (products.isEmpty()) {
+            return Map.of();
+        }
+
+        // Same two-step fetch as the single-product path, but one statement per collection for the whole batch.
+        productJpaRepository.findStorefrontVariantsByIdIn(
+                products.stream().map(ProductEntity::getId).toList(),
+                EXCLUDED_STOREFRONT_STATUSES,
+                CategoryStatusEntity.DELETED
+        );
+
+        Map<UUID, List<ReadProductImageView>> productImagesByProductId = loadProductImages(products);
+        Map<UUID, List<ReadProductImageView>> optionValueImagesById = loadOptionValueImages(products);
+        OptionMetadataBundle optionMetadata = loadOptionMetadataByOptionGroupIds(collectOptionGroupIds(products));
+
+        Map<ProductId, ReadProductDetailView> viewsById = new HashMap<>();
+        for (ProductEntity product : products) {
+            DetailImageBundle imageBundle = new DetailImageBundle(
+                    productImagesByProductId.getOrDefault(product.getId(), List.of()),
+                    optionValueImagesById
+            );
+            viewsById.put(new ProductId(product.getId()), toReadProductDetailView(product, imageBundle, optionMetadata));
+        }
+        return viewsById;
     }
 
     @Override
@@ -178,6 +296,42 @@ public class PublicProductReadRepositoryImpl implements PublicProductReadReposit
                 .toList();
     }
 
+    /**
+     * One projection statement when that load strategy is configured; otherwise empty and the caller takes the entity
+     * fetch path above plus its own reservation sum.
+     */
+    @Override
+    public Optional<List<ReadCartCatalogLineView>> findAvailableCartCatalogLinesByVariantIds(
+            List<UUID> productVariantIds,
+            Instant asOf
+    ) {
+        Objects.requireNonNull(asOf, "asOf must not be null.");
+        List<UUID> variantIds = productVariantIds == null ? List.of() : productVariantIds;
+
+        return storefrontCartLineProjectionQueryRepository.findByVariantIds(variantIds, asOf)
+                .map(rows -> rows.stream().map(this::toReadCartCatalogLineView).toList());
+    }
+
+    private ReadCartCatalogLineView toReadCartCatalogLineView(StorefrontCartLineProjection row) {
+        ProductStatus productStatus = productDataAccessMapper.toDomainStatus(row.productStatus());
+        ProductStatus variantStatus = productDataAccessMapper.toDomainStatus(row.variantStatus());
+        boolean purchasable = StorefrontProductVisibilityPolicy.isPurchasable(productStatus)
+                && variantStatus.isActive();
+
+        return ReadCartCatalogLineView.builder()
+                .productId(row.productId())
+                .productVariantId(row.productVariantId())
+                .productName(row.productName())
+                .brand(row.brand())
+                .sku(row.sku())
+                .imageUrl(row.imageUrl())
+                .unitPrice(row.unitPrice())
+                .purchasable(purchasable)
+                .stockQuantity(row.availableQuantity())
+                .variantOptions(row.variantOptions())
+                .build();
+    }
+
     private ReadCartCatalogLineView toReadCartCatalogLineView(
             ProductVariantEntity variant,
             OptionMetadataBundle optionMetadata,
@@ -264,15 +418,17 @@ public class PublicProductReadRepositoryImpl implements PublicProductReadReposit
         );
     }
 
-    private ReadProductDetailView toReadProductDetailView(ProductEntity entity) {
+    private ReadProductDetailView toReadProductDetailView(
+            ProductEntity entity,
+            DetailImageBundle imageBundle,
+            OptionMetadataBundle optionMetadata
+    ) {
         Objects.requireNonNull(entity, "entity must not be null.");
 
         Long categoryId = (entity.getCategory() != null)
                 ? entity.getCategory().getId()
                 : null;
 
-        DetailImageBundle imageBundle = loadDetailImages(entity);
-        OptionMetadataBundle optionMetadata = loadOptionMetadata(entity);
         List<ReadProductOptionGroupView> optionGroups = mapOptionGroups(
                 entity,
                 imageBundle.optionValueImagesById(),
@@ -383,7 +539,7 @@ public class PublicProductReadRepositoryImpl implements PublicProductReadReposit
     private DetailImageBundle loadDetailImages(ProductEntity entity) {
         return new DetailImageBundle(
                 loadProductImages(entity.getId()),
-                loadOptionValueImages(entity)
+                loadOptionValueImages(List.of(entity))
         );
     }
 
@@ -398,6 +554,23 @@ public class PublicProductReadRepositoryImpl implements PublicProductReadReposit
                 .toList();
     }
 
+    private Map<UUID, List<ReadProductImageView>> loadProductImages(Collection<ProductEntity> products) {
+        List<UUID> productIds = products.stream().map(ProductEntity::getId).toList();
+
+        Map<UUID, List<ReadProductImageView>> grouped = new HashMap<>();
+        productImageJpaRepository
+                .findByProduct_IdInAndStatusOrderBySortOrderAsc(productIds, OptionStatusEntity.ACTIVE)
+                .stream()
+                .sorted(Comparator
+                        .comparing((ProductImageEntity e) -> e.getRole() == ProductImageRoleEntity.MAIN ? 0 : 1)
+                        .thenComparingInt(ProductImageEntity::getSortOrder))
+                .forEach(image -> grouped
+                        .computeIfAbsent(image.getProduct().getId(), ignored -> new ArrayList<>())
+                        .add(toReadProductImageView(image)));
+
+        return grouped;
+    }
+
     private ReadProductOptionGroupView toReadProductOptionGroupView(
             ProductOptionGroupEntity entity,
             Map<UUID, List<ReadProductImageView>> optionValueImagesById,
@@ -478,11 +651,10 @@ public class PublicProductReadRepositoryImpl implements PublicProductReadReposit
                 .build();
     }
 
-    private Map<UUID, List<ReadProductImageView>> loadOptionValueImages(ProductEntity entity) {
-        if (entity.getOptionGroups() == null || entity.getOptionGroups().isEmpty()) {
-            return Map.of();
-        }
-        List<UUID> povIds = entity.getOptionGroups().stream()
+    private Map<UUID, List<ReadProductImageView>> loadOptionValueImages(Collection<ProductEntity> products) {
+        List<UUID> povIds = products.stream()
+                .filter(product -> product.getOptionGroups() != null)
+                .flatMap(product -> product.getOptionGroups().stream())
                 .filter(group -> group.getOptionValues() != null)
                 .flatMap(group -> group.getOptionValues().stream())
                 .map(ProductOptionValueEntity::getId)
@@ -0,0 +1,87 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.port.output.view.ReadCategoryView;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable view of the ACTIVE category tree at a given version: O(1) id lookup plus the prebuilt root list.
+ */
+public final class CategorySnapshot {
+
+    private final long version;
+    private final Instant builtAt;
+    private final Map<Long, ReadCategoryView> categoriesById;
+    private final List<ReadCategoryView> roots;
+
+    private CategorySnapshot(long version, Instant builtAt, Map<Long, ReadCategoryView> categoriesById,
+                             List<ReadCategoryView> roots) {
+        this.version = version;
+        this.builtAt = builtAt;
+        this.categoriesById = categoriesById;
+        this.roots = roots;
+    }
+
+    public static CategorySnapshot of(long version, List<ReadCategoryView> flatCategories) {
+        List<ReadCategoryView> roots = buildTree(flatCategories);
+        Map<Long, ReadCategoryView> categoriesById = flatCategories.stream()
+                .collect(Collectors.toUnmodifiableMap(ReadCategoryView::id, Function.identity()));
+        return new CategorySnapshot(version, Instant.now(), categoriesById, roots);
+    }
+
+    /**
+     * Builds the view tree from a flat list whose nodes carry {@code parentId}. Nodes whose parent is not
+     * in the list are dropped together with their subtree, matching the status-filtered DB hierarchy.
+     */
+    public static List<ReadCategoryView> buildTree(List<ReadCategoryView> flatCategories) {
+        if (flatCategories.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<ReadCategoryView>> childrenByParentId = flatCategories.stream()
+                .filter(category -> category.parentId() != null)
+                .collect(Collectors.groupingBy(ReadCategoryView::parentId));
+
+        return flatCategories.stream()
+                .filter(category -> category.parentId() == null)
+                .map(root -> withChildren(root, childrenByParentId))
+                .toList();
+    }
+
+    private static ReadCategoryView withChildren(ReadCategoryView node, Map<Long, List<ReadCategoryView>> childrenByParentId) {
+        List<ReadCategoryView> children = childrenByParentId.getOrDefault(node.id(), Collections.emptyList()).stream()
+                .map(child -> withChildren(child, childrenByParentId))
+                .toList();
+        return new ReadCategoryView(node.id(), node.name(), node.parentId(), node.status(), children);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Instant builtAt() {
+        return builtAt;
+    }
+
+    public boolean contains(long categoryId) {
+        return categoriesById.containsKey(categoryId);
+    }
+
+    public Optional<ReadCategoryView> findById(long categoryId) {
+        return Optional.ofNullable(categoriesById.get(categoryId));
+    }
+
+    public int size() {
+        return categoriesById.size();
+    }
+
+    public List<ReadCategoryView> roots() {
+        return roots;
+    }
+}
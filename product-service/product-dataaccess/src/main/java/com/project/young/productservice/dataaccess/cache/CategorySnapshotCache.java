@@ -0,0 +1,86 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.port.output.view.ReadCategoryView;
+import com.project.young.productservice.dataaccess.config.CategorySnapshotProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Holds the current {@link CategorySnapshot} and rebuilds it lazily once a newer version is announced
+ * (local write, Redis pub/sub or version-key poll) or the snapshot exceeds its max age.
+ * A single thread performs each rebuild; while it runs, other readers keep getting the previous snapshot and
+ * only block if there is none yet.
+ */
+@Component
+@Slf4j
+public class CategorySnapshotCache {
+
+    private final CategorySnapshotProperties properties;
+    private final AtomicLong requiredVersion = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile CategorySnapshot snapshot;
+
+    public CategorySnapshotCache(CategorySnapshotProperties properties) {
+        this.properties = properties;
+    }
+
+    public CategorySnapshot get(Supplier<List<ReadCategoryView>> loader) {
+        CategorySnapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        if (!rebuildLock.tryLock()) {
+            if (current != null) {
+                return current;
+            }
+            rebuildLock.lock();
+        }
+        try {
+            current = snapshot;
+            if (isFresh(current)) {
+                return current;
+            }
+            // Read the target version before loading so a bump that races the load triggers another rebuild.
+            long version = requiredVersion.get();
+            CategorySnapshot rebuilt = CategorySnapshot.of(version, loader.get());
+            snapshot = rebuilt;
+            log.info("Rebuilt category snapshot at version {} ({} active categories).",
+                    version, rebuilt.size());
+            return rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Marks every snapshot older than {@code version} as stale. Versions only move forward.
+     */
+    public void advanceTo(long version) {
+        requiredVersion.accumulateAndGet(version, Math::max);
+    }
+
+    public long bumpLocalVersion() {
+        return requiredVersion.incrementAndGet();
+    }
+
+    public long requiredVersion() {
+        return requiredVersion.get();
+    }
+
+    private boolean isFresh(CategorySnapshot candidate) {
+        if (candidate == null || candidate.version() < requiredVersion.get()) {
+            return false;
+        }
+        long maxAgeSeconds = properties.getMaxAgeSeconds();
+        return maxAgeSeconds <= 0
+                || candidate.builtAt().plus(Duration.ofSeconds(maxAgeSeconds)).isAfter(Instant.now());
+    }
+}
@@ -0,0 +1,214 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.dto.query.PublicProductFacetQuery;
+import com.project.young.productservice.application.dto.query.PublicProductFacetType;
+import com.project.young.productservice.application.dto.result.PublicProductFacetResult;
+import com.project.young.productservice.application.port.output.PublicProductFacetCachePort;
+import com.project.young.productservice.dataaccess.config.PublicProductFacetCacheProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Per-instance facet cache with stale-while-revalidate.
+ * <ul>
+ *   <li>fresh: younger than {@code ttl}, its category generation and the category tree version unchanged
+ *       → served as is.</li>
+ *   <li>stale: category or tree invalidated, or older than {@code ttl} but within
+ *       {@code ttl + staleWhileRevalidate} → served as is while one background reload replaces it.</li>
+ *   <li>otherwise → loaded on the caller thread.</li>
+ * </ul>
+ * Invalidation bumps a per-category generation instead of scanning entries; an entry loaded before the bump
+ * keeps its old generation, so a reload racing an invalidation is itself treated as stale.
+ * Category status and parent changes alter which categories every {@code includeDescendants} result aggregates
+ * over, so any newer {@link CategorySnapshotCache} version (announced on every instance) marks all entries stale.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "product-service.facet-cache", name = "enabled", havingValue = "true")
+@Slf4j
+public class InMemoryPublicProductFacetCacheAdapter implements PublicProductFacetCachePort {
+
+    private final PublicProductFacetCacheProperties properties;
+    private final LongSupplier nanoClock;
+    private final LongSupplier categoryTreeVersion;
+    private final Executor refreshExecutor;
+    private final ConcurrentHashMap<FacetCacheKey, CachedFacets> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> categoryGenerations = new ConcurrentHashMap<>();
+
+    public InMemoryPublicProductFacetCacheAdapter(
+            PublicProductFacetCacheProperties properties,
+            CategorySnapshotCache categorySnapshotCache
+    ) {
+        this(
+                properties,
+                System::nanoTime,
+                categorySnapshotCache::requiredVersion,
+                Executors.newVirtualThreadPerTaskExecutor()
+        );
+    }
+
+    InMemoryPublicProductFacetCacheAdapter(
+            PublicProductFacetCacheProperties properties,
+            LongSupplier nanoClock,
+            LongSupplier categoryTreeVersion,
+            Executor refreshExecutor
+    ) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.categoryTreeVersion = categoryTreeVersion;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public PublicProductFacetResult getOrLoad(
+            PublicProductFacetQuery query,
+            Supplier<PublicProductFacetResult> loader
+    ) {
+        FacetCacheKey key = FacetCacheKey.of(query);
+        CachedFacets cached = entries.get(key);
+        long now = nanoClock.getAsLong();
+
+        if (cached != null) {
+            if (isCurrent(key, cached) && ageNanos(cached, now) < ttlNanos()) {
+                return cached.result();
+            }
+            if (ageNanos(cached, now) < ttlNanos() + staleWhileRevalidateNanos()) {
+                scheduleRefresh(key, cached, loader);
+                return cached.result();
+            }
+        }
+        return loadAndStore(key, loader);
+    }
+
+    @Override
+    public void evictCategories(Collection<Long> categoryIds) {
+        for (Long categoryId : categoryIds) {
+            if (categoryId != null) {
+                categoryGenerations.merge(categoryId, 1L, Long::sum);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void scheduleRefresh(FacetCacheKey key, CachedFacets cached, Supplier<PublicProductFacetResult> loader) {
+        if (!cached.refreshing().compareAndSet(false, true)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                loadAndStore(key, loader);
+            } catch (RuntimeException ex) {
+                log.warn("Facet cache background refresh failed for category {}; serving stale", key.categoryId(), ex);
+            } finally {
+                // The entry stays in place when nothing was stored (null result, no room); let the next read retry.
+                cached.refreshing().set(false);
+            }
+        });
+    }
+
+    private PublicProductFacetResult loadAndStore(FacetCacheKey key, Supplier<PublicProductFacetResult> loader) {
+        // Capture the generations before loading so an invalidation during the load leaves the entry stale.
+        long generation = generationOf(key.categoryId());
+        long treeVersion = categoryTreeVersion.getAsLong();
+        PublicProductFacetResult result = loader.get();
+        if (result != null && hasRoomFor(key)) {
+            entries.put(key, new CachedFacets(
+                    result, generation, treeVersion, nanoClock.getAsLong(), new AtomicBoolean()));
+        }
+        return result;
+    }
+
+    private boolean hasRoomFor(FacetCacheKey key) {
+        if (entries.size() < properties.getMaxEntries() || entries.containsKey(key)) {
+            return true;
+        }
+        long now = nanoClock.getAsLong();
+        long servableNanos = ttlNanos() + staleWhileRevalidateNanos();
+        entries.values().removeIf(entry -> ageNanos(entry, now) >= servableNanos);
+        return entries.size() < properties.getMaxEntries();
+    }
+
+    private boolean isCurrent(FacetCacheKey key, CachedFacets cached) {
+        return cached.generation() == generationOf(key.categoryId())
+                && cached.treeVersion() >= categoryTreeVersion.getAsLong();
+    }
+
+    private long generationOf(long categoryId) {
+        return categoryGenerations.getOrDefault(categoryId, 0L);
+    }
+
+    private static long ageNanos(CachedFacets cached, long now) {
+        return now - cached.loadedAtNanos();
+    }
+
+    private long ttlNanos() {
+        return Duration.ofSeconds(properties.getTtlSeconds()).toNanos();
+    }
+
+    private long staleWhileRevalidateNanos() {
+        return Duration.ofSeconds(Math.max(0, properties.getStaleWhileRevalidateSeconds())).toNanos();
+    }
+
+    private record CachedFacets(
+            PublicProductFacetResult result,
+            long generation,
+            long treeVersion,
+            long loadedAtNanos,
+            AtomicBoolean refreshing
+    ) {
+    }
+
+    /**
+     * Normalized query identity: brand order, price scale and keyword case do not create separate entries.
+     */
+    record FacetCacheKey(
+            long categoryId,
+            boolean includeDescendants,
+            String q,
+            List<String> brands,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Set<PublicProductFacetType> facets
+    ) {
+        static FacetCacheKey of(PublicProductFacetQuery query) {
+            return new FacetCacheKey(
+                    query.categoryId(),
+                    query.includeDescendants(),
+                    query.q() == null ? null : query.q().toLowerCase(Locale.ROOT),
+                    query.brands().stream().sorted().toList(),
+                    normalize(query.minPrice()),
+                    normalize(query.maxPrice()),
+                    Set.copyOf(query.facets())
+            );
+        }
+
+        private static BigDecimal normalize(BigDecimal value) {
+            return value == null ? null : value.stripTrailingZeros();
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductSort;
+import com.project.young.productservice.application.dto.result.PublicProductListPageResult;
+import com.project.young.productservice.application.port.output.PublicProductListCachePort;
+import com.project.young.productservice.application.port.output.view.ReadPublicProductSummaryView;
+import com.project.young.productservice.dataaccess.config.PublicProductListCacheProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Per-instance cache of the first {@code max-pages} offset PLP pages with stale-while-revalidate.
+ * <ul>
+ *   <li>fresh: younger than {@code ttl} and not invalidated → served as is.</li>
+ *   <li>stale: invalidated, or older than {@code ttl} but within {@code ttl + staleWhileRevalidate}
+ *       → served as is while one background reload replaces it.</li>
+ *   <li>otherwise → loaded on the caller thread; concurrent callers of the same key wait for that load
+ *       instead of running their own query.</li>
+ * </ul>
+ * A catalog change invalidates only the pages whose content lists the product, found by scanning entries
+ * (bounded by {@code max-entries}). Pages a product newly enters (activation, category move, a price change
+ * re-sorting it) pick it up when they expire. A load running during an invalidation is stored as stale.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "product-service.plp-cache", name = "enabled", havingValue = "true")
+@Slf4j
+public class InMemoryPublicProductListCacheAdapter implements PublicProductListCachePort {
+
+    private final PublicProductListCacheProperties properties;
+    private final LongSupplier nanoClock;
+    private final Executor refreshExecutor;
+    private final ConcurrentHashMap<PageCacheKey, CachedPage> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<PageCacheKey, PendingLoad> inFlight = new ConcurrentHashMap<>();
+    private final Set<PageCacheKey> refreshing = ConcurrentHashMap.newKeySet();
+
+    public InMemoryPublicProductListCacheAdapter(PublicProductListCacheProperties properties) {
+        this(properties, System::nanoTime, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    InMemoryPublicProductListCacheAdapter(
+            PublicProductListCacheProperties properties,
+            LongSupplier nanoClock,
+            Executor refreshExecutor
+    ) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public PublicProductListPageResult getOrLoad(
+            PublicProductSearchCondition condition,
+            PublicProductSort sort,
+            int page,
+            int size,
+            Supplier<PublicProductListPageResult> loader
+    ) {
+        if (page >= properties.getMaxPages()) {
+            return loader.get();
+        }
+        PageCacheKey key = PageCacheKey.of(condition, sort, page, size);
+        CachedPage cached = entries.get(key);
+        long now = nanoClock.getAsLong();
+
+        if (cached != null) {
+            if (!cached.invalidated() && ageNanos(cached, now) < ttlNanos()) {
+                return cached.result();
+            }
+            if (ageNanos(cached, now) < ttlNanos() + staleWhileRevalidateNanos()) {
+                scheduleRefresh(key, loader);
+                return cached.result();
+            }
+        }
+        return loadOnce(key, loader);
+    }
+
+    @Override
+    public void evictProducts(Collection<UUID> productIds) {
+        Set<UUID> changed = productIds.stream().filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
+        if (changed.isEmpty()) {
+            return;
+        }
+        // Loads in flight may already have read the old rows; flag them before scanning stored pages.
+        inFlight.values().forEach(load -> load.invalidated().set(true));
+        entries.replaceAll((key, cached) -> !cached.invalidated() && cached.listsAny(changed)
+                ? cached.invalidate()
+                : cached);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void scheduleRefresh(PageCacheKey key, Supplier<PublicProductListPageResult> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                loadOnce(key, loader);
+            } catch (RuntimeException ex) {
+                log.warn("PLP cache background refresh failed for category {}; serving stale", key.categoryId(), ex);
+            } finally {
+                refreshing.remove(key);
+            }
+        });
+    }
+
+    private PublicProductListPageResult loadOnce(PageCacheKey key, Supplier<PublicProductListPageResult> loader) {
+        PendingLoad load = new PendingLoad(new CompletableFuture<>(), new AtomicBoolean());
+        PendingLoad leader = inFlight.putIfAbsent(key, load);
+        if (leader != null) {
+            return await(leader);
+        }
+        try {
+            PublicProductListPageResult result = loader.get();
+            store(key, result, load);
+            load.result().complete(result);
+            return result;
+        } catch (RuntimeException ex) {
+            load.result().completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    private void store(PageCacheKey key, PublicProductListPageResult result, PendingLoad load) {
+        if (result == null || !hasRoomFor(key)) {
+            return;
+        }
+        CachedPage stored = CachedPage.of(result, nanoClock.getAsLong());
+        entries.put(key, stored);
+        // Checked after the put: an eviction either flagged this load already or will scan the stored page.
+        if (load.invalidated().get()) {
+            entries.computeIfPresent(key, (ignored, current) -> current == stored ? stored.invalidate() : current);
+        }
+    }
+
+    private boolean hasRoomFor(PageCacheKey key) {
+        if (entries.size() < properties.getMaxEntries() || entries.containsKey(key)) {
+            return true;
+        }
+        long now = nanoClock.getAsLong();
+        long servableNanos = ttlNanos() + staleWhileRevalidateNanos();
+        entries.values().removeIf(entry -> ageNanos(entry, now) >= servableNanos);
+        return entries.size() < properties.getMaxEntries();
+    }
+
+    private static PublicProductListPageResult await(PendingLoad leader) {
+        try {
+            return leader.result().join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static long ageNanos(CachedPage cached, long now) {
+        return now - cached.loadedAtNanos();
+    }
+
+    private long ttlNanos() {
+        return Duration.ofSeconds(properties.getTtlSeconds()).toNanos();
+    }
+
+    private long staleWhileRevalidateNanos() {
+        return Duration.ofSeconds(Math.max(0, properties.getStaleWhileRevalidateSeconds())).toNanos();
+    }
+
+    private record CachedPage(
+            PublicProductListPageResult result,
+            Set<UUID> productIds,
+            long loadedAtNanos,
+            boolean invalidated
+    ) {
+        static CachedPage of(PublicProductListPageResult result, long loadedAtNanos) {
+            Set<UUID> productIds = result.content().stream()
+                    .map(ReadPublicProductSummaryView::id)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toUnmodifiableSet());
+            return new CachedPage(result, productIds, loadedAtNanos, false);
+        }
+
+        CachedPage invalidate() {
+            return new CachedPage(result, productIds, loadedAtNanos, true);
+        }
+
+        boolean listsAny(Set<UUID> changed) {
+            return changed.stream().anyMatch(productIds::contains);
+        }
+    }
+
+    private record PendingLoad(CompletableFuture<PublicProductListPageResult> result, AtomicBoolean invalidated) {
+    }
+
+    /**
+     * Normalized page identity: brand order, price scale and keyword case do not create separate entries.
+     */
+    record PageCacheKey(
+            long categoryId,
+            boolean includeDescendants,
+            String q,
+            List<String> brands,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            PublicProductSort sort,
+            int page,
+            int size
+    ) {
+        static PageCacheKey of(PublicProductSearchCondition condition, PublicProductSort sort, int page, int size) {
+            String keyword = condition.normalizedKeyword();
+            return new PageCacheKey(
+                    condition.categoryId(),
+                    condition.includeDescendants(),
+                    keyword == null ? null : keyword.toLowerCase(Locale.ROOT),
+                    condition.normalizedBrands().stream().sorted().toList(),
+                    normalize(condition.minPrice()),
+                    normalize(condition.maxPrice()),
+                    sort,
+                    page,
+                    size
+            );
+        }
+
+        private static BigDecimal normalize(BigDecimal value) {
+            return value == null ? null : value.stripTrailingZeros();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductSort;
+import com.project.young.productservice.application.dto.result.TotalCountMode;
+import com.project.young.productservice.application.port.output.CategoryReadRepository;
+import com.project.young.productservice.application.port.output.PublicProductSearchIndexPort;
+import com.project.young.productservice.dataaccess.config.PublicProductSearchProperties;
+import com.project.young.productservice.dataaccess.projection.PublicProductListProjection;
+import com.project.young.productservice.dataaccess.repository.ProductSearchPage;
+import com.project.young.productservice.dataaccess.repository.PublicProductKeywordSearchStrategy;
+import com.project.young.productservice.dataaccess.repository.PublicProductSearchQueryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serves storefront PLP search from a {@link PublicProductSearchIndex} when the keyword strategy is
+ * {@link PublicProductKeywordSearchStrategy#IN_MEMORY_INDEX}; otherwise inactive.
+ * <ul>
+ *   <li>Loaded from {@code products} in id-ordered batches once the application is ready. Until then, and after
+ *       a failed load (retried by the next search), {@link #search} returns empty and callers use SQL.</li>
+ *   <li>Catalog changes ({@link #refreshProducts}) queue product ids; one background task re-reads all queued rows
+ *       and swaps in an index patched for just those products ({@link PublicProductSearchIndex#withChanges}), so a
+ *       burst of changes costs one patch.</li>
+ *   <li>An index whose full load is older than {@code max-age-seconds} is reloaded in the background (heals missed
+ *       events) while the current one keeps serving.</li>
+ * </ul>
+ * Category status and subtree come from the category snapshot per search, so category changes need no rebuild.
+ * Loads and rebuilds run on a single thread, so they never race each other.
+ */
+@Repository
+@Slf4j
+public class InMemoryPublicProductSearchIndexAdapter implements PublicProductSearchIndexPort {
+
+    private final PublicProductSearchQueryRepository publicProductSearchQueryRepository;
+    private final CategoryReadRepository categoryReadRepository;
+    private final PublicProductSearchProperties.InMemoryIndex settings;
+    private final boolean enabled;
+    private final Clock clock;
+    private final Executor rebuildExecutor;
+    private final Set<UUID> pendingProductIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+    private final AtomicBoolean fullLoadQueued = new AtomicBoolean();
+
+    private volatile PublicProductSearchIndex index;
+
+    public InMemoryPublicProductSearchIndexAdapter(
+            PublicProductSearchQueryRepository publicProductSearchQueryRepository,
+            CategoryReadRepository categoryReadRepository,
+            PublicProductSearchProperties searchProperties
+    ) {
+        this(
+                publicProductSearchQueryRepository,
+                categoryReadRepository,
+                searchProperties,
+                Clock.systemUTC(),
+                Executors.newSingleThreadExecutor(Thread.ofVirtual().name("public-product-search-index").factory())
+        );
+    }
+
+    InMemoryPublicProductSearchIndexAdapter(
+            PublicProductSearchQueryRepository publicProductSearchQueryRepository,
+            CategoryReadRepository categoryReadRepository,
+            PublicProductSearchProperties searchProperties,
+            Clock clock,
+            Executor rebuildExecutor
+    ) {
+        this.publicProductSearchQueryRepository = publicProductSearchQueryRepository;
+        this.categoryReadRepository = categoryReadRepository;
+        this.settings = searchProperties.resolvedInMemoryIndex();
+        this.enabled = searchProperties.resolvedKeywordStrategy() == PublicProductKeywordSearchStrategy.IN_MEMORY_INDEX;
+        this.clock = clock;
+        this.rebuildExecutor = rebuildExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (enabled) {
+            scheduleFullLoad();
+        }
+    }
+
+    /**
+     * @return the page with an exact total, or empty when the index is inactive or not loaded yet
+     */
+    public Optional<ProductSearchPage<PublicProductListProjection>> search(
+            PublicProductSearchCondition condition,
+            PublicProductSort sort,
+            Pageable pageable
+    ) {
+        PublicProductSearchIndex current = index;
+        if (current == null) {
+            if (enabled) {
+                scheduleFullLoad();
+            }
+            return Optional.empty();
+        }
+        if (isExpired(current)) {
+            scheduleFullLoad();
+        }
+        long categoryId = condition.categoryId();
+        boolean includeDescendants = condition.includeDescendants();
+        PublicProductSearchIndex.Hits hits = current.search(
+                condition,
+                sort,
+                pageable.getOffset(),
+                pageable.getPageSize(),
+                candidate -> categoryReadRepository.existsActiveById(candidate)
+                        && (candidate == categoryId || includeDescendants
+                        && categoryReadRepository.findActiveAncestorIds(candidate).contains(categoryId))
+        );
+        return Optional.of(new ProductSearchPage<>(hits.content(), pageable, hits.total(), TotalCountMode.EXACT));
+    }
+
+    @Override
+    public void refreshProducts(Collection<UUID> productIds) {
+        if (!enabled || productIds == null || productIds.isEmpty()) {
+            return;
+        }
+        productIds.stream().filter(Objects::nonNull).forEach(pendingProductIds::add);
+        if (refreshQueued.compareAndSet(false, true)) {
+            rebuildExecutor.execute(this::applyPendingRefreshes);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (rebuildExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    boolean isLoaded() {
+        return index != null;
+    }
+
+    private void scheduleFullLoad() {
+        if (fullLoadQueued.compareAndSet(false, true)) {
+            rebuildExecutor.execute(this::fullLoad);
+        }
+    }
+
+    private void fullLoad() {
+        try {
+            long startedAt = System.nanoTime();
+            List<PublicProductListProjection> rows = new ArrayList<>();
+            int batchSize = settings.loadBatchSize();
+            UUID afterId = null;
+            List<PublicProductListProjection> batch;
+            do {
+                batch = publicProductSearchQueryRepository.findIndexRowsAfter(afterId, batchSize);
+                rows.addAll(batch);
+                if (!batch.isEmpty()) {
+                    afterId = batch.getLast().id();
+                }
+            } while (batch.size() == batchSize);
+
+            PublicProductSearchIndex loaded = PublicProductSearchIndex.build(rows, clock.instant());
+            index = loaded;
+            log.info("Loaded public product search index: {} products, {} terms in {} ms.",
+                    loaded.size(), loaded.termCount(), Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        } catch (RuntimeException ex) {
+            log.error("Public product search index load failed; searches stay on SQL until the next attempt", ex);
+        } finally {
+            fullLoadQueued.set(false);
+        }
+    }
+
+    private void applyPendingRefreshes() {
+        // Cleared before draining so ids queued during this run schedule another run.
+        refreshQueued.set(false);
+        Set<UUID> productIds = new HashSet<>();
+        for (UUID productId : pendingProductIds) {
+            if (pendingProductIds.remove(productId)) {
+                productIds.add(productId);
+            }
+        }
+        PublicProductSearchIndex current = index;
+        if (productIds.isEmpty() || current == null) {
+            // Not loaded yet: the full load reads committed rows anyway.
+            return;
+        }
+        try {
+            List<PublicProductListProjection> reloaded = new ArrayList<>();
+            List<UUID> ids = List.copyOf(productIds);
+            for (int from = 0; from < ids.size(); from += settings.loadBatchSize()) {
+                int to = Math.min(from + settings.loadBatchSize(), ids.size());
+                reloaded.addAll(publicProductSearchQueryRepository.findIndexRowsByIds(ids.subList(from, to)));
+            }
+            index = current.withChanges(productIds, reloaded);
+            log.debug("Refreshed {} products in the public product search index.", productIds.size());
+        } catch (RuntimeException ex) {
+            // Retried with the next change or the max-age reload.
+            pendingProductIds.addAll(productIds);
+            log.warn("Public product search index refresh failed for {} products", productIds.size(), ex);
+        }
+    }
+
+    private boolean isExpired(PublicProductSearchIndex current) {
+        return current.loadedAt().plusSeconds(settings.maxAgeSeconds()).isBefore(clock.instant());
+    }
+}
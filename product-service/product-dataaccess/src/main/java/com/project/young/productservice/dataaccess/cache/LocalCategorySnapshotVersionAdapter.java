@@ -0,0 +1,24 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.port.output.CategorySnapshotVersionPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-instance fallback: bumps only this JVM's snapshot. Other instances converge via snapshot max-age.
+ */
+@Component
+@ConditionalOnProperty(prefix = "product-service.category-snapshot", name = "redis-sync-enabled", havingValue = "false", matchIfMissing = true)
+public class LocalCategorySnapshotVersionAdapter implements CategorySnapshotVersionPort {
+
+    private final CategorySnapshotCache categorySnapshotCache;
+
+    public LocalCategorySnapshotVersionAdapter(CategorySnapshotCache categorySnapshotCache) {
+        this.categorySnapshotCache = categorySnapshotCache;
+    }
+
+    @Override
+    public void bumpVersion() {
+        categorySnapshotCache.bumpLocalVersion();
+    }
+}
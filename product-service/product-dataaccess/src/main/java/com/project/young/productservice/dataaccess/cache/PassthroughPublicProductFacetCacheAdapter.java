@@ -0,0 +1,28 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.dto.query.PublicProductFacetQuery;
+import com.project.young.productservice.application.dto.result.PublicProductFacetResult;
+import com.project.young.productservice.application.port.output.PublicProductFacetCachePort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+@Repository
+@ConditionalOnProperty(prefix = "product-service.facet-cache", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class PassthroughPublicProductFacetCacheAdapter implements PublicProductFacetCachePort {
+
+    @Override
+    public PublicProductFacetResult getOrLoad(
+            PublicProductFacetQuery query,
+            Supplier<PublicProductFacetResult> loader
+    ) {
+        return loader.get();
+    }
+
+    @Override
+    public void evictCategories(Collection<Long> categoryIds) {
+        // no-op
+    }
+}
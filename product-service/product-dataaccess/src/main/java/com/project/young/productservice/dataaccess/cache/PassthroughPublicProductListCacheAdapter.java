@@ -0,0 +1,33 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductSort;
+import com.project.young.productservice.application.dto.result.PublicProductListPageResult;
+import com.project.young.productservice.application.port.output.PublicProductListCachePort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Repository
+@ConditionalOnProperty(prefix = "product-service.plp-cache", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class PassthroughPublicProductListCacheAdapter implements PublicProductListCachePort {
+
+    @Override
+    public PublicProductListPageResult getOrLoad(
+            PublicProductSearchCondition condition,
+            PublicProductSort sort,
+            int page,
+            int size,
+            Supplier<PublicProductListPageResult> loader
+    ) {
+        return loader.get();
+    }
+
+    @Override
+    public void evictProducts(Collection<UUID> productIds) {
+        // no-op
+    }
+}
@@ -6,7 +6,10 @@ import com.project.young.productservice.application.port.output.view.ReadProduct
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 @Repository
@@ -23,11 +26,21 @@ public class PassthroughStorefrontProductDetailCacheAdapter implements Storefron
         // no-op
     }
 
+    @Override
+    public Optional<String> findVersion(ProductId productId) {
+        return Optional.empty();
+    }
+
     @Override
     public void evict(ProductId productId) {
         // no-op
     }
 
+    @Override
+    public void refresh(ProductId productId, Supplier<Optional<ReadProductDetailView>> loader) {
+        // no-op
+    }
+
     @Override
     public Optional<ReadProductDetailView> getOrLoad(
             ProductId productId,
@@ -35,4 +48,12 @@ public class PassthroughStorefrontProductDetailCacheAdapter implements Storefron
     ) {
         return loader.get();
     }
+
+    @Override
+    public Map<ProductId, ReadProductDetailView> getOrLoadAll(
+            Collection<ProductId> productIds,
+            Function<Collection<ProductId>, Map<ProductId, ReadProductDetailView>> loader
+    ) {
+        return loader.apply(productIds);
+    }
 }
@@ -0,0 +1,30 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.common.domain.valueobject.ProductId;
+import com.project.young.productservice.application.port.output.StorefrontVariantAvailabilityCachePort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+@Repository
+@ConditionalOnProperty(prefix = "product-service.storefront-cache", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class PassthroughStorefrontVariantAvailabilityCacheAdapter implements StorefrontVariantAvailabilityCachePort {
+
+    @Override
+    public Map<ProductId, Map<UUID, Integer>> findAll(Collection<ProductId> productIds) {
+        return Map.of();
+    }
+
+    @Override
+    public void putAll(Map<ProductId, Map<UUID, Integer>> availabilityByProduct) {
+        // no-op
+    }
+
+    @Override
+    public void evict(ProductId productId) {
+        // no-op
+    }
+}
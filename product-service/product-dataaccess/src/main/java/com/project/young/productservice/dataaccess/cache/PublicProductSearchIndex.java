@@ -0,0 +1,457 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductSort;
+import com.project.young.productservice.dataaccess.projection.PublicProductListProjection;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable in-memory inverted index over listable storefront products.
+ * <ul>
+ *   <li>Documents are slots: a full {@link #build} numbers them in NEWEST order ({@code createdAt DESC, id DESC});
+ *       {@link #withChanges} leaves replaced and removed slots as tombstones and appends reloaded rows as new slots,
+ *       so only the changed documents are tokenized. NEWEST and both price sorts go through order/rank arrays.</li>
+ *   <li>Terms are character trigrams of the NAME_BRAND search text ({@code lower(name) || ' ' || lower(brand)});
+ *       a keyword's candidates are the intersection of its trigram posting lists (ascending slots), confirmed by
+ *       substring match. Keywords shorter than a trigram scan every document.</li>
+ *   <li>Category and brand (as dictionary ordinals) and price (in cents) are primitive arrays, so filtering
+ *       never touches the row objects.</li>
+ * </ul>
+ * Ties are broken by id compared as unsigned bytes, which is how Postgres orders {@code uuid}.
+ */
+public final class PublicProductSearchIndex {
+
+    private static final int TRIGRAM_LENGTH = 3;
+    private static final int[] NO_DOCUMENTS = new int[0];
+    /**
+     * {@link #withChanges} rebuilds from scratch once tombstones exceed a quarter of the live documents.
+     */
+    private static final int LIVE_DOCUMENTS_PER_TOMBSTONE = 4;
+
+    private static final Comparator<UUID> UUID_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+    private static final Comparator<PublicProductListProjection> NEWEST_ORDER = Comparator
+            .comparing(PublicProductListProjection::createdAt, Comparator.reverseOrder())
+            .thenComparing(PublicProductListProjection::id, UUID_ORDER.reversed());
+
+    private final Instant loadedAt;
+    /**
+     * Row per slot; {@code null} marks a tombstone.
+     */
+    private final PublicProductListProjection[] rows;
+    private final int liveCount;
+    private final String[] searchTexts;
+    private final String[] lowerNames;
+    private final int[] categoryOrdinals;
+    private final Map<Long, Integer> categoryOrdinalsById;
+    private final long[] categoryIds;
+    private final int[] brandOrdinals;
+    private final Map<String, Integer> brandOrdinalsByName;
+    private final long[] priceCents;
+    private final int[] newestOrder;
+    private final int[] newestRanks;
+    private final int[] priceAscOrder;
+    private final int[] priceAscRanks;
+    private final int[] priceDescOrder;
+    private final int[] priceDescRanks;
+    private final Map<Long, int[]> postings;
+
+    /**
+     * Copy of {@code base} ({@code null} = empty) with {@code removed} slots turned into tombstones and
+     * {@code added} appended as new slots. Only the terms of removed and added documents get new posting lists.
+     */
+    private PublicProductSearchIndex(
+            Instant loadedAt,
+            PublicProductSearchIndex base,
+            int[] removed,
+            List<PublicProductListProjection> added
+    ) {
+        int baseSize = base == null ? 0 : base.rows.length;
+        int size = baseSize + added.size();
+        this.loadedAt = loadedAt;
+        this.rows = base == null ? new PublicProductListProjection[size] : Arrays.copyOf(base.rows, size);
+        this.liveCount = (base == null ? 0 : base.liveCount) - removed.length + added.size();
+        this.searchTexts = base == null ? new String[size] : Arrays.copyOf(base.searchTexts, size);
+        this.lowerNames = base == null ? new String[size] : Arrays.copyOf(base.lowerNames, size);
+        this.categoryOrdinals = base == null ? new int[size] : Arrays.copyOf(base.categoryOrdinals, size);
+        this.brandOrdinals = base == null ? new int[size] : Arrays.copyOf(base.brandOrdinals, size);
+        this.priceCents = base == null ? new long[size] : Arrays.copyOf(base.priceCents, size);
+
+        boolean[] tombstones = new boolean[size];
+        Map<Long, IntList> changedPostings = new HashMap<>();
+        for (int doc : removed) {
+            tombstones[doc] = true;
+            for (long term : trigrams(searchTexts[doc].codePoints().toArray())) {
+                changedPostings.computeIfAbsent(term, key -> new IntList());
+            }
+            rows[doc] = null;
+            searchTexts[doc] = null;
+            lowerNames[doc] = null;
+        }
+
+        Map<Long, Integer> categoryDictionary = base == null ? new HashMap<>() : new HashMap<>(base.categoryOrdinalsById);
+        Map<String, Integer> brandDictionary = base == null ? new HashMap<>() : new HashMap<>(base.brandOrdinalsByName);
+        for (int doc = baseSize; doc < size; doc++) {
+            PublicProductListProjection row = added.get(doc - baseSize);
+            rows[doc] = row;
+            lowerNames[doc] = lower(row.name());
+            searchTexts[doc] = lowerNames[doc] + " " + lower(row.brand());
+            categoryOrdinals[doc] = categoryDictionary.computeIfAbsent(row.categoryId(), id -> categoryDictionary.size());
+            brandOrdinals[doc] = row.brand() == null
+                    ? -1
+                    : brandDictionary.computeIfAbsent(row.brand(), brand -> brandDictionary.size());
+            priceCents[doc] = toCents(row.basePrice(), RoundingMode.UNNECESSARY);
+            addPostings(changedPostings, searchTexts[doc], doc);
+        }
+
+        this.categoryOrdinalsById = categoryDictionary;
+        this.categoryIds = new long[categoryDictionary.size()];
+        categoryDictionary.forEach((id, ordinal) -> categoryIds[ordinal] = id);
+        this.brandOrdinalsByName = brandDictionary;
+
+        this.postings = base == null ? new HashMap<>(changedPostings.size() * 4 / 3 + 1) : new HashMap<>(base.postings);
+        changedPostings.forEach((term, addedDocs) -> {
+            // Added slots are numbered after every existing slot, so appending keeps the list ascending.
+            IntList docs = new IntList();
+            for (int doc : postings.getOrDefault(term, NO_DOCUMENTS)) {
+                if (!tombstones[doc]) {
+                    docs.add(doc);
+                }
+            }
+            docs.addAll(addedDocs);
+            if (docs.size() == 0) {
+                postings.remove(term);
+            } else {
+                postings.put(term, docs.toArray());
+            }
+        });
+
+        // Both price sorts break ties by id DESC, like the SQL ORDER BY.
+        int[] addedDocs = IntStream.range(baseSize, size).toArray();
+        Comparator<Integer> newest = (a, b) -> NEWEST_ORDER.compare(rows[a], rows[b]);
+        Comparator<Integer> idDesc = (a, b) -> UUID_ORDER.compare(rows[b].id(), rows[a].id());
+        this.newestOrder = mergedOrder(base == null ? NO_DOCUMENTS : base.newestOrder, tombstones, addedDocs, newest);
+        this.priceAscOrder = mergedOrder(base == null ? NO_DOCUMENTS : base.priceAscOrder, tombstones, addedDocs,
+                Comparator.<Integer>comparingLong(doc -> priceCents[doc]).thenComparing(idDesc));
+        this.priceDescOrder = mergedOrder(base == null ? NO_DOCUMENTS : base.priceDescOrder, tombstones, addedDocs,
+                Comparator.<Integer>comparingLong(doc -> -priceCents[doc]).thenComparing(idDesc));
+        this.newestRanks = ranks(newestOrder, size);
+        this.priceAscRanks = ranks(priceAscOrder, size);
+        this.priceDescRanks = ranks(priceDescOrder, size);
+    }
+
+    public static PublicProductSearchIndex build(Collection<PublicProductListProjection> source, Instant loadedAt) {
+        PublicProductListProjection[] rows = source.toArray(PublicProductListProjection[]::new);
+        Arrays.sort(rows, NEWEST_ORDER);
+        return new PublicProductSearchIndex(loadedAt, null, NO_DOCUMENTS, Arrays.asList(rows));
+    }
+
+    /**
+     * New index with every row in {@code changedIds} replaced by its row in {@code reloaded} (absent = removed).
+     * Unchanged documents keep their tokens and relative order; once tombstones pile up the index is rebuilt to
+     * compact it. Keeps {@link #loadedAt()} so the max-age of the last full load still applies.
+     */
+    public PublicProductSearchIndex withChanges(Set<UUID> changedIds, Collection<PublicProductListProjection> reloaded) {
+        IntList removed = new IntList();
+        for (int doc = 0; doc < rows.length; doc++) {
+            if (rows[doc] != null && changedIds.contains(rows[doc].id())) {
+                removed.add(doc);
+            }
+        }
+        int live = liveCount - removed.size() + reloaded.size();
+        int tombstones = rows.length - liveCount + removed.size();
+        if ((long) tombstones * LIVE_DOCUMENTS_PER_TOMBSTONE > live) {
+            List<PublicProductListProjection> merged = new ArrayList<>(live);
+            for (PublicProductListProjection row : rows) {
+                if (row != null && !changedIds.contains(row.id())) {
+                    merged.add(row);
+                }
+            }
+            merged.addAll(reloaded);
+            return build(merged, loadedAt);
+        }
+        return new PublicProductSearchIndex(loadedAt, this, removed.toArray(), List.copyOf(reloaded));
+    }
+
+    /**
+     * Offset page of the matching rows in {@code sort} order plus the exact match count.
+     * RELEVANCE puts rows whose name contains the keyword first, then newest.
+     *
+     * @param categoryInScope decides per distinct category id whether its products are listed
+     */
+    public Hits search(
+            PublicProductSearchCondition condition,
+            PublicProductSort sort,
+            long offset,
+            int size,
+            LongPredicate categoryInScope
+    ) {
+        boolean[] categoryAllowed = new boolean[categoryIds.length];
+        boolean anyCategoryAllowed = false;
+        for (int ordinal = 0; ordinal < categoryIds.length; ordinal++) {
+            categoryAllowed[ordinal] = categoryInScope.test(categoryIds[ordinal]);
+            anyCategoryAllowed |= categoryAllowed[ordinal];
+        }
+        if (!anyCategoryAllowed) {
+            return Hits.EMPTY;
+        }
+
+        boolean[] brandAllowed = null;
+        List<String> brands = condition.normalizedBrands();
+        if (!brands.isEmpty()) {
+            brandAllowed = new boolean[brandOrdinalsByName.size()];
+            for (String brand : brands) {
+                Integer ordinal = brandOrdinalsByName.get(brand);
+                if (ordinal != null) {
+                    brandAllowed[ordinal] = true;
+                }
+            }
+        }
+
+        long minCents = condition.minPrice() == null ? Long.MIN_VALUE : toCents(condition.minPrice(), RoundingMode.CEILING);
+        long maxCents = condition.maxPrice() == null ? Long.MAX_VALUE : toCents(condition.maxPrice(), RoundingMode.FLOOR);
+
+        String keyword = condition.normalizedKeyword();
+        String needle = keyword == null ? null : keyword.toLowerCase(Locale.ROOT);
+        int[] candidates = needle == null ? null : candidates(needle);
+        int candidateCount = candidates == null ? rows.length : candidates.length;
+
+        int[] matches = new int[candidateCount];
+        int matchCount = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            int doc = candidates == null ? i : candidates[i];
+            if (rows[doc] == null) {
+                continue;
+            }
+            if (!categoryAllowed[categoryOrdinals[doc]]) {
+                continue;
+            }
+            if (brandAllowed != null && (brandOrdinals[doc] < 0 || !brandAllowed[brandOrdinals[doc]])) {
+                continue;
+            }
+            if (priceCents[doc] < minCents || priceCents[doc] > maxCents) {
+                continue;
+            }
+            if (needle != null && !searchTexts[doc].contains(needle)) {
+                continue;
+            }
+            matches[matchCount++] = doc;
+        }
+
+        int[] ordered = order(matches, matchCount, sort, needle);
+        int from = (int) Math.min(Math.max(offset, 0L), matchCount);
+        int to = (int) Math.min((long) from + size, matchCount);
+        List<PublicProductListProjection> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            content.add(rows[ordered[i]]);
+        }
+        return new Hits(content, matchCount);
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    public int size() {
+        return liveCount;
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    private int[] order(int[] matches, int matchCount, PublicProductSort sort, String needle) {
+        int[] docs = Arrays.copyOf(matches, matchCount);
+        switch (sort) {
+            case NEWEST -> {
+                return reorderByRank(docs, newestRanks, newestOrder);
+            }
+            case PRICE_ASC -> {
+                return reorderByRank(docs, priceAscRanks, priceAscOrder);
+            }
+            case PRICE_DESC -> {
+                return reorderByRank(docs, priceDescRanks, priceDescOrder);
+            }
+            case RELEVANCE -> {
+                if (needle == null) {
+                    return reorderByRank(docs, newestRanks, newestOrder);
+                }
+                // Name matches first; within each group by NEWEST rank.
+                int[] keys = new int[matchCount];
+                for (int i = 0; i < matchCount; i++) {
+                    keys[i] = (lowerNames[docs[i]].contains(needle) ? 0 : rows.length) + newestRanks[docs[i]];
+                }
+                Arrays.sort(keys);
+                for (int i = 0; i < matchCount; i++) {
+                    docs[i] = newestOrder[keys[i] >= rows.length ? keys[i] - rows.length : keys[i]];
+                }
+                return docs;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort: " + sort);
+    }
+
+    private static int[] reorderByRank(int[] docs, int[] ranks, int[] order) {
+        for (int i = 0; i < docs.length; i++) {
+            docs[i] = ranks[docs[i]];
+        }
+        Arrays.sort(docs);
+        for (int i = 0; i < docs.length; i++) {
+            docs[i] = order[docs[i]];
+        }
+        return docs;
+    }
+
+    /**
+     * @return ascending doc numbers containing every trigram of {@code needle}, or null when it has none
+     */
+    private int[] candidates(String needle) {
+        int[] codePoints = needle.codePoints().toArray();
+        if (codePoints.length < TRIGRAM_LENGTH) {
+            return null;
+        }
+        List<int[]> lists = new ArrayList<>();
+        for (long term : trigrams(codePoints)) {
+            int[] docs = postings.get(term);
+            if (docs == null) {
+                return NO_DOCUMENTS;
+            }
+            lists.add(docs);
+        }
+        lists.sort(Comparator.comparingInt(docs -> docs.length));
+        int[] result = lists.getFirst();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static void addPostings(Map<Long, IntList> postingBuilders, String text, int doc) {
+        for (long term : trigrams(text.codePoints().toArray())) {
+            postingBuilders.computeIfAbsent(term, key -> new IntList()).add(doc);
+        }
+    }
+
+    private static long[] trigrams(int[] codePoints) {
+        if (codePoints.length < TRIGRAM_LENGTH) {
+            return new long[0];
+        }
+        long[] terms = new long[codePoints.length - TRIGRAM_LENGTH + 1];
+        for (int i = 0; i < terms.length; i++) {
+            // 21 bits cover every code point.
+            terms[i] = ((long) codePoints[i] << 42) | ((long) codePoints[i + 1] << 21) | codePoints[i + 2];
+        }
+        return Arrays.stream(terms).distinct().toArray();
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Live docs of {@code order} (already sorted by {@code comparator}) merged with {@code addedDocs}.
+     */
+    private static int[] mergedOrder(int[] order, boolean[] tombstones, int[] addedDocs, Comparator<Integer> comparator) {
+        Integer[] added = Arrays.stream(addedDocs).boxed().toArray(Integer[]::new);
+        Arrays.sort(added, comparator);
+        IntList merged = new IntList();
+        int j = 0;
+        for (int doc : order) {
+            if (tombstones[doc]) {
+                continue;
+            }
+            while (j < added.length && comparator.compare(added[j], doc) < 0) {
+                merged.add(added[j++]);
+            }
+            merged.add(doc);
+        }
+        while (j < added.length) {
+            merged.add(added[j++]);
+        }
+        return merged.toArray();
+    }
+
+    private static int[] ranks(int[] order, int size) {
+        int[] ranks = new int[size];
+        for (int rank = 0; rank < order.length; rank++) {
+            ranks[order[rank]] = rank;
+        }
+        return ranks;
+    }
+
+    private static String lower(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static long toCents(BigDecimal amount, RoundingMode roundingMode) {
+        BigDecimal cents = amount.movePointRight(2).setScale(0, roundingMode);
+        if (cents.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0) {
+            return Long.MAX_VALUE;
+        }
+        if (cents.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) < 0) {
+            return Long.MIN_VALUE;
+        }
+        return cents.longValue();
+    }
+
+    public record Hits(List<PublicProductListProjection> content, long total) {
+        static final Hits EMPTY = new Hits(List.of(), 0L);
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(IntList other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
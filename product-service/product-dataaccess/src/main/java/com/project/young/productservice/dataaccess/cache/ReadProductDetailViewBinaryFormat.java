@@ -0,0 +1,320 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.application.port.output.view.ReadProductImageView;
+import com.project.young.productservice.application.port.output.view.ReadProductOptionGroupView;
+import com.project.young.productservice.application.port.output.view.ReadProductOptionValueView;
+import com.project.young.productservice.application.port.output.view.ReadProductVariantView;
+import com.project.young.productservice.domain.valueobject.ConditionType;
+import com.project.young.productservice.domain.valueobject.OptionStatus;
+import com.project.young.productservice.domain.valueobject.ProductStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link StorefrontProductDetailCacheFormat#BINARY} body: fields in record declaration order, no field names.
+ * Lengths, counts and small ints are unsigned varints; nullable values carry a one-byte presence flag; enums are
+ * written by name so reordering constants does not corrupt cached values.
+ * <p>
+ * Adding, removing or reordering view fields requires a new format version.
+ */
+final class ReadProductDetailViewBinaryFormat {
+
+    private ReadProductDetailViewBinaryFormat() {
+    }
+
+    static byte[] write(ReadProductDetailView view) {
+        Writer out = new Writer();
+        out.uuid(view.id());
+        out.nullableLong(view.categoryId());
+        out.string(view.name());
+        out.string(view.description());
+        out.string(view.brand());
+        out.string(view.mainImageUrl());
+        out.decimal(view.basePrice());
+        out.enumName(view.status());
+        out.enumName(view.conditionType());
+        out.list(view.images(), out::image);
+        out.list(view.optionGroups(), out::optionGroup);
+        out.list(view.variants(), out::variant);
+        return out.toByteArray();
+    }
+
+    static ReadProductDetailView read(byte[] body) {
+        Reader in = new Reader(body);
+        ReadProductDetailView view = ReadProductDetailView.builder()
+                .id(in.uuid())
+                .categoryId(in.nullableLong())
+                .name(in.string())
+                .description(in.string())
+                .brand(in.string())
+                .mainImageUrl(in.string())
+                .basePrice(in.decimal())
+                .status(in.enumValue(ProductStatus::valueOf))
+                .conditionType(in.enumValue(ConditionType::valueOf))
+                .images(in.list(Reader::image))
+                .optionGroups(in.list(Reader::optionGroup))
+                .variants(in.list(Reader::variant))
+                .build();
+        if (in.remaining() != 0) {
+            throw new IllegalStateException("Trailing bytes in storefront PDP cache value: " + in.remaining());
+        }
+        return view;
+    }
+
+    private static final class Writer {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+
+        void image(ReadProductImageView image) {
+            uuid(image.id());
+            string(image.publicUrl());
+            string(image.role());
+            string(image.status());
+            signedVarint(image.sortOrder());
+        }
+
+        void optionGroup(ReadProductOptionGroupView group) {
+            uuid(group.productOptionGroupId());
+            uuid(group.optionGroupId());
+            string(group.groupKey());
+            string(group.displayName());
+            fixedLong(Double.doubleToLongBits(group.stepOrder()));
+            bool(group.required());
+            bool(group.drivesVariantImages());
+            enumName(group.status());
+            list(group.optionValues(), this::optionValue);
+        }
+
+        void optionValue(ReadProductOptionValueView value) {
+            uuid(value.productOptionValueId());
+            uuid(value.optionValueId());
+            string(value.displayName());
+            decimal(value.priceDelta());
+            bool(value.isDefault());
+            enumName(value.status());
+            list(value.images(), this::image);
+        }
+
+        void variant(ReadProductVariantView variant) {
+            uuid(variant.productVariantId());
+            string(variant.sku());
+            signedVarint(variant.stockQuantity());
+            enumName(variant.status());
+            decimal(variant.calculatedPrice());
+            string(variant.mainImageUrl());
+            list(variant.selectedProductOptionValueIds(), this::uuid);
+        }
+
+        <T> void list(List<T> items, Consumer<T> element) {
+            varint(items.size());
+            items.forEach(element);
+        }
+
+        void uuid(UUID value) {
+            if (present(value)) {
+                fixedLong(value.getMostSignificantBits());
+                fixedLong(value.getLeastSignificantBits());
+            }
+        }
+
+        void nullableLong(Long value) {
+            if (present(value)) {
+                signedVarint(value);
+            }
+        }
+
+        void string(String value) {
+            if (present(value)) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                varint(bytes.length);
+                out.writeBytes(bytes);
+            }
+        }
+
+        void decimal(BigDecimal value) {
+            if (present(value)) {
+                signedVarint(value.scale());
+                byte[] unscaled = value.unscaledValue().toByteArray();
+                varint(unscaled.length);
+                out.writeBytes(unscaled);
+            }
+        }
+
+        void enumName(Enum<?> value) {
+            string(value == null ? null : value.name());
+        }
+
+        void bool(boolean value) {
+            out.write(value ? 1 : 0);
+        }
+
+        private boolean present(Object value) {
+            bool(value != null);
+            return value != null;
+        }
+
+        private void fixedLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) (value >>> shift));
+            }
+        }
+
+        private void signedVarint(long value) {
+            varint((value << 1) ^ (value >> 63));
+        }
+
+        private void varint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+    }
+
+    private static final class Reader {
+
+        private final ByteBuffer in;
+
+        Reader(byte[] body) {
+            this.in = ByteBuffer.wrap(body);
+        }
+
+        int remaining() {
+            return in.remaining();
+        }
+
+        ReadProductImageView image() {
+            return new ReadProductImageView(uuid(), string(), string(), string(), (int) signedVarint());
+        }
+
+        ReadProductOptionGroupView optionGroup() {
+            return ReadProductOptionGroupView.builder()
+                    .productOptionGroupId(uuid())
+                    .optionGroupId(uuid())
+                    .groupKey(string())
+                    .displayName(string())
+                    .stepOrder(Double.longBitsToDouble(in.getLong()))
+                    .required(bool())
+                    .drivesVariantImages(bool())
+                    .status(enumValue(OptionStatus::valueOf))
+                    .optionValues(list(Reader::optionValue))
+                    .build();
+        }
+
+        ReadProductOptionValueView optionValue() {
+            return ReadProductOptionValueView.builder()
+                    .productOptionValueId(uuid())
+                    .optionValueId(uuid())
+                    .displayName(string())
+                    .priceDelta(decimal())
+                    .isDefault(bool())
+                    .status(enumValue(OptionStatus::valueOf))
+                    .images(list(Reader::image))
+                    .build();
+        }
+
+        ReadProductVariantView variant() {
+            return ReadProductVariantView.builder()
+                    .productVariantId(uuid())
+                    .sku(string())
+                    .stockQuantity((int) signedVarint())
+                    .status(enumValue(ProductStatus::valueOf))
+                    .calculatedPrice(decimal())
+                    .mainImageUrl(string())
+                    .selectedProductOptionValueIds(list(Reader::uuid))
+                    .build();
+        }
+
+        <T> List<T> list(Function<Reader, T> element) {
+            int size = length();
+            List<T> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add(element.apply(this));
+            }
+            return List.copyOf(items);
+        }
+
+        UUID uuid() {
+            return present() ? new UUID(in.getLong(), in.getLong()) : null;
+        }
+
+        Long nullableLong() {
+            return present() ? signedVarint() : null;
+        }
+
+        String string() {
+            if (!present()) {
+                return null;
+            }
+            byte[] bytes = new byte[length()];
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        BigDecimal decimal() {
+            if (!present()) {
+                return null;
+            }
+            int scale = (int) signedVarint();
+            byte[] unscaled = new byte[length()];
+            in.get(unscaled);
+            return new BigDecimal(new BigInteger(unscaled), scale);
+        }
+
+        <E extends Enum<E>> E enumValue(Function<String, E> valueOf) {
+            String name = string();
+            return name == null ? null : valueOf.apply(name);
+        }
+
+        boolean bool() {
+            return in.get() != 0;
+        }
+
+        private boolean present() {
+            return bool();
+        }
+
+        /**
+         * Every element or byte takes at least one byte, so a count beyond the remaining input means corruption.
+         */
+        private int length() {
+            long length = varint();
+            if (length < 0 || length > in.remaining()) {
+                throw new IllegalStateException("Length " + length + " exceeds storefront PDP cache value");
+            }
+            return (int) length;
+        }
+
+        private long signedVarint() {
+            long raw = varint();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        private long varint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = in.get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalStateException("Malformed varint in storefront PDP cache value");
+        }
+    }
+}
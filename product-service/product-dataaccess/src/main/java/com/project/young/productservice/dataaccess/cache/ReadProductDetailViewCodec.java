@@ -0,0 +1,286 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.application.support.ContentVersions;
+import com.project.young.productservice.dataaccess.config.StorefrontProductCacheProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Redis value codec of the storefront PDP cache.
+ * <p>
+ * A value is a 3-byte header ({@code magic, version, flags}) followed by the body in the configured
+ * {@link StorefrontProductDetailCacheFormat}; bodies of at least {@code compression-threshold-bytes} are
+ * deflated when that makes them smaller. Decoding follows the header, so instances writing different formats can
+ * share the cache during a rollout, and header-less JSON written before the header existed still decodes.
+ * <p>
+ * With {@code FLAG_REFRESH_METADATA}, the header is followed by the key's expiry (epoch millis, 8 bytes) and the
+ * load duration (millis, 4 bytes) used for probabilistic early refresh.
+ * With {@code FLAG_CONTENT_VERSION}, the view's content version (ETag, 16 bytes) follows, so
+ * {@link #peekContentVersion} can answer conditional GETs from the first {@link #VERSION_PREFIX_LENGTH} bytes.
+ * <p>
+ * The version byte names the body format and the header layout together ({@link HeaderVersion}). Every layout
+ * change takes new version numbers: an instance that predates it would read the new fields as body, so it must
+ * see an unknown version instead, which the cache adapter treats as a miss.
+ */
+@Component
+public class ReadProductDetailViewCodec {
+
+    static final byte MAGIC = (byte) 0xEC;
+    static final int HEADER_LENGTH = 3;
+    static final int FLAG_DEFLATED = 0x01;
+    static final int FLAG_REFRESH_METADATA = 0x02;
+    static final int FLAG_CONTENT_VERSION = 0x04;
+    static final int REFRESH_METADATA_LENGTH = Long.BYTES + Integer.BYTES;
+    /** Longest header a content version can end at. */
+    static final int VERSION_PREFIX_LENGTH = HEADER_LENGTH + REFRESH_METADATA_LENGTH + ContentVersions.LENGTH_BYTES;
+
+    /**
+     * Header version byte per body format and layout, with the flags the layout may carry. Numbers are persisted
+     * in Redis and must never be reused; a new layout appends a pair and becomes what {@link #latest} writes.
+     */
+    enum HeaderVersion {
+        /** Header and body only. */
+        JSON_V1(1, StorefrontProductDetailCacheFormat.JSON, FLAG_DEFLATED),
+        BINARY_V1(2, StorefrontProductDetailCacheFormat.BINARY, FLAG_DEFLATED),
+        /** Adds the early-refresh metadata. */
+        JSON_V2(3, StorefrontProductDetailCacheFormat.JSON, FLAG_DEFLATED | FLAG_REFRESH_METADATA),
+        BINARY_V2(4, StorefrontProductDetailCacheFormat.BINARY, FLAG_DEFLATED | FLAG_REFRESH_METADATA),
+        /** Adds the content version. */
+        JSON_V3(5, StorefrontProductDetailCacheFormat.JSON,
+                FLAG_DEFLATED | FLAG_REFRESH_METADATA | FLAG_CONTENT_VERSION),
+        BINARY_V3(6, StorefrontProductDetailCacheFormat.BINARY,
+                FLAG_DEFLATED | FLAG_REFRESH_METADATA | FLAG_CONTENT_VERSION);
+
+        private final int id;
+        private final StorefrontProductDetailCacheFormat format;
+        private final int allowedFlags;
+
+        HeaderVersion(int id, StorefrontProductDetailCacheFormat format, int allowedFlags) {
+            this.id = id;
+            this.format = format;
+            this.allowedFlags = allowedFlags;
+        }
+
+        int id() {
+            return id;
+        }
+
+        static HeaderVersion latest(StorefrontProductDetailCacheFormat format) {
+            return format == StorefrontProductDetailCacheFormat.JSON ? JSON_V3 : BINARY_V3;
+        }
+
+        /**
+         * @return null for a version this instance does not know
+         */
+        static HeaderVersion find(int id) {
+            for (HeaderVersion version : values()) {
+                if (version.id == id) {
+                    return version;
+                }
+            }
+            return null;
+        }
+
+        boolean allows(int flags) {
+            return (flags & ~allowedFlags) == 0;
+        }
+    }
+
+    private final StorefrontProductDetailCacheFormat writeFormat;
+    private final int compressionThresholdBytes;
+    private final ReadProductDetailViewJsonMapper jsonMapper;
+
+    public ReadProductDetailViewCodec(
+            StorefrontProductCacheProperties properties,
+            ReadProductDetailViewJsonMapper jsonMapper
+    ) {
+        this(properties.getFormat(), properties.getCompressionThresholdBytes(), jsonMapper);
+    }
+
+    ReadProductDetailViewCodec(
+            StorefrontProductDetailCacheFormat writeFormat,
+            int compressionThresholdBytes,
+            ReadProductDetailViewJsonMapper jsonMapper
+    ) {
+        this.writeFormat = writeFormat;
+        this.compressionThresholdBytes = compressionThresholdBytes;
+        this.jsonMapper = jsonMapper;
+    }
+
+    public byte[] encode(ReadProductDetailView view) {
+        return encodeEntry(StorefrontProductDetailCacheEntry.withoutRefreshMetadata(view));
+    }
+
+    /**
+     * @throws IllegalStateException if the value is malformed or written in a format this version does not know
+     */
+    public ReadProductDetailView decode(byte[] value) {
+        return decodeEntry(value).view();
+    }
+
+    byte[] encodeEntry(StorefrontProductDetailCacheEntry entry) {
+        ReadProductDetailView view = entry.view();
+        byte[] body = switch (writeFormat) {
+            case JSON -> jsonMapper.toJson(view).getBytes(StandardCharsets.UTF_8);
+            case BINARY -> ReadProductDetailViewBinaryFormat.write(view);
+        };
+        int flags = 0;
+        if (compressionThresholdBytes > 0 && body.length >= compressionThresholdBytes) {
+            byte[] deflated = deflate(body);
+            if (deflated.length < body.length) {
+                body = deflated;
+                flags |= FLAG_DEFLATED;
+            }
+        }
+        int metadataLength = 0;
+        if (entry.hasRefreshMetadata()) {
+            flags |= FLAG_REFRESH_METADATA;
+            metadataLength += REFRESH_METADATA_LENGTH;
+        }
+        byte[] contentVersion = entry.hasContentVersion() ? versionBytes(entry.contentVersion()) : null;
+        if (contentVersion != null) {
+            flags |= FLAG_CONTENT_VERSION;
+            metadataLength += contentVersion.length;
+        }
+        ByteBuffer value = ByteBuffer.allocate(HEADER_LENGTH + metadataLength + body.length)
+                .put(MAGIC)
+                .put((byte) HeaderVersion.latest(writeFormat).id())
+                .put((byte) flags);
+        if (entry.hasRefreshMetadata()) {
+            value.putLong(entry.expiresAtEpochMillis())
+                    .putInt((int) Math.min(Integer.MAX_VALUE, Math.max(0, entry.loadMillis())));
+        }
+        if (contentVersion != null) {
+            value.put(contentVersion);
+        }
+        return value.put(body).array();
+    }
+
+    /**
+     * @throws IllegalStateException if the value is malformed or written in a format this version does not know
+     */
+    StorefrontProductDetailCacheEntry decodeEntry(byte[] value) {
+        if (value.length > 0 && value[0] == '{') {
+            return StorefrontProductDetailCacheEntry.withoutRefreshMetadata(
+                    jsonMapper.fromJson(new String(value, StandardCharsets.UTF_8)));
+        }
+        if (value.length < HEADER_LENGTH || value[0] != MAGIC) {
+            throw new IllegalStateException("Storefront PDP cache value has no codec header");
+        }
+        HeaderVersion version = HeaderVersion.find(value[1] & 0xFF);
+        if (version == null) {
+            throw new IllegalStateException("Unknown storefront PDP cache value version " + (value[1] & 0xFF));
+        }
+        int flags = value[2] & 0xFF;
+        if (!version.allows(flags)) {
+            throw new IllegalStateException("Storefront PDP cache value flags " + flags + " not valid for " + version);
+        }
+        try {
+            ByteBuffer in = ByteBuffer.wrap(value, HEADER_LENGTH, value.length - HEADER_LENGTH);
+            long expiresAtEpochMillis = 0;
+            long loadMillis = 0;
+            if ((flags & FLAG_REFRESH_METADATA) != 0) {
+                expiresAtEpochMillis = in.getLong();
+                loadMillis = in.getInt();
+            }
+            String contentVersion = (flags & FLAG_CONTENT_VERSION) != 0 ? readVersion(in) : null;
+            byte[] body = new byte[in.remaining()];
+            in.get(body);
+            if ((flags & FLAG_DEFLATED) != 0) {
+                body = inflate(body);
+            }
+            ReadProductDetailView view = switch (version.format) {
+                case JSON -> jsonMapper.fromJson(new String(body, StandardCharsets.UTF_8));
+                case BINARY -> ReadProductDetailViewBinaryFormat.read(body);
+            };
+            return new StorefrontProductDetailCacheEntry(view, loadMillis, expiresAtEpochMillis, contentVersion);
+        } catch (BufferUnderflowException | IllegalArgumentException ex) {
+            throw new IllegalStateException("Malformed storefront PDP cache value", ex);
+        }
+    }
+
+    /**
+     * Content version from the leading bytes of a value (at least {@link #VERSION_PREFIX_LENGTH}, or the whole
+     * value if shorter) without decoding the body; null for values written without one (including legacy JSON) or
+     * with a version this instance does not know.
+     */
+    String peekContentVersion(byte[] prefix) {
+        if (prefix == null || prefix.length < HEADER_LENGTH || prefix[0] != MAGIC) {
+            return null;
+        }
+        HeaderVersion version = HeaderVersion.find(prefix[1] & 0xFF);
+        int flags = prefix[2] & 0xFF;
+        if (version == null || !version.allows(flags) || (flags & FLAG_CONTENT_VERSION) == 0) {
+            return null;
+        }
+        ByteBuffer in = ByteBuffer.wrap(prefix, HEADER_LENGTH, prefix.length - HEADER_LENGTH);
+        try {
+            if ((flags & FLAG_REFRESH_METADATA) != 0) {
+                in.position(in.position() + REFRESH_METADATA_LENGTH);
+            }
+            return readVersion(in);
+        } catch (BufferUnderflowException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static byte[] versionBytes(String contentVersion) {
+        byte[] decoded = Base64.getUrlDecoder().decode(contentVersion);
+        if (decoded.length != ContentVersions.LENGTH_BYTES) {
+            throw new IllegalArgumentException("Unexpected content version length: " + contentVersion);
+        }
+        return decoded;
+    }
+
+    private static String readVersion(ByteBuffer in) {
+        byte[] version = new byte[ContentVersions.LENGTH_BYTES];
+        in.get(version);
+        return ContentVersions.format(version);
+    }
+
+    private static byte[] deflate(byte[] body) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] body) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(body);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated deflated storefront PDP cache value");
+                }
+                out.write(buffer, 0, inflated);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException ex) {
+            throw new IllegalStateException("Malformed deflated storefront PDP cache value", ex);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.port.output.CategorySnapshotVersionPort;
+import com.project.young.productservice.dataaccess.config.CategorySnapshotProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Shares the category snapshot version across instances: writers INCR a Redis version key and publish the
+ * new value; subscribers advance their local required version. Pub/sub is fire-and-forget, so the key is
+ * also polled to catch missed messages.
+ */
+@Component
+@ConditionalOnProperty(prefix = "product-service.category-snapshot", name = "redis-sync-enabled", havingValue = "true")
+@Slf4j
+public class RedisCategorySnapshotVersionAdapter implements CategorySnapshotVersionPort, MessageListener {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CategorySnapshotProperties properties;
+    private final CategorySnapshotCache categorySnapshotCache;
+
+    public RedisCategorySnapshotVersionAdapter(
+            StringRedisTemplate stringRedisTemplate,
+            CategorySnapshotProperties properties,
+            CategorySnapshotCache categorySnapshotCache
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+        this.categorySnapshotCache = categorySnapshotCache;
+    }
+
+    @Override
+    public void bumpVersion() {
+        Long version = stringRedisTemplate.opsForValue().increment(properties.getVersionKey());
+        if (version == null) {
+            categorySnapshotCache.bumpLocalVersion();
+            return;
+        }
+        categorySnapshotCache.advanceTo(version);
+        stringRedisTemplate.convertAndSend(properties.getChannel(), String.valueOf(version));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        advanceFrom(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Scheduled(fixedDelayString = "${product-service.category-snapshot.version-poll-interval-ms:5000}")
+    public void pollVersion() {
+        try {
+            advanceFrom(stringRedisTemplate.opsForValue().get(properties.getVersionKey()));
+        } catch (RuntimeException ex) {
+            log.warn("Category snapshot version poll failed; keeping current snapshot", ex);
+        }
+    }
+
+    private void advanceFrom(String rawVersion) {
+        if (rawVersion == null || rawVersion.isBlank()) {
+            return;
+        }
+        try {
+            categorySnapshotCache.advanceTo(Long.parseLong(rawVersion.trim()));
+        } catch (NumberFormatException ex) {
+            log.warn("Ignoring malformed category snapshot version '{}'", rawVersion);
+        }
+    }
+}
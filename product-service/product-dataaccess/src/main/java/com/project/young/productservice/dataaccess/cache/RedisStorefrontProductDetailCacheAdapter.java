@@ -3,24 +3,81 @@ package com.project.young.productservice.dataaccess.cache;
 import com.project.young.common.domain.valueobject.ProductId;
 import com.project.young.productservice.application.port.output.StorefrontProductDetailCachePort;
 import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.application.support.ContentVersions;
+import com.project.young.productservice.dataaccess.cache.StorefrontProductDetailCacheMetrics.Eviction;
+import com.project.young.productservice.dataaccess.cache.StorefrontProductDetailCacheMetrics.LoadTrigger;
 import com.project.young.productservice.dataaccess.config.StorefrontProductCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+/**
+ * Storefront PDP cache: Redis (L2, values encoded by {@link ReadProductDetailViewCodec}) with an optional
+ * in-process L1 of deserialized views ({@code local-enabled}). Hot products are then served without a Redis round
+ * trip or decode.
+ * <p>
+ * {@link #evict} deletes the Redis key and publishes the product id on {@code evict-channel}; every instance
+ * (this one included) drops it from L1 in {@link #onMessage}. Pub/sub is fire-and-forget, so the short L1 TTL
+ * bounds staleness on an instance that missed a message.
+ * <p>
+ * Misses are single-flight: one load per product per instance, and across instances only the Redis lock holder
+ * loads; the others wait for its announcement on {@code fill-channel} instead of polling Redis.
+ * <p>
+ * With {@code early-refresh-enabled}, an L2 hit may refresh the entry in the background before it expires
+ * (probabilistic early expiration, "XFetch"), so hot keys are rewritten while still being served.
+ * <p>
+ * {@link #refresh} is the write-through counterpart of {@link #evict}: it rebuilds the view under the same lock and
+ * overwrites the key with a single SET, so readers see either the old or the new view, never a miss.
+ * <p>
+ * Every stored value carries the view's content version, so {@link #findVersion} answers conditional GETs from L1
+ * or from the value's first bytes ({@code GETRANGE}) without transferring or decoding the view.
+ * <p>
+ * {@link #getOrLoadAll} serves batch reads with one {@code MGET}, one loader call for the misses and one pipelined
+ * write-back. Batch misses skip the per-product lock: a lock round trip per id would cost what the batch saves.
+ * <p>
+ * Lookups, lock outcomes, load latency, value sizes and evictions are published to Micrometer
+ * (see {@link StorefrontProductDetailCacheMetrics}).
+ */
 @Repository
 @ConditionalOnProperty(prefix = "product-service.storefront-cache", name = "enabled", havingValue = "true")
 @Slf4j
-public class RedisStorefrontProductDetailCacheAdapter implements StorefrontProductDetailCachePort {
+public class RedisStorefrontProductDetailCacheAdapter implements StorefrontProductDetailCachePort, MessageListener {
 
     private static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
             """
@@ -34,40 +91,170 @@ public class RedisStorefrontProductDetailCacheAdapter implements StorefrontProdu
     );
 
     private final StringRedisTemplate stringRedisTemplate;
+    private final RedisTemplate<String, byte[]> valueRedisTemplate;
     private final StorefrontProductCacheProperties properties;
-    private final ReadProductDetailViewJsonMapper jsonMapper;
+    private final ReadProductDetailViewCodec codec;
+    private final StorefrontProductDetailLocalCache localCache;
+    private final StorefrontProductDetailCacheMetrics metrics;
+    /** One load per product per instance; concurrent misses share the leader's future. */
+    private final ConcurrentHashMap<UUID, CompletableFuture<Optional<ReadProductDetailView>>> inFlight =
+            new ConcurrentHashMap<>();
+    /** This instance's leader waiting for another instance's fill, keyed by product id. */
+    private final ConcurrentHashMap<UUID, CompletableFuture<Void>> pendingFills = new ConcurrentHashMap<>();
+    private final Set<UUID> refreshing = ConcurrentHashMap.newKeySet();
+    private final Executor refreshExecutor;
 
     public RedisStorefrontProductDetailCacheAdapter(
             StringRedisTemplate stringRedisTemplate,
+            RedisTemplate<String, byte[]> storefrontProductDetailValueRedisTemplate,
             StorefrontProductCacheProperties properties,
-            ReadProductDetailViewJsonMapper jsonMapper
+            ReadProductDetailViewCodec codec,
+            MeterRegistry meterRegistry
+    ) {
+        this(stringRedisTemplate, storefrontProductDetailValueRedisTemplate, properties, codec,
+                properties.isLocalEnabled()
+                ? new StorefrontProductDetailLocalCache(
+                        properties.getLocalMaxEntries(),
+                        Duration.ofSeconds(properties.getLocalTtlSeconds()),
+                        System::nanoTime)
+                : StorefrontProductDetailLocalCache.disabled(),
+                Executors.newVirtualThreadPerTaskExecutor(),
+                meterRegistry);
+    }
+
+    RedisStorefrontProductDetailCacheAdapter(
+            StringRedisTemplate stringRedisTemplate,
+            RedisTemplate<String, byte[]> valueRedisTemplate,
+            StorefrontProductCacheProperties properties,
+            ReadProductDetailViewCodec codec,
+            StorefrontProductDetailLocalCache localCache,
+            Executor refreshExecutor,
+            MeterRegistry meterRegistry
     ) {
         this.stringRedisTemplate = stringRedisTemplate;
+        this.valueRedisTemplate = valueRedisTemplate;
         this.properties = properties;
-        this.jsonMapper = jsonMapper;
+        this.codec = codec;
+        this.localCache = localCache;
+        this.refreshExecutor = refreshExecutor;
+        this.metrics = new StorefrontProductDetailCacheMetrics(meterRegistry, localCache);
     }
 
     @Override
     public Optional<ReadProductDetailView> findCached(ProductId productId) {
-        String json = stringRedisTemplate.opsForValue().get(cacheKey(productId));
-        if (json == null || json.isBlank()) {
-            return Optional.empty();
+        long epoch = localCache.epoch(productId.getValue());
+        ReadProductDetailView local = localCache.get(productId.getValue());
+        if (local != null) {
+            return Optional.of(local);
         }
-        return Optional.of(jsonMapper.fromJson(json));
+        return findRemote(productId, epoch);
     }
 
     @Override
     public void put(ProductId productId, ReadProductDetailView view) {
-        stringRedisTemplate.opsForValue().set(
-                cacheKey(productId),
-                jsonMapper.toJson(view),
-                Duration.ofSeconds(resolveTtlSeconds())
-        );
+        store(productId, view, localCache.epoch(productId.getValue()), 0);
+    }
+
+    @Override
+    public Optional<String> findVersion(ProductId productId) {
+        String local = localCache.version(productId.getValue());
+        if (local != null) {
+            return Optional.of(local);
+        }
+        byte[] key = cacheKey(productId).getBytes(StandardCharsets.UTF_8);
+        byte[] prefix = valueRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands()
+                .getRange(key, 0, ReadProductDetailViewCodec.VERSION_PREFIX_LENGTH - 1));
+        return Optional.ofNullable(codec.peekContentVersion(prefix));
     }
 
     @Override
     public void evict(ProductId productId) {
-        stringRedisTemplate.delete(cacheKey(productId));
+        evict(productId, Eviction.INVALIDATED);
+    }
+
+    /**
+     * Rebuilds under the load lock so a load that started before the change cannot overwrite the result. If another
+     * holder keeps the lock past {@code fill-wait-millis}, falls back to {@link #evict}.
+     */
+    @Override
+    public void refresh(ProductId productId, Supplier<Optional<ReadProductDetailView>> loader) {
+        String lockKey = lockKey(productId);
+        String lockToken = UUID.randomUUID().toString();
+        if (!tryLock(lockKey, lockToken) && !awaitLock(productId, lockKey, lockToken)) {
+            log.debug("Storefront PDP cache lock busy for product {}; evicting instead of refreshing",
+                    productId.getValue());
+            evict(productId, Eviction.REFRESH_LOCK_BUSY);
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            Optional<ReadProductDetailView> loaded = loader.get();
+            long loadNanos = System.nanoTime() - started;
+            metrics.load(LoadTrigger.REFRESH, loadNanos);
+            long loadMillis = TimeUnit.NANOSECONDS.toMillis(loadNanos);
+            if (loaded.isEmpty()) {
+                evict(productId, Eviction.REFRESH_NOT_FOUND);
+                return;
+            }
+            store(productId, loaded.get(), localCache.epoch(productId.getValue()), loadMillis);
+            // L1 copies (this instance's included) are dropped and re-read from the overwritten key.
+            broadcastEviction(productId);
+        } finally {
+            releaseLock(lockKey, lockToken);
+            publishFill(productId);
+        }
+    }
+
+    /**
+     * Broadcast eviction (see {@link #evict}) or fill announcement (see {@link #getOrLoad}) from any instance.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String rawProductId = new String(message.getBody(), StandardCharsets.UTF_8).trim();
+        UUID productId;
+        try {
+            productId = UUID.fromString(rawProductId);
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring malformed storefront PDP message '{}' on {}", rawProductId, channel);
+            return;
+        }
+        if (channel.equals(properties.getFillChannel())) {
+            CompletableFuture<Void> fill = pendingFills.get(productId);
+            if (fill != null) {
+                fill.complete(null);
+            }
+            return;
+        }
+        localCache.invalidate(productId);
+        metrics.evicted(Eviction.BROADCAST);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    public StorefrontProductDetailCacheStats stats() {
+        return metrics.stats();
+    }
+
+    @Scheduled(fixedDelayString = "${product-service.storefront-cache.stats-log-interval-ms:300000}")
+    public void logStats() {
+        StorefrontProductDetailCacheStats stats = stats();
+        if (stats.lookups() == 0) {
+            return;
+        }
+        log.info(
+                "Storefront PDP cache: lookups={}, L1 hit ratio={}, L2 hit ratio={}, overall hit ratio={}, L1 size={}",
+                stats.lookups(),
+                String.format("%.3f", stats.l1HitRatio()),
+                String.format("%.3f", stats.l2HitRatio()),
+                String.format("%.3f", stats.overallHitRatio()),
+                localCache.size()
+        );
     }
 
     @Override
@@ -75,51 +262,340 @@ public class RedisStorefrontProductDetailCacheAdapter implements StorefrontProdu
             ProductId productId,
             Supplier<Optional<ReadProductDetailView>> loader
     ) {
-        Optional<ReadProductDetailView> cached = findCached(productId);
+        // Taken before any read: a value read from Redis or the DB is kept in L1 only if no eviction raced it.
+        long epoch = localCache.epoch(productId.getValue());
+        ReadProductDetailView local = localCache.get(productId.getValue());
+        if (local != null) {
+            metrics.l1Hit();
+            return Optional.of(local);
+        }
+        Optional<StorefrontProductDetailCacheEntry> cached = findRemoteEntry(productId, epoch);
         if (cached.isPresent()) {
-            return cached;
+            metrics.l2Hit();
+            if (shouldRefreshEarly(cached.get())) {
+                scheduleEarlyRefresh(productId, loader);
+            }
+            return Optional.of(cached.get().view());
+        }
+        metrics.miss();
+
+        CompletableFuture<Optional<ReadProductDetailView>> load = new CompletableFuture<>();
+        CompletableFuture<Optional<ReadProductDetailView>> leader = inFlight.putIfAbsent(productId.getValue(), load);
+        if (leader != null) {
+            return await(leader);
+        }
+        try {
+            Optional<ReadProductDetailView> result = loadAcrossInstances(productId, loader, epoch);
+            load.complete(result);
+            return result;
+        } catch (RuntimeException ex) {
+            load.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(productId.getValue(), load);
+        }
+    }
+
+    @Override
+    public Map<ProductId, ReadProductDetailView> getOrLoadAll(
+            Collection<ProductId> productIds,
+            Function<Collection<ProductId>, Map<ProductId, ReadProductDetailView>> loader
+    ) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Map.of();
+        }
+        // Taken per product before any read, as in getOrLoad.
+        Map<ProductId, Long> epochs = new HashMap<>();
+        Map<ProductId, ReadProductDetailView> found = new HashMap<>();
+        List<ProductId> remoteIds = new ArrayList<>();
+        for (ProductId productId : new LinkedHashSet<>(productIds)) {
+            epochs.put(productId, localCache.epoch(productId.getValue()));
+            ReadProductDetailView local = localCache.get(productId.getValue());
+            if (local != null) {
+                metrics.l1Hit();
+                found.put(productId, local);
+            } else {
+                remoteIds.add(productId);
+            }
+        }
+        if (remoteIds.isEmpty()) {
+            return found;
         }
 
+        List<byte[]> values = valueRedisTemplate.opsForValue().multiGet(remoteIds.stream().map(this::cacheKey).toList());
+        List<ProductId> missedIds = new ArrayList<>();
+        for (int i = 0; i < remoteIds.size(); i++) {
+            ProductId productId = remoteIds.get(i);
+            byte[] value = values == null ? null : values.get(i);
+            Optional<StorefrontProductDetailCacheEntry> entry = decodeRemote(productId, value, epochs.get(productId));
+            if (entry.isPresent()) {
+                metrics.l2Hit();
+                found.put(productId, entry.get().view());
+            } else {
+                metrics.miss();
+                missedIds.add(productId);
+            }
+        }
+        if (missedIds.isEmpty()) {
+            return found;
+        }
+
+        long started = System.nanoTime();
+        Map<ProductId, ReadProductDetailView> loaded = loader.apply(missedIds);
+        long loadNanos = System.nanoTime() - started;
+        metrics.load(LoadTrigger.BATCH, loadNanos);
+        if (loaded == null || loaded.isEmpty()) {
+            return found;
+        }
+        // Each entry is charged its share of the batch load, roughly what a single-product early refresh would cost.
+        long loadMillis = TimeUnit.NANOSECONDS.toMillis(loadNanos) / loaded.size();
+        storeAll(loaded, epochs, loadMillis);
+        found.putAll(loaded);
+        return found;
+    }
+
+    /**
+     * Called by this instance's single loader for the product. The Redis lock holder loads and announces the fill on
+     * {@code fill-channel}; otherwise another instance is loading, so wait (bounded by {@code fill-wait-millis}) for
+     * its fill and re-read Redis, loading here only if nothing landed.
+     */
+    private Optional<ReadProductDetailView> loadAcrossInstances(
+            ProductId productId,
+            Supplier<Optional<ReadProductDetailView>> loader,
+            long epoch
+    ) {
         String lockKey = lockKey(productId);
         String lockToken = UUID.randomUUID().toString();
-        boolean acquired = Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(
-                lockKey,
-                lockToken,
-                Duration.ofSeconds(properties.getLockTtlSeconds())
-        ));
-
-        if (acquired) {
+        if (tryLock(lockKey, lockToken)) {
             try {
-                Optional<ReadProductDetailView> doubleCheck = findCached(productId);
+                Optional<ReadProductDetailView> doubleCheck = findRemote(productId, epoch);
                 if (doubleCheck.isPresent()) {
                     return doubleCheck;
                 }
-                Optional<ReadProductDetailView> loaded = loader.get();
-                loaded.ifPresent(view -> put(productId, view));
-                return loaded;
+                return loadAndStore(productId, loader, epoch, LoadTrigger.MISS);
             } finally {
                 releaseLock(lockKey, lockToken);
+                publishFill(productId);
             }
         }
 
-        for (int attempt = 0; attempt < properties.getLockWaitRetries(); attempt++) {
-            sleep(properties.getLockWaitMillis());
-            Optional<ReadProductDetailView> retryHit = findCached(productId);
-            if (retryHit.isPresent()) {
-                return retryHit;
+        CompletableFuture<Void> fill =
+                pendingFills.computeIfAbsent(productId.getValue(), id -> new CompletableFuture<>());
+        try {
+            // Re-read after registering: a fill published before the registration would otherwise be missed.
+            Optional<ReadProductDetailView> landed = findRemote(productId, epoch);
+            if (landed.isPresent()) {
+                return landed;
+            }
+            if (awaitFill(fill)) {
+                Optional<ReadProductDetailView> filled = findRemote(productId, epoch);
+                if (filled.isPresent()) {
+                    return filled;
+                }
             }
+        } finally {
+            pendingFills.remove(productId.getValue(), fill);
+        }
+
+        metrics.lockTimedOut();
+        log.debug("Storefront PDP cache fill wait exhausted for product {}", productId.getValue());
+        return loadAndStore(productId, loader, epoch, LoadTrigger.MISS);
+    }
+
+    /**
+     * XFetch: refresh once {@code now - loadMillis * beta * ln(rand)} reaches the key's expiry, so the chance rises
+     * as expiry approaches and is higher for slow loads. With L1 on, this instance may not read Redis again for the
+     * L1 TTL, so the check looks that far ahead.
+     */
+    private boolean shouldRefreshEarly(StorefrontProductDetailCacheEntry entry) {
+        if (!properties.isEarlyRefreshEnabled() || !entry.hasRefreshMetadata()) {
+            return false;
+        }
+        long lookaheadMillis = localCache.enabled() ? TimeUnit.SECONDS.toMillis(properties.getLocalTtlSeconds()) : 0;
+        double gapMillis = -entry.loadMillis() * properties.getEarlyRefreshBeta()
+                * Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + lookaheadMillis + gapMillis >= entry.expiresAtEpochMillis();
+    }
+
+    private void scheduleEarlyRefresh(ProductId productId, Supplier<Optional<ReadProductDetailView>> loader) {
+        UUID id = productId.getValue();
+        if (inFlight.containsKey(id) || !refreshing.add(id)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refreshEarly(productId, loader);
+                } catch (RuntimeException ex) {
+                    log.warn("Storefront PDP early refresh failed for product {}; entry expires normally", id, ex);
+                } finally {
+                    refreshing.remove(id);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.remove(id);
+        }
+    }
+
+    /**
+     * Only the Redis lock holder refreshes; the current value keeps being served until it is overwritten.
+     */
+    private void refreshEarly(ProductId productId, Supplier<Optional<ReadProductDetailView>> loader) {
+        String lockKey = lockKey(productId);
+        String lockToken = UUID.randomUUID().toString();
+        if (!tryLock(lockKey, lockToken)) {
+            return;
+        }
+        try {
+            loadAndStore(productId, loader, localCache.epoch(productId.getValue()), LoadTrigger.EARLY_REFRESH);
+        } finally {
+            releaseLock(lockKey, lockToken);
+            publishFill(productId);
         }
+    }
 
-        log.debug("Storefront PDP cache lock wait exhausted for product {}", productId.getValue());
+    private Optional<ReadProductDetailView> loadAndStore(
+            ProductId productId,
+            Supplier<Optional<ReadProductDetailView>> loader,
+            long epoch,
+            LoadTrigger trigger
+    ) {
+        long started = System.nanoTime();
         Optional<ReadProductDetailView> loaded = loader.get();
-        loaded.ifPresent(view -> put(productId, view));
+        long loadNanos = System.nanoTime() - started;
+        metrics.load(trigger, loadNanos);
+        long loadMillis = TimeUnit.NANOSECONDS.toMillis(loadNanos);
+        loaded.ifPresent(view -> store(productId, view, epoch, loadMillis));
         return loaded;
     }
 
+    private Optional<ReadProductDetailView> findRemote(ProductId productId, long epoch) {
+        return findRemoteEntry(productId, epoch).map(StorefrontProductDetailCacheEntry::view);
+    }
+
+    /**
+     * Redis lookup; a hit is also kept in L1.
+     */
+    private Optional<StorefrontProductDetailCacheEntry> findRemoteEntry(ProductId productId, long epoch) {
+        return decodeRemote(productId, valueRedisTemplate.opsForValue().get(cacheKey(productId)), epoch);
+    }
+
+    private Optional<StorefrontProductDetailCacheEntry> decodeRemote(ProductId productId, byte[] value, long epoch) {
+        if (value == null || value.length == 0) {
+            return Optional.empty();
+        }
+        StorefrontProductDetailCacheEntry entry;
+        try {
+            entry = codec.decodeEntry(value);
+        } catch (IllegalStateException ex) {
+            // e.g. a format version written by a newer instance during a rollout; reload and overwrite.
+            log.warn("Unreadable storefront PDP cache value for product {}; treating as a miss",
+                    productId.getValue(), ex);
+            return Optional.empty();
+        }
+        localCache.putIfNotInvalidatedSince(productId.getValue(), entry.view(), entry.contentVersion(), epoch);
+        return Optional.of(entry);
+    }
+
+    private void store(ProductId productId, ReadProductDetailView view, long epoch, long loadMillis) {
+        long ttlSeconds = resolveTtlSeconds();
+        long expiresAtEpochMillis = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds);
+        String contentVersion = ContentVersions.of(view);
+        byte[] value = codec.encodeEntry(
+                new StorefrontProductDetailCacheEntry(view, loadMillis, expiresAtEpochMillis, contentVersion));
+        valueRedisTemplate.opsForValue().set(cacheKey(productId), value, Duration.ofSeconds(ttlSeconds));
+        recordValueSize(value);
+        localCache.putIfNotInvalidatedSince(productId.getValue(), view, contentVersion, epoch);
+    }
+
+    /**
+     * Writes every entry in one pipelined round trip, each with its own jittered TTL.
+     */
+    private void storeAll(Map<ProductId, ReadProductDetailView> views, Map<ProductId, Long> epochs, long loadMillis) {
+        Map<ProductId, StorefrontProductDetailCacheEntry> entries = new HashMap<>();
+        Map<ProductId, Long> ttlSecondsById = new HashMap<>();
+        long now = System.currentTimeMillis();
+        views.forEach((productId, view) -> {
+            long ttlSeconds = resolveTtlSeconds();
+            ttlSecondsById.put(productId, ttlSeconds);
+            entries.put(productId, new StorefrontProductDetailCacheEntry(
+                    view, loadMillis, now + TimeUnit.SECONDS.toMillis(ttlSeconds), ContentVersions.of(view)));
+        });
+        valueRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            entries.forEach((productId, entry) -> {
+                byte[] value = codec.encodeEntry(entry);
+                connection.stringCommands().set(
+                        cacheKey(productId).getBytes(StandardCharsets.UTF_8),
+                        value,
+                        Expiration.seconds(ttlSecondsById.get(productId)),
+                        RedisStringCommands.SetOption.upsert()
+                );
+                recordValueSize(value);
+            });
+            return null;
+        });
+        entries.forEach((productId, entry) -> {
+            Long epoch = epochs.get(productId);
+            if (epoch != null) {
+                localCache.putIfNotInvalidatedSince(productId.getValue(), entry.view(), entry.contentVersion(), epoch);
+            }
+        });
+    }
+
+    private boolean tryLock(String lockKey, String lockToken) {
+        boolean acquired = Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(
+                lockKey,
+                lockToken,
+                Duration.ofSeconds(properties.getLockTtlSeconds())
+        ));
+        metrics.lockAttempt(acquired);
+        return acquired;
+    }
+
     private void releaseLock(String lockKey, String lockToken) {
         stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), lockToken);
     }
 
+    /**
+     * Waits (bounded by {@code fill-wait-millis}) for the current holder's fill announcement, then retries the lock.
+     */
+    private boolean awaitLock(ProductId productId, String lockKey, String lockToken) {
+        CompletableFuture<Void> fill =
+                pendingFills.computeIfAbsent(productId.getValue(), id -> new CompletableFuture<>());
+        try {
+            // Retry after registering: a release published before the registration would otherwise be missed.
+            if (tryLock(lockKey, lockToken)) {
+                return true;
+            }
+            if (awaitFill(fill) && tryLock(lockKey, lockToken)) {
+                return true;
+            }
+            metrics.lockTimedOut();
+            return false;
+        } finally {
+            pendingFills.remove(productId.getValue(), fill);
+        }
+    }
+
+    private void evict(ProductId productId, Eviction cause) {
+        stringRedisTemplate.delete(cacheKey(productId));
+        metrics.evicted(cause);
+        broadcastEviction(productId);
+    }
+
+    private void recordValueSize(byte[] value) {
+        if (value != null) {
+            metrics.valueSize(value.length);
+        }
+    }
+
+    private void broadcastEviction(ProductId productId) {
+        localCache.invalidate(productId.getValue());
+        if (localCache.enabled()) {
+            stringRedisTemplate.convertAndSend(properties.getEvictChannel(), productId.getValue().toString());
+        }
+    }
+
     private String cacheKey(ProductId productId) {
         return properties.getKeyPrefix() + "detail:" + productId.getValue();
     }
@@ -136,11 +612,35 @@ public class RedisStorefrontProductDetailCacheAdapter implements StorefrontProdu
         return Math.max(30, properties.getTtlSeconds() + jitter);
     }
 
-    private static void sleep(long millis) {
+    private void publishFill(ProductId productId) {
         try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
+            stringRedisTemplate.convertAndSend(properties.getFillChannel(), productId.getValue().toString());
+        } catch (RuntimeException ex) {
+            // Waiters fall back to loading after fill-wait-millis.
+            log.warn("Failed to publish storefront PDP fill for product {}", productId.getValue(), ex);
+        }
+    }
+
+    private boolean awaitFill(CompletableFuture<Void> fill) {
+        try {
+            fill.get(properties.getFillWaitMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException ex) {
+            return false;
+        } catch (InterruptedException ex) {
             Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Optional<ReadProductDetailView> await(CompletableFuture<Optional<ReadProductDetailView>> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
         }
     }
 }
@@ -0,0 +1,116 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.common.domain.valueobject.ProductId;
+import com.project.young.productservice.application.port.output.StorefrontVariantAvailabilityCachePort;
+import com.project.young.productservice.dataaccess.config.StorefrontProductCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Availability overlay as one small Redis hash per product ({@code stock:<productId>}, variant id to available
+ * quantity) next to the PDP entries. Reads and writes for several products share one pipelined round trip.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "product-service.storefront-cache", name = "enabled", havingValue = "true")
+@Slf4j
+public class RedisStorefrontVariantAvailabilityCacheAdapter implements StorefrontVariantAvailabilityCachePort {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final StorefrontProductCacheProperties properties;
+
+    public RedisStorefrontVariantAvailabilityCacheAdapter(
+            StringRedisTemplate stringRedisTemplate,
+            StorefrontProductCacheProperties properties
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public Map<ProductId, Map<UUID, Integer>> findAll(Collection<ProductId> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Map.of();
+        }
+        List<ProductId> ids = List.copyOf(new LinkedHashSet<>(productIds));
+        List<Object> hashes = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            ids.forEach(productId -> connection.hashCommands().hGetAll(keyBytes(productId)));
+            return null;
+        });
+
+        Map<ProductId, Map<UUID, Integer>> found = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (hashes.get(i) instanceof Map<?, ?> hash && !hash.isEmpty()) {
+                Map<UUID, Integer> availability = parse(ids.get(i), hash);
+                if (availability != null) {
+                    found.put(ids.get(i), availability);
+                }
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void putAll(Map<ProductId, Map<UUID, Integer>> availabilityByProduct) {
+        if (availabilityByProduct == null || availabilityByProduct.values().stream().allMatch(Map::isEmpty)) {
+            return;
+        }
+        long ttlSeconds = properties.getStockOverlayTtlSeconds();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            availabilityByProduct.forEach((productId, availability) -> {
+                if (availability.isEmpty()) {
+                    return;
+                }
+                Map<byte[], byte[]> fields = new HashMap<>();
+                availability.forEach((variantId, available) -> fields.put(
+                        variantId.toString().getBytes(StandardCharsets.UTF_8),
+                        Integer.toString(available).getBytes(StandardCharsets.UTF_8)
+                ));
+                byte[] key = keyBytes(productId);
+                connection.hashCommands().hMSet(key, fields);
+                connection.keyCommands().expire(key, ttlSeconds);
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public void evict(ProductId productId) {
+        stringRedisTemplate.delete(key(productId));
+    }
+
+    /**
+     * Returns null for an unreadable hash so the product is recomputed and overwritten.
+     */
+    private static Map<UUID, Integer> parse(ProductId productId, Map<?, ?> hash) {
+        Map<UUID, Integer> availability = new HashMap<>();
+        try {
+            hash.forEach((variantId, available) -> availability.put(
+                    UUID.fromString(variantId.toString()),
+                    Integer.parseInt(available.toString())
+            ));
+        } catch (IllegalArgumentException ex) {
+            log.warn("Unreadable availability overlay for product {}; treating as a miss", productId.getValue(), ex);
+            return null;
+        }
+        return availability;
+    }
+
+    private String key(ProductId productId) {
+        return properties.getKeyPrefix() + "stock:" + productId.getValue();
+    }
+
+    private byte[] keyBytes(ProductId productId) {
+        return key(productId).getBytes(StandardCharsets.UTF_8);
+    }
+}
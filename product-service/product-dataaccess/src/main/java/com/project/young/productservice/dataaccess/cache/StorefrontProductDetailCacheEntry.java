@@ -0,0 +1,32 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+
+/**
+ * A PDP cache value with its metadata: how long the view took to load and when the Redis key expires (probabilistic
+ * early refresh), and the view's {@link com.project.young.productservice.application.support.ContentVersions content
+ * version} (ETag). Values written without it (or by {@link ReadProductDetailViewCodec#encode}) carry zeros and null.
+ */
+record StorefrontProductDetailCacheEntry(
+        ReadProductDetailView view,
+        long loadMillis,
+        long expiresAtEpochMillis,
+        String contentVersion
+) {
+
+    StorefrontProductDetailCacheEntry(ReadProductDetailView view, long loadMillis, long expiresAtEpochMillis) {
+        this(view, loadMillis, expiresAtEpochMillis, null);
+    }
+
+    static StorefrontProductDetailCacheEntry withoutRefreshMetadata(ReadProductDetailView view) {
+        return new StorefrontProductDetailCacheEntry(view, 0, 0);
+    }
+
+    boolean hasRefreshMetadata() {
+        return expiresAtEpochMillis > 0;
+    }
+
+    boolean hasContentVersion() {
+        return contentVersion != null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.project.young.productservice.dataaccess.cache;
+
+/**
+ * Body format of a cached PDP value. The value header records it together with the header layout
+ * (see {@link ReadProductDetailViewCodec.HeaderVersion}).
+ */
+public enum StorefrontProductDetailCacheFormat {
+
+    JSON,
+    BINARY
+}
@@ -0,0 +1,148 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters of {@link RedisStorefrontProductDetailCacheAdapter}, registered once per adapter:
+ * <ul>
+ *     <li>{@code storefront.product.detail.cache.lookups} — {@code result}: l1_hit / l2_hit / miss</li>
+ *     <li>{@code storefront.product.detail.cache.lock} — {@code outcome}: acquired / contended (held by another
+ *     loader) / timed_out (fill wait exhausted)</li>
+ *     <li>{@code storefront.product.detail.cache.load} — DB load latency, {@code trigger}: miss / batch / refresh /
+ *     early_refresh</li>
+ *     <li>{@code storefront.product.detail.cache.value.size} — encoded Redis value size in bytes</li>
+ *     <li>{@code storefront.product.detail.cache.evictions} — {@code tier} and {@code cause}, see {@link Eviction}</li>
+ *     <li>{@code storefront.product.detail.cache.local.size} — L1 entries</li>
+ * </ul>
+ */
+class StorefrontProductDetailCacheMetrics {
+
+    static final String LOOKUPS = "storefront.product.detail.cache.lookups";
+    static final String LOCK = "storefront.product.detail.cache.lock";
+    static final String LOAD = "storefront.product.detail.cache.load";
+    static final String VALUE_SIZE = "storefront.product.detail.cache.value.size";
+    static final String EVICTIONS = "storefront.product.detail.cache.evictions";
+    static final String LOCAL_SIZE = "storefront.product.detail.cache.local.size";
+
+    enum LoadTrigger {
+        MISS, BATCH, REFRESH, EARLY_REFRESH
+    }
+
+    enum Eviction {
+        /** Redis key deleted by an invalidation ({@code evict}). */
+        INVALIDATED("l2", "invalidated"),
+        /** Redis key deleted because a refresh could not take the lock within {@code fill-wait-millis}. */
+        REFRESH_LOCK_BUSY("l2", "refresh_lock_busy"),
+        /** Redis key deleted because a refresh found the product no longer visible. */
+        REFRESH_NOT_FOUND("l2", "refresh_not_found"),
+        /** L1 entry dropped on an {@code evict-channel} message, from this instance or another. */
+        BROADCAST("l1", "broadcast");
+
+        private final String tier;
+        private final String cause;
+
+        Eviction(String tier, String cause) {
+            this.tier = tier;
+            this.cause = cause;
+        }
+    }
+
+    private final Counter l1Hits;
+    private final Counter l2Hits;
+    private final Counter misses;
+    private final Counter lockAcquired;
+    private final Counter lockContended;
+    private final Counter lockTimedOut;
+    private final Map<LoadTrigger, Timer> loadTimers = new EnumMap<>(LoadTrigger.class);
+    private final DistributionSummary valueSize;
+    private final Map<Eviction, Counter> evictions = new EnumMap<>(Eviction.class);
+
+    StorefrontProductDetailCacheMetrics(MeterRegistry registry, StorefrontProductDetailLocalCache localCache) {
+        this.l1Hits = lookupCounter(registry, "l1_hit");
+        this.l2Hits = lookupCounter(registry, "l2_hit");
+        this.misses = lookupCounter(registry, "miss");
+        this.lockAcquired = lockCounter(registry, "acquired");
+        this.lockContended = lockCounter(registry, "contended");
+        this.lockTimedOut = lockCounter(registry, "timed_out");
+        for (LoadTrigger trigger : LoadTrigger.values()) {
+            loadTimers.put(trigger, Timer.builder(LOAD)
+                    .description("Storefront PDP loads from the database on behalf of the cache")
+                    .tag("trigger", trigger.name().toLowerCase())
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        this.valueSize = DistributionSummary.builder(VALUE_SIZE)
+                .description("Encoded storefront PDP cache values written to Redis")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(registry);
+        for (Eviction eviction : Eviction.values()) {
+            evictions.put(eviction, Counter.builder(EVICTIONS)
+                    .tag("tier", eviction.tier)
+                    .tag("cause", eviction.cause)
+                    .register(registry));
+        }
+        Gauge.builder(LOCAL_SIZE, localCache, StorefrontProductDetailLocalCache::size)
+                .description("Deserialized PDP views held in this instance's L1")
+                .register(registry);
+    }
+
+    void l1Hit() {
+        l1Hits.increment();
+    }
+
+    void l2Hit() {
+        l2Hits.increment();
+    }
+
+    void miss() {
+        misses.increment();
+    }
+
+    void lockAttempt(boolean acquired) {
+        (acquired ? lockAcquired : lockContended).increment();
+    }
+
+    void lockTimedOut() {
+        lockTimedOut.increment();
+    }
+
+    void load(LoadTrigger trigger, long nanos) {
+        loadTimers.get(trigger).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void valueSize(int bytes) {
+        valueSize.record(bytes);
+    }
+
+    void evicted(Eviction eviction) {
+        evictions.get(eviction).increment();
+    }
+
+    StorefrontProductDetailCacheStats stats() {
+        return new StorefrontProductDetailCacheStats(
+                (long) l1Hits.count(), (long) l2Hits.count(), (long) misses.count());
+    }
+
+    private static Counter lookupCounter(MeterRegistry registry, String result) {
+        return Counter.builder(LOOKUPS)
+                .description("Storefront PDP cache lookups by the tier that answered them")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Counter lockCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder(LOCK)
+                .description("Storefront PDP load lock attempts and exhausted fill waits")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
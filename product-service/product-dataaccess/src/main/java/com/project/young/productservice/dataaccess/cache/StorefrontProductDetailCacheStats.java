@@ -0,0 +1,30 @@
+package com.project.young.productservice.dataaccess.cache;
+
+/**
+ * Cumulative PDP cache lookups by the tier that answered them. Each {@code getOrLoad} counts once.
+ */
+public record StorefrontProductDetailCacheStats(long l1Hits, long l2Hits, long misses) {
+
+    public long lookups() {
+        return l1Hits + l2Hits + misses;
+    }
+
+    public double l1HitRatio() {
+        return ratio(l1Hits, lookups());
+    }
+
+    /**
+     * Share of L1 misses answered by Redis.
+     */
+    public double l2HitRatio() {
+        return ratio(l2Hits, l2Hits + misses);
+    }
+
+    public double overallHitRatio() {
+        return ratio(l1Hits + l2Hits, lookups());
+    }
+
+    private static double ratio(long hits, long total) {
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
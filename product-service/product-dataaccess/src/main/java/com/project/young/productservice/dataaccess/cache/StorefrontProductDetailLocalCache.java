@@ -0,0 +1,107 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, TTL-limited cache of deserialized PDP views (L1 of {@link RedisStorefrontProductDetailCacheAdapter}),
+ * backed by Caffeine: reads take no lock, entries expire {@code ttl} after they were stored and size eviction
+ * keeps the frequently read products.
+ * <p>
+ * Every invalidation advances the product's version; a value read from Redis or the DB is stored only if its
+ * product was not invalidated since the read started, so a broadcast eviction cannot be overwritten by the stale
+ * value it evicts. Versions are kept in a fixed number of stripes indexed by product id, so they take bounded
+ * memory; products sharing a stripe at worst skip each other's fill.
+ */
+class StorefrontProductDetailLocalCache {
+
+    private static final int VERSION_STRIPES = 4096;
+
+    private final int maxEntries;
+    private final Cache<UUID, Entry> entries;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    StorefrontProductDetailLocalCache(int maxEntries, Duration ttl, LongSupplier nanoClock) {
+        this.maxEntries = Math.max(0, maxEntries);
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(this.maxEntries)
+                .expireAfterWrite(ttl)
+                .ticker(nanoClock::getAsLong)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    static StorefrontProductDetailLocalCache disabled() {
+        return new StorefrontProductDetailLocalCache(0, Duration.ZERO, System::nanoTime);
+    }
+
+    boolean enabled() {
+        return maxEntries > 0;
+    }
+
+    ReadProductDetailView get(UUID productId) {
+        Entry entry = find(productId);
+        return entry == null ? null : entry.view();
+    }
+
+    /**
+     * Content version stored with the view, or null if not cached (or stored without one).
+     */
+    String version(UUID productId) {
+        Entry entry = find(productId);
+        return entry == null ? null : entry.version();
+    }
+
+    /**
+     * The product's current invalidation version, taken before reading the value to be stored with
+     * {@link #putIfNotInvalidatedSince}.
+     */
+    long epoch(UUID productId) {
+        return versions.get(stripe(productId));
+    }
+
+    void putIfNotInvalidatedSince(UUID productId, ReadProductDetailView view, long epoch) {
+        putIfNotInvalidatedSince(productId, view, null, epoch);
+    }
+
+    void putIfNotInvalidatedSince(UUID productId, ReadProductDetailView view, String version, long epoch) {
+        if (!enabled() || view == null) {
+            return;
+        }
+        // Checked inside the key's compute: an invalidation bumps the version before removing the key, so it either
+        // fails this check or removes what was stored.
+        entries.asMap().compute(productId, (id, current) ->
+                versions.get(stripe(id)) == epoch ? new Entry(view, version) : current);
+    }
+
+    void invalidate(UUID productId) {
+        versions.incrementAndGet(stripe(productId));
+        entries.invalidate(productId);
+    }
+
+    int size() {
+        entries.cleanUp();
+        return (int) entries.estimatedSize();
+    }
+
+    private Entry find(UUID productId) {
+        if (!enabled()) {
+            return null;
+        }
+        return entries.getIfPresent(productId);
+    }
+
+    private static int stripe(UUID productId) {
+        int hash = productId.hashCode();
+        return (hash ^ (hash >>> 16)) & (VERSION_STRIPES - 1);
+    }
+
+    private record Entry(ReadProductDetailView view, String version) {
+    }
+}
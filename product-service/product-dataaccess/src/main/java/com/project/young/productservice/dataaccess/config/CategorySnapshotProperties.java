@@ -0,0 +1,19 @@
+package com.project.young.productservice.dataaccess.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "product-service.category-snapshot")
+public class CategorySnapshotProperties {
+
+    private boolean redisSyncEnabled = false;
+    private String versionKey = "ecomart:product:category-snapshot:version";
+    private String channel = "ecomart:product:category-snapshot:changed";
+    private long versionPollIntervalMs = 5000;
+    private long maxAgeSeconds = 600;
+}
@@ -0,0 +1,29 @@
+package com.project.young.productservice.dataaccess.config;
+
+import com.project.young.productservice.dataaccess.cache.RedisCategorySnapshotVersionAdapter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "product-service.category-snapshot", name = "redis-sync-enabled", havingValue = "true")
+public class CategorySnapshotRedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer categorySnapshotListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            RedisCategorySnapshotVersionAdapter redisCategorySnapshotVersionAdapter,
+            CategorySnapshotProperties categorySnapshotProperties
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                redisCategorySnapshotVersionAdapter,
+                new ChannelTopic(categorySnapshotProperties.getChannel())
+        );
+        return container;
+    }
+}
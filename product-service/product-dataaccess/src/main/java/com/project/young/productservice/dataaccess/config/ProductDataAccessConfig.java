@@ -14,7 +14,12 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @EnableJpaAuditing
 @EnableJpaRepositories(basePackages = "com.project.young.productservice.dataaccess")
 @EntityScan(basePackages = "com.project.young.productservice.dataaccess")
-@EnableConfigurationProperties(PublicProductSearchProperties.class)
+@EnableConfigurationProperties({
+        PublicProductSearchProperties.class,
+        ProductSearchCountProperties.class,
+        StorefrontProductDetailQueryProperties.class,
+        StorefrontCartLineQueryProperties.class
+})
 public class ProductDataAccessConfig {
 
     @PersistenceContext
@@ -0,0 +1,37 @@
+package com.project.young.productservice.dataaccess.config;
+
+import com.project.young.productservice.dataaccess.repository.ProductSearchCountStrategy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Total-count strategy per listing surface. Both default to {@link ProductSearchCountStrategy#EXACT} with cap 1000.
+ */
+@ConfigurationProperties(prefix = "product-service.search-count")
+public record ProductSearchCountProperties(CountSettings publicListing, CountSettings adminSearch) {
+
+    public static final int DEFAULT_CAP = 1000;
+
+    public ProductSearchCountProperties {
+        if (publicListing == null) {
+            publicListing = CountSettings.exact();
+        }
+        if (adminSearch == null) {
+            adminSearch = CountSettings.exact();
+        }
+    }
+
+    public record CountSettings(ProductSearchCountStrategy strategy, Integer cap) {
+        public CountSettings {
+            if (strategy == null) {
+                strategy = ProductSearchCountStrategy.EXACT;
+            }
+            if (cap == null || cap < 1) {
+                cap = DEFAULT_CAP;
+            }
+        }
+
+        public static CountSettings exact() {
+            return new CountSettings(ProductSearchCountStrategy.EXACT, DEFAULT_CAP);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.project.young.productservice.dataaccess.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.function.SqlColumn;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers pg_trgm operators HQL cannot parse, so QueryDSL can order by them
+ * (registered through {@code META-INF/services}).
+ * <ul>
+ *   <li>{@code trgm_word_distance(text, query)} → {@code text <->> query}, i.e. {@code 1 - word_similarity(query, text)}.
+ *       Operator form (not the function) so a {@code gist_trgm_ops} index on {@code text} can serve it as KNN.</li>
+ *   <li>{@code fts_match(vector, query)} → {@code vector @@ to_tsquery('simple', query)}.</li>
+ *   <li>{@code fts_rank(vector, query)} → {@code ts_rank_cd(vector, to_tsquery('simple', query))}.</li>
+ *   <li>{@code search_vector(p.id)} / {@code search_ngram_vector(p.id)} → the DB-generated tsvector column of
+ *       {@code p}'s table ({@code V12__product_full_text_search.sql}). Read through a function instead of an entity
+ *       mapping so loading a {@code ProductEntity} never selects the vectors.</li>
+ * </ul>
+ */
+public class ProductSearchFunctionContributor implements FunctionContributor {
+
+    public static final String TRGM_WORD_DISTANCE = "trgm_word_distance";
+    public static final String FTS_MATCH = "fts_match";
+    public static final String FTS_RANK = "fts_rank";
+    public static final String SEARCH_VECTOR = "search_vector";
+    public static final String SEARCH_NGRAM_VECTOR = "search_ngram_vector";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry basicTypes = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        SqmFunctionRegistry functions = functionContributions.getFunctionRegistry();
+
+        functions.registerPattern(
+                TRGM_WORD_DISTANCE,
+                "(?1 <->> ?2)",
+                basicTypes.resolve(StandardBasicTypes.FLOAT)
+        );
+        functions.registerPattern(
+                FTS_MATCH,
+                "(?1 @@ to_tsquery('simple', ?2))",
+                basicTypes.resolve(StandardBasicTypes.BOOLEAN)
+        );
+        functions.registerPattern(
+                FTS_RANK,
+                "ts_rank_cd(?1, to_tsquery('simple', ?2))",
+                basicTypes.resolve(StandardBasicTypes.FLOAT)
+        );
+        functions.register(SEARCH_VECTOR, new SqlColumn(SEARCH_VECTOR, basicTypes.resolve(StandardBasicTypes.STRING)));
+        functions.register(
+                SEARCH_NGRAM_VECTOR,
+                new SqlColumn(SEARCH_NGRAM_VECTOR, basicTypes.resolve(StandardBasicTypes.STRING))
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.young.productservice.dataaccess.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "product-service.facet-cache")
+public class PublicProductFacetCacheProperties {
+
+    private boolean enabled = false;
+    private long ttlSeconds = 60;
+    private long staleWhileRevalidateSeconds = 30;
+    private int maxEntries = 10_000;
+}
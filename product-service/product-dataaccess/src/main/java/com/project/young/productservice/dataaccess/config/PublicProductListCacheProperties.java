@@ -0,0 +1,22 @@
+package com.project.young.productservice.dataaccess.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "product-service.plp-cache")
+public class PublicProductListCacheProperties {
+
+    private boolean enabled = false;
+    private long ttlSeconds = 30;
+    private long staleWhileRevalidateSeconds = 30;
+    /**
+     * Offset pages {@code 0 .. maxPages - 1} are cached; deeper pages and cursor pages always hit the database.
+     */
+    private int maxPages = 3;
+    private int maxEntries = 10_000;
+}
@@ -1,17 +1,41 @@
 package com.project.young.productservice.dataaccess.config;
 
+import com.project.young.productservice.dataaccess.repository.PublicProductFacetAggregationStrategy;
+import com.project.young.productservice.dataaccess.repository.PublicProductFullTextTokenization;
 import com.project.young.productservice.dataaccess.repository.PublicProductKeywordSearchStrategy;
+import com.project.young.productservice.dataaccess.repository.PublicProductListingSource;
+import com.project.young.productservice.dataaccess.repository.PublicProductRelevanceStrategy;
+import lombok.Builder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
- * Public catalog search tuning. Default keyword strategy is {@link PublicProductKeywordSearchStrategy#NAME_BRAND}.
+ * Public catalog search tuning. Default keyword strategy is {@link PublicProductKeywordSearchStrategy#NAME_BRAND};
+ * default facet aggregation is {@link PublicProductFacetAggregationStrategy#SINGLE_PASS};
+ * default relevance ordering is {@link PublicProductRelevanceStrategy#TRIGRAM_SIMILARITY};
+ * default listing source is {@link PublicProductListingSource#PRODUCTS}.
+ * Tests build partial settings with the builders; unset sections fall back to these defaults.
  */
+@Builder
 @ConfigurationProperties(prefix = "product-service.public-search")
-public record PublicProductSearchProperties(KeywordSearch keywordSearch) {
+public record PublicProductSearchProperties(
+        KeywordSearch keywordSearch,
+        FacetAggregation facetAggregation,
+        Relevance relevance,
+        Listing listing
+) {
 
     public PublicProductSearchProperties {
         if (keywordSearch == null) {
-            keywordSearch = new KeywordSearch(PublicProductKeywordSearchStrategy.NAME_BRAND);
+            keywordSearch = KeywordSearch.builder().build();
+        }
+        if (facetAggregation == null) {
+            facetAggregation = new FacetAggregation(PublicProductFacetAggregationStrategy.SINGLE_PASS);
+        }
+        if (relevance == null) {
+            relevance = new Relevance(PublicProductRelevanceStrategy.TRIGRAM_SIMILARITY);
+        }
+        if (listing == null) {
+            listing = new Listing(PublicProductListingSource.PRODUCTS);
         }
     }
 
@@ -19,11 +43,139 @@ public record PublicProductSearchProperties(KeywordSearch keywordSearch) {
         return keywordSearch.strategy();
     }
 
-    public record KeywordSearch(PublicProductKeywordSearchStrategy strategy) {
+    public Adaptive resolvedAdaptiveKeywordSearch() {
+        return keywordSearch.adaptive();
+    }
+
+    public FullText resolvedFullTextSearch() {
+        return keywordSearch.fullText();
+    }
+
+    public InMemoryIndex resolvedInMemoryIndex() {
+        return keywordSearch.inMemoryIndex();
+    }
+
+    public PublicProductFacetAggregationStrategy resolvedFacetAggregationStrategy() {
+        return facetAggregation.strategy();
+    }
+
+    public PublicProductRelevanceStrategy resolvedRelevanceStrategy() {
+        return relevance.strategy();
+    }
+
+    public PublicProductListingSource resolvedListingSource() {
+        return listing.source();
+    }
+
+    @Builder
+    public record KeywordSearch(
+            PublicProductKeywordSearchStrategy strategy,
+            Adaptive adaptive,
+            FullText fullText,
+            InMemoryIndex inMemoryIndex
+    ) {
+
         public KeywordSearch {
             if (strategy == null) {
                 strategy = PublicProductKeywordSearchStrategy.NAME_BRAND;
             }
+            if (adaptive == null) {
+                adaptive = new Adaptive(null, null, null, null);
+            }
+            if (fullText == null) {
+                fullText = new FullText(null, null);
+            }
+            if (inMemoryIndex == null) {
+                inMemoryIndex = new InMemoryIndex(null, null);
+            }
+        }
+    }
+
+    /**
+     * {@link PublicProductKeywordSearchStrategy#FULL_TEXT} tuning.
+     *
+     * @param tokenization       {@code NGRAM} (default, Korean-friendly bigrams) or {@code WORD}
+     * @param includeDescription also match description lexemes; by default only name and brand, like NAME_BRAND
+     */
+    public record FullText(PublicProductFullTextTokenization tokenization, Boolean includeDescription) {
+        public FullText {
+            if (tokenization == null) {
+                tokenization = PublicProductFullTextTokenization.NGRAM;
+            }
+            if (includeDescription == null) {
+                includeDescription = false;
+            }
+        }
+    }
+
+    /**
+     * {@link PublicProductKeywordSearchStrategy#IN_MEMORY_INDEX} tuning.
+     *
+     * @param loadBatchSize rows per query while loading the index from {@code products}
+     * @param maxAgeSeconds the index is fully reloaded in the background after this age (heals missed events)
+     */
+    public record InMemoryIndex(Integer loadBatchSize, Long maxAgeSeconds) {
+        public InMemoryIndex {
+            if (loadBatchSize == null || loadBatchSize <= 0) {
+                loadBatchSize = 5_000;
+            }
+            if (maxAgeSeconds == null || maxAgeSeconds <= 0) {
+                maxAgeSeconds = 3_600L;
+            }
+        }
+    }
+
+    /**
+     * {@link PublicProductKeywordSearchStrategy#ADAPTIVE} tuning.
+     *
+     * @param sampleSize                 active rows sampled for the keyword frequency table
+     * @param sampleMaxAgeSeconds        sample is re-taken on the next search after this age
+     * @param trigramIndexMaxSelectivity estimated match ratio up to which the GIN path is forced
+     * @param shortKeywordMaxLength      keywords up to this many characters yield no trigram and always scan
+     */
+    public record Adaptive(
+            Integer sampleSize,
+            Long sampleMaxAgeSeconds,
+            Double trigramIndexMaxSelectivity,
+            Integer shortKeywordMaxLength
+    ) {
+        public Adaptive {
+            if (sampleSize == null || sampleSize <= 0) {
+                sampleSize = 5_000;
+            }
+            if (sampleMaxAgeSeconds == null || sampleMaxAgeSeconds <= 0) {
+                sampleMaxAgeSeconds = 600L;
+            }
+            if (trigramIndexMaxSelectivity == null || trigramIndexMaxSelectivity < 0) {
+                trigramIndexMaxSelectivity = 0.02;
+            }
+            if (shortKeywordMaxLength == null || shortKeywordMaxLength < 0) {
+                shortKeywordMaxLength = 2;
+            }
+        }
+    }
+
+    public record FacetAggregation(PublicProductFacetAggregationStrategy strategy) {
+        public FacetAggregation {
+            if (strategy == null) {
+                strategy = PublicProductFacetAggregationStrategy.SINGLE_PASS;
+            }
+        }
+    }
+
+    public record Relevance(PublicProductRelevanceStrategy strategy) {
+        public Relevance {
+            if (strategy == null) {
+                strategy = PublicProductRelevanceStrategy.TRIGRAM_SIMILARITY;
+            }
+        }
+    }
+
+    public record Listing(PublicProductListingSource source) {
+        public Listing {
+            if (source == null) {
+                source = PublicProductListingSource.PRODUCTS;
+            }
         }
     }
 }
@@ -0,0 +1,17 @@
+package com.project.young.productservice.dataaccess.config;
+
+import com.project.young.productservice.dataaccess.repository.StorefrontCartLineLoadStrategy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Storefront cart catalog line read path. Default load strategy is {@link StorefrontCartLineLoadStrategy#ENTITY_FETCH}.
+ */
+@ConfigurationProperties(prefix = "product-service.storefront-cart-lines")
+public record StorefrontCartLineQueryProperties(StorefrontCartLineLoadStrategy loadStrategy) {
+
+    public StorefrontCartLineQueryProperties {
+        if (loadStrategy == null) {
+            loadStrategy = StorefrontCartLineLoadStrategy.ENTITY_FETCH;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.young.productservice.dataaccess.config;
 
+import com.project.young.productservice.dataaccess.cache.StorefrontProductDetailCacheFormat;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -16,6 +17,28 @@ public class StorefrontProductCacheProperties {
     private long ttlSeconds = 120;
     private long ttlJitterSeconds = 20;
     private long lockTtlSeconds = 10;
-    private int lockWaitRetries = 5;
-    private long lockWaitMillis = 50;
+    /** Body format written to Redis; values in every known format are still read. */
+    private StorefrontProductDetailCacheFormat format = StorefrontProductDetailCacheFormat.JSON;
+    /** Bodies at least this large are deflated when that makes them smaller; 0 disables compression. */
+    private int compressionThresholdBytes = 2_048;
+    /** The lock holder announces a finished load here; other instances wait for it up to {@link #fillWaitMillis}. */
+    private String fillChannel = "ecomart:product:storefront:filled";
+    private long fillWaitMillis = 1_000;
+    /**
+     * Probabilistic early refresh of Redis entries before they expire; {@link #earlyRefreshBeta} above 1 refreshes
+     * earlier, below 1 later.
+     */
+    private boolean earlyRefreshEnabled = false;
+    private double earlyRefreshBeta = 1.0;
+    /** In-process L1 of deserialized views in front of Redis; evictions are broadcast on {@link #evictChannel}. */
+    private boolean localEnabled = false;
+    private int localMaxEntries = 2_000;
+    private long localTtlSeconds = 30;
+    private String evictChannel = "ecomart:product:storefront:evicted";
+    private long statsLogIntervalMs = 300_000;
+    /**
+     * Lifetime of a product's availability overlay; inventory changes rewrite it after commit, so this only bounds
+     * how long a missed or reordered update is served.
+     */
+    private long stockOverlayTtlSeconds = 300;
 }
@@ -0,0 +1,55 @@
+package com.project.young.productservice.dataaccess.config;
+
+import com.project.young.productservice.dataaccess.cache.RedisStorefrontProductDetailCacheAdapter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(
+        prefix = "product-service.storefront-cache",
+        name = "enabled",
+        havingValue = "true"
+)
+public class StorefrontProductDetailCacheRedisConfig {
+
+    /**
+     * Binary values for {@link RedisStorefrontProductDetailCacheAdapter}; locks and pub/sub stay on the
+     * {@code StringRedisTemplate}.
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> storefrontProductDetailValueRedisTemplate(
+            RedisConnectionFactory redisConnectionFactory
+    ) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer storefrontProductDetailListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            RedisStorefrontProductDetailCacheAdapter redisStorefrontProductDetailCacheAdapter,
+            StorefrontProductCacheProperties storefrontProductCacheProperties
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                redisStorefrontProductDetailCacheAdapter,
+                List.of(
+                        new ChannelTopic(storefrontProductCacheProperties.getEvictChannel()),
+                        new ChannelTopic(storefrontProductCacheProperties.getFillChannel())
+                )
+        );
+        return container;
+    }
+}
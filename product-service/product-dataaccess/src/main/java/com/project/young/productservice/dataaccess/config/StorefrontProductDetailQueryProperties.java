@@ -0,0 +1,17 @@
+package com.project.young.productservice.dataaccess.config;
+
+import com.project.young.productservice.dataaccess.repository.StorefrontProductDetailLoadStrategy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Storefront PDP read path. Default load strategy is {@link StorefrontProductDetailLoadStrategy#ENTITY_FETCH}.
+ */
+@ConfigurationProperties(prefix = "product-service.storefront-detail")
+public record StorefrontProductDetailQueryProperties(StorefrontProductDetailLoadStrategy loadStrategy) {
+
+    public StorefrontProductDetailQueryProperties {
+        if (loadStrategy == null) {
+            loadStrategy = StorefrontProductDetailLoadStrategy.ENTITY_FETCH;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.project.young.productservice.dataaccess.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+
+/**
+ * Read-only view of {@code category_closure}. Rows are maintained by DB triggers on {@code categories}
+ * (see {@code V10__category_closure.sql}); the application never writes this table.
+ */
+@Entity
+@Immutable
+@IdClass(CategoryClosureEntity.Key.class)
+@Table(name = "category_closure")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryClosureEntity {
+
+    @Id
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId;
+
+    @Column(name = "depth", nullable = false)
+    private int depth;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
@@ -40,6 +40,9 @@ public class ProductCatalogOutboxEntity {
     @Column(name = "category_id")
     private Long categoryId;
 
+    @Column(name = "previous_category_id")
+    private Long previousCategoryId;
+
     @Column(name = "change_type", nullable = false, length = 50)
     private String changeType;
 
@@ -1,10 +1,11 @@
 package com.project.young.productservice.dataaccess.projection;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.UUID;
 
 /**
- * Storefront PLP row — only fields exposed on the public product list API.
+ * Storefront PLP row — only fields exposed on the public product list API, plus {@code createdAt} as a keyset sort key.
  */
 public record PublicProductListProjection(
         UUID id,
@@ -12,6 +13,7 @@ public record PublicProductListProjection(
         String name,
         String brand,
         String mainImageUrl,
-        BigDecimal basePrice
+        BigDecimal basePrice,
+        Instant createdAt
 ) {
 }
@@ -0,0 +1,28 @@
+package com.project.young.productservice.dataaccess.projection;
+
+import com.project.young.productservice.application.port.output.view.ReadCartCatalogOptionLineView;
+import com.project.young.productservice.dataaccess.enums.ProductStatusEntity;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One storefront cart line as read by the projection statement. {@code imageUrl} already falls back to the product
+ * image; {@code availableQuantity} is on-hand stock minus active reservations (never negative).
+ */
+public record StorefrontCartLineProjection(
+        UUID productId,
+        UUID productVariantId,
+        String productName,
+        String brand,
+        String sku,
+        String imageUrl,
+        BigDecimal unitPrice,
+        ProductStatusEntity productStatus,
+        ProductStatusEntity variantStatus,
+        int stockQuantity,
+        int availableQuantity,
+        List<ReadCartCatalogOptionLineView> variantOptions
+) {
+}
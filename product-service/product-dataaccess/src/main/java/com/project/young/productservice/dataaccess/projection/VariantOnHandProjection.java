@@ -0,0 +1,10 @@
+package com.project.young.productservice.dataaccess.projection;
+
+import java.util.UUID;
+
+public record VariantOnHandProjection(
+        UUID productId,
+        UUID variantId,
+        int stockQuantity
+) {
+}
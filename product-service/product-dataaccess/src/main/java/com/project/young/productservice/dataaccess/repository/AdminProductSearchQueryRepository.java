@@ -1,6 +1,7 @@
 package com.project.young.productservice.dataaccess.repository;
 
 import com.project.young.productservice.application.dto.condition.AdminProductSearchCondition;
+import com.project.young.productservice.dataaccess.config.ProductSearchCountProperties;
 import com.project.young.productservice.dataaccess.mapper.ProductDataAccessMapper;
 import com.project.young.productservice.dataaccess.projection.AdminProductListProjection;
 import com.querydsl.core.BooleanBuilder;
@@ -9,15 +10,15 @@ import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.project.young.productservice.dataaccess.entity.QCategoryEntity.categoryEntity;
 import static com.project.young.productservice.dataaccess.entity.QProductEntity.productEntity;
@@ -28,14 +29,20 @@ public class AdminProductSearchQueryRepository {
 
     private final JPAQueryFactory queryFactory;
     private final ProductDataAccessMapper productDataAccessMapper;
+    private final ProductSearchCountProperties countProperties;
+    private final ProductSearchTotalCounter totalCounter;
 
     public AdminProductSearchQueryRepository(JPAQueryFactory queryFactory,
-                                             ProductDataAccessMapper productDataAccessMapper) {
+                                             ProductDataAccessMapper productDataAccessMapper,
+                                             ProductSearchCountProperties countProperties,
+                                             ProductSearchTotalCounter totalCounter) {
         this.queryFactory = queryFactory;
         this.productDataAccessMapper = productDataAccessMapper;
+        this.countProperties = countProperties;
+        this.totalCounter = totalCounter;
     }
 
-    public Page<AdminProductListProjection> search(AdminProductSearchCondition condition, Pageable pageable) {
+    public ProductSearchPage<AdminProductListProjection> search(AdminProductSearchCondition condition, Pageable pageable) {
         if (condition == null) {
             throw new IllegalArgumentException("AdminProductSearchCondition cannot be null");
         }
@@ -66,8 +73,15 @@ public class AdminProductSearchQueryRepository {
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        // 실제로 전체를 카운팅해야 할 경우에만 count 쿼리 실행
-        return PageableExecutionUtils.getPage(content, pageable, () -> count(where));
+        // 실제로 전체를 카운팅해야 할 경우에만 count 쿼리 실행 (전략: product-service.search-count.admin-search)
+        return totalCounter.toPage(
+                content,
+                pageable,
+                countProperties.adminSearch(),
+                () -> count(where),
+                limit -> totalCounter.countUpTo(nativeCountSource(condition), limit),
+                () -> nativeCountSource(condition)
+        );
     }
 
     private long count(BooleanBuilder where) {
@@ -80,6 +94,47 @@ public class AdminProductSearchQueryRepository {
         return c != null ? c : 0L;
     }
 
+    /**
+     * Native mirror of {@link #buildWhere} for capped counts and {@code EXPLAIN}-based estimates. Keep both in sync.
+     */
+    private ProductSearchTotalCounter.NativeCountSource nativeCountSource(AdminProductSearchCondition condition) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT p.id
+                FROM products p
+                LEFT JOIN categories c ON p.category_id = c.id
+                WHERE 1 = 1
+                """);
+        Map<String, Object> params = new LinkedHashMap<>();
+
+        if (condition.status() != null) {
+            sql.append("  AND p.status = CAST(:status AS product_status)\n");
+            params.put("status", productDataAccessMapper.toEntityStatus(condition.status()).name());
+        }
+
+        String brand = condition.normalizedBrand();
+        if (brand != null) {
+            sql.append("  AND p.brand = :brand\n");
+            params.put("brand", brand);
+        }
+
+        String keyword = condition.normalizedKeyword();
+        if (keyword != null) {
+            sql.append("  AND (lower(p.name) LIKE :pattern OR lower(p.description) LIKE :pattern)\n");
+            params.put("pattern", "%" + keyword.toLowerCase() + "%");
+        }
+
+        if (condition.categoryId() != null) {
+            sql.append("  AND c.id = :categoryId\n");
+            params.put("categoryId", condition.categoryId());
+        }
+
+        if (!condition.includeOrphansOrDefault()) {
+            sql.append("  AND c.id IS NOT NULL\n");
+        }
+
+        return new ProductSearchTotalCounter.NativeCountSource(sql.toString(), params);
+    }
+
     private BooleanBuilder buildWhere(AdminProductSearchCondition condition) {
         BooleanBuilder b = new BooleanBuilder();
 
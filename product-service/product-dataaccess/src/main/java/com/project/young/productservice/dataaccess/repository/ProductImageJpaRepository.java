@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,6 +20,11 @@ public interface ProductImageJpaRepository extends JpaRepository<ProductImageEnt
             OptionStatusEntity status
     );
 
+    List<ProductImageEntity> findByProduct_IdInAndStatusOrderBySortOrderAsc(
+            Collection<UUID> productIds,
+            OptionStatusEntity status
+    );
+
     Optional<ProductImageEntity> findByIdAndProduct_Id(UUID id, UUID productId);
 
     Optional<ProductImageEntity> findByStorageKeyAndProduct_Id(String storageKey, UUID productId);
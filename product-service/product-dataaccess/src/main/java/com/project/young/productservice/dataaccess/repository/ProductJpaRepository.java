@@ -155,4 +155,18 @@ public interface ProductJpaRepository extends JpaRepository<ProductEntity, UUID>
     List<ProductEntity> findStorefrontOptionsByIdIn(@Param("productIds") Collection<UUID> productIds,
                                                     @Param("excludedStatuses") List<ProductStatusEntity> excludedStatuses,
                                                     @Param("excludedCategoryStatus") CategoryStatusEntity excludedCategoryStatus);
+
+    @Query("""
+           SELECT DISTINCT p
+           FROM ProductEntity p
+           LEFT JOIN p.category c
+           LEFT JOIN FETCH p.variants v
+           LEFT JOIN FETCH v.selectedOptionValues
+           WHERE p.id IN :productIds
+            AND p.status NOT IN :excludedStatuses
+            AND (c IS NULL OR c.status <> :excludedCategoryStatus)
+           """)
+    List<ProductEntity> findStorefrontVariantsByIdIn(@Param("productIds") Collection<UUID> productIds,
+                                                     @Param("excludedStatuses") List<ProductStatusEntity> excludedStatuses,
+                                                     @Param("excludedCategoryStatus") CategoryStatusEntity excludedCategoryStatus);
 }
@@ -0,0 +1,16 @@
+package com.project.young.productservice.dataaccess.repository;
+
+/**
+ * How list queries compute {@code totalElements}.
+ * <ul>
+ *   <li>{@link #EXACT} — 기존 동작. 페이지 쿼리와 같은 조인·조건으로 {@code count(id)}.</li>
+ *   <li>{@link #CAPPED} — 최대 cap+1 건까지만 세고 넘으면 cap을 하한값으로 반환 ("1000+").</li>
+ *   <li>{@link #ESTIMATED} — {@code EXPLAIN} 플래너 추정 행 수. 추정치가 cap 이하이면 CAPPED 경로로 정확히 센다.</li>
+ * </ul>
+ */
+public enum ProductSearchCountStrategy {
+
+    EXACT,
+    CAPPED,
+    ESTIMATED
+}
@@ -0,0 +1,24 @@
+package com.project.young.productservice.dataaccess.repository;
+
+import com.project.young.productservice.application.dto.result.TotalCountMode;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * {@link PageImpl} that also records how {@link #getTotalElements()} was obtained.
+ */
+public class ProductSearchPage<T> extends PageImpl<T> {
+
+    private final TotalCountMode totalCountMode;
+
+    public ProductSearchPage(List<T> content, Pageable pageable, long total, TotalCountMode totalCountMode) {
+        super(content, pageable, total);
+        this.totalCountMode = totalCountMode;
+    }
+
+    public TotalCountMode getTotalCountMode() {
+        return totalCountMode;
+    }
+}
@@ -0,0 +1,120 @@
+package com.project.young.productservice.dataaccess.repository;
+
+import com.project.young.productservice.application.dto.result.TotalCountMode;
+import com.project.young.productservice.dataaccess.config.ProductSearchCountProperties.CountSettings;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Builds {@link ProductSearchPage}s for list queries according to a {@link ProductSearchCountStrategy}.
+ * <p>
+ * Like {@code PageableExecutionUtils}, no count runs when the page itself proves the total
+ * (first page not full, or a partial last page).
+ */
+@Component
+public class ProductSearchTotalCounter {
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\"\\s*:\\s*(\\d+)");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @param exactCount     full {@code count(id)} with the page's joins and predicates
+     * @param countUpTo      matching rows, reading at most the given limit
+     * @param explainSource  native {@code SELECT} equivalent to the page's filter, used only for ESTIMATED
+     */
+    public <T> ProductSearchPage<T> toPage(
+            List<T> content,
+            Pageable pageable,
+            CountSettings settings,
+            LongSupplier exactCount,
+            LongUnaryOperator countUpTo,
+            Supplier<NativeCountSource> explainSource
+    ) {
+        if (pageable.isUnpaged() || pageable.getOffset() == 0) {
+            if (pageable.isUnpaged() || pageable.getPageSize() > content.size()) {
+                return new ProductSearchPage<>(content, pageable, content.size(), TotalCountMode.EXACT);
+            }
+        } else if (!content.isEmpty() && pageable.getPageSize() > content.size()) {
+            return new ProductSearchPage<>(
+                    content, pageable, pageable.getOffset() + content.size(), TotalCountMode.EXACT);
+        }
+
+        return switch (settings.strategy()) {
+            case EXACT -> new ProductSearchPage<>(content, pageable, exactCount.getAsLong(), TotalCountMode.EXACT);
+            case CAPPED -> capped(content, pageable, settings.cap(), countUpTo);
+            case ESTIMATED -> estimated(content, pageable, settings.cap(), countUpTo, explainSource.get());
+        };
+    }
+
+    private <T> ProductSearchPage<T> capped(
+            List<T> content,
+            Pageable pageable,
+            int cap,
+            LongUnaryOperator countUpTo
+    ) {
+        long counted = countUpTo.applyAsLong(cap + 1L);
+        if (counted > cap) {
+            return new ProductSearchPage<>(content, pageable, cap, TotalCountMode.CAPPED);
+        }
+        return new ProductSearchPage<>(content, pageable, counted, TotalCountMode.EXACT);
+    }
+
+    private <T> ProductSearchPage<T> estimated(
+            List<T> content,
+            Pageable pageable,
+            int cap,
+            LongUnaryOperator countUpTo,
+            NativeCountSource source
+    ) {
+        long estimate = estimateRows(source);
+        // 소량 결과는 플래너 추정 오차가 크고 정확히 세도 싸다.
+        if (estimate < 0 || estimate <= cap) {
+            return capped(content, pageable, cap, countUpTo);
+        }
+        return new ProductSearchPage<>(content, pageable, estimate, TotalCountMode.ESTIMATED);
+    }
+
+    /**
+     * Matching rows of {@code source}, reading at most {@code limit}: {@code count(*)} over a limited subquery, so only
+     * the count crosses the wire (same shape as {@link StorefrontProductListingQueryRepository#countUpTo}).
+     */
+    public long countUpTo(NativeCountSource source, long limit) {
+        Query query = entityManager.createNativeQuery(
+                "SELECT count(*) FROM (" + source.selectSql() + "LIMIT :countLimit) limited");
+        source.parameters().forEach(query::setParameter);
+        query.setParameter("countLimit", limit);
+        Object count = query.getSingleResult();
+        return count == null ? 0L : ((Number) count).longValue();
+    }
+
+    long estimateRows(NativeCountSource source) {
+        Query query = entityManager.createNativeQuery("EXPLAIN (FORMAT JSON) " + source.selectSql());
+        source.parameters().forEach(query::setParameter);
+        Object plan = query.getSingleResult();
+        Matcher matcher = PLAN_ROWS.matcher(String.valueOf(plan));
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : -1L;
+    }
+
+    /**
+     * Native SQL {@code SELECT} over exactly the filtered rows (ending in a newline), used for capped counts and
+     * for the top plan node row estimate.
+     */
+    public record NativeCountSource(String selectSql, Map<String, Object> parameters) {
+        public NativeCountSource {
+            parameters = parameters == null ? Map.of() : Map.copyOf(parameters);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.project.young.productservice.dataaccess.repository;
 import com.project.young.productservice.dataaccess.entity.ProductVariantEntity;
 import com.project.young.productservice.dataaccess.enums.CategoryStatusEntity;
 import com.project.young.productservice.dataaccess.enums.ProductStatusEntity;
+import com.project.young.productservice.dataaccess.projection.VariantOnHandProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -91,4 +92,19 @@ public interface ProductVariantJpaRepository extends JpaRepository<ProductVarian
             ORDER BY v.id ASC
             """)
     List<ProductVariantEntity> findAllByIdInWithProductOrdered(@Param("variantIds") Collection<UUID> variantIds);
+
+    @Query("""
+            SELECT new com.project.young.productservice.dataaccess.projection.VariantOnHandProjection(
+                v.product.id, v.id, v.stockQuantity)
+            FROM ProductVariantEntity v
+            WHERE v.product.id IN :productIds
+            """)
+    List<VariantOnHandProjection> findOnHandByProductIdIn(@Param("productIds") Collection<UUID> productIds);
+
+    @Query("""
+            SELECT DISTINCT v.product.id
+            FROM ProductVariantEntity v
+            WHERE v.id IN :variantIds
+            """)
+    List<UUID> findProductIdsByIdIn(@Param("variantIds") Collection<UUID> variantIds);
 }
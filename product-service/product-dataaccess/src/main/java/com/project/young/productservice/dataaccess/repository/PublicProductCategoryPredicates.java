@@ -0,0 +1,36 @@
+package com.project.young.productservice.dataaccess.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+
+import static com.project.young.productservice.dataaccess.entity.QCategoryClosureEntity.categoryClosureEntity;
+import static com.project.young.productservice.dataaccess.entity.QCategoryEntity.categoryEntity;
+
+/**
+ * Category scope for storefront listing/facets: the category itself, or its whole subtree via {@code category_closure}.
+ */
+final class PublicProductCategoryPredicates {
+
+    private PublicProductCategoryPredicates() {
+    }
+
+    static BooleanExpression categoryScope(long categoryId, boolean includeDescendants) {
+        if (!includeDescendants) {
+            return categoryEntity.id.eq(categoryId);
+        }
+        return categoryEntity.id.in(JPAExpressions
+                .select(categoryClosureEntity.descendantId)
+                .from(categoryClosureEntity)
+                .where(categoryClosureEntity.ancestorId.eq(categoryId)));
+    }
+
+    /**
+     * Native counterpart of {@link #categoryScope} for {@code EXPLAIN}-based estimates; binds {@code :categoryId}.
+     */
+    static String categoryScopeSql(String categoryAlias, boolean includeDescendants) {
+        if (!includeDescendants) {
+            return categoryAlias + ".id = :categoryId";
+        }
+        return categoryAlias + ".id IN (SELECT cc.descendant_id FROM category_closure cc WHERE cc.ancestor_id = :categoryId)";
+    }
+}
@@ -0,0 +1,15 @@
+package com.project.young.productservice.dataaccess.repository;
+
+/**
+ * Public product facet aggregation variant.
+ * <ul>
+ *   <li>{@link #SINGLE_PASS} — 운영 기본. native 단일 쿼리, {@code GROUPING SETS ((brand), ())} + {@code FILTER (WHERE ...)}.
+ *       status·카테고리·키워드 조건을 한 번만 평가한다.</li>
+ *   <li>{@link #PER_FACET} — 비교용. total count, brand GROUP BY, 가격 CASE 합계를 각각 QueryDSL로 조회 (3 round trip).</li>
+ * </ul>
+ */
+public enum PublicProductFacetAggregationStrategy {
+
+    SINGLE_PASS,
+    PER_FACET
+}
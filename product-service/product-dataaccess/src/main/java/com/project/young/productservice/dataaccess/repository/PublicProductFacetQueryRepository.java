@@ -15,11 +15,17 @@ import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.project.young.productservice.dataaccess.entity.QCategoryEntity.categoryEntity;
@@ -37,9 +43,14 @@ public class PublicProductFacetQueryRepository {
             new PriceBucket("200_plus", "$200+", new BigDecimal("200"), null)
     );
 
+    private static final int BRAND_FACET_LIMIT = 80;
+
     private final JPAQueryFactory queryFactory;
     private final PublicProductSearchProperties searchProperties;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public PublicProductFacetQueryRepository(
             JPAQueryFactory queryFactory,
             PublicProductSearchProperties searchProperties
@@ -49,6 +60,131 @@ public class PublicProductFacetQueryRepository {
     }
 
     public PublicProductFacetResult getFacets(PublicProductFacetQuery query) {
+        return getFacets(query, searchProperties.resolvedFacetAggregationStrategy());
+    }
+
+    /**
+     * Strategy override for benchmarks and tests; production uses {@link #getFacets(PublicProductFacetQuery)}.
+     */
+    PublicProductFacetResult getFacets(PublicProductFacetQuery query, PublicProductFacetAggregationStrategy strategy) {
+        return switch (strategy) {
+            case SINGLE_PASS -> getFacetsSinglePass(query);
+            case PER_FACET -> getFacetsPerFacet(query);
+        };
+    }
+
+    /**
+     * One round trip: the {@code ()} grouping set carries the total and the price buckets, each {@code (brand)}
+     * set one brand count. Facet-specific filters move from WHERE into per-aggregate {@code FILTER} clauses so
+     * the brand facet ignores the brand filter and the price facet ignores the price filter (disjunctive facets).
+     * Reads {@code storefront_product_listing} instead of {@code products ⋈ categories} when
+     * {@link PublicProductListingSource#LISTING_TABLE} applies.
+     */
+    private PublicProductFacetResult getFacetsSinglePass(PublicProductFacetQuery query) {
+        Set<PublicProductFacetType> requested = Set.copyOf(query.facets());
+        boolean brandRequested = requested.contains(PublicProductFacetType.BRAND);
+        boolean priceRequested = requested.contains(PublicProductFacetType.PRICE);
+        Map<String, Object> params = new LinkedHashMap<>();
+
+        List<String> brandFilter = new ArrayList<>();
+        if (!query.brands().isEmpty()) {
+            brandFilter.add("p.brand IN (:brands)");
+            params.put("brands", query.brands());
+        }
+        List<String> priceFilter = new ArrayList<>();
+        if (query.minPrice() != null) {
+            priceFilter.add("p.base_price >= :minPrice");
+            params.put("minPrice", query.minPrice());
+        }
+        if (query.maxPrice() != null) {
+            priceFilter.add("p.base_price <= :maxPrice");
+            params.put("maxPrice", query.maxPrice());
+        }
+
+        // Column order is read positionally below: brand, grand_total, matching, brand_matching, bucket_0..n.
+        List<String> selectColumns = new ArrayList<>();
+        selectColumns.add((brandRequested ? "p.brand" : "CAST(NULL AS varchar)") + " AS brand");
+        selectColumns.add((brandRequested ? "GROUPING(p.brand)" : "1") + " AS grand_total");
+        selectColumns.add(countFiltered(concat(brandFilter, priceFilter)) + " AS matching");
+        selectColumns.add(countFiltered(priceFilter) + " AS brand_matching");
+        if (priceRequested) {
+            for (int i = 0; i < DEFAULT_PRICE_BUCKETS.size(); i++) {
+                String bucketPredicate = DEFAULT_PRICE_BUCKETS.get(i).predicateSql();
+                selectColumns.add(countFiltered(concat(brandFilter, List.of(bucketPredicate))) + " AS bucket_" + i);
+            }
+        }
+
+        boolean listingTable = StorefrontProductListingSql.appliesTo(
+                searchProperties.resolvedListingSource(), searchProperties.resolvedKeywordStrategy());
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(String.join(",\n       ", selectColumns))
+                .append("\n");
+        if (listingTable) {
+            sql.append(StorefrontProductListingSql.fromVisibleRows(query.includeDescendants()));
+        } else {
+            sql.append("""
+                    FROM products p
+                    INNER JOIN categories c ON p.category_id = c.id
+                    WHERE p.status = 'ACTIVE'
+                      AND c.status = 'ACTIVE'
+                    """);
+            sql.append("  AND ")
+                    .append(PublicProductCategoryPredicates.categoryScopeSql("c", query.includeDescendants()))
+                    .append('\n');
+        }
+        params.put("categoryId", query.categoryId());
+        if (query.q() != null) {
+            sql.append("  AND ")
+                    .append(listingTable
+                            ? StorefrontProductListingSql.keywordPredicateSql()
+                            : PublicProductKeywordPredicates.keywordPredicateSql(
+                                    "p",
+                                    query.q(),
+                                    searchProperties.resolvedKeywordStrategy(),
+                                    searchProperties.resolvedFullTextSearch()))
+                    .append('\n');
+            params.put("pattern", PublicProductKeywordPredicates.keywordParameter(
+                    query.q(), searchProperties.resolvedKeywordStrategy(), searchProperties.resolvedFullTextSearch()));
+        }
+        if (brandRequested) {
+            // Grand-total row first, then brands in the same order as the per-facet GROUP BY.
+            sql.append("GROUP BY GROUPING SETS ((p.brand), ())\n")
+                    .append("ORDER BY grand_total DESC, brand_matching DESC, brand ASC");
+        }
+
+        Query nativeQuery = entityManager.createNativeQuery(sql.toString());
+        params.forEach(nativeQuery::setParameter);
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = nativeQuery.getResultList();
+
+        Object[] totalRow = rows.getFirst();
+        long totalMatching = toLong(totalRow[2]);
+
+        List<PublicProductPriceFacetBucketResult> priceBuckets = new ArrayList<>();
+        if (priceRequested) {
+            for (int i = 0; i < DEFAULT_PRICE_BUCKETS.size(); i++) {
+                PriceBucket bucket = DEFAULT_PRICE_BUCKETS.get(i);
+                priceBuckets.add(new PublicProductPriceFacetBucketResult(
+                        bucket.id(), bucket.label(), bucket.min(), bucket.max(), toLong(totalRow[4 + i])));
+            }
+        }
+
+        Set<String> selectedBrands = Set.copyOf(query.brands());
+        List<PublicProductBrandFacetValueResult> brands = rows.stream()
+                .skip(1)
+                .filter(row -> row[0] != null && !row[0].toString().isEmpty() && toLong(row[3]) > 0)
+                .limit(BRAND_FACET_LIMIT)
+                .map(row -> new PublicProductBrandFacetValueResult(
+                        row[0].toString(),
+                        toLong(row[3]),
+                        selectedBrands.contains(row[0].toString())
+                ))
+                .toList();
+
+        return new PublicProductFacetResult(query.categoryId(), totalMatching, brands, List.copyOf(priceBuckets));
+    }
+
+    private PublicProductFacetResult getFacetsPerFacet(PublicProductFacetQuery query) {
         Set<PublicProductFacetType> requested = Set.copyOf(query.facets());
         long totalMatching = count(buildWhere(query, false, false));
 
@@ -71,7 +207,7 @@ public class PublicProductFacetQueryRepository {
                 .where(where, productEntity.brand.isNotNull(), productEntity.brand.ne(""))
                 .groupBy(productEntity.brand)
                 .orderBy(productEntity.id.count().desc(), productEntity.brand.asc())
-                .limit(80)
+                .limit(BRAND_FACET_LIMIT)
                 .fetch();
 
         Set<String> selectedBrands = Set.copyOf(query.brands());
@@ -140,7 +276,7 @@ public class PublicProductFacetQueryRepository {
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(productEntity.status.eq(ProductStatusEntity.ACTIVE));
         builder.and(categoryEntity.status.eq(CategoryStatusEntity.ACTIVE));
-        builder.and(categoryEntity.id.eq(query.categoryId()));
+        builder.and(PublicProductCategoryPredicates.categoryScope(query.categoryId(), query.includeDescendants()));
 
         if (!excludeBrandFilter && !query.brands().isEmpty()) {
             builder.and(productEntity.brand.in(query.brands()));
@@ -149,7 +285,8 @@ public class PublicProductFacetQueryRepository {
         PublicProductKeywordPredicates.appendKeywordPredicate(
                 builder,
                 query.q(),
-                searchProperties.resolvedKeywordStrategy()
+                searchProperties.resolvedKeywordStrategy(),
+                searchProperties.resolvedFullTextSearch()
         );
 
         if (!excludePriceFilter && query.minPrice() != null) {
@@ -162,7 +299,40 @@ public class PublicProductFacetQueryRepository {
         return builder;
     }
 
+    private static String countFiltered(List<String> conditions) {
+        if (conditions.isEmpty()) {
+            return "count(*)";
+        }
+        return "count(*) FILTER (WHERE " + String.join(" AND ", conditions) + ")";
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        List<String> combined = new ArrayList<>(first);
+        combined.addAll(second);
+        return combined;
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
     private record PriceBucket(String id, String label, BigDecimal min, BigDecimal max) {
+        /**
+         * Bounds are compile-time constants, so they are inlined as numeric literals.
+         */
+        String predicateSql() {
+            if (min == null && max == null) {
+                return "p.base_price IS NOT NULL";
+            }
+            if (min == null) {
+                return "p.base_price < " + max.toPlainString();
+            }
+            if (max == null) {
+                return "p.base_price >= " + min.toPlainString();
+            }
+            return "p.base_price >= " + min.toPlainString() + " AND p.base_price < " + max.toPlainString();
+        }
+
         BooleanExpression predicate() {
             if (min == null && max == null) {
                 return productEntity.basePrice.isNotNull();
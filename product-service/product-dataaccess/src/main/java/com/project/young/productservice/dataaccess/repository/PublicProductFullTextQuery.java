@@ -0,0 +1,80 @@
+package com.project.young.productservice.dataaccess.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Builds the {@code to_tsquery('simple', ...)} text for {@link PublicProductKeywordSearchStrategy#FULL_TEXT}.
+ * <p>
+ * Keyword syntax: whitespace-separated terms are ANDed; {@code "double quoted"} text is a phrase.
+ * Punctuation splits words the same way {@code product_search_bigrams} does, so {@code t-shirt} is the phrase
+ * {@code t <-> shirt}. Lexemes are quoted and stripped of tsquery operators, so user input cannot inject syntax.
+ */
+final class PublicProductFullTextQuery {
+
+    private static final Pattern CLAUSE = Pattern.compile("\"([^\"]*)\"|([^\\s\"]+)");
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[\\s\\p{Punct}]+");
+    /** Weights of name (A) and brand (B); description lexemes are weighted D. */
+    private static final String NAME_BRAND_WEIGHTS = "AB";
+
+    private PublicProductFullTextQuery() {
+    }
+
+    /**
+     * @return tsquery text, or {@code null} when the keyword has no searchable word
+     */
+    static String toTsQuery(
+            String normalizedKeyword,
+            PublicProductFullTextTokenization tokenization,
+            boolean includeDescription
+    ) {
+        if (normalizedKeyword == null) {
+            return null;
+        }
+        String weights = includeDescription ? "" : NAME_BRAND_WEIGHTS;
+        List<String> clauses = new ArrayList<>();
+        Matcher matcher = CLAUSE.matcher(normalizedKeyword.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            String text = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+            List<String> lexemes = new ArrayList<>();
+            for (String word : WORD_SEPARATOR.split(text)) {
+                if (!word.isEmpty()) {
+                    appendLexemes(lexemes, word, tokenization, weights);
+                }
+            }
+            if (!lexemes.isEmpty()) {
+                clauses.add("(" + String.join(" <-> ", lexemes) + ")");
+            }
+        }
+        return clauses.isEmpty() ? null : String.join(" & ", clauses);
+    }
+
+    private static void appendLexemes(
+            List<String> lexemes,
+            String word,
+            PublicProductFullTextTokenization tokenization,
+            String weights
+    ) {
+        if (tokenization == PublicProductFullTextTokenization.WORD) {
+            lexemes.add(lexeme(word, weights, false));
+            return;
+        }
+        int[] codePoints = word.codePoints().toArray();
+        if (codePoints.length == 1) {
+            // A single character is the prefix of every bigram starting with it.
+            lexemes.add(lexeme(word, weights, true));
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            lexemes.add(lexeme(new String(codePoints, i, 2), weights, false));
+        }
+    }
+
+    private static String lexeme(String text, String weights, boolean prefix) {
+        String label = (prefix ? "*" : "") + weights;
+        return "'" + text + "'" + (label.isEmpty() ? "" : ":" + label);
+    }
+}
@@ -0,0 +1,15 @@
+package com.project.young.productservice.dataaccess.repository;
+
+/**
+ * How {@link PublicProductKeywordSearchStrategy#FULL_TEXT} tokenizes text and keywords.
+ * <ul>
+ *   <li>{@link #NGRAM} — 운영 기본. 단어별 2-gram ({@code products.search_ngram_vector}). 형태소 분석 없이 한국어
+ *       부분 단어를 찾는다: 질의 단어는 인접 2-gram 연쇄({@code <->})로 매칭.</li>
+ *   <li>{@link #WORD} — {@code 'simple'} 사전 단어 단위 ({@code products.search_vector}). 공백 구분 단어 전체 일치.</li>
+ * </ul>
+ */
+public enum PublicProductFullTextTokenization {
+
+    NGRAM,
+    WORD
+}
@@ -0,0 +1,30 @@
+package com.project.young.productservice.dataaccess.repository;
+
+import java.util.List;
+
+/**
+ * Access path {@link PublicProductKeywordSearchStrategy#ADAPTIVE} pins for one search, as planner settings
+ * switched off with {@code SET LOCAL} for the duration of the search.
+ * <ul>
+ *   <li>{@link #PLANNER_DEFAULT} — no hint (no keyword, or no sample to estimate from).</li>
+ *   <li>{@link #TRIGRAM_INDEX} — {@code enable_seqscan = off}: rare keywords go through the name+brand GIN.</li>
+ *   <li>{@link #SEQUENTIAL_SCAN} — {@code enable_bitmapscan = off}: GIN is only reachable through bitmap scans,
+ *       so broad and short keywords scan with the LIKE as a filter while btree seeks (keyset) stay available.</li>
+ * </ul>
+ */
+public enum PublicProductKeywordPlan {
+
+    PLANNER_DEFAULT(List.of()),
+    TRIGRAM_INDEX(List.of("enable_seqscan")),
+    SEQUENTIAL_SCAN(List.of("enable_bitmapscan"));
+
+    private final List<String> disabledSettings;
+
+    PublicProductKeywordPlan(List<String> disabledSettings) {
+        this.disabledSettings = disabledSettings;
+    }
+
+    List<String> disabledSettings() {
+        return disabledSettings;
+    }
+}
@@ -0,0 +1,185 @@
+package com.project.young.productservice.dataaccess.repository;
+
+import com.project.young.productservice.dataaccess.config.PublicProductSearchProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Picks a {@link PublicProductKeywordPlan} per keyword for {@link PublicProductKeywordSearchStrategy#ADAPTIVE}.
+ * <p>
+ * The planner estimates {@code LIKE '%kw%'} on the combined name+brand expression with a fixed selectivity,
+ * so it misjudges the GIN/Seq Scan crossover. Instead the keyword is matched against an in-memory sample of the
+ * same expression over active rows (re-taken after {@code sample-max-age-seconds}, one thread at a time while
+ * others keep using the previous sample). Keywords too short to yield a trigram always scan: the GIN would have
+ * to read every posting list.
+ */
+@Component
+@Slf4j
+public class PublicProductKeywordPlanSelector {
+
+    private static final String SAMPLE_SQL = """
+            SELECT %s
+            FROM products p TABLESAMPLE BERNOULLI (%s)
+            WHERE p.status = 'ACTIVE'
+            LIMIT :sampleSize
+            """;
+
+    /** Oversample so the ACTIVE filter still leaves roughly {@code sampleSize} rows. */
+    private static final double OVERSAMPLE_FACTOR = 1.5;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final PublicProductSearchProperties.Adaptive settings;
+    private final ReentrantLock resampleLock = new ReentrantLock();
+
+    private volatile KeywordSample sample;
+
+    public PublicProductKeywordPlanSelector(PublicProductSearchProperties searchProperties) {
+        this.settings = searchProperties.resolvedAdaptiveKeywordSearch();
+    }
+
+    public PublicProductKeywordPlan choose(String normalizedKeyword) {
+        if (normalizedKeyword == null) {
+            return PublicProductKeywordPlan.PLANNER_DEFAULT;
+        }
+        if (isShort(normalizedKeyword)) {
+            return PublicProductKeywordPlan.SEQUENTIAL_SCAN;
+        }
+        return choose(normalizedKeyword, currentSample());
+    }
+
+    /**
+     * Runs {@code search} with {@code plan}'s planner settings, restoring them afterwards so later statements
+     * in the same transaction are unaffected. Requires an active transaction ({@code SET LOCAL}).
+     * <p>
+     * If {@code search} fails, the restore is still attempted but its own failure (e.g. Postgres rejecting every
+     * statement in an aborted transaction) is attached as suppressed so the original exception surfaces.
+     */
+    public <T> T execute(PublicProductKeywordPlan plan, Supplier<T> search) {
+        List<String> disabledSettings = plan.disabledSettings();
+        if (disabledSettings.isEmpty()) {
+            return search.get();
+        }
+        disabledSettings.forEach(setting -> setLocal(setting, "off"));
+        T result;
+        try {
+            result = search.get();
+        } catch (RuntimeException e) {
+            try {
+                disabledSettings.forEach(setting -> setLocal(setting, "DEFAULT"));
+            } catch (RuntimeException resetFailure) {
+                e.addSuppressed(resetFailure);
+            }
+            throw e;
+        }
+        disabledSettings.forEach(setting -> setLocal(setting, "DEFAULT"));
+        return result;
+    }
+
+    PublicProductKeywordPlan choose(String normalizedKeyword, KeywordSample keywordSample) {
+        if (normalizedKeyword == null) {
+            return PublicProductKeywordPlan.PLANNER_DEFAULT;
+        }
+        if (isShort(normalizedKeyword)) {
+            return PublicProductKeywordPlan.SEQUENTIAL_SCAN;
+        }
+        if (keywordSample == null || keywordSample.isEmpty()) {
+            return PublicProductKeywordPlan.PLANNER_DEFAULT;
+        }
+        return keywordSample.selectivity(normalizedKeyword) <= settings.trigramIndexMaxSelectivity()
+                ? PublicProductKeywordPlan.TRIGRAM_INDEX
+                : PublicProductKeywordPlan.SEQUENTIAL_SCAN;
+    }
+
+    private boolean isShort(String normalizedKeyword) {
+        return normalizedKeyword.codePointCount(0, normalizedKeyword.length()) <= settings.shortKeywordMaxLength();
+    }
+
+    private KeywordSample currentSample() {
+        KeywordSample current = sample;
+        if (isFresh(current)) {
+            return current;
+        }
+        if (current != null && !resampleLock.tryLock()) {
+            return current;
+        }
+        if (current == null) {
+            resampleLock.lock();
+        }
+        try {
+            current = sample;
+            if (isFresh(current)) {
+                return current;
+            }
+            KeywordSample taken = takeSample();
+            sample = taken;
+            log.info("Took keyword selectivity sample of {} active products.", taken.size());
+            return taken;
+        } finally {
+            resampleLock.unlock();
+        }
+    }
+
+    private boolean isFresh(KeywordSample keywordSample) {
+        return keywordSample != null
+                && keywordSample.takenAt().plus(Duration.ofSeconds(settings.sampleMaxAgeSeconds())).isAfter(Instant.now());
+    }
+
+    private KeywordSample takeSample() {
+        Number reltuples = (Number) entityManager.createNativeQuery(
+                "SELECT reltuples FROM pg_class WHERE oid = 'products'::regclass"
+        ).getSingleResult();
+        int sampleSize = settings.sampleSize();
+        double percent = reltuples == null || reltuples.doubleValue() <= sampleSize
+                ? 100.0
+                : Math.min(100.0, 100.0 * sampleSize * OVERSAMPLE_FACTOR / reltuples.doubleValue());
+
+        String sql = SAMPLE_SQL.formatted(
+                PublicProductKeywordPredicates.nameBrandSearchExpressionForTable("p"),
+                String.format(Locale.ROOT, "%.6f", percent)
+        );
+        @SuppressWarnings("unchecked")
+        List<String> texts = entityManager.createNativeQuery(sql)
+                .setParameter("sampleSize", sampleSize)
+                .getResultList();
+        return new KeywordSample(texts, Instant.now());
+    }
+
+    /**
+     * Lower-cased name+brand texts of sampled active products.
+     */
+    record KeywordSample(List<String> texts, Instant takenAt) {
+
+        KeywordSample {
+            texts = List.copyOf(texts);
+        }
+
+        boolean isEmpty() {
+            return texts.isEmpty();
+        }
+
+        int size() {
+            return texts.size();
+        }
+
+        double selectivity(String normalizedKeyword) {
+            String needle = normalizedKeyword.toLowerCase();
+            long matches = texts.stream().filter(text -> text.contains(needle)).count();
+            return (double) matches / texts.size();
+        }
+    }
+
+    private void setLocal(String setting, String value) {
+        entityManager.createNativeQuery("SET LOCAL " + setting + " TO " + value).executeUpdate();
+    }
+}
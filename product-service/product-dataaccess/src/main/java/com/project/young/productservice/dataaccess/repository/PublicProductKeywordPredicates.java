@@ -1,14 +1,21 @@
 package com.project.young.productservice.dataaccess.repository;
 
+import com.project.young.productservice.dataaccess.config.ProductSearchFunctionContributor;
+import com.project.young.productservice.dataaccess.config.PublicProductSearchProperties.FullText;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringExpression;
 
 import static com.project.young.productservice.dataaccess.entity.QProductEntity.productEntity;
 
 /**
- * Keyword ({@code q}) LIKE predicates for {@link PublicProductSearchQueryRepository}.
+ * Keyword ({@code q}) predicates for {@link PublicProductSearchQueryRepository}: LIKE, or tsquery for
+ * {@link PublicProductKeywordSearchStrategy#FULL_TEXT}. The SQL fallback of
+ * {@link PublicProductKeywordSearchStrategy#IN_MEMORY_INDEX} uses the NAME_BRAND LIKE. A FULL_TEXT keyword without any
+ * searchable word (punctuation only) falls back to the NAME_BRAND LIKE.
  */
 final class PublicProductKeywordPredicates {
 
@@ -29,6 +36,37 @@ final class PublicProductKeywordPredicates {
         return "(" + nameBrandSearchExpressionForTable(tableAlias) + ") LIKE :pattern";
     }
 
+    /**
+     * Native counterpart of {@link #keywordPredicate}; binds {@code :pattern} to {@link #keywordParameter}.
+     */
+    static String keywordPredicateSql(
+            String tableAlias,
+            String normalizedKeyword,
+            PublicProductKeywordSearchStrategy strategy,
+            FullText fullText
+    ) {
+        return switch (effectiveStrategy(normalizedKeyword, strategy, fullText)) {
+            case NAME_BRAND, ADAPTIVE, IN_MEMORY_INDEX -> nameBrandSearchLikePredicate(tableAlias);
+            case NAME_DESCRIPTION_LEGACY -> "(lower(" + tableAlias + ".name) LIKE :pattern OR lower("
+                    + tableAlias + ".description) LIKE :pattern)";
+            case FULL_TEXT -> tableAlias + "." + tsVectorColumn(fullText) + " @@ to_tsquery('simple', :pattern)";
+        };
+    }
+
+    /**
+     * Value for {@code :pattern} in {@link #keywordPredicateSql}: a LIKE pattern, or tsquery text for FULL_TEXT.
+     */
+    static String keywordParameter(
+            String normalizedKeyword,
+            PublicProductKeywordSearchStrategy strategy,
+            FullText fullText
+    ) {
+        if (effectiveStrategy(normalizedKeyword, strategy, fullText) == PublicProductKeywordSearchStrategy.FULL_TEXT) {
+            return fullTextQuery(normalizedKeyword, fullText);
+        }
+        return likePattern(normalizedKeyword);
+    }
+
     static String likePattern(String normalizedKeyword) {
         return "%" + normalizedKeyword.toLowerCase() + "%";
     }
@@ -36,23 +74,30 @@ final class PublicProductKeywordPredicates {
     static void appendKeywordPredicate(
             BooleanBuilder builder,
             String normalizedKeyword,
-            PublicProductKeywordSearchStrategy strategy
+            PublicProductKeywordSearchStrategy strategy,
+            FullText fullText
     ) {
         if (normalizedKeyword == null) {
             return;
         }
-        builder.and(keywordPredicate(normalizedKeyword, strategy));
+        builder.and(keywordPredicate(normalizedKeyword, strategy, fullText));
     }
 
     static BooleanExpression keywordPredicate(
             String normalizedKeyword,
-            PublicProductKeywordSearchStrategy strategy
+            PublicProductKeywordSearchStrategy strategy,
+            FullText fullText
     ) {
         String pattern = likePattern(normalizedKeyword);
-        return switch (strategy) {
-            case NAME_BRAND -> nameBrandSearchTextLike(pattern);
+        return switch (effectiveStrategy(normalizedKeyword, strategy, fullText)) {
+            case NAME_BRAND, ADAPTIVE, IN_MEMORY_INDEX -> nameBrandSearchTextLike(pattern);
             case NAME_DESCRIPTION_LEGACY -> productEntity.name.lower().like(pattern)
                     .or(productEntity.description.lower().like(pattern));
+            case FULL_TEXT -> Expressions.booleanTemplate(
+                    "function('" + ProductSearchFunctionContributor.FTS_MATCH + "', {0}, {1}) = true",
+                    tsVectorPath(fullText),
+                    Expressions.constant(fullTextQuery(normalizedKeyword, fullText))
+            );
         };
     }
 
@@ -60,6 +105,66 @@ final class PublicProductKeywordPredicates {
         return productEntity.name.lower().like(likePattern(normalizedKeyword));
     }
 
+    /**
+     * {@code 1 - word_similarity(keyword, name+brand)}; ascending order is served by the GiST index
+     * ({@code V11__product_name_brand_trgm_gist_index.sql}) as a KNN scan.
+     */
+    static NumberExpression<Float> nameBrandWordDistance(String normalizedKeyword) {
+        return Expressions.numberTemplate(
+                Float.class,
+                "function('" + ProductSearchFunctionContributor.TRGM_WORD_DISTANCE + "', {0}, {1})",
+                Expressions.stringTemplate(NAME_BRAND_SEARCH_SQL, productEntity.name, productEntity.brand),
+                Expressions.constant(normalizedKeyword.toLowerCase())
+        );
+    }
+
+    /**
+     * {@code ts_rank_cd} of the FULL_TEXT match (cover density: adjacent query words rank higher),
+     * or {@code null} when the keyword is not matched by full text.
+     */
+    static NumberExpression<Float> fullTextRank(String normalizedKeyword, FullText fullText) {
+        String tsQuery = fullTextQuery(normalizedKeyword, fullText);
+        if (tsQuery == null) {
+            return null;
+        }
+        return Expressions.numberTemplate(
+                Float.class,
+                "function('" + ProductSearchFunctionContributor.FTS_RANK + "', {0}, {1})",
+                tsVectorPath(fullText),
+                Expressions.constant(tsQuery)
+        );
+    }
+
+    private static PublicProductKeywordSearchStrategy effectiveStrategy(
+            String normalizedKeyword,
+            PublicProductKeywordSearchStrategy strategy,
+            FullText fullText
+    ) {
+        if (strategy == PublicProductKeywordSearchStrategy.FULL_TEXT
+                && fullTextQuery(normalizedKeyword, fullText) == null) {
+            return PublicProductKeywordSearchStrategy.NAME_BRAND;
+        }
+        return strategy;
+    }
+
+    private static String fullTextQuery(String normalizedKeyword, FullText fullText) {
+        return PublicProductFullTextQuery.toTsQuery(
+                normalizedKeyword, fullText.tokenization(), fullText.includeDescription());
+    }
+
+    private static String tsVectorColumn(FullText fullText) {
+        return fullText.tokenization() == PublicProductFullTextTokenization.WORD
+                ? "search_vector"
+                : "search_ngram_vector";
+    }
+
+    private static StringExpression tsVectorPath(FullText fullText) {
+        String column = fullText.tokenization() == PublicProductFullTextTokenization.WORD
+                ? ProductSearchFunctionContributor.SEARCH_VECTOR
+                : ProductSearchFunctionContributor.SEARCH_NGRAM_VECTOR;
+        return Expressions.stringTemplate("function('" + column + "', {0})", productEntity.id);
+    }
+
     private static BooleanExpression nameBrandSearchTextLike(String pattern) {
         return Expressions.stringTemplate(NAME_BRAND_SEARCH_SQL, productEntity.name, productEntity.brand)
                 .like(pattern);
@@ -5,10 +5,21 @@ package com.project.young.productservice.dataaccess.repository;
  * <ul>
  *   <li>{@link #NAME_BRAND} — 운영 기본. name+brand 합친 텍스트 LIKE, 단일 {@code pg_trgm} GIN.</li>
  *   <li>{@link #NAME_DESCRIPTION_LEGACY} — 레거시 비교용. name·description LIKE (description은 인덱스 없음).</li>
+ *   <li>{@link #ADAPTIVE} — {@link #NAME_BRAND}와 같은 predicate. 샘플 기반 선택도 추정으로 키워드마다
+ *       GIN 경로와 순차 스캔 경로 중 하나를 {@code SET LOCAL} 플래너 힌트로 고른다
+ *       ({@link PublicProductKeywordPlanSelector}).</li>
+ *   <li>{@link #FULL_TEXT} — 저장 tsvector 컬럼 + GIN. 다중 단어(AND)·따옴표 구문 검색, RELEVANCE는 {@code ts_rank_cd}.
+ *       토큰화는 {@link PublicProductFullTextTokenization} (기본 한국어용 2-gram).</li>
+ *   <li>{@link #IN_MEMORY_INDEX} — {@link #NAME_BRAND}와 같은 매칭을 인스턴스 메모리의 역색인(trigram → 상품 posting list)으로
+ *       DB 없이 처리한다. RELEVANCE는 이름 매칭 우선 + 최신순. 인덱스가 준비되기 전·커서 페이지는 NAME_BRAND SQL로 처리한다
+ *       ({@code InMemoryPublicProductSearchIndexAdapter}).</li>
  * </ul>
  */
 public enum PublicProductKeywordSearchStrategy {
 
     NAME_BRAND,
-    NAME_DESCRIPTION_LEGACY
+    NAME_DESCRIPTION_LEGACY,
+    ADAPTIVE,
+    FULL_TEXT,
+    IN_MEMORY_INDEX
 }
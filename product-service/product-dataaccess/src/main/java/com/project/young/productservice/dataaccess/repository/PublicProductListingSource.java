@@ -0,0 +1,17 @@
+package com.project.young.productservice.dataaccess.repository;
+
+/**
+ * Table the storefront PLP and facet queries read.
+ * <ul>
+ *   <li>{@link #PRODUCTS} — 기본. {@code products} ⋈ {@code categories}, 하위 카테고리는 {@code category_closure}로 필터.</li>
+ *   <li>{@link #LISTING_TABLE} — 비정규화 읽기 모델 {@code storefront_product_listing} (V13, 트리거로 동기화).
+ *       조인 없이 커버링 인덱스로 조회한다. name+brand LIKE 계열 키워드 전략(NAME_BRAND, ADAPTIVE, IN_MEMORY_INDEX의
+ *       SQL 경로)에만 적용되고, FULL_TEXT·NAME_DESCRIPTION_LEGACY와 PER_FACET 집계는 {@link #PRODUCTS}를 읽는다
+ *       ({@link StorefrontProductListingSql}).</li>
+ * </ul>
+ */
+public enum PublicProductListingSource {
+
+    PRODUCTS,
+    LISTING_TABLE
+}
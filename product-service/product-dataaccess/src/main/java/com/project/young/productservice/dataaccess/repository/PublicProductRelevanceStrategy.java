@@ -0,0 +1,15 @@
+package com.project.young.productservice.dataaccess.repository;
+
+/**
+ * {@code PublicProductSort.RELEVANCE} ordering when a keyword is present.
+ * <ul>
+ *   <li>{@link #TRIGRAM_SIMILARITY} — 운영 기본. name+brand 식과 키워드의 {@code word_similarity} 거리({@code <->>})
+ *       오름차순. {@code idx_products_name_brand_search_trgm_gist} KNN 스캔으로 상위 N건만 읽는다.</li>
+ *   <li>{@link #NAME_MATCH} — 레거시 비교용. 이름 LIKE 매칭 여부(0/1) 후 최신순. 매칭 전체를 정렬한다.</li>
+ * </ul>
+ */
+public enum PublicProductRelevanceStrategy {
+
+    TRIGRAM_SIMILARITY,
+    NAME_MATCH
+}
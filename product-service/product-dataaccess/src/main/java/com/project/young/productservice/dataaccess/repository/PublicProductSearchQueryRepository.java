@@ -1,7 +1,9 @@
 package com.project.young.productservice.dataaccess.repository;
 
 import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductListCursor;
 import com.project.young.productservice.application.dto.query.PublicProductSort;
+import com.project.young.productservice.dataaccess.config.ProductSearchCountProperties;
 import com.project.young.productservice.dataaccess.config.PublicProductSearchProperties;
 import com.project.young.productservice.dataaccess.enums.CategoryStatusEntity;
 import com.project.young.productservice.dataaccess.enums.ProductStatusEntity;
@@ -10,17 +12,26 @@ import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 import static com.project.young.productservice.dataaccess.entity.QCategoryEntity.categoryEntity;
 import static com.project.young.productservice.dataaccess.entity.QProductEntity.productEntity;
@@ -31,19 +42,31 @@ public class PublicProductSearchQueryRepository {
 
     private final JPAQueryFactory queryFactory;
     private final PublicProductSearchProperties searchProperties;
+    private final ProductSearchCountProperties countProperties;
+    private final ProductSearchTotalCounter totalCounter;
+    private final PublicProductKeywordPlanSelector keywordPlanSelector;
+    private final StorefrontProductListingQueryRepository listingQueryRepository;
 
     public PublicProductSearchQueryRepository(
             JPAQueryFactory queryFactory,
-            PublicProductSearchProperties searchProperties
+            PublicProductSearchProperties searchProperties,
+            ProductSearchCountProperties countProperties,
+            ProductSearchTotalCounter totalCounter,
+            PublicProductKeywordPlanSelector keywordPlanSelector,
+            StorefrontProductListingQueryRepository listingQueryRepository
     ) {
         this.queryFactory = queryFactory;
         this.searchProperties = searchProperties;
+        this.countProperties = countProperties;
+        this.totalCounter = totalCounter;
+        this.keywordPlanSelector = keywordPlanSelector;
+        this.listingQueryRepository = listingQueryRepository;
     }
 
     /**
      * 운영 기본 경로. {@link PublicProductSearchProperties#resolvedKeywordStrategy()} 사용 (기본 {@link PublicProductKeywordSearchStrategy#NAME_BRAND}).
      */
-    public Page<PublicProductListProjection> search(
+    public ProductSearchPage<PublicProductListProjection> search(
             PublicProductSearchCondition condition,
             PublicProductSort sort,
             Pageable pageable
@@ -53,8 +76,11 @@ public class PublicProductSearchQueryRepository {
 
     /**
      * 키워드 전략을 지정해 검색. 레거시·인덱스 경로 실행 시간 비교용.
+     * total은 {@code product-service.search-count.public-listing} 전략으로 계산한다.
+     * {@link PublicProductKeywordSearchStrategy#ADAPTIVE}면 목록·count 쿼리를 키워드별로 고른 플랜 힌트 아래에서 실행한다.
+     * {@link PublicProductListingSource#LISTING_TABLE}이 적용되는 전략이면 {@code storefront_product_listing}을 읽는다.
      */
-    public Page<PublicProductListProjection> search(
+    public ProductSearchPage<PublicProductListProjection> search(
             PublicProductSearchCondition condition,
             PublicProductSort sort,
             Pageable pageable,
@@ -70,9 +96,149 @@ public class PublicProductSearchQueryRepository {
             throw new IllegalArgumentException("PublicProductKeywordSearchStrategy cannot be null");
         }
 
+        return withKeywordPlan(condition, keywordStrategy, () -> searchPage(condition, sort, pageable, keywordStrategy));
+    }
+
+    private ProductSearchPage<PublicProductListProjection> searchPage(
+            PublicProductSearchCondition condition,
+            PublicProductSort sort,
+            Pageable pageable,
+            PublicProductKeywordSearchStrategy keywordStrategy
+    ) {
+        if (readsListingTable(keywordStrategy)) {
+            return searchListingTable(condition, sort, pageable);
+        }
         BooleanBuilder where = buildWhere(condition, keywordStrategy);
 
-        JPAQuery<PublicProductListProjection> query = queryFactory
+        JPAQuery<PublicProductListProjection> query = selectListRows(where);
+
+        List<OrderSpecifier<?>> orderSpecifiers = toOrderSpecifiers(sort, condition, keywordStrategy);
+        query.orderBy(orderSpecifiers.toArray(OrderSpecifier[]::new));
+
+        List<PublicProductListProjection> content = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return totalCounter.toPage(
+                content,
+                pageable,
+                countProperties.publicListing(),
+                () -> count(where),
+                limit -> totalCounter.countUpTo(
+                        nativeCountSource(condition, keywordStrategy, searchProperties.resolvedFullTextSearch()), limit),
+                () -> nativeCountSource(condition, keywordStrategy, searchProperties.resolvedFullTextSearch())
+        );
+    }
+
+    private ProductSearchPage<PublicProductListProjection> searchListingTable(
+            PublicProductSearchCondition condition,
+            PublicProductSort sort,
+            Pageable pageable
+    ) {
+        List<PublicProductListProjection> content = listingQueryRepository.findPage(
+                condition, sort, pageable.getOffset(), pageable.getPageSize());
+
+        return totalCounter.toPage(
+                content,
+                pageable,
+                countProperties.publicListing(),
+                () -> listingQueryRepository.count(condition),
+                limit -> listingQueryRepository.countUpTo(condition, limit),
+                () -> listingQueryRepository.countSource(condition)
+        );
+    }
+
+    /**
+     * Keyset (seek) page: rows strictly after {@code cursor} in {@code (sortKey, id)} order, no offset and no count query.
+     * NEWEST seeks on {@code idx_products_created_at_id}; price sorts on {@code idx_products_price_id}.
+     * Ties on the sort key are broken by id in the same direction as the sort so the pair is a single row comparison.
+     *
+     * @param cursor null for the first page
+     */
+    public Slice<PublicProductListProjection> searchAfter(
+            PublicProductSearchCondition condition,
+            PublicProductSort sort,
+            PublicProductListCursor cursor,
+            int size
+    ) {
+        if (condition == null) {
+            throw new IllegalArgumentException("PublicProductSearchCondition cannot be null");
+        }
+        if (sort == null || !sort.supportsKeyset()) {
+            throw new IllegalArgumentException("PublicProductSort must support keyset pagination: " + sort);
+        }
+        if (cursor != null && cursor.sort() != sort) {
+            throw new IllegalArgumentException("PublicProductListCursor sort mismatch: " + cursor.sort());
+        }
+
+        PublicProductKeywordSearchStrategy keywordStrategy = searchProperties.resolvedKeywordStrategy();
+        List<PublicProductListProjection> rows = withKeywordPlan(condition, keywordStrategy, () -> {
+            if (readsListingTable(keywordStrategy)) {
+                return listingQueryRepository.findAfter(condition, sort, cursor, size + 1);
+            }
+            BooleanBuilder where = buildWhere(condition, keywordStrategy);
+            if (cursor != null) {
+                where.and(keysetPredicate(cursor));
+            }
+            return selectListRows(where)
+                    .orderBy(toKeysetOrderSpecifiers(sort).toArray(OrderSpecifier[]::new))
+                    .limit(size + 1L)
+                    .fetch();
+        });
+
+        boolean hasNext = rows.size() > size;
+        List<PublicProductListProjection> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.ofSize(size), hasNext);
+    }
+
+    /**
+     * Listable rows (ACTIVE product with a category) in id order after {@code afterId}, for loading the in-memory
+     * search index in batches. Category status is not filtered; the index checks it per search.
+     *
+     * @param afterId null for the first batch
+     */
+    public List<PublicProductListProjection> findIndexRowsAfter(UUID afterId, int limit) {
+        BooleanBuilder where = new BooleanBuilder(productEntity.status.eq(ProductStatusEntity.ACTIVE));
+        if (afterId != null) {
+            where.and(productEntity.id.gt(afterId));
+        }
+        return selectListRows(where)
+                .orderBy(productEntity.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * Current listable rows among {@code productIds}; ids that are no longer listable are absent.
+     */
+    public List<PublicProductListProjection> findIndexRowsByIds(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return selectListRows(new BooleanBuilder(productEntity.status.eq(ProductStatusEntity.ACTIVE))
+                .and(productEntity.id.in(productIds)))
+                .fetch();
+    }
+
+    private boolean readsListingTable(PublicProductKeywordSearchStrategy keywordStrategy) {
+        return StorefrontProductListingSql.appliesTo(searchProperties.resolvedListingSource(), keywordStrategy);
+    }
+
+    private <T> T withKeywordPlan(
+            PublicProductSearchCondition condition,
+            PublicProductKeywordSearchStrategy keywordStrategy,
+            Supplier<T> search
+    ) {
+        if (keywordStrategy != PublicProductKeywordSearchStrategy.ADAPTIVE) {
+            return search.get();
+        }
+        PublicProductKeywordPlan plan = keywordPlanSelector.choose(condition.normalizedKeyword());
+        return keywordPlanSelector.execute(plan, search);
+    }
+
+    private JPAQuery<PublicProductListProjection> selectListRows(BooleanBuilder where) {
+        return queryFactory
                 .select(Projections.constructor(
                         PublicProductListProjection.class,
                         productEntity.id,
@@ -80,21 +246,12 @@ public class PublicProductSearchQueryRepository {
                         productEntity.name,
                         productEntity.brand,
                         productEntity.mainImageUrl,
-                        productEntity.basePrice
+                        productEntity.basePrice,
+                        productEntity.createdAt
                 ))
                 .from(productEntity)
                 .innerJoin(productEntity.category, categoryEntity)
                 .where(where);
-
-        List<OrderSpecifier<?>> orderSpecifiers = toOrderSpecifiers(sort, condition);
-        query.orderBy(orderSpecifiers.toArray(OrderSpecifier[]::new));
-
-        List<PublicProductListProjection> content = query
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        return PageableExecutionUtils.getPage(content, pageable, () -> count(where));
     }
 
     private long count(BooleanBuilder where) {
@@ -107,6 +264,53 @@ public class PublicProductSearchQueryRepository {
         return total != null ? total : 0L;
     }
 
+    /**
+     * Native mirror of {@link #buildWhere} for capped counts and {@code EXPLAIN}-based estimates. Keep both in sync.
+     */
+    private static ProductSearchTotalCounter.NativeCountSource nativeCountSource(
+            PublicProductSearchCondition condition,
+            PublicProductKeywordSearchStrategy keywordStrategy,
+            PublicProductSearchProperties.FullText fullText
+    ) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT p.id
+                FROM products p
+                INNER JOIN categories c ON p.category_id = c.id
+                WHERE p.status = 'ACTIVE'
+                  AND c.status = 'ACTIVE'
+                """);
+        sql.append("  AND ")
+                .append(PublicProductCategoryPredicates.categoryScopeSql("c", condition.includeDescendants()))
+                .append('\n');
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("categoryId", condition.categoryId());
+
+        List<String> brands = condition.normalizedBrands();
+        if (!brands.isEmpty()) {
+            sql.append("  AND p.brand IN (:brands)\n");
+            params.put("brands", brands);
+        }
+
+        String keyword = condition.normalizedKeyword();
+        if (keyword != null) {
+            sql.append("  AND ")
+                    .append(PublicProductKeywordPredicates.keywordPredicateSql("p", keyword, keywordStrategy, fullText))
+                    .append('\n');
+            params.put("pattern", PublicProductKeywordPredicates.keywordParameter(keyword, keywordStrategy, fullText));
+        }
+
+        if (condition.minPrice() != null) {
+            sql.append("  AND p.base_price >= :minPrice\n");
+            params.put("minPrice", condition.minPrice());
+        }
+        if (condition.maxPrice() != null) {
+            sql.append("  AND p.base_price <= :maxPrice\n");
+            params.put("maxPrice", condition.maxPrice());
+        }
+
+        return new ProductSearchTotalCounter.NativeCountSource(sql.toString(), params);
+    }
+
     private BooleanBuilder buildWhere(
             PublicProductSearchCondition condition,
             PublicProductKeywordSearchStrategy keywordStrategy
@@ -115,7 +319,7 @@ public class PublicProductSearchQueryRepository {
 
         builder.and(productEntity.status.eq(ProductStatusEntity.ACTIVE));
         builder.and(categoryEntity.status.eq(CategoryStatusEntity.ACTIVE));
-        builder.and(categoryEntity.id.eq(condition.categoryId()));
+        builder.and(PublicProductCategoryPredicates.categoryScope(condition.categoryId(), condition.includeDescendants()));
 
         List<String> brands = condition.normalizedBrands();
         if (!brands.isEmpty()) {
@@ -125,7 +329,8 @@ public class PublicProductSearchQueryRepository {
         PublicProductKeywordPredicates.appendKeywordPredicate(
                 builder,
                 condition.normalizedKeyword(),
-                keywordStrategy
+                keywordStrategy,
+                searchProperties.resolvedFullTextSearch()
         );
 
         if (condition.minPrice() != null) {
@@ -138,9 +343,10 @@ public class PublicProductSearchQueryRepository {
         return builder;
     }
 
-    private static List<OrderSpecifier<?>> toOrderSpecifiers(
+    private List<OrderSpecifier<?>> toOrderSpecifiers(
             PublicProductSort sort,
-            PublicProductSearchCondition condition
+            PublicProductSearchCondition condition,
+            PublicProductKeywordSearchStrategy keywordStrategy
     ) {
         List<OrderSpecifier<?>> orders = new ArrayList<>();
 
@@ -149,16 +355,32 @@ public class PublicProductSearchQueryRepository {
             case PRICE_DESC -> orders.add(new OrderSpecifier<>(Order.DESC, productEntity.basePrice));
             case RELEVANCE -> {
                 String keyword = condition.normalizedKeyword();
-                if (keyword != null) {
+                NumberExpression<Float> fullTextRank = keyword != null
+                        && keywordStrategy == PublicProductKeywordSearchStrategy.FULL_TEXT
+                        ? PublicProductKeywordPredicates.fullTextRank(keyword, searchProperties.resolvedFullTextSearch())
+                        : null;
+                if (fullTextRank != null) {
+                    orders.add(new OrderSpecifier<>(Order.DESC, fullTextRank));
+                    orders.add(new OrderSpecifier<>(Order.DESC, productEntity.createdAt));
+                } else if (keyword != null
+                        && searchProperties.resolvedRelevanceStrategy() == PublicProductRelevanceStrategy.TRIGRAM_SIMILARITY) {
+                    // Distance alone, so the GiST KNN scan yields rows already in order (id only breaks ties).
                     orders.add(new OrderSpecifier<>(
-                            Order.DESC,
-                            new CaseBuilder()
-                                    .when(PublicProductKeywordPredicates.nameMatchForRelevance(keyword))
-                                    .then(1)
-                                    .otherwise(0)
+                            Order.ASC,
+                            PublicProductKeywordPredicates.nameBrandWordDistance(keyword)
                     ));
+                } else {
+                    if (keyword != null) {
+                        orders.add(new OrderSpecifier<>(
+                                Order.DESC,
+                                new CaseBuilder()
+                                        .when(PublicProductKeywordPredicates.nameMatchForRelevance(keyword))
+                                        .then(1)
+                                        .otherwise(0)
+                        ));
+                    }
+                    orders.add(new OrderSpecifier<>(Order.DESC, productEntity.createdAt));
                 }
-                orders.add(new OrderSpecifier<>(Order.DESC, productEntity.createdAt));
             }
             case NEWEST -> orders.add(new OrderSpecifier<>(Order.DESC, productEntity.createdAt));
         }
@@ -166,4 +388,46 @@ public class PublicProductSearchQueryRepository {
         orders.add(new OrderSpecifier<>(Order.DESC, productEntity.id));
         return orders;
     }
+
+    /**
+     * Row-value comparison so Postgres turns the seek into an index condition instead of a filter.
+     */
+    private static BooleanExpression keysetPredicate(PublicProductListCursor cursor) {
+        return switch (cursor.sort()) {
+            case NEWEST -> Expressions.booleanTemplate(
+                    "({0}, {1}) < ({2}, {3})",
+                    productEntity.createdAt, productEntity.id,
+                    Expressions.constant(cursor.createdAt()), Expressions.constant(cursor.lastId())
+            );
+            case PRICE_ASC -> Expressions.booleanTemplate(
+                    "({0}, {1}) > ({2}, {3})",
+                    productEntity.basePrice, productEntity.id,
+                    Expressions.constant(cursor.basePrice()), Expressions.constant(cursor.lastId())
+            );
+            case PRICE_DESC -> Expressions.booleanTemplate(
+                    "({0}, {1}) < ({2}, {3})",
+                    productEntity.basePrice, productEntity.id,
+                    Expressions.constant(cursor.basePrice()), Expressions.constant(cursor.lastId())
+            );
+            case RELEVANCE -> throw new IllegalArgumentException("RELEVANCE does not support keyset pagination");
+        };
+    }
+
+    private static List<OrderSpecifier<?>> toKeysetOrderSpecifiers(PublicProductSort sort) {
+        return switch (sort) {
+            case NEWEST -> List.of(
+                    new OrderSpecifier<>(Order.DESC, productEntity.createdAt),
+                    new OrderSpecifier<>(Order.DESC, productEntity.id)
+            );
+            case PRICE_ASC -> List.of(
+                    new OrderSpecifier<>(Order.ASC, productEntity.basePrice),
+                    new OrderSpecifier<>(Order.ASC, productEntity.id)
+            );
+            case PRICE_DESC -> List.of(
+                    new OrderSpecifier<>(Order.DESC, productEntity.basePrice),
+                    new OrderSpecifier<>(Order.DESC, productEntity.id)
+            );
+            case RELEVANCE -> throw new IllegalArgumentException("RELEVANCE does not support keyset pagination");
+        };
+    }
 }
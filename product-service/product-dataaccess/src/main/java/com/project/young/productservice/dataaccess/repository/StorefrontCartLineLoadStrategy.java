@@ -0,0 +1,17 @@
+package com.project.young.productservice.dataaccess.repository;
+
+/**
+ * How storefront cart catalog lines are read.
+ * <ul>
+ *   <li>{@link #ENTITY_FETCH} — 기본. variant·상품 fetch join, 상품 옵션 그래프 fetch join, 전역 옵션 메타데이터 조회 후
+ *       엔티티를 매핑하고, 가용 재고는 서비스에서 예약 합계 조회로 한 번 더 계산한다 (요청당 4개 statement).</li>
+ *   <li>{@link #PROJECTION} — 필요한 컬럼만 고르는 native DTO projection 한 statement. 옵션 라벨은 join 후
+ *       {@code jsonb_agg}로 묶고 활성 예약 합계를 빼서 가용 재고까지 같은 statement에서 계산한다
+ *       ({@link StorefrontCartLineProjectionQueryRepository}).</li>
+ * </ul>
+ */
+public enum StorefrontCartLineLoadStrategy {
+
+    ENTITY_FETCH,
+    PROJECTION
+}
@@ -0,0 +1,138 @@
+package com.project.young.productservice.dataaccess.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.project.young.productservice.application.port.output.view.ReadCartCatalogOptionLineView;
+import com.project.young.productservice.dataaccess.config.StorefrontCartLineQueryProperties;
+import com.project.young.productservice.dataaccess.enums.ProductStatusEntity;
+import com.project.young.productservice.dataaccess.projection.StorefrontCartLineProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Storefront cart lines in one native statement: only the columns the cart snapshot needs, the variant's option labels
+ * folded by {@code jsonb_agg} over a single join chain (selection → product option value/group → global group/value
+ * display names), and available stock from a lateral sum of active, unexpired reservations.
+ * <p>
+ * Same visibility and option rules as the entity path (DRAFT/DELETED products and products under a DELETED category
+ * are excluded; a selection counts only when its option value belongs to the variant's own product; labels ordered
+ * by step order). Used by {@code PublicProductReadRepositoryImpl} when {@link StorefrontCartLineLoadStrategy#PROJECTION}
+ * is set.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class StorefrontCartLineProjectionQueryRepository {
+
+    private static final String CART_LINES_SQL = """
+            SELECT p.id,
+                   v.id,
+                   p.name,
+                   p.brand,
+                   v.sku,
+                   COALESCE(v.main_image_url, p.main_image_url),
+                   v.calculated_price,
+                   p.status,
+                   v.status,
+                   v.stock_quantity,
+                   GREATEST(v.stock_quantity - reserved.quantity, 0),
+                   CAST(COALESCE(
+                       jsonb_agg(jsonb_build_object(
+                                     'stepOrder', CAST(trunc(pog.step_order) AS integer),
+                                     'productOptionGroupId', pog.id,
+                                     'optionGroupName', og.display_name,
+                                     'productOptionValueId', pov.id,
+                                     'optionValueName', ov.display_name)
+                                 ORDER BY pog.step_order, pov.id)
+                           FILTER (WHERE pog.id IS NOT NULL),
+                       CAST('[]' AS jsonb)) AS text)
+            FROM product_variants v
+            JOIN products p ON p.id = v.product_id
+            LEFT JOIN categories c ON c.id = p.category_id
+            CROSS JOIN LATERAL (
+                SELECT COALESCE(SUM(r.quantity), 0) AS quantity
+                FROM inventory_reservations r
+                WHERE r.product_variant_id = v.id
+                  AND r.status = 'ACTIVE'
+                  AND r.expires_at > :asOf
+            ) reserved
+            LEFT JOIN variant_option_values vov ON vov.variant_id = v.id
+            LEFT JOIN product_option_values pov ON pov.id = vov.product_option_value_id
+            LEFT JOIN product_option_groups pog
+                   ON pog.id = pov.product_option_group_id AND pog.product_id = v.product_id
+            LEFT JOIN option_groups og ON og.id = pog.option_group_id
+            LEFT JOIN option_values ov ON ov.id = pov.option_value_id
+            WHERE v.id IN (:variantIds)
+              AND p.status NOT IN ('DRAFT', 'DELETED')
+              AND (c.id IS NULL OR c.status <> 'DELETED')
+            GROUP BY p.id, v.id, reserved.quantity
+            """;
+
+    private static final TypeReference<List<ReadCartCatalogOptionLineView>> OPTION_LINES_TYPE = new TypeReference<>() {
+    };
+
+    private final StorefrontCartLineQueryProperties properties;
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public StorefrontCartLineProjectionQueryRepository(StorefrontCartLineQueryProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Visible variants among {@code variantIds} with availability as of {@code asOf}, or empty when another load
+     * strategy is configured.
+     */
+    public Optional<List<StorefrontCartLineProjection>> findByVariantIds(Collection<UUID> variantIds, Instant asOf) {
+        if (properties.loadStrategy() != StorefrontCartLineLoadStrategy.PROJECTION) {
+            return Optional.empty();
+        }
+        if (variantIds.isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(CART_LINES_SQL)
+                .setParameter("variantIds", List.copyOf(variantIds))
+                .setParameter("asOf", asOf)
+                .getResultList();
+        return Optional.of(rows.stream().map(this::toProjection).toList());
+    }
+
+    private StorefrontCartLineProjection toProjection(Object[] row) {
+        return new StorefrontCartLineProjection(
+                (UUID) row[0],
+                (UUID) row[1],
+                (String) row[2],
+                (String) row[3],
+                (String) row[4],
+                (String) row[5],
+                (BigDecimal) row[6],
+                ProductStatusEntity.valueOf((String) row[7]),
+                ProductStatusEntity.valueOf((String) row[8]),
+                ((Number) row[9]).intValue(),
+                ((Number) row[10]).intValue(),
+                readOptionLines((String) row[11])
+        );
+    }
+
+    private List<ReadCartCatalogOptionLineView> readOptionLines(String json) {
+        try {
+            return objectMapper.readValue(json, OPTION_LINES_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize cart line option labels", e);
+        }
+    }
+}
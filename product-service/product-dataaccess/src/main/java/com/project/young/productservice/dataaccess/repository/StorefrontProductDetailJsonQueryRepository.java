@@ -0,0 +1,151 @@
+package com.project.young.productservice.dataaccess.repository;
+
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.dataaccess.cache.ReadProductDetailViewJsonMapper;
+import com.project.young.productservice.dataaccess.config.StorefrontProductDetailQueryProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Storefront PDP in one native statement: correlated {@code jsonb_agg} subqueries assemble images, option groups
+ * (with values, global display names and value images) and variants into one JSON document per product, read
+ * straight into {@link ReadProductDetailView} without managed entities.
+ * <p>
+ * Same visibility and image rules as the entity path (DRAFT/DELETED products, products under a DELETED category
+ * and non-ACTIVE images are excluded; MAIN image first, then {@code sort_order}). Keys match the record components,
+ * so the document decodes with {@link ReadProductDetailViewJsonMapper}.
+ * Used by {@code PublicProductReadRepositoryImpl} when {@link StorefrontProductDetailLoadStrategy#JSON_AGGREGATION} is set.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class StorefrontProductDetailJsonQueryRepository {
+
+    private static final String DETAIL_JSON_SQL = """
+            SELECT CAST(jsonb_build_object(
+                'id', p.id,
+                'categoryId', p.category_id,
+                'name', p.name,
+                'description', p.description,
+                'brand', p.brand,
+                'mainImageUrl', p.main_image_url,
+                'basePrice', p.base_price,
+                'status', p.status,
+                'conditionType', p.condition_type,
+                'images', COALESCE((
+                    SELECT jsonb_agg(jsonb_build_object(
+                               'id', i.id, 'publicUrl', i.public_url, 'role', i.role,
+                               'status', i.status, 'sortOrder', i.sort_order)
+                           ORDER BY i.role <> 'MAIN', i.sort_order)
+                    FROM product_images i
+                    WHERE i.product_id = p.id AND i.status = 'ACTIVE'
+                ), CAST('[]' AS jsonb)),
+                'optionGroups', COALESCE((
+                    SELECT jsonb_agg(jsonb_build_object(
+                               'productOptionGroupId', pog.id,
+                               'optionGroupId', pog.option_group_id,
+                               'groupKey', og.name,
+                               'displayName', og.display_name,
+                               'stepOrder', pog.step_order,
+                               'required', pog.is_required,
+                               'drivesVariantImages', pog.drives_variant_images,
+                               'status', pog.status,
+                               'optionValues', COALESCE((
+                                   SELECT jsonb_agg(jsonb_build_object(
+                                              'productOptionValueId', pov.id,
+                                              'optionValueId', pov.option_value_id,
+                                              'displayName', ov.display_name,
+                                              'priceDelta', pov.price_delta,
+                                              'isDefault', pov.is_default,
+                                              'status', pov.status,
+                                              'images', COALESCE((
+                                                  SELECT jsonb_agg(jsonb_build_object(
+                                                             'id', vi.id, 'publicUrl', vi.public_url, 'role', vi.role,
+                                                             'status', vi.status, 'sortOrder', vi.sort_order)
+                                                         ORDER BY vi.role <> 'MAIN', vi.sort_order)
+                                                  FROM product_option_value_images vi
+                                                  WHERE vi.product_option_value_id = pov.id AND vi.status = 'ACTIVE'
+                                              ), CAST('[]' AS jsonb)))
+                                          ORDER BY ov.sort_order, pov.id)
+                                   FROM product_option_values pov
+                                   LEFT JOIN option_values ov ON ov.id = pov.option_value_id
+                                   WHERE pov.product_option_group_id = pog.id
+                               ), CAST('[]' AS jsonb)))
+                           ORDER BY pog.step_order, pog.id)
+                    FROM product_option_groups pog
+                    LEFT JOIN option_groups og ON og.id = pog.option_group_id
+                    WHERE pog.product_id = p.id
+                ), CAST('[]' AS jsonb)),
+                'variants', COALESCE((
+                    SELECT jsonb_agg(jsonb_build_object(
+                               'productVariantId', v.id,
+                               'sku', v.sku,
+                               'stockQuantity', v.stock_quantity,
+                               'status', v.status,
+                               'calculatedPrice', v.calculated_price,
+                               'mainImageUrl', v.main_image_url,
+                               'selectedProductOptionValueIds', COALESCE((
+                                   SELECT jsonb_agg(vov.product_option_value_id ORDER BY sel_group.step_order, vov.id)
+                                   FROM variant_option_values vov
+                                   LEFT JOIN product_option_values sel_value ON sel_value.id = vov.product_option_value_id
+                                   LEFT JOIN product_option_groups sel_group ON sel_group.id = sel_value.product_option_group_id
+                                   WHERE vov.variant_id = v.id
+                               ), CAST('[]' AS jsonb)))
+                           ORDER BY v.created_at, v.id)
+                    FROM product_variants v
+                    WHERE v.product_id = p.id
+                ), CAST('[]' AS jsonb))
+            ) AS text)
+            FROM products p
+            LEFT JOIN categories c ON c.id = p.category_id
+            WHERE p.id IN (:productIds)
+              AND p.status NOT IN ('DRAFT', 'DELETED')
+              AND (c.id IS NULL OR c.status <> 'DELETED')
+            """;
+
+    private final StorefrontProductDetailQueryProperties properties;
+    private final ReadProductDetailViewJsonMapper readProductDetailViewJsonMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public StorefrontProductDetailJsonQueryRepository(
+            StorefrontProductDetailQueryProperties properties,
+            ReadProductDetailViewJsonMapper readProductDetailViewJsonMapper
+    ) {
+        this.properties = properties;
+        this.readProductDetailViewJsonMapper = readProductDetailViewJsonMapper;
+    }
+
+    /**
+     * Visible products among {@code productIds} keyed by id, or empty when another load strategy is configured.
+     */
+    public Optional<Map<UUID, ReadProductDetailView>> findDetailsByIds(Collection<UUID> productIds) {
+        if (properties.loadStrategy() != StorefrontProductDetailLoadStrategy.JSON_AGGREGATION) {
+            return Optional.empty();
+        }
+        if (productIds.isEmpty()) {
+            return Optional.of(Map.of());
+        }
+
+        @SuppressWarnings("unchecked")
+        List<String> documents = entityManager.createNativeQuery(DETAIL_JSON_SQL)
+                .setParameter("productIds", List.copyOf(productIds))
+                .getResultList();
+
+        Map<UUID, ReadProductDetailView> viewsById = new HashMap<>();
+        for (String document : documents) {
+            ReadProductDetailView view = readProductDetailViewJsonMapper.fromJson(document);
+            viewsById.put(view.id(), view);
+        }
+        return Optional.of(viewsById);
+    }
+}
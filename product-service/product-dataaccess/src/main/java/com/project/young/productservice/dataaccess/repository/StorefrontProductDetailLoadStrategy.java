@@ -0,0 +1,17 @@
+package com.project.young.productservice.dataaccess.repository;
+
+/**
+ * How storefront PDP cache misses are read.
+ * <ul>
+ *   <li>{@link #ENTITY_FETCH} — 기본. 옵션·variant 두 단계 fetch join + 이미지·옵션 메타데이터 조회 후 엔티티를 매핑
+ *       (상품 하나에 4개 이상의 statement, Hibernate hydration 포함).</li>
+ *   <li>{@link #JSON_AGGREGATION} — {@code jsonb_build_object}/{@code jsonb_agg} 상관 서브쿼리로 상세 전체를 한 statement에서
+ *       JSON으로 조립하고 managed entity 없이 {@code ReadProductDetailView}로 바로 읽는다
+ *       ({@link StorefrontProductDetailJsonQueryRepository}).</li>
+ * </ul>
+ */
+public enum StorefrontProductDetailLoadStrategy {
+
+    ENTITY_FETCH,
+    JSON_AGGREGATION
+}
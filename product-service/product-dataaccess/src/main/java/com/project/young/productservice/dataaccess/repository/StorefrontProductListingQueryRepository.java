@@ -0,0 +1,216 @@
+package com.project.young.productservice.dataaccess.repository;
+
+import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductListCursor;
+import com.project.young.productservice.application.dto.query.PublicProductSort;
+import com.project.young.productservice.dataaccess.config.PublicProductSearchProperties;
+import com.project.young.productservice.dataaccess.projection.PublicProductListProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Storefront PLP rows from the {@code storefront_product_listing} read model (V13): single-table native queries
+ * mirroring {@link PublicProductSearchQueryRepository}'s filters and orderings, without joins.
+ * Used by {@link PublicProductSearchQueryRepository} when {@link PublicProductListingSource#LISTING_TABLE} applies.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class StorefrontProductListingQueryRepository {
+
+    private static final String SELECT_ROW = """
+            SELECT p.product_id, p.category_id, p.name, p.brand, p.main_image_url, p.base_price, p.created_at
+            """;
+
+    private final PublicProductSearchProperties searchProperties;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public StorefrontProductListingQueryRepository(PublicProductSearchProperties searchProperties) {
+        this.searchProperties = searchProperties;
+    }
+
+    public List<PublicProductListProjection> findPage(
+            PublicProductSearchCondition condition,
+            PublicProductSort sort,
+            long offset,
+            int limit
+    ) {
+        Filter filter = filter(condition);
+        Map<String, Object> params = new LinkedHashMap<>(filter.params());
+        String sql = SELECT_ROW + filter.sql() + orderBySql(sort, condition.normalizedKeyword(), params)
+                + "\nLIMIT :limit OFFSET :offset";
+        params.put("limit", limit);
+        params.put("offset", offset);
+        return fetchRows(sql, params);
+    }
+
+    /**
+     * Keyset page after {@code cursor} (null for the first page), {@code limit} rows in {@code (sortKey, id)} order.
+     */
+    public List<PublicProductListProjection> findAfter(
+            PublicProductSearchCondition condition,
+            PublicProductSort sort,
+            PublicProductListCursor cursor,
+            int limit
+    ) {
+        Filter filter = filter(condition);
+        StringBuilder sql = new StringBuilder(SELECT_ROW).append(filter.sql());
+        Map<String, Object> params = new LinkedHashMap<>(filter.params());
+        if (cursor != null) {
+            sql.append("  AND ").append(keysetPredicateSql(cursor)).append('\n');
+            params.put("cursorId", cursor.lastId());
+            if (cursor.sort() == PublicProductSort.NEWEST) {
+                params.put("cursorCreatedAt", cursor.createdAt());
+            } else {
+                params.put("cursorPrice", cursor.basePrice());
+            }
+        }
+        sql.append(keysetOrderBySql(sort)).append("\nLIMIT :limit");
+        params.put("limit", limit);
+        return fetchRows(sql.toString(), params);
+    }
+
+    public long count(PublicProductSearchCondition condition) {
+        Filter filter = filter(condition);
+        return toLong(singleResult("SELECT count(*)\n" + filter.sql(), filter.params()));
+    }
+
+    public long countUpTo(PublicProductSearchCondition condition, long limit) {
+        Filter filter = filter(condition);
+        Map<String, Object> params = new LinkedHashMap<>(filter.params());
+        params.put("countLimit", limit);
+        return toLong(singleResult(
+                "SELECT count(*) FROM (SELECT 1\n" + filter.sql() + "LIMIT :countLimit) limited", params));
+    }
+
+    public ProductSearchTotalCounter.NativeCountSource countSource(PublicProductSearchCondition condition) {
+        Filter filter = filter(condition);
+        return new ProductSearchTotalCounter.NativeCountSource("SELECT p.product_id\n" + filter.sql(), filter.params());
+    }
+
+    private static Filter filter(PublicProductSearchCondition condition) {
+        StringBuilder sql = new StringBuilder(StorefrontProductListingSql.fromVisibleRows(condition.includeDescendants()));
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("categoryId", condition.categoryId());
+
+        List<String> brands = condition.normalizedBrands();
+        if (!brands.isEmpty()) {
+            sql.append("  AND p.brand IN (:brands)\n");
+            params.put("brands", brands);
+        }
+
+        String keyword = condition.normalizedKeyword();
+        if (keyword != null) {
+            sql.append("  AND ").append(StorefrontProductListingSql.keywordPredicateSql()).append('\n');
+            params.put("pattern", PublicProductKeywordPredicates.likePattern(keyword));
+        }
+
+        if (condition.minPrice() != null) {
+            sql.append("  AND p.base_price >= :minPrice\n");
+            params.put("minPrice", condition.minPrice());
+        }
+        if (condition.maxPrice() != null) {
+            sql.append("  AND p.base_price <= :maxPrice\n");
+            params.put("maxPrice", condition.maxPrice());
+        }
+        return new Filter(sql.toString(), params);
+    }
+
+    /**
+     * Same orderings as {@link PublicProductSearchQueryRepository} for the LIKE-based keyword strategies.
+     */
+    private String orderBySql(PublicProductSort sort, String keyword, Map<String, Object> params) {
+        return switch (sort) {
+            case NEWEST -> "ORDER BY p.created_at DESC, p.product_id DESC";
+            case PRICE_ASC -> "ORDER BY p.base_price ASC, p.product_id DESC";
+            case PRICE_DESC -> "ORDER BY p.base_price DESC, p.product_id DESC";
+            case RELEVANCE -> {
+                if (keyword == null) {
+                    yield "ORDER BY p.created_at DESC, p.product_id DESC";
+                }
+                if (searchProperties.resolvedRelevanceStrategy() == PublicProductRelevanceStrategy.TRIGRAM_SIMILARITY) {
+                    // KNN on idx_storefront_listing_search_text_trgm_gist.
+                    params.put("relevanceKeyword", keyword.toLowerCase(Locale.ROOT));
+                    yield "ORDER BY (p.search_text <->> :relevanceKeyword) ASC, p.product_id DESC";
+                }
+                yield "ORDER BY CASE WHEN lower(p.name) LIKE :pattern THEN 1 ELSE 0 END DESC,"
+                        + " p.created_at DESC, p.product_id DESC";
+            }
+        };
+    }
+
+    private static String keysetPredicateSql(PublicProductListCursor cursor) {
+        return switch (cursor.sort()) {
+            case NEWEST -> "(p.created_at, p.product_id) < (:cursorCreatedAt, :cursorId)";
+            case PRICE_ASC -> "(p.base_price, p.product_id) > (:cursorPrice, :cursorId)";
+            case PRICE_DESC -> "(p.base_price, p.product_id) < (:cursorPrice, :cursorId)";
+            case RELEVANCE -> throw new IllegalArgumentException("RELEVANCE does not support keyset pagination");
+        };
+    }
+
+    private static String keysetOrderBySql(PublicProductSort sort) {
+        return switch (sort) {
+            case NEWEST -> "ORDER BY p.created_at DESC, p.product_id DESC";
+            case PRICE_ASC -> "ORDER BY p.base_price ASC, p.product_id ASC";
+            case PRICE_DESC -> "ORDER BY p.base_price DESC, p.product_id DESC";
+            case RELEVANCE -> throw new IllegalArgumentException("RELEVANCE does not support keyset pagination");
+        };
+    }
+
+    private List<PublicProductListProjection> fetchRows(String sql, Map<String, Object> params) {
+        Query query = entityManager.createNativeQuery(sql);
+        params.forEach(query::setParameter);
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        return rows.stream().map(StorefrontProductListingQueryRepository::toProjection).toList();
+    }
+
+    private Object singleResult(String sql, Map<String, Object> params) {
+        Query query = entityManager.createNativeQuery(sql);
+        params.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+
+    private static PublicProductListProjection toProjection(Object[] row) {
+        return new PublicProductListProjection(
+                (UUID) row[0],
+                row[1] == null ? null : ((Number) row[1]).longValue(),
+                (String) row[2],
+                (String) row[3],
+                (String) row[4],
+                (BigDecimal) row[5],
+                toInstant(row[6])
+        );
+    }
+
+    private static Instant toInstant(Object value) {
+        return switch (value) {
+            case null -> null;
+            case Instant instant -> instant;
+            case OffsetDateTime offsetDateTime -> offsetDateTime.toInstant();
+            case Timestamp timestamp -> timestamp.toInstant();
+            default -> throw new IllegalStateException("Unexpected created_at type: " + value.getClass());
+        };
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    private record Filter(String sql, Map<String, Object> params) {
+    }
+}
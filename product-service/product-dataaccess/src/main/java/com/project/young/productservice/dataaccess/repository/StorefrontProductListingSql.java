@@ -0,0 +1,51 @@
+package com.project.young.productservice.dataaccess.repository;
+
+/**
+ * SQL fragments over {@code storefront_product_listing} (alias {@code p}) shared by the listing and facet queries.
+ * Rows exist only for ACTIVE products in ACTIVE categories, so visibility is just the category scope; brand, price and
+ * name columns are named as in {@code products}, so the same brand/price predicates apply to both sources.
+ */
+final class StorefrontProductListingSql {
+
+    private StorefrontProductListingSql() {
+    }
+
+    /**
+     * The listing table holds only the name+brand search text, so keyword strategies matching other columns
+     * (description, tsvector) keep reading {@code products}.
+     */
+    static boolean appliesTo(PublicProductListingSource source, PublicProductKeywordSearchStrategy keywordStrategy) {
+        if (source != PublicProductListingSource.LISTING_TABLE) {
+            return false;
+        }
+        return switch (keywordStrategy) {
+            case NAME_BRAND, ADAPTIVE, IN_MEMORY_INDEX -> true;
+            case NAME_DESCRIPTION_LEGACY, FULL_TEXT -> false;
+        };
+    }
+
+    /**
+     * {@code FROM ... WHERE <category scope>}; binds {@code :categoryId}. Further predicates start with {@code AND}.
+     */
+    static String fromVisibleRows(boolean includeDescendants) {
+        return "FROM storefront_product_listing p\nWHERE " + categoryScopeSql(includeDescendants) + "\n";
+    }
+
+    /**
+     * Subtree scope is a containment test on the ancestor path, served by {@code idx_storefront_listing_category_path}.
+     */
+    static String categoryScopeSql(boolean includeDescendants) {
+        if (!includeDescendants) {
+            return "p.category_id = :categoryId";
+        }
+        return "p.category_path @> ARRAY[CAST(:categoryId AS bigint)]";
+    }
+
+    /**
+     * NAME_BRAND LIKE on the stored search text; binds {@code :pattern} to
+     * {@link PublicProductKeywordPredicates#likePattern}.
+     */
+    static String keywordPredicateSql() {
+        return "p.search_text LIKE :pattern";
+    }
+}
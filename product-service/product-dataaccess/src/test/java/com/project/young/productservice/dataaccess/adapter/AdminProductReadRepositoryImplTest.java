@@ -3,6 +3,7 @@ package com.project.young.productservice.dataaccess.adapter;
 import com.project.young.productservice.application.dto.result.AdminProductDetailResult;
 import com.project.young.productservice.application.dto.query.AdminProductDetailQuery;
 import com.project.young.productservice.application.dto.condition.AdminProductSearchCondition;
+import com.project.young.productservice.application.dto.result.TotalCountMode;
 import com.project.young.productservice.application.port.output.AdminProductReadRepository;
 import com.project.young.productservice.application.port.output.view.ReadProductView;
 import com.project.young.productservice.dataaccess.entity.CategoryEntity;
@@ -17,6 +18,7 @@ import com.project.young.productservice.dataaccess.repository.AdminProductJpaRep
 import com.project.young.productservice.dataaccess.repository.AdminProductSearchQueryRepository;
 import com.project.young.productservice.dataaccess.repository.ProductImageJpaRepository;
 import com.project.young.productservice.dataaccess.repository.ProductOptionValueImageJpaRepository;
+import com.project.young.productservice.dataaccess.repository.ProductSearchPage;
 import com.project.young.productservice.domain.valueobject.ConditionType;
 import com.project.young.productservice.domain.valueobject.ProductStatus;
 import org.junit.jupiter.api.DisplayName;
@@ -25,8 +27,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
@@ -144,10 +144,11 @@ class AdminProductReadRepositoryImplTest {
                 ConditionTypeEntity.NEW
         );
 
-        Page<AdminProductListProjection> rowPage = new PageImpl<>(
+        ProductSearchPage<AdminProductListProjection> rowPage = new ProductSearchPage<>(
                 List.of(row),
                 PageRequest.of(0, 10),
-                1
+                1,
+                TotalCountMode.EXACT
         );
 
         when(adminProductSearchQueryRepository.search(eq(condition), any(Pageable.class)))
@@ -167,6 +168,7 @@ class AdminProductReadRepositoryImplTest {
         assertThat(result.size()).isEqualTo(10);
         assertThat(result.totalElements()).isEqualTo(1);
         assertThat(result.totalPages()).isEqualTo(1);
+        assertThat(result.totalCountMode()).isEqualTo(TotalCountMode.EXACT);
 
         assertThat(result.content()).hasSize(1);
         ReadProductView view = result.content().getFirst();
@@ -1,15 +1,17 @@
 package com.project.young.productservice.dataaccess.adapter;
 
 import com.project.young.productservice.application.port.output.view.ReadCategoryView;
+import com.project.young.productservice.dataaccess.cache.CategorySnapshotCache;
+import com.project.young.productservice.dataaccess.config.CategorySnapshotProperties;
 import com.project.young.productservice.dataaccess.entity.CategoryEntity;
 import com.project.young.productservice.dataaccess.enums.CategoryStatusEntity;
 import com.project.young.productservice.dataaccess.mapper.CategoryDataAccessMapper;
 import com.project.young.productservice.dataaccess.repository.CategoryJpaRepository;
 import com.project.young.productservice.domain.valueobject.CategoryStatus;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -19,6 +21,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,9 +34,19 @@ class CategoryReadRepositoryImplTest {
     @Mock
     private CategoryDataAccessMapper categoryDataAccessMapper;
 
-    @InjectMocks
+    private CategorySnapshotCache categorySnapshotCache;
     private CategoryReadRepositoryImpl categoryReadRepository;
 
+    @BeforeEach
+    void setUp() {
+        categorySnapshotCache = new CategorySnapshotCache(new CategorySnapshotProperties());
+        categoryReadRepository = new CategoryReadRepositoryImpl(
+                categoryJpaRepository,
+                categoryDataAccessMapper,
+                categorySnapshotCache
+        );
+    }
+
     @Test
     @DisplayName("Should build correct category hierarchy from flat entity list")
     void testFindActiveCategoryHierarchy_Success() {
@@ -152,4 +165,83 @@ class CategoryReadRepositoryImplTest {
         assertNull(result.getFirst().parentId(), "Parent ID should be null for root category");
         assertEquals(CategoryStatus.ACTIVE, result.getFirst().status());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("snapshot이 유효하면 hierarchy와 active 여부를 DB 조회 없이 반환한다")
+    void findActiveCategoryHierarchy_servedFromSnapshotUntilVersionBump() {
+        // Arrange
+        when(categoryJpaRepository.findAllWithParentByStatus(CategoryStatusEntity.ACTIVE))
+                .thenReturn(List.of(rootEntity(1L, "Root")));
+        when(categoryDataAccessMapper.toDomainStatus(CategoryStatusEntity.ACTIVE))
+                .thenReturn(CategoryStatus.ACTIVE);
+
+        // Act
+        categoryReadRepository.findAllActiveCategoryHierarchy();
+        boolean activeExists = categoryReadRepository.existsActiveById(1L);
+        boolean missingExists = categoryReadRepository.existsActiveById(2L);
+
+        // Assert
+        assertTrue(activeExists);
+        assertFalse(missingExists);
+        verify(categoryJpaRepository, times(1)).findAllWithParentByStatus(CategoryStatusEntity.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("버전이 올라가면 다음 조회에서 snapshot을 다시 만든다")
+    void existsActiveById_afterVersionBump_rebuildsSnapshot() {
+        // Arrange
+        when(categoryJpaRepository.findAllWithParentByStatus(CategoryStatusEntity.ACTIVE))
+                .thenReturn(List.of())
+                .thenReturn(List.of(rootEntity(5L, "New")));
+        when(categoryDataAccessMapper.toDomainStatus(CategoryStatusEntity.ACTIVE))
+                .thenReturn(CategoryStatus.ACTIVE);
+
+        // Act
+        boolean beforeBump = categoryReadRepository.existsActiveById(5L);
+        categorySnapshotCache.bumpLocalVersion();
+        boolean afterBump = categoryReadRepository.existsActiveById(5L);
+
+        // Assert
+        assertFalse(beforeBump);
+        assertTrue(afterBump);
+        verify(categoryJpaRepository, times(2)).findAllWithParentByStatus(CategoryStatusEntity.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("findActiveAncestorIds는 가까운 부모부터 루트까지 활성 조상 id를 반환한다")
+    void findActiveAncestorIds_returnsParentChainToRoot() {
+        // Arrange
+        CategoryEntity root = rootEntity(1L, "Root");
+        CategoryEntity child = childEntity(2L, "Child", root);
+        CategoryEntity grandChild = childEntity(3L, "GrandChild", child);
+        when(categoryJpaRepository.findAllWithParentByStatus(CategoryStatusEntity.ACTIVE))
+                .thenReturn(List.of(root, child, grandChild));
+        when(categoryDataAccessMapper.toDomainStatus(CategoryStatusEntity.ACTIVE))
+                .thenReturn(CategoryStatus.ACTIVE);
+
+        // Act & Assert
+        assertEquals(List.of(2L, 1L), categoryReadRepository.findActiveAncestorIds(3L));
+        assertEquals(List.of(), categoryReadRepository.findActiveAncestorIds(1L));
+        assertEquals(List.of(), categoryReadRepository.findActiveAncestorIds(99L));
+    }
+
+    private static CategoryEntity childEntity(Long id, String name, CategoryEntity parent) {
+        CategoryEntity entity = rootEntity(id, name);
+        entity.setParent(parent);
+        return entity;
+    }
+
+    private static CategoryEntity rootEntity(Long id, String name) {
+        Instant now = Instant.now();
+        return CategoryEntity.builder()
+                .id(id)
+                .name(name)
+                .status(CategoryStatusEntity.ACTIVE)
+                .createdAt(now)
+                .updatedAt(now)
+                .parent(null)
+                .children(new ArrayList<>())
+                .products(new ArrayList<>())
+                .build();
+    }
+}
@@ -1,10 +1,12 @@
 package com.project.young.productservice.dataaccess.adapter;
 
+import com.project.young.common.domain.valueobject.ProductId;
 import com.project.young.common.domain.valueobject.ProductVariantId;
 import com.project.young.productservice.application.port.output.InventoryVariantStockPort.VariantStockSnapshot;
 import com.project.young.productservice.dataaccess.entity.ProductEntity;
 import com.project.young.productservice.dataaccess.entity.ProductVariantEntity;
 import com.project.young.productservice.dataaccess.enums.ProductStatusEntity;
+import com.project.young.productservice.dataaccess.projection.VariantOnHandProjection;
 import com.project.young.productservice.dataaccess.repository.ProductVariantJpaRepository;
 import com.project.young.productservice.domain.exception.InventoryDomainException;
 import com.project.young.productservice.domain.exception.ProductDomainException;
@@ -19,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -63,6 +66,34 @@ class InventoryVariantStockAdapterTest {
         );
     }
 
+    @Test
+    @DisplayName("findOnHandByProductIds: 한 번의 조회 결과를 상품별 variant 재고로 묶는다")
+    void findOnHandByProductIdsGroupsRowsByProduct() {
+        UUID productId = UUID.randomUUID();
+        UUID otherProductId = UUID.randomUUID();
+        when(productVariantJpaRepository.findOnHandByProductIdIn(List.of(productId, otherProductId)))
+                .thenReturn(List.of(
+                        new VariantOnHandProjection(productId, FIRST_ID, 7),
+                        new VariantOnHandProjection(productId, SECOND_ID, 0),
+                        new VariantOnHandProjection(otherProductId, UUID.fromString("00000000-0000-0000-0000-000000000003"), 2)
+                ));
+
+        Map<ProductId, Map<UUID, Integer>> result = adapter.findOnHandByProductIds(List.of(
+                new ProductId(productId), new ProductId(otherProductId), new ProductId(productId)));
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(new ProductId(productId))).containsExactlyInAnyOrderEntriesOf(
+                Map.of(FIRST_ID, 7, SECOND_ID, 0));
+    }
+
+    @Test
+    @DisplayName("findProductIdsByVariantIds: 빈 입력이면 조회하지 않는다")
+    void findProductIdsByVariantIdsSkipsEmptyInput() {
+        assertThat(adapter.findProductIdsByVariantIds(List.of())).isEmpty();
+
+        verifyNoInteractions(productVariantJpaRepository);
+    }
+
     @Test
     @DisplayName("touchVersions: 정렬된 variant에 force increment lock을 순서대로 적용하고 flush한다")
     void touchVersionsLocksInOrderAndFlushes() {
@@ -37,6 +37,7 @@ class ProductCatalogOutboxAdapterTest {
                 eventId,
                 productId,
                 4L,
+                3L,
                 ProductCatalogChangeType.PRODUCT_UPDATED,
                 occurredAt
         );
@@ -50,6 +51,7 @@ class ProductCatalogOutboxAdapterTest {
         assertThat(saved.getEventId()).isEqualTo(eventId);
         assertThat(saved.getProductId()).isEqualTo(productId);
         assertThat(saved.getCategoryId()).isEqualTo(4L);
+        assertThat(saved.getPreviousCategoryId()).isEqualTo(3L);
         assertThat(saved.getChangeType()).isEqualTo("PRODUCT_UPDATED");
         assertThat(saved.getOccurredAt()).isEqualTo(occurredAt);
         assertThat(saved.getPublishedAt()).isNull();
@@ -64,6 +66,7 @@ class ProductCatalogOutboxAdapterTest {
                 eventId,
                 productId,
                 null,
+                null,
                 ProductCatalogChangeType.DELETED,
                 Instant.now()
         );
@@ -1,9 +1,15 @@
 package com.project.young.productservice.dataaccess.adapter;
 
 import com.project.young.common.domain.valueobject.ProductId;
+import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductSort;
+import com.project.young.productservice.application.dto.result.PublicProductListPageResult;
+import com.project.young.productservice.application.dto.result.TotalCountMode;
 import com.project.young.productservice.application.policy.StorefrontProductVisibilityPolicy;
 import com.project.young.productservice.application.port.output.view.ReadCartCatalogLineView;
+import com.project.young.productservice.application.port.output.view.ReadCartCatalogOptionLineView;
 import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.dataaccess.cache.InMemoryPublicProductSearchIndexAdapter;
 import com.project.young.productservice.dataaccess.entity.OptionGroupEntity;
 import com.project.young.productservice.dataaccess.entity.OptionValueEntity;
 import com.project.young.productservice.dataaccess.entity.ProductEntity;
@@ -19,12 +25,17 @@ import com.project.young.productservice.dataaccess.enums.OptionStatusEntity;
 import com.project.young.productservice.dataaccess.enums.ProductImageRoleEntity;
 import com.project.young.productservice.dataaccess.enums.ProductStatusEntity;
 import com.project.young.productservice.dataaccess.mapper.ProductDataAccessMapper;
+import com.project.young.productservice.dataaccess.projection.PublicProductListProjection;
+import com.project.young.productservice.dataaccess.projection.StorefrontCartLineProjection;
 import com.project.young.productservice.dataaccess.repository.OptionGroupJpaRepository;
 import com.project.young.productservice.dataaccess.repository.ProductImageJpaRepository;
 import com.project.young.productservice.dataaccess.repository.ProductJpaRepository;
 import com.project.young.productservice.dataaccess.repository.ProductOptionValueImageJpaRepository;
+import com.project.young.productservice.dataaccess.repository.ProductSearchPage;
 import com.project.young.productservice.dataaccess.repository.ProductVariantJpaRepository;
 import com.project.young.productservice.dataaccess.repository.PublicProductSearchQueryRepository;
+import com.project.young.productservice.dataaccess.repository.StorefrontCartLineProjectionQueryRepository;
+import com.project.young.productservice.dataaccess.repository.StorefrontProductDetailJsonQueryRepository;
 import com.project.young.productservice.domain.valueobject.ConditionType;
 import com.project.young.productservice.domain.valueobject.ProductStatus;
 import org.junit.jupiter.api.DisplayName;
@@ -34,9 +45,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -45,6 +59,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -66,14 +81,87 @@ class PublicProductReadRepositoryImplTest {
     private OptionGroupJpaRepository optionGroupJpaRepository;
     @Mock
     private ProductVariantJpaRepository productVariantJpaRepository;
+    @Mock
+    private InMemoryPublicProductSearchIndexAdapter publicProductSearchIndex;
+    @Mock
+    private StorefrontProductDetailJsonQueryRepository storefrontProductDetailJsonQueryRepository;
+    @Mock
+    private StorefrontCartLineProjectionQueryRepository storefrontCartLineProjectionQueryRepository;
 
     @InjectMocks
     private PublicProductReadRepositoryImpl publicProductReadRepository;
 
+    @Nested
+    @DisplayName("search")
+    class SearchTests {
+
+        private final PublicProductSearchCondition condition =
+                new PublicProductSearchCondition(1L, "데님", null, null, null);
+
+        @Test
+        @DisplayName("인메모리 인덱스가 준비되어 있으면 SQL 없이 응답")
+        void search_whenIndexLoaded_skipsSql() {
+            PublicProductListProjection row = new PublicProductListProjection(
+                    UUID.randomUUID(), 1L, "데님", "브랜드A", "https://example.com/main.jpg",
+                    new BigDecimal("15000.00"), Instant.parse("2026-06-01T00:00:00Z"));
+            PageRequest pageable = PageRequest.of(0, 20);
+            when(publicProductSearchIndex.search(condition, PublicProductSort.NEWEST, pageable))
+                    .thenReturn(Optional.of(new ProductSearchPage<>(List.of(row), pageable, 1L, TotalCountMode.EXACT)));
+
+            PublicProductListPageResult result =
+                    publicProductReadRepository.search(condition, PublicProductSort.NEWEST, 0, 20);
+
+            assertThat(result.totalElements()).isEqualTo(1L);
+            assertThat(result.content()).singleElement()
+                    .satisfies(view -> assertThat(view.name()).isEqualTo("데님"));
+            verify(publicProductSearchQueryRepository, never()).search(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("인덱스가 비활성·미준비면 SQL로 검색")
+        void search_whenIndexUnavailable_fallsBackToSql() {
+            PageRequest pageable = PageRequest.of(0, 20);
+            when(publicProductSearchIndex.search(condition, PublicProductSort.NEWEST, pageable))
+                    .thenReturn(Optional.empty());
+            when(publicProductSearchQueryRepository.search(condition, PublicProductSort.NEWEST, pageable))
+                    .thenReturn(new ProductSearchPage<>(List.of(), pageable, 0L, TotalCountMode.EXACT));
+
+            PublicProductListPageResult result =
+                    publicProductReadRepository.search(condition, PublicProductSort.NEWEST, 0, 20);
+
+            assertThat(result.content()).isEmpty();
+            verify(publicProductSearchQueryRepository).search(condition, PublicProductSort.NEWEST, pageable);
+        }
+    }
+
     @Nested
     @DisplayName("findStorefrontProductDetailById")
     class FindStorefrontProductDetailByIdTests {
 
+        @Test
+        @DisplayName("JSON 집계 전략이면 한 statement 결과를 그대로 반환하고 엔티티를 읽지 않는다")
+        void whenJsonAggregationConfigured_skipsEntityFetch() {
+            UUID rawId = UUID.randomUUID();
+            ReadProductDetailView aggregated = ReadProductDetailView.builder().id(rawId).name("집계").build();
+            when(storefrontProductDetailJsonQueryRepository.findDetailsByIds(List.of(rawId)))
+                    .thenReturn(Optional.of(Map.of(rawId, aggregated)));
+
+            assertThat(publicProductReadRepository.findStorefrontProductDetailById(new ProductId(rawId)))
+                    .contains(aggregated);
+            verify(productJpaRepository, never()).findStorefrontDetailWithOptionsById(any(), anyList(), any());
+        }
+
+        @Test
+        @DisplayName("JSON 집계 전략에서 보이지 않는 상품은 empty")
+        void whenJsonAggregationConfiguredAndHidden_returnsEmpty() {
+            UUID rawId = UUID.randomUUID();
+            when(storefrontProductDetailJsonQueryRepository.findDetailsByIds(List.of(rawId)))
+                    .thenReturn(Optional.of(Map.of()));
+
+            assertThat(publicProductReadRepository.findStorefrontProductDetailById(new ProductId(rawId))).isEmpty();
+            verify(productJpaRepository, never()).findStorefrontDetailWithOptionsById(any(), anyList(), any());
+        }
+
         @Test
         @DisplayName("DRAFT/DELETED 제외 상태를 쿼리에 전달")
         void passesExcludedStatuses() {
@@ -161,6 +249,70 @@ class PublicProductReadRepositoryImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("findStorefrontProductDetailsByIds")
+    class FindStorefrontProductDetailsByIdsTests {
+
+        @Test
+        @DisplayName("상품 수와 무관하게 옵션·variant·이미지·옵션 메타데이터를 각각 한 번씩 조회")
+        void loadsEveryCollectionOncePerBatch() {
+            Fixture first = Fixture.forProduct(UUID.randomUUID());
+            Fixture second = Fixture.forProduct(UUID.randomUUID());
+            ProductId firstId = new ProductId(first.product().getId());
+            ProductId secondId = new ProductId(second.product().getId());
+            ProductId hiddenId = new ProductId(UUID.randomUUID());
+
+            when(productJpaRepository.findStorefrontOptionsByIdIn(anyList(), anyList(), eq(CategoryStatusEntity.DELETED)))
+                    .thenReturn(List.of(first.product(), second.product()));
+            when(productDataAccessMapper.toDomainStatus(ProductStatusEntity.INACTIVE)).thenReturn(ProductStatus.INACTIVE);
+            when(productDataAccessMapper.toDomainConditionType(ConditionTypeEntity.NEW)).thenReturn(ConditionType.NEW);
+            when(productDataAccessMapper.toDomainOptionStatus(OptionStatusEntity.ACTIVE))
+                    .thenReturn(com.project.young.productservice.domain.valueobject.OptionStatus.ACTIVE);
+            when(productImageJpaRepository.findByProduct_IdInAndStatusOrderBySortOrderAsc(anyList(), eq(OptionStatusEntity.ACTIVE)))
+                    .thenReturn(List.of(first.productImage(), second.productImage()));
+            when(productOptionValueImageJpaRepository.findByProductOptionValue_IdInAndStatusOrderBySortOrderAsc(any(), eq(OptionStatusEntity.ACTIVE)))
+                    .thenReturn(List.of(first.povImage(), second.povImage()));
+            when(optionGroupJpaRepository.findAllByIdIn(any()))
+                    .thenReturn(List.of(first.globalOptionGroup(), second.globalOptionGroup()));
+
+            Map<ProductId, ReadProductDetailView> views = publicProductReadRepository.findStorefrontProductDetailsByIds(
+                    List.of(firstId, secondId, hiddenId, firstId)
+            );
+
+            assertThat(views).containsOnlyKeys(firstId, secondId);
+            assertThat(views.get(firstId).images()).singleElement()
+                    .satisfies(image -> assertThat(image.id()).isEqualTo(first.productImage().getId()));
+            assertThat(views.get(secondId).optionGroups().getFirst().optionValues().getFirst().images()).singleElement()
+                    .satisfies(image -> assertThat(image.id()).isEqualTo(second.povImage().getId()));
+            verify(productJpaRepository).findStorefrontOptionsByIdIn(
+                    eq(List.of(firstId.getValue(), secondId.getValue(), hiddenId.getValue())),
+                    anyList(),
+                    eq(CategoryStatusEntity.DELETED));
+            verify(productJpaRepository).findStorefrontVariantsByIdIn(
+                    eq(List.of(firstId.getValue(), secondId.getValue())), anyList(), eq(CategoryStatusEntity.DELETED));
+            verify(productImageJpaRepository, times(1))
+                    .findByProduct_IdInAndStatusOrderBySortOrderAsc(anyList(), eq(OptionStatusEntity.ACTIVE));
+            verify(productOptionValueImageJpaRepository, times(1))
+                    .findByProductOptionValue_IdInAndStatusOrderBySortOrderAsc(any(), eq(OptionStatusEntity.ACTIVE));
+            verify(optionGroupJpaRepository, times(1)).findAllByIdIn(any());
+            verify(productJpaRepository, never()).findStorefrontDetailWithOptionsById(any(), anyList(), any());
+            verify(productImageJpaRepository, never()).findByProduct_IdAndStatusOrderBySortOrderAsc(any(), any());
+        }
+
+        @Test
+        @DisplayName("보이는 상품이 없으면 후속 쿼리 없이 빈 결과")
+        void whenNothingVisible_skipsFollowUpQueries() {
+            when(productJpaRepository.findStorefrontOptionsByIdIn(anyList(), anyList(), eq(CategoryStatusEntity.DELETED)))
+                    .thenReturn(List.of());
+
+            assertThat(publicProductReadRepository.findStorefrontProductDetailsByIds(
+                    List.of(new ProductId(UUID.randomUUID())))).isEmpty();
+
+            verify(productJpaRepository, never()).findStorefrontVariantsByIdIn(anyList(), anyList(), any());
+            verify(productImageJpaRepository, never()).findByProduct_IdInAndStatusOrderBySortOrderAsc(anyList(), any());
+        }
+    }
+
     @Nested
     @DisplayName("findCartCatalogLinesByVariantIds")
     class FindCartCatalogLinesByVariantIdsTests {
@@ -192,6 +344,55 @@ class PublicProductReadRepositoryImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("findAvailableCartCatalogLinesByVariantIds")
+    class FindAvailableCartCatalogLinesByVariantIdsTests {
+
+        @Test
+        @DisplayName("projection 행을 가용 재고와 구매 가능 여부가 반영된 라인으로 매핑")
+        void mapsProjectionRows() {
+            UUID variantId = UUID.randomUUID();
+            Instant asOf = Instant.parse("2026-10-17T00:00:00Z");
+            ReadCartCatalogOptionLineView option = ReadCartCatalogOptionLineView.builder()
+                    .stepOrder(1)
+                    .productOptionGroupId(UUID.randomUUID())
+                    .optionGroupName("Color")
+                    .productOptionValueId(UUID.randomUUID())
+                    .optionValueName("Red")
+                    .build();
+            StorefrontCartLineProjection row = new StorefrontCartLineProjection(
+                    UUID.randomUUID(), variantId, "Phone", "Brand", "SKU-1", "https://img",
+                    new BigDecimal("12000"), ProductStatusEntity.ACTIVE, ProductStatusEntity.INACTIVE,
+                    10, 7, List.of(option)
+            );
+            when(storefrontCartLineProjectionQueryRepository.findByVariantIds(List.of(variantId), asOf))
+                    .thenReturn(Optional.of(List.of(row)));
+            when(productDataAccessMapper.toDomainStatus(ProductStatusEntity.ACTIVE)).thenReturn(ProductStatus.ACTIVE);
+            when(productDataAccessMapper.toDomainStatus(ProductStatusEntity.INACTIVE)).thenReturn(ProductStatus.INACTIVE);
+
+            List<ReadCartCatalogLineView> lines = publicProductReadRepository
+                    .findAvailableCartCatalogLinesByVariantIds(List.of(variantId), asOf)
+                    .orElseThrow();
+
+            assertThat(lines).singleElement().satisfies(line -> {
+                assertThat(line.stockQuantity()).isEqualTo(7);
+                assertThat(line.purchasable()).isFalse();
+                assertThat(line.variantOptions()).containsExactly(option);
+            });
+            verify(productVariantJpaRepository, never()).findStorefrontCartVariantsByIdIn(anyList(), anyList(), any());
+        }
+
+        @Test
+        @DisplayName("projection 전략이 아니면 비어 있어 호출자가 엔티티 경로를 쓴다")
+        void projectionDisabled_returnsEmpty() {
+            when(storefrontCartLineProjectionQueryRepository.findByVariantIds(anyList(), any(Instant.class)))
+                    .thenReturn(Optional.empty());
+
+            assertThat(publicProductReadRepository.findAvailableCartCatalogLinesByVariantIds(
+                    List.of(UUID.randomUUID()), Instant.now())).isEmpty();
+        }
+    }
+
     private record CartCatalogFixture(
             ProductEntity product,
             ProductVariantEntity variant,
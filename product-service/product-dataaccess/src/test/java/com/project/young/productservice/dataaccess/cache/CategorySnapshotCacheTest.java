@@ -0,0 +1,127 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.port.output.view.ReadCategoryView;
+import com.project.young.productservice.dataaccess.config.CategorySnapshotProperties;
+import com.project.young.productservice.domain.valueobject.CategoryStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategorySnapshotCacheTest {
+
+    private static final List<ReadCategoryView> V1 = List.of(
+            new ReadCategoryView(1L, "Root", null, CategoryStatus.ACTIVE));
+    private static final List<ReadCategoryView> V2 = List.of(
+            new ReadCategoryView(1L, "Root", null, CategoryStatus.ACTIVE),
+            new ReadCategoryView(2L, "Child", 1L, CategoryStatus.ACTIVE));
+
+    private CategorySnapshotCache cache;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CategorySnapshotCache(new CategorySnapshotProperties());
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("신선한 스냅샷이 있으면 로더를 다시 호출하지 않는다")
+    void get_freshSnapshot_doesNotReload() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<ReadCategoryView>> loader = () -> {
+            loads.incrementAndGet();
+            return V1;
+        };
+
+        CategorySnapshot first = cache.get(loader);
+        CategorySnapshot second = cache.get(loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("버전이 올라가면 다음 조회에서 새 버전으로 다시 만든다")
+    void get_afterVersionBump_rebuildsAtNewVersion() {
+        cache.get(() -> V1);
+        long version = cache.bumpLocalVersion();
+
+        CategorySnapshot rebuilt = cache.get(() -> V2);
+
+        assertThat(rebuilt.version()).isEqualTo(version);
+        assertThat(rebuilt.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 재구성 중이면 기다리지 않고 이전 스냅샷을 반환한다")
+    void get_whileAnotherThreadRebuilds_returnsPreviousSnapshotWithoutBlocking() throws Exception {
+        CategorySnapshot previous = cache.get(() -> V1);
+        cache.bumpLocalVersion();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<CategorySnapshot> rebuilding = executor.submit(() -> cache.get(() -> {
+            loading.countDown();
+            await(release);
+            return V2;
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CategorySnapshot served = CompletableFuture.supplyAsync(() -> cache.get(() -> V2))
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(served).isSameAs(previous);
+        release.countDown();
+        assertThat(rebuilding.get(5, TimeUnit.SECONDS).size()).isEqualTo(2);
+        assertThat(cache.get(() -> V1).size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 아직 없으면 재구성이 끝날 때까지 기다려 그 결과를 반환한다")
+    void get_withoutSnapshot_waitsForRebuild() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Future<CategorySnapshot> rebuilding = executor.submit(() -> cache.get(() -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return V1;
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<CategorySnapshot> waiting = CompletableFuture.supplyAsync(() -> cache.get(() -> {
+            loads.incrementAndGet();
+            return V2;
+        }));
+        release.countDown();
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isSameAs(rebuilding.get(5, TimeUnit.SECONDS));
+        assertThat(loads).hasValue(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.dto.query.PublicProductFacetQuery;
+import com.project.young.productservice.application.dto.query.PublicProductFacetType;
+import com.project.young.productservice.application.dto.result.PublicProductFacetResult;
+import com.project.young.productservice.dataaccess.config.PublicProductFacetCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryPublicProductFacetCacheAdapterTest {
+
+    private static final long CATEGORY_ID = 10L;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong categoryTreeVersion = new AtomicLong();
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private InMemoryPublicProductFacetCacheAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        PublicProductFacetCacheProperties properties = new PublicProductFacetCacheProperties();
+        properties.setTtlSeconds(60);
+        properties.setStaleWhileRevalidateSeconds(30);
+        properties.setMaxEntries(2);
+        adapter = new InMemoryPublicProductFacetCacheAdapter(
+                properties, clock::get, categoryTreeVersion::get, pendingRefreshes::add);
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 loader를 다시 호출하지 않는다")
+    void getOrLoad_withinTtl_servesCachedResult() {
+        PublicProductFacetResult first = adapter.getOrLoad(query(List.of("A")), loader());
+        advanceSeconds(59);
+        PublicProductFacetResult second = adapter.getOrLoad(query(List.of("A")), loader());
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(pendingRefreshes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("TTL이 지났지만 SWR 구간이면 stale 값을 반환하고 백그라운드 갱신을 한 번만 예약한다")
+    void getOrLoad_withinStaleWindow_servesStaleAndRefreshesOnce() {
+        PublicProductFacetResult first = adapter.getOrLoad(query(List.of("A")), loader());
+        advanceSeconds(70);
+
+        PublicProductFacetResult stale = adapter.getOrLoad(query(List.of("A")), loader());
+        adapter.getOrLoad(query(List.of("A")), loader());
+
+        assertThat(stale).isSameAs(first);
+        assertThat(pendingRefreshes).hasSize(1);
+
+        pendingRefreshes.getFirst().run();
+        PublicProductFacetResult refreshed = adapter.getOrLoad(query(List.of("A")), loader());
+
+        assertThat(refreshed).isNotSameAs(first);
+        assertThat(refreshed.totalMatching()).isEqualTo(2L);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("TTL + SWR을 넘기면 호출 스레드에서 동기 로드한다")
+    void getOrLoad_beyondStaleWindow_loadsSynchronously() {
+        adapter.getOrLoad(query(List.of("A")), loader());
+        advanceSeconds(91);
+
+        PublicProductFacetResult result = adapter.getOrLoad(query(List.of("A")), loader());
+
+        assertThat(result.totalMatching()).isEqualTo(2L);
+        assertThat(pendingRefreshes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카테고리 무효화 후에는 stale 값을 반환하며 재검증한다")
+    void evictCategories_marksEntriesStale() {
+        PublicProductFacetResult first = adapter.getOrLoad(query(List.of("A")), loader());
+        adapter.evictCategories(List.of(CATEGORY_ID));
+
+        PublicProductFacetResult stale = adapter.getOrLoad(query(List.of("A")), loader());
+        assertThat(stale).isSameAs(first);
+        assertThat(pendingRefreshes).hasSize(1);
+
+        pendingRefreshes.getFirst().run();
+        assertThat(adapter.getOrLoad(query(List.of("A")), loader()).totalMatching()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("로드 도중 무효화되면 저장된 값도 stale로 취급된다")
+    void evictCategories_duringLoad_keepsLoadedEntryStale() {
+        adapter.getOrLoad(query(List.of("A")), () -> {
+            adapter.evictCategories(List.of(CATEGORY_ID));
+            return result(loads.incrementAndGet());
+        });
+
+        adapter.getOrLoad(query(List.of("A")), loader());
+
+        assertThat(pendingRefreshes).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("다른 카테고리 무효화는 영향을 주지 않는다")
+    void evictCategories_otherCategory_keepsEntryFresh() {
+        adapter.getOrLoad(query(List.of("A")), loader());
+        adapter.evictCategories(List.of(CATEGORY_ID + 1));
+
+        adapter.getOrLoad(query(List.of("A")), loader());
+
+        assertThat(pendingRefreshes).isEmpty();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("카테고리 트리 버전이 올라가면 모든 카테고리의 항목을 stale로 취급한다")
+    void categoryTreeVersionAdvanced_marksEntriesStale() {
+        PublicProductFacetResult first = adapter.getOrLoad(query(List.of("A")), loader());
+        categoryTreeVersion.incrementAndGet();
+
+        PublicProductFacetResult stale = adapter.getOrLoad(query(List.of("A")), loader());
+        assertThat(stale).isSameAs(first);
+        assertThat(pendingRefreshes).hasSize(1);
+
+        pendingRefreshes.getFirst().run();
+        assertThat(adapter.getOrLoad(query(List.of("A")), loader()).totalMatching()).isEqualTo(2L);
+        assertThat(pendingRefreshes).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("백그라운드 갱신이 null을 반환해도 다음 조회에서 갱신을 다시 예약한다")
+    void backgroundRefreshReturningNull_allowsNextRefresh() {
+        adapter.getOrLoad(query(List.of("A")), loader());
+        advanceSeconds(70);
+
+        adapter.getOrLoad(query(List.of("A")), () -> null);
+        pendingRefreshes.getFirst().run();
+        adapter.getOrLoad(query(List.of("A")), loader());
+
+        assertThat(pendingRefreshes).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("브랜드 순서, 가격 scale, 키워드 대소문자가 달라도 같은 캐시 키를 사용한다")
+    void getOrLoad_normalizesKey() {
+        adapter.getOrLoad(new PublicProductFacetQuery(
+                CATEGORY_ID, "Shoe", List.of("B", "A"), new BigDecimal("10.00"), null,
+                List.of(PublicProductFacetType.BRAND, PublicProductFacetType.PRICE)), loader());
+
+        adapter.getOrLoad(new PublicProductFacetQuery(
+                CATEGORY_ID, "shoe", List.of("A", "B"), new BigDecimal("10"), null,
+                List.of(PublicProductFacetType.PRICE, PublicProductFacetType.BRAND)), loader());
+
+        assertThat(loads).hasValue(1);
+        assertThat(adapter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("maxEntries에 도달하면 만료된 항목을 정리하고, 여유가 없으면 저장하지 않는다")
+    void getOrLoad_atCapacity_purgesExpiredOrSkipsStore() {
+        adapter.getOrLoad(query(List.of("A")), loader());
+        adapter.getOrLoad(query(List.of("B")), loader());
+
+        adapter.getOrLoad(query(List.of("C")), loader());
+        assertThat(adapter.size()).isEqualTo(2);
+
+        advanceSeconds(91);
+        adapter.getOrLoad(query(List.of("C")), loader());
+        assertThat(adapter.size()).isEqualTo(1);
+    }
+
+    private Supplier<PublicProductFacetResult> loader() {
+        return () -> result(loads.incrementAndGet());
+    }
+
+    private static PublicProductFacetResult result(long totalCount) {
+        return new PublicProductFacetResult(CATEGORY_ID, totalCount, List.of(), List.of());
+    }
+
+    private static PublicProductFacetQuery query(List<String> brands) {
+        return new PublicProductFacetQuery(CATEGORY_ID, null, brands, null, null, List.of());
+    }
+
+    private void advanceSeconds(long seconds) {
+        clock.addAndGet(Duration.ofSeconds(seconds).toNanos());
+    }
+}
@@ -0,0 +1,255 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductSort;
+import com.project.young.productservice.application.dto.result.PublicProductListPageResult;
+import com.project.young.productservice.application.port.output.view.ReadPublicProductSummaryView;
+import com.project.young.productservice.dataaccess.config.PublicProductListCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryPublicProductListCacheAdapterTest {
+
+    private static final long CATEGORY_ID = 10L;
+    private static final UUID PRODUCT_A = UUID.randomUUID();
+    private static final UUID PRODUCT_B = UUID.randomUUID();
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private InMemoryPublicProductListCacheAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        PublicProductListCacheProperties properties = new PublicProductListCacheProperties();
+        properties.setTtlSeconds(30);
+        properties.setStaleWhileRevalidateSeconds(30);
+        properties.setMaxPages(2);
+        properties.setMaxEntries(2);
+        adapter = new InMemoryPublicProductListCacheAdapter(properties, clock::get, pendingRefreshes::add);
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 loader를 다시 호출하지 않는다")
+    void getOrLoad_withinTtl_servesCachedPage() {
+        PublicProductListPageResult first = getOrLoad(condition(List.of("A")), 0, loader(PRODUCT_A));
+        advanceSeconds(29);
+        PublicProductListPageResult second = getOrLoad(condition(List.of("A")), 0, loader(PRODUCT_A));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(pendingRefreshes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("TTL이 지났지만 SWR 구간이면 stale 페이지를 반환하고 백그라운드 갱신을 한 번만 예약한다")
+    void getOrLoad_withinStaleWindow_servesStaleAndRefreshesOnce() {
+        PublicProductListPageResult first = getOrLoad(condition(List.of("A")), 0, loader(PRODUCT_A));
+        advanceSeconds(40);
+
+        PublicProductListPageResult stale = getOrLoad(condition(List.of("A")), 0, loader(PRODUCT_A));
+        getOrLoad(condition(List.of("A")), 0, loader(PRODUCT_A));
+
+        assertThat(stale).isSameAs(first);
+        assertThat(pendingRefreshes).hasSize(1);
+
+        pendingRefreshes.getFirst().run();
+        PublicProductListPageResult refreshed = getOrLoad(condition(List.of("A")), 0, loader(PRODUCT_A));
+
+        assertThat(refreshed.totalElements()).isEqualTo(2L);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("TTL + SWR을 넘기면 호출 스레드에서 동기 로드한다")
+    void getOrLoad_beyondStaleWindow_loadsSynchronously() {
+        getOrLoad(condition(List.of("A")), 0, loader(PRODUCT_A));
+        advanceSeconds(61);
+
+        PublicProductListPageResult result = getOrLoad(condition(List.of("A")), 0, loader(PRODUCT_A));
+
+        assertThat(result.totalElements()).isEqualTo(2L);
+        assertThat(pendingRefreshes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("maxPages 이후 페이지는 캐시하지 않는다")
+    void getOrLoad_pageBeyondMaxPages_bypassesCache() {
+        getOrLoad(condition(List.of("A")), 2, loader(PRODUCT_A));
+        getOrLoad(condition(List.of("A")), 2, loader(PRODUCT_A));
+
+        assertThat(loads).hasValue(2);
+        assertThat(adapter.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상품 무효화는 그 상품이 포함된 페이지만 stale로 만들고 재검증한다")
+    void evictProducts_invalidatesOnlyPagesListingProduct() {
+        PublicProductListPageResult listingA = getOrLoad(condition(List.of("A")), 0, loader(PRODUCT_A));
+        getOrLoad(condition(List.of("B")), 0, loader(PRODUCT_B));
+
+        adapter.evictProducts(List.of(PRODUCT_A));
+
+        assertThat(getOrLoad(condition(List.of("B")), 0, loader(PRODUCT_B)).totalElements()).isEqualTo(2L);
+        assertThat(pendingRefreshes).isEmpty();
+
+        assertThat(getOrLoad(condition(List.of("A")), 0, loader(PRODUCT_A))).isSameAs(listingA);
+        assertThat(pendingRefreshes).hasSize(1);
+
+        pendingRefreshes.getFirst().run();
+        assertThat(getOrLoad(condition(List.of("A")), 0, loader(PRODUCT_A)).totalElements()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("로드 도중 무효화되면 저장된 페이지도 stale로 취급된다")
+    void evictProducts_duringLoad_keepsLoadedPageStale() {
+        getOrLoad(condition(List.of("A")), 0, () -> {
+            adapter.evictProducts(List.of(PRODUCT_B));
+            return page(loads.incrementAndGet(), PRODUCT_A);
+        });
+
+        getOrLoad(condition(List.of("A")), 0, loader(PRODUCT_A));
+
+        assertThat(pendingRefreshes).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("cold 키에 동시에 들어온 요청은 한 번만 로드하고 같은 결과를 공유한다")
+    void getOrLoad_concurrentColdKey_loadsOnce() throws Exception {
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        Supplier<PublicProductListPageResult> blockingLoader = () -> {
+            loadStarted.countDown();
+            awaitQuietly(releaseLoad);
+            return page(loads.incrementAndGet(), PRODUCT_A);
+        };
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<PublicProductListPageResult> leader =
+                    callers.submit(() -> getOrLoad(condition(List.of("A")), 0, blockingLoader));
+            assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<PublicProductListPageResult>> followers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                followers.add(callers.submit(() -> getOrLoad(condition(List.of("A")), 0, blockingLoader)));
+            }
+            TimeUnit.MILLISECONDS.sleep(100);
+            releaseLoad.countDown();
+
+            PublicProductListPageResult loaded = leader.get(5, TimeUnit.SECONDS);
+            for (Future<PublicProductListPageResult> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(loaded);
+            }
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("로드가 실패하면 저장하지 않고 다음 호출이 다시 로드한다")
+    void getOrLoad_whenLoaderFails_doesNotCache() {
+        assertThatThrownBy(() -> getOrLoad(condition(List.of("A")), 0, () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        getOrLoad(condition(List.of("A")), 0, loader(PRODUCT_A));
+
+        assertThat(loads).hasValue(1);
+        assertThat(adapter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("브랜드 순서, 가격 scale, 키워드 대소문자가 달라도 같은 캐시 키를 사용한다")
+    void getOrLoad_normalizesKey() {
+        adapter.getOrLoad(new PublicProductSearchCondition(
+                CATEGORY_ID, " Shoe ", List.of("B", "A"), new BigDecimal("10.00"), null),
+                PublicProductSort.NEWEST, 0, 24, loader(PRODUCT_A));
+
+        adapter.getOrLoad(new PublicProductSearchCondition(
+                CATEGORY_ID, "shoe", List.of("A", "B", "A"), new BigDecimal("10"), null),
+                PublicProductSort.NEWEST, 0, 24, loader(PRODUCT_A));
+
+        assertThat(loads).hasValue(1);
+        assertThat(adapter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정렬·페이지·size가 다르면 별도 항목으로 저장한다")
+    void getOrLoad_sortPageAndSizeArePartOfKey() {
+        adapter.getOrLoad(condition(List.of("A")), PublicProductSort.NEWEST, 0, 24, loader(PRODUCT_A));
+        adapter.getOrLoad(condition(List.of("A")), PublicProductSort.PRICE_ASC, 0, 24, loader(PRODUCT_A));
+        adapter.getOrLoad(condition(List.of("A")), PublicProductSort.NEWEST, 1, 24, loader(PRODUCT_A));
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("maxEntries에 도달하면 만료된 항목을 정리하고, 여유가 없으면 저장하지 않는다")
+    void getOrLoad_atCapacity_purgesExpiredOrSkipsStore() {
+        getOrLoad(condition(List.of("A")), 0, loader(PRODUCT_A));
+        getOrLoad(condition(List.of("B")), 0, loader(PRODUCT_A));
+
+        getOrLoad(condition(List.of("C")), 0, loader(PRODUCT_A));
+        assertThat(adapter.size()).isEqualTo(2);
+
+        advanceSeconds(61);
+        getOrLoad(condition(List.of("C")), 0, loader(PRODUCT_A));
+        assertThat(adapter.size()).isEqualTo(1);
+    }
+
+    private PublicProductListPageResult getOrLoad(
+            PublicProductSearchCondition condition,
+            int page,
+            Supplier<PublicProductListPageResult> loader
+    ) {
+        return adapter.getOrLoad(condition, PublicProductSort.NEWEST, page, 24, loader);
+    }
+
+    private Supplier<PublicProductListPageResult> loader(UUID productId) {
+        return () -> page(loads.incrementAndGet(), productId);
+    }
+
+    private static PublicProductListPageResult page(long totalElements, UUID productId) {
+        ReadPublicProductSummaryView view = ReadPublicProductSummaryView.builder()
+                .id(productId)
+                .categoryId(CATEGORY_ID)
+                .name("Sample")
+                .basePrice(new BigDecimal("10000"))
+                .build();
+        return new PublicProductListPageResult(List.of(view), 0, 24, totalElements, 1);
+    }
+
+    private static PublicProductSearchCondition condition(List<String> brands) {
+        return new PublicProductSearchCondition(CATEGORY_ID, null, brands, null, null);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void advanceSeconds(long seconds) {
+        clock.addAndGet(Duration.ofSeconds(seconds).toNanos());
+    }
+}
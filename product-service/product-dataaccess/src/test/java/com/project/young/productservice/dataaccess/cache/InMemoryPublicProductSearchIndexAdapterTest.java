@@ -0,0 +1,248 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductSort;
+import com.project.young.productservice.application.dto.result.TotalCountMode;
+import com.project.young.productservice.application.port.output.CategoryReadRepository;
+import com.project.young.productservice.dataaccess.config.PublicProductSearchProperties;
+import com.project.young.productservice.dataaccess.projection.PublicProductListProjection;
+import com.project.young.productservice.dataaccess.repository.ProductSearchPage;
+import com.project.young.productservice.dataaccess.repository.PublicProductKeywordSearchStrategy;
+import com.project.young.productservice.dataaccess.repository.PublicProductSearchQueryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryPublicProductSearchIndexAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T00:00:00Z");
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Mock
+    private PublicProductSearchQueryRepository publicProductSearchQueryRepository;
+    @Mock
+    private CategoryReadRepository categoryReadRepository;
+
+    private final MutableClock clock = new MutableClock(NOW);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(categoryReadRepository.existsActiveById(anyLong())).thenAnswer(invocation -> {
+            long categoryId = invocation.getArgument(0);
+            return categoryId == 1L || categoryId == 2L;
+        });
+        lenient().when(categoryReadRepository.findActiveAncestorIds(anyLong())).thenAnswer(invocation -> {
+            long categoryId = invocation.getArgument(0);
+            return categoryId == 2L ? List.of(1L) : List.of();
+        });
+    }
+
+    @Test
+    @DisplayName("IN_MEMORY_INDEX가 아니면 로드·갱신하지 않고 항상 SQL로 넘긴다")
+    void whenStrategyIsNotInMemoryIndex_staysInactive() {
+        InMemoryPublicProductSearchIndexAdapter adapter = adapter(PublicProductKeywordSearchStrategy.NAME_BRAND);
+
+        adapter.loadOnStartup();
+        adapter.refreshProducts(List.of(UUID.randomUUID()));
+
+        assertThat(adapter.search(condition(null, false), PublicProductSort.NEWEST, FIRST_PAGE)).isEmpty();
+        verifyNoInteractions(publicProductSearchQueryRepository);
+    }
+
+    @Test
+    @DisplayName("시작 시 id 순 배치로 products를 읽어 인덱스를 만든다")
+    void loadOnStartup_loadsInIdBatches() {
+        PublicProductListProjection first = row("데님 A", 1L, 1);
+        PublicProductListProjection second = row("데님 B", 1L, 2);
+        PublicProductListProjection third = row("셔츠", 1L, 3);
+        when(publicProductSearchQueryRepository.findIndexRowsAfter(isNull(), eq(2))).thenReturn(List.of(first, second));
+        when(publicProductSearchQueryRepository.findIndexRowsAfter(second.id(), 2)).thenReturn(List.of(third));
+        InMemoryPublicProductSearchIndexAdapter adapter = adapter(PublicProductKeywordSearchStrategy.IN_MEMORY_INDEX);
+
+        adapter.loadOnStartup();
+
+        Optional<ProductSearchPage<PublicProductListProjection>> page =
+                adapter.search(condition("데님", false), PublicProductSort.NEWEST, FIRST_PAGE);
+        assertThat(page).isPresent();
+        assertThat(page.get().getContent()).extracting(PublicProductListProjection::name)
+                .containsExactly("데님 B", "데님 A");
+        assertThat(page.get().getTotalElements()).isEqualTo(2L);
+        assertThat(page.get().getTotalCountMode()).isEqualTo(TotalCountMode.EXACT);
+    }
+
+    @Test
+    @DisplayName("로드 전에는 비어 있고, 실패한 로드는 다음 검색이 다시 시도한다")
+    void search_beforeLoad_returnsEmptyAndRetriesLoad() {
+        when(publicProductSearchQueryRepository.findIndexRowsAfter(isNull(), anyInt()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of(row("데님", 1L, 1)));
+        InMemoryPublicProductSearchIndexAdapter adapter = adapter(PublicProductKeywordSearchStrategy.IN_MEMORY_INDEX);
+
+        adapter.loadOnStartup();
+
+        assertThat(adapter.isLoaded()).isFalse();
+        assertThat(adapter.search(condition(null, false), PublicProductSort.NEWEST, FIRST_PAGE)).isEmpty();
+        assertThat(adapter.isLoaded()).isTrue();
+        assertThat(adapter.search(condition(null, false), PublicProductSort.NEWEST, FIRST_PAGE)).isPresent();
+    }
+
+    @Test
+    @DisplayName("카테고리 범위는 활성 카테고리 스냅샷으로 판단 (하위 포함 시 조상 확인)")
+    void search_resolvesCategoryScopeFromSnapshot() {
+        when(publicProductSearchQueryRepository.findIndexRowsAfter(isNull(), anyInt())).thenReturn(List.of(
+                row("부모", 1L, 1),
+                row("자식", 2L, 2),
+                row("비활성", 3L, 3)
+        ));
+        InMemoryPublicProductSearchIndexAdapter adapter = adapter(PublicProductKeywordSearchStrategy.IN_MEMORY_INDEX);
+        adapter.loadOnStartup();
+
+        assertThat(names(adapter, condition(null, false))).containsExactly("부모");
+        assertThat(names(adapter, condition(null, true))).containsExactly("자식", "부모");
+    }
+
+    @Test
+    @DisplayName("refreshProducts는 변경 상품만 다시 읽어 교체하고 더 이상 노출되지 않으면 제거")
+    void refreshProducts_rereadsChangedRows() {
+        PublicProductListProjection renamed = row("데님", 1L, 1);
+        PublicProductListProjection hidden = row("데님 숨김", 1L, 2);
+        when(publicProductSearchQueryRepository.findIndexRowsAfter(isNull(), anyInt()))
+                .thenReturn(List.of(renamed, hidden));
+        InMemoryPublicProductSearchIndexAdapter adapter = adapter(PublicProductKeywordSearchStrategy.IN_MEMORY_INDEX);
+        adapter.loadOnStartup();
+        when(publicProductSearchQueryRepository.findIndexRowsByIds(anyCollection())).thenReturn(List.of(
+                new PublicProductListProjection(renamed.id(), 1L, "셔츠", "브랜드A", "img", renamed.basePrice(),
+                        renamed.createdAt())
+        ));
+
+        adapter.refreshProducts(List.of(renamed.id(), hidden.id()));
+
+        assertThat(names(adapter, condition("데님", false))).isEmpty();
+        assertThat(names(adapter, condition(null, false))).containsExactly("셔츠");
+    }
+
+    @Test
+    @DisplayName("갱신 실패 시 상품 id를 보관했다가 다음 갱신에서 함께 다시 읽는다")
+    void refreshProducts_whenReloadFails_retriesWithNextChange() {
+        PublicProductListProjection first = row("데님", 1L, 1);
+        PublicProductListProjection second = row("셔츠", 1L, 2);
+        when(publicProductSearchQueryRepository.findIndexRowsAfter(isNull(), anyInt()))
+                .thenReturn(List.of(first, second));
+        InMemoryPublicProductSearchIndexAdapter adapter = adapter(PublicProductKeywordSearchStrategy.IN_MEMORY_INDEX);
+        adapter.loadOnStartup();
+        when(publicProductSearchQueryRepository.findIndexRowsByIds(anyCollection()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of());
+
+        adapter.refreshProducts(List.of(first.id()));
+        assertThat(names(adapter, condition(null, false))).containsExactly("셔츠", "데님");
+
+        adapter.refreshProducts(List.of(second.id()));
+        assertThat(names(adapter, condition(null, false))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("max-age가 지나면 검색이 전체 재로드를 예약한다")
+    void search_afterMaxAge_reloads() {
+        when(publicProductSearchQueryRepository.findIndexRowsAfter(isNull(), anyInt()))
+                .thenReturn(List.of(row("데님", 1L, 1)))
+                .thenReturn(List.of(row("데님", 1L, 1), row("새 상품", 1L, 2)));
+        InMemoryPublicProductSearchIndexAdapter adapter = adapter(PublicProductKeywordSearchStrategy.IN_MEMORY_INDEX);
+        adapter.loadOnStartup();
+
+        clock.set(NOW.plusSeconds(59));
+        adapter.search(condition(null, false), PublicProductSort.NEWEST, FIRST_PAGE);
+        clock.set(NOW.plusSeconds(61));
+        adapter.search(condition(null, false), PublicProductSort.NEWEST, FIRST_PAGE);
+
+        verify(publicProductSearchQueryRepository, times(2)).findIndexRowsAfter(isNull(), anyInt());
+        assertThat(names(adapter, condition(null, false))).containsExactly("새 상품", "데님");
+    }
+
+    private InMemoryPublicProductSearchIndexAdapter adapter(PublicProductKeywordSearchStrategy strategy) {
+        PublicProductSearchProperties properties = PublicProductSearchProperties.builder()
+                .keywordSearch(PublicProductSearchProperties.KeywordSearch.builder()
+                        .strategy(strategy)
+                        .inMemoryIndex(new PublicProductSearchProperties.InMemoryIndex(2, 60L))
+                        .build())
+                .build();
+        return new InMemoryPublicProductSearchIndexAdapter(
+                publicProductSearchQueryRepository, categoryReadRepository, properties, clock, Runnable::run);
+    }
+
+    private static PublicProductSearchCondition condition(String keyword, boolean includeDescendants) {
+        return new PublicProductSearchCondition(1L, keyword, null, null, null, includeDescendants);
+    }
+
+    private static List<String> names(InMemoryPublicProductSearchIndexAdapter adapter,
+                                      PublicProductSearchCondition condition) {
+        return adapter.search(condition, PublicProductSort.NEWEST, FIRST_PAGE).orElseThrow().getContent().stream()
+                .map(PublicProductListProjection::name)
+                .toList();
+    }
+
+    private static PublicProductListProjection row(String name, long categoryId, int createdOffsetSeconds) {
+        return new PublicProductListProjection(
+                UUID.randomUUID(),
+                categoryId,
+                name,
+                "브랜드A",
+                "https://example.com/main.jpg",
+                new BigDecimal("10000"),
+                NOW.minusSeconds(1_000).plusSeconds(createdOffsetSeconds)
+        );
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductSort;
+import com.project.young.productservice.dataaccess.projection.PublicProductListProjection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicProductSearchIndexTest {
+
+    private static final Instant LOADED_AT = Instant.parse("2026-06-01T00:00:00Z");
+    private static final LongPredicate CATEGORY_1 = categoryId -> categoryId == 1L;
+
+    @Test
+    @DisplayName("키워드는 name+brand 부분 문자열로 대소문자 구분 없이 매칭")
+    void search_keywordMatchesNameOrBrandSubstring() {
+        PublicProductSearchIndex index = PublicProductSearchIndex.build(List.of(
+                row("와이드핏 데님", "Levis", "10000", 1),
+                row("코튼 셔츠", "DenimCo", "20000", 2),
+                row("게이밍 노트북", "브랜드B", "30000", 3)
+        ), LOADED_AT);
+
+        assertThat(names(index.search(condition("데님"), PublicProductSort.NEWEST, 0, 10, CATEGORY_1)))
+                .containsExactly("와이드핏 데님");
+        assertThat(names(index.search(condition("DENIM"), PublicProductSort.NEWEST, 0, 10, CATEGORY_1)))
+                .containsExactly("코튼 셔츠");
+        assertThat(names(index.search(condition("핏 데"), PublicProductSort.NEWEST, 0, 10, CATEGORY_1)))
+                .containsExactly("와이드핏 데님");
+    }
+
+    @Test
+    @DisplayName("모든 trigram이 있어도 연속 부분 문자열이 아니면 제외")
+    void search_trigramCandidatesAreConfirmedBySubstring() {
+        PublicProductSearchIndex index = PublicProductSearchIndex.build(List.of(
+                row("abc bcd", "x", "10000", 1),
+                row("abcd", "x", "10000", 2)
+        ), LOADED_AT);
+
+        assertThat(names(index.search(condition("abcd"), PublicProductSort.NEWEST, 0, 10, CATEGORY_1)))
+                .containsExactly("abcd");
+    }
+
+    @Test
+    @DisplayName("trigram보다 짧은 키워드는 전체 스캔으로 매칭")
+    void search_shortKeyword_scans() {
+        PublicProductSearchIndex index = PublicProductSearchIndex.build(List.of(
+                row("데님 팬츠", "a", "10000", 1),
+                row("셔츠", "a", "10000", 2)
+        ), LOADED_AT);
+
+        assertThat(names(index.search(condition("님"), PublicProductSort.NEWEST, 0, 10, CATEGORY_1)))
+                .containsExactly("데님 팬츠");
+    }
+
+    @Test
+    @DisplayName("카테고리·브랜드·가격 필터를 모두 적용 (가격 경계 포함)")
+    void search_appliesCategoryBrandAndPriceFilters() {
+        PublicProductSearchIndex index = PublicProductSearchIndex.build(List.of(
+                row("A", "브랜드A", "10000.00", 1),
+                row("B", "브랜드A", "10000.01", 2),
+                row("C", "브랜드B", "15000", 3),
+                row("D", null, "12000", 4),
+                new PublicProductListProjection(UUID.randomUUID(), 2L, "E", "브랜드A", "img", new BigDecimal("12000"),
+                        LOADED_AT.plusSeconds(5))
+        ), LOADED_AT);
+
+        PublicProductSearchCondition filtered = new PublicProductSearchCondition(
+                1L, null, List.of("브랜드A", " 없는브랜드 "), new BigDecimal("10000.001"), new BigDecimal("15000"));
+
+        PublicProductSearchIndex.Hits hits = index.search(filtered, PublicProductSort.NEWEST, 0, 10, CATEGORY_1);
+
+        assertThat(names(hits)).containsExactly("B");
+        assertThat(hits.total()).isEqualTo(1L);
+        assertThat(index.search(condition(null), PublicProductSort.NEWEST, 0, 10, categoryId -> false).total())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("NEWEST·가격 정렬은 동률을 id 내림차순(unsigned, Postgres uuid 순서)으로 끊는다")
+    void search_sortsWithUnsignedIdTieBreak() {
+        Instant createdAt = LOADED_AT;
+        UUID low = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID high = UUID.fromString("ffffffff-0000-0000-0000-000000000001");
+        PublicProductSearchIndex index = PublicProductSearchIndex.build(List.of(
+                new PublicProductListProjection(low, 1L, "low", "b", "img", new BigDecimal("100"), createdAt),
+                new PublicProductListProjection(high, 1L, "high", "b", "img", new BigDecimal("100"), createdAt),
+                new PublicProductListProjection(UUID.randomUUID(), 1L, "cheap", "b", "img", new BigDecimal("50"),
+                        createdAt.minusSeconds(1))
+        ), LOADED_AT);
+
+        assertThat(names(index.search(condition(null), PublicProductSort.NEWEST, 0, 10, CATEGORY_1)))
+                .containsExactly("high", "low", "cheap");
+        assertThat(names(index.search(condition(null), PublicProductSort.PRICE_ASC, 0, 10, CATEGORY_1)))
+                .containsExactly("cheap", "high", "low");
+        assertThat(names(index.search(condition(null), PublicProductSort.PRICE_DESC, 0, 10, CATEGORY_1)))
+                .containsExactly("high", "low", "cheap");
+    }
+
+    @Test
+    @DisplayName("RELEVANCE는 이름에 키워드가 있는 상품을 먼저, 그다음 최신순")
+    void search_relevance_namesFirstThenNewest() {
+        PublicProductSearchIndex index = PublicProductSearchIndex.build(List.of(
+                row("오래된 데님", "a", "10000", 1),
+                row("셔츠", "데님브랜드", "10000", 3),
+                row("새 데님", "a", "10000", 2)
+        ), LOADED_AT);
+
+        assertThat(names(index.search(condition("데님"), PublicProductSort.RELEVANCE, 0, 10, CATEGORY_1)))
+                .containsExactly("새 데님", "오래된 데님", "셔츠");
+        assertThat(names(index.search(condition(null), PublicProductSort.RELEVANCE, 0, 10, CATEGORY_1)))
+                .containsExactly("셔츠", "새 데님", "오래된 데님");
+    }
+
+    @Test
+    @DisplayName("offset·size로 페이지를 자르고 total은 전체 매칭 수")
+    void search_pagesWithExactTotal() {
+        PublicProductSearchIndex index = PublicProductSearchIndex.build(List.of(
+                row("p1", "a", "10000", 1),
+                row("p2", "a", "10000", 2),
+                row("p3", "a", "10000", 3)
+        ), LOADED_AT);
+
+        PublicProductSearchIndex.Hits second = index.search(condition(null), PublicProductSort.NEWEST, 2, 2, CATEGORY_1);
+        PublicProductSearchIndex.Hits beyond = index.search(condition(null), PublicProductSort.NEWEST, 10, 2, CATEGORY_1);
+
+        assertThat(names(second)).containsExactly("p1");
+        assertThat(second.total()).isEqualTo(3L);
+        assertThat(beyond.content()).isEmpty();
+        assertThat(beyond.total()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("withChanges는 변경된 상품을 다시 읽은 행으로 교체하고 없으면 제거")
+    void withChanges_replacesAndRemovesRows() {
+        PublicProductListProjection kept = row("유지", "a", "10000", 1);
+        PublicProductListProjection renamed = row("데님", "a", "10000", 2);
+        PublicProductListProjection removed = row("삭제 데님", "a", "10000", 3);
+        PublicProductSearchIndex index = PublicProductSearchIndex.build(List.of(kept, renamed, removed), LOADED_AT);
+
+        PublicProductListProjection renamedNow = new PublicProductListProjection(renamed.id(), 1L, "셔츠", "a", "img",
+                renamed.basePrice(), renamed.createdAt());
+        PublicProductSearchIndex changed = index.withChanges(Set.of(renamed.id(), removed.id()), List.of(renamedNow));
+
+        assertThat(names(changed.search(condition("데님"), PublicProductSort.NEWEST, 0, 10, CATEGORY_1))).isEmpty();
+        assertThat(names(changed.search(condition(null), PublicProductSort.NEWEST, 0, 10, CATEGORY_1)))
+                .containsExactly("셔츠", "유지");
+        assertThat(changed.loadedAt()).isEqualTo(LOADED_AT);
+    }
+
+    @Test
+    @DisplayName("연속된 withChanges로 패치한 인덱스는 같은 행으로 새로 build한 인덱스와 모든 정렬에서 결과가 같다")
+    void withChanges_matchesFullBuildForEverySort() {
+        Random random = new Random(42);
+        Map<UUID, PublicProductListProjection> catalog = new LinkedHashMap<>();
+        for (int i = 0; i < 200; i++) {
+            PublicProductListProjection product = randomRow(random, UUID.randomUUID());
+            catalog.put(product.id(), product);
+        }
+        PublicProductSearchIndex patched = PublicProductSearchIndex.build(catalog.values(), LOADED_AT);
+
+        for (int batch = 0; batch < 30; batch++) {
+            List<UUID> ids = new ArrayList<>(catalog.keySet());
+            Set<UUID> changedIds = new HashSet<>();
+            List<PublicProductListProjection> reloaded = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                UUID id = ids.get(random.nextInt(ids.size()));
+                changedIds.add(id);
+                catalog.remove(id);
+                if (random.nextBoolean()) {
+                    PublicProductListProjection product = randomRow(random, id);
+                    catalog.put(id, product);
+                    reloaded.add(product);
+                }
+            }
+            PublicProductListProjection created = randomRow(random, UUID.randomUUID());
+            changedIds.add(created.id());
+            catalog.put(created.id(), created);
+            reloaded.add(created);
+            reloaded.removeIf(product -> !catalog.containsKey(product.id()) || catalog.get(product.id()) != product);
+
+            patched = patched.withChanges(changedIds, reloaded);
+            PublicProductSearchIndex rebuilt = PublicProductSearchIndex.build(catalog.values(), LOADED_AT);
+
+            assertThat(patched.size()).isEqualTo(catalog.size());
+            for (PublicProductSort sort : PublicProductSort.values()) {
+                for (String keyword : new String[]{null, "데님", "denim", "셔"}) {
+                    PublicProductSearchIndex.Hits expected = rebuilt.search(condition(keyword), sort, 0, 500, CATEGORY_1);
+                    PublicProductSearchIndex.Hits actual = patched.search(condition(keyword), sort, 0, 500, CATEGORY_1);
+                    assertThat(actual.content()).as("%s %s", sort, keyword).isEqualTo(expected.content());
+                    assertThat(actual.total()).isEqualTo(expected.total());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("withChanges로 추가된 새 카테고리·브랜드도 필터에 걸린다")
+    void withChanges_extendsCategoryAndBrandDictionaries() {
+        PublicProductSearchIndex index = PublicProductSearchIndex.build(List.of(row("기존", "a", "10000", 1)), LOADED_AT);
+        PublicProductListProjection added = new PublicProductListProjection(UUID.randomUUID(), 2L, "신규", "새브랜드",
+                "img", new BigDecimal("5000"), LOADED_AT.plusSeconds(2));
+
+        PublicProductSearchIndex changed = index.withChanges(Set.of(added.id()), List.of(added));
+
+        PublicProductSearchCondition brandInCategory2 =
+                new PublicProductSearchCondition(2L, null, List.of("새브랜드"), null, null);
+        assertThat(names(changed.search(brandInCategory2, PublicProductSort.NEWEST, 0, 10, categoryId -> categoryId == 2L)))
+                .containsExactly("신규");
+        assertThat(changed.size()).isEqualTo(2);
+    }
+
+    private static PublicProductSearchCondition condition(String keyword) {
+        return new PublicProductSearchCondition(1L, keyword, null, null, null);
+    }
+
+    private static PublicProductListProjection row(String name, String brand, String price, int createdOffsetSeconds) {
+        return new PublicProductListProjection(
+                UUID.randomUUID(),
+                1L,
+                name,
+                brand,
+                "https://example.com/" + name + ".jpg",
+                new BigDecimal(price),
+                LOADED_AT.plusSeconds(createdOffsetSeconds)
+        );
+    }
+
+    private static PublicProductListProjection randomRow(Random random, UUID id) {
+        String[] names = {"데님 자켓", "셔츠", "denim pants", "니트", "와이드 데님"};
+        String[] brands = {"a", "b", "셔츠랩"};
+        return new PublicProductListProjection(
+                id,
+                1L,
+                names[random.nextInt(names.length)],
+                brands[random.nextInt(brands.length)],
+                "img",
+                new BigDecimal(random.nextInt(5) * 1000),
+                LOADED_AT.plusSeconds(random.nextInt(20))
+        );
+    }
+
+    private static List<String> names(PublicProductSearchIndex.Hits hits) {
+        return hits.content().stream().map(PublicProductListProjection::name).toList();
+    }
+}
@@ -0,0 +1,128 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.project.young.productservice.dataaccess.cache.StorefrontProductDetailCacheFormat.BINARY;
+import static com.project.young.productservice.dataaccess.cache.StorefrontProductDetailCacheFormat.JSON;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PDP 캐시 값 코덱 비교: 헤더 없는 JSON({@link ReadProductDetailViewJsonMapper}) vs {@link ReadProductDetailViewCodec}의
+ * JSON/BINARY 포맷과 deflate 압축, variant 수별 encode·decode 시간과 바이트 크기 (수동 실행).
+ *
+ * <pre>
+ * cd product-dataaccess
+ * RUN_PDP_CODEC_BENCHMARK=true mvn test -Dtest=ReadProductDetailViewCodecBenchmarkIT
+ *
+ * Optional:
+ *   BENCHMARK_ITERATIONS=20000   (default 5000, per variant count and codec)
+ * </pre>
+ */
+@EnabledIfEnvironmentVariable(named = "RUN_PDP_CODEC_BENCHMARK", matches = "true")
+class ReadProductDetailViewCodecBenchmarkIT {
+
+    /** (colors, sizes): 1, 12, 48 and 200 variants. */
+    private static final int[][] SHAPES = {{1, 1}, {3, 4}, {6, 8}, {10, 20}};
+    private static final int ITERATIONS = (int) envLong("BENCHMARK_ITERATIONS", 5_000);
+    private static final int COMPRESSION_THRESHOLD_BYTES = 2_048;
+
+    private final ReadProductDetailViewJsonMapper jsonMapper = new ReadProductDetailViewJsonMapper();
+
+    @Test
+    @DisplayName("BINARY 포맷은 variant 수와 무관하게 기존 JSON보다 작고 빠르게 디코딩된다")
+    void compareCodecs() {
+        List<Candidate> candidates = List.of(
+                new Candidate("legacy JSON", new LegacyJson(jsonMapper)),
+                new Candidate("JSON+deflate", codec(JSON, COMPRESSION_THRESHOLD_BYTES)),
+                new Candidate("BINARY", codec(BINARY, 0)),
+                new Candidate("BINARY+deflate", codec(BINARY, COMPRESSION_THRESHOLD_BYTES))
+        );
+
+        System.out.println("=== Storefront PDP cache codec (iterations=" + ITERATIONS + ") ===");
+        System.out.printf("%-9s %-15s %10s %12s %12s%n", "variants", "codec", "bytes", "encode ns", "decode ns");
+        for (int[] shape : SHAPES) {
+            ReadProductDetailView view =
+                    ReadProductDetailViewTestFixtures.detailView(UUID.randomUUID(), shape[0], shape[1]);
+            List<Result> results = new ArrayList<>();
+            for (Candidate candidate : candidates) {
+                Result result = measure(candidate, view);
+                results.add(result);
+                System.out.printf("%-9d %-15s %,10d %,12.0f %,12.0f%n",
+                        view.variants().size(), candidate.name(), result.bytes(), result.encodeNanos(),
+                        result.decodeNanos());
+            }
+            Result legacy = results.getFirst();
+            Result binary = results.get(2);
+            assertThat(binary.bytes()).isLessThan(legacy.bytes());
+            assertThat(binary.decodeNanos()).isLessThan(legacy.decodeNanos());
+        }
+    }
+
+    private Result measure(Candidate candidate, ReadProductDetailView view) {
+        byte[] value = candidate.codec().encode(view);
+        assertThat(candidate.codec().decode(value)).isEqualTo(view);
+
+        long sink = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += candidate.codec().encode(view).length;
+            sink += candidate.codec().decode(value).variants().size();
+        }
+
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += candidate.codec().encode(view).length;
+        }
+        long encodeNanos = System.nanoTime() - started;
+
+        started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += candidate.codec().decode(value).variants().size();
+        }
+        long decodeNanos = System.nanoTime() - started;
+
+        assertThat(sink).isPositive();
+        return new Result(value.length, encodeNanos / (double) ITERATIONS, decodeNanos / (double) ITERATIONS);
+    }
+
+    private ReadProductDetailViewCodec codec(StorefrontProductDetailCacheFormat format, int thresholdBytes) {
+        return new ReadProductDetailViewCodec(format, thresholdBytes, jsonMapper);
+    }
+
+    private static long envLong(String name, long defaultValue) {
+        String raw = System.getenv(name);
+        return raw == null || raw.isBlank() ? defaultValue : Long.parseLong(raw.trim());
+    }
+
+    /**
+     * Value as written before the codec existed: UTF-8 JSON without a header.
+     */
+    private static final class LegacyJson extends ReadProductDetailViewCodec {
+
+        private final ReadProductDetailViewJsonMapper jsonMapper;
+
+        LegacyJson(ReadProductDetailViewJsonMapper jsonMapper) {
+            super(JSON, 0, jsonMapper);
+            this.jsonMapper = jsonMapper;
+        }
+
+        @Override
+        public byte[] encode(ReadProductDetailView view) {
+            return jsonMapper.toJson(view).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private record Candidate(String name, ReadProductDetailViewCodec codec) {
+    }
+
+    private record Result(int bytes, double encodeNanos, double decodeNanos) {
+    }
+}
@@ -0,0 +1,189 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.application.port.output.view.ReadProductVariantView;
+import com.project.young.productservice.application.support.ContentVersions;
+import com.project.young.productservice.domain.valueobject.ProductStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReadProductDetailViewCodecTest {
+
+    private final ReadProductDetailViewJsonMapper jsonMapper = new ReadProductDetailViewJsonMapper();
+
+    @Test
+    @DisplayName("BINARY: 중첩된 옵션·variant·이미지와 BigDecimal scale까지 그대로 복원한다")
+    void binary_roundTripsFullView() {
+        ReadProductDetailView view = ReadProductDetailViewTestFixtures.detailView(UUID.randomUUID(), 4, 6);
+        ReadProductDetailViewCodec codec = codec(StorefrontProductDetailCacheFormat.BINARY, 0);
+
+        byte[] value = codec.encode(view);
+
+        assertThat(value[0]).isEqualTo(ReadProductDetailViewCodec.MAGIC);
+        assertThat(value[1]).isEqualTo((byte) ReadProductDetailViewCodec.HeaderVersion.BINARY_V3.id());
+        ReadProductDetailView decoded = codec.decode(value);
+        assertThat(decoded).isEqualTo(view);
+        assertThat(decoded.basePrice().scale()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("BINARY: null 필드와 빈 컬렉션을 구분해 복원한다")
+    void binary_roundTripsNullFields() {
+        ReadProductDetailView view = ReadProductDetailView.builder()
+                .id(UUID.randomUUID())
+                .name("이름만 있는 상품")
+                .variants(List.of(ReadProductVariantView.builder()
+                        .productVariantId(UUID.randomUUID())
+                        .stockQuantity(-1)
+                        .status(ProductStatus.INACTIVE)
+                        .build()))
+                .build();
+        ReadProductDetailViewCodec codec = codec(StorefrontProductDetailCacheFormat.BINARY, 0);
+
+        assertThat(codec.decode(codec.encode(view))).isEqualTo(view);
+    }
+
+    @Test
+    @DisplayName("BINARY 값은 같은 view의 JSON보다 작다")
+    void binary_isSmallerThanJson() {
+        ReadProductDetailView view = ReadProductDetailViewTestFixtures.detailView(UUID.randomUUID(), 4, 6);
+
+        int binary = codec(StorefrontProductDetailCacheFormat.BINARY, 0).encode(view).length;
+        int json = codec(StorefrontProductDetailCacheFormat.JSON, 0).encode(view).length;
+
+        assertThat(binary).isLessThan(json * 3 / 4);
+    }
+
+    @Test
+    @DisplayName("임계치 이상인 본문만 압축하고, 압축된 값도 복원한다")
+    void encode_compressesOnlyAboveThreshold() {
+        ReadProductDetailView small = ReadProductDetailViewTestFixtures.detailView(UUID.randomUUID(), 1, 1);
+        ReadProductDetailView large = ReadProductDetailViewTestFixtures.detailView(UUID.randomUUID(), 8, 10);
+        ReadProductDetailViewCodec codec = codec(StorefrontProductDetailCacheFormat.JSON, 4_096);
+
+        byte[] smallValue = codec.encode(small);
+        byte[] largeValue = codec.encode(large);
+
+        assertThat(smallValue[2] & ReadProductDetailViewCodec.FLAG_DEFLATED).isZero();
+        assertThat(largeValue[2] & ReadProductDetailViewCodec.FLAG_DEFLATED).isNotZero();
+        assertThat(largeValue.length).isLessThan(jsonMapper.toJson(large).length());
+        assertThat(codec.decode(largeValue)).isEqualTo(large);
+    }
+
+    @Test
+    @DisplayName("쓰기 포맷과 무관하게 JSON·BINARY 값과 헤더 없는 기존 JSON 값을 모두 읽는다")
+    void decode_readsEveryKnownFormat() {
+        ReadProductDetailView view = ReadProductDetailViewTestFixtures.detailView(UUID.randomUUID(), 2, 3);
+        ReadProductDetailViewCodec binaryWriter = codec(StorefrontProductDetailCacheFormat.BINARY, 1_024);
+        ReadProductDetailViewCodec jsonWriter = codec(StorefrontProductDetailCacheFormat.JSON, 1_024);
+        byte[] legacyJson = jsonMapper.toJson(view).getBytes(StandardCharsets.UTF_8);
+
+        assertThat(binaryWriter.decode(jsonWriter.encode(view))).isEqualTo(view);
+        assertThat(jsonWriter.decode(binaryWriter.encode(view))).isEqualTo(view);
+        assertThat(binaryWriter.decode(legacyJson)).isEqualTo(view);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 버전이나 잘린 값은 IllegalStateException으로 거부한다")
+    void decode_rejectsUnknownVersionAndTruncatedValue() {
+        ReadProductDetailViewCodec codec = codec(StorefrontProductDetailCacheFormat.BINARY, 0);
+        byte[] value = codec.encode(ReadProductDetailViewTestFixtures.detailView(UUID.randomUUID(), 2, 2));
+
+        byte[] unknownVersion = value.clone();
+        unknownVersion[1] = 99;
+        byte[] truncated = Arrays.copyOf(value, value.length / 2);
+
+        assertThatThrownBy(() -> codec.decode(unknownVersion)).isInstanceOf(IllegalStateException.class);
+        assertThat(codec.peekContentVersion(unknownVersion)).isNull();
+        assertThatThrownBy(() -> codec.decode(truncated)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> codec.decode(new byte[]{1, 2})).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("이전 헤더 레이아웃 버전 값도 읽고, 그 버전에 없던 플래그가 붙은 값은 거부한다")
+    void decode_readsOlderLayoutsAndRejectsFlagsTheyCannotCarry() {
+        ReadProductDetailView view = ReadProductDetailViewTestFixtures.detailView(UUID.randomUUID(), 2, 2);
+        ReadProductDetailViewCodec codec = codec(StorefrontProductDetailCacheFormat.BINARY, 0);
+        StorefrontProductDetailCacheEntry entry =
+                new StorefrontProductDetailCacheEntry(view, 42, 1_800_000_000_000L, ContentVersions.of(view));
+
+        byte[] bodyOnly = codec.encode(view);
+        bodyOnly[1] = (byte) ReadProductDetailViewCodec.HeaderVersion.BINARY_V1.id();
+        byte[] withMetadata = codec.encodeEntry(entry);
+        byte[] metadataUnderV2 = withMetadata.clone();
+        metadataUnderV2[1] = (byte) ReadProductDetailViewCodec.HeaderVersion.BINARY_V2.id();
+        byte[] metadataUnderV1 = withMetadata.clone();
+        metadataUnderV1[1] = (byte) ReadProductDetailViewCodec.HeaderVersion.BINARY_V1.id();
+
+        assertThat(codec.decode(bodyOnly)).isEqualTo(view);
+        assertThatThrownBy(() -> codec.decode(metadataUnderV2)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> codec.decode(metadataUnderV1)).isInstanceOf(IllegalStateException.class);
+        assertThat(codec.peekContentVersion(metadataUnderV2)).isNull();
+    }
+
+    @Test
+    @DisplayName("early refresh 메타데이터(만료 시각, 로드 시간)를 압축 여부와 무관하게 복원하고, 없으면 0으로 읽는다")
+    void entry_roundTripsRefreshMetadata() {
+        ReadProductDetailView view = ReadProductDetailViewTestFixtures.detailView(UUID.randomUUID(), 8, 10);
+        ReadProductDetailViewCodec codec = codec(StorefrontProductDetailCacheFormat.BINARY, 1_024);
+        StorefrontProductDetailCacheEntry entry = new StorefrontProductDetailCacheEntry(view, 42, 1_800_000_000_000L);
+
+        byte[] value = codec.encodeEntry(entry);
+
+        assertThat(value[2] & ReadProductDetailViewCodec.FLAG_REFRESH_METADATA).isNotZero();
+        assertThat(value[2] & ReadProductDetailViewCodec.FLAG_DEFLATED).isNotZero();
+        assertThat(codec.decodeEntry(value)).isEqualTo(entry);
+        assertThat(codec.decode(value)).isEqualTo(view);
+        assertThat(codec.decodeEntry(codec.encode(view)).hasRefreshMetadata()).isFalse();
+    }
+
+    @Test
+    @DisplayName("content version은 JSON·BINARY 모두 복원되고, 앞부분 바이트만으로 본문 디코딩 없이 읽을 수 있다")
+    void entry_contentVersionIsReadableFromPrefix() {
+        ReadProductDetailView view = ReadProductDetailViewTestFixtures.detailView(UUID.randomUUID(), 4, 4);
+        String version = ContentVersions.of(view);
+        StorefrontProductDetailCacheEntry withRefresh =
+                new StorefrontProductDetailCacheEntry(view, 42, 1_800_000_000_000L, version);
+        StorefrontProductDetailCacheEntry versionOnly = new StorefrontProductDetailCacheEntry(view, 0, 0, version);
+
+        for (StorefrontProductDetailCacheFormat format : StorefrontProductDetailCacheFormat.values()) {
+            ReadProductDetailViewCodec codec = codec(format, 1_024);
+            for (StorefrontProductDetailCacheEntry entry : List.of(withRefresh, versionOnly)) {
+                byte[] value = codec.encodeEntry(entry);
+                byte[] prefix = Arrays.copyOf(value, ReadProductDetailViewCodec.VERSION_PREFIX_LENGTH);
+
+                assertThat(codec.decodeEntry(value)).isEqualTo(entry);
+                assertThat(codec.peekContentVersion(prefix)).isEqualTo(version);
+            }
+            assertThat(codec.peekContentVersion(codec.encode(view))).isNull();
+        }
+        assertThat(codec(StorefrontProductDetailCacheFormat.JSON, 0)
+                .peekContentVersion(jsonMapper.toJson(view).getBytes(StandardCharsets.UTF_8))).isNull();
+        assertThat(codec(StorefrontProductDetailCacheFormat.JSON, 0).peekContentVersion(new byte[0])).isNull();
+    }
+
+    @Test
+    @DisplayName("BigDecimal 음수·큰 값도 unscaled value와 scale로 복원한다")
+    void binary_roundTripsDecimals() {
+        ReadProductDetailView view = ReadProductDetailView.builder()
+                .id(UUID.randomUUID())
+                .basePrice(new BigDecimal("-12345678901234567890.123"))
+                .build();
+        ReadProductDetailViewCodec codec = codec(StorefrontProductDetailCacheFormat.BINARY, 0);
+
+        assertThat(codec.decode(codec.encode(view)).basePrice()).isEqualTo(view.basePrice());
+    }
+
+    private ReadProductDetailViewCodec codec(StorefrontProductDetailCacheFormat format, int compressionThresholdBytes) {
+        return new ReadProductDetailViewCodec(format, compressionThresholdBytes, jsonMapper);
+    }
+}
@@ -0,0 +1,115 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.application.port.output.view.ReadProductImageView;
+import com.project.young.productservice.application.port.output.view.ReadProductOptionGroupView;
+import com.project.young.productservice.application.port.output.view.ReadProductOptionValueView;
+import com.project.young.productservice.application.port.output.view.ReadProductVariantView;
+import com.project.young.productservice.domain.valueobject.ConditionType;
+import com.project.young.productservice.domain.valueobject.OptionStatus;
+import com.project.young.productservice.domain.valueobject.ProductStatus;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class ReadProductDetailViewTestFixtures {
+
+    private ReadProductDetailViewTestFixtures() {
+    }
+
+    /**
+     * Color x size product: {@code colors * sizes} variants, two images per color value (the image-driving group).
+     */
+    static ReadProductDetailView detailView(UUID productId, int colors, int sizes) {
+        List<ReadProductOptionValueView> colorValues = new ArrayList<>();
+        for (int c = 0; c < colors; c++) {
+            colorValues.add(optionValue("색상-" + c, BigDecimal.ZERO, c == 0, List.of(
+                    image("https://cdn.example.com/products/" + productId + "/color-" + c + "-front.jpg", "MAIN", 0),
+                    image("https://cdn.example.com/products/" + productId + "/color-" + c + "-back.jpg", "GALLERY", 1)
+            )));
+        }
+        List<ReadProductOptionValueView> sizeValues = new ArrayList<>();
+        for (int s = 0; s < sizes; s++) {
+            sizeValues.add(optionValue("사이즈-" + (220 + s * 5), BigDecimal.valueOf(s * 500L), s == 0, List.of()));
+        }
+
+        List<ReadProductVariantView> variants = new ArrayList<>();
+        for (int c = 0; c < colors; c++) {
+            for (int s = 0; s < sizes; s++) {
+                variants.add(ReadProductVariantView.builder()
+                        .productVariantId(UUID.randomUUID())
+                        .sku("SKU-" + productId.toString().substring(0, 8) + "-" + c + "-" + s)
+                        .stockQuantity((c * 7 + s * 3) % 50)
+                        .status(ProductStatus.ACTIVE)
+                        .calculatedPrice(new BigDecimal("59000.00").add(BigDecimal.valueOf(s * 500L)))
+                        .mainImageUrl(colorValues.get(c).images().getFirst().publicUrl())
+                        .selectedProductOptionValueIds(List.of(
+                                colorValues.get(c).productOptionValueId(),
+                                sizeValues.get(s).productOptionValueId()))
+                        .build());
+            }
+        }
+
+        return ReadProductDetailView.builder()
+                .id(productId)
+                .categoryId(4L)
+                .name("러닝화 " + productId.toString().substring(0, 8))
+                .description("통기성 좋은 메쉬 갑피와 쿠셔닝 미드솔. ".repeat(20))
+                .brand("브랜드A")
+                .mainImageUrl("https://cdn.example.com/products/" + productId + "/main.jpg")
+                .basePrice(new BigDecimal("59000.00"))
+                .status(ProductStatus.ACTIVE)
+                .conditionType(ConditionType.NEW)
+                .images(List.of(
+                        image("https://cdn.example.com/products/" + productId + "/main.jpg", "MAIN", 0),
+                        image("https://cdn.example.com/products/" + productId + "/detail.jpg", "GALLERY", 1)))
+                .optionGroups(List.of(
+                        optionGroup("color", "색상", 1, true, colorValues),
+                        optionGroup("size", "사이즈", 2, false, sizeValues)))
+                .variants(variants)
+                .build();
+    }
+
+    private static ReadProductOptionGroupView optionGroup(
+            String groupKey,
+            String displayName,
+            double stepOrder,
+            boolean drivesVariantImages,
+            List<ReadProductOptionValueView> values
+    ) {
+        return ReadProductOptionGroupView.builder()
+                .productOptionGroupId(UUID.randomUUID())
+                .optionGroupId(UUID.randomUUID())
+                .groupKey(groupKey)
+                .displayName(displayName)
+                .stepOrder(stepOrder)
+                .required(true)
+                .drivesVariantImages(drivesVariantImages)
+                .status(OptionStatus.ACTIVE)
+                .optionValues(values)
+                .build();
+    }
+
+    private static ReadProductOptionValueView optionValue(
+            String displayName,
+            BigDecimal priceDelta,
+            boolean isDefault,
+            List<ReadProductImageView> images
+    ) {
+        return ReadProductOptionValueView.builder()
+                .productOptionValueId(UUID.randomUUID())
+                .optionValueId(UUID.randomUUID())
+                .displayName(displayName)
+                .priceDelta(priceDelta)
+                .isDefault(isDefault)
+                .status(OptionStatus.ACTIVE)
+                .images(images)
+                .build();
+    }
+
+    private static ReadProductImageView image(String publicUrl, String role, int sortOrder) {
+        return new ReadProductImageView(UUID.randomUUID(), publicUrl, role, "ACTIVE", sortOrder);
+    }
+}
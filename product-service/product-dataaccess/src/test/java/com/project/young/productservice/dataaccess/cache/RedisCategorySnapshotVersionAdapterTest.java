@@ -0,0 +1,92 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.dataaccess.config.CategorySnapshotProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisCategorySnapshotVersionAdapterTest {
+
+    private static final String VERSION_KEY = "ecomart:product:category-snapshot:version";
+    private static final String CHANNEL = "ecomart:product:category-snapshot:changed";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private CategorySnapshotCache categorySnapshotCache;
+    private RedisCategorySnapshotVersionAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        CategorySnapshotProperties properties = new CategorySnapshotProperties();
+        properties.setVersionKey(VERSION_KEY);
+        properties.setChannel(CHANNEL);
+        categorySnapshotCache = new CategorySnapshotCache(properties);
+        adapter = new RedisCategorySnapshotVersionAdapter(stringRedisTemplate, properties, categorySnapshotCache);
+    }
+
+    @Test
+    @DisplayName("bumpVersion: 버전 키를 INCR하고 새 버전을 채널로 발행한다")
+    void bumpVersion_incrementsKeyAndPublishes() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment(VERSION_KEY)).thenReturn(7L);
+
+        adapter.bumpVersion();
+
+        assertThat(categorySnapshotCache.requiredVersion()).isEqualTo(7L);
+        verify(stringRedisTemplate).convertAndSend(CHANNEL, "7");
+    }
+
+    @Test
+    @DisplayName("onMessage: 수신한 버전으로 required version을 올리고 되돌리지 않는다")
+    void onMessage_advancesRequiredVersionMonotonically() {
+        adapter.onMessage(message("12"), null);
+        adapter.onMessage(message("3"), null);
+
+        assertThat(categorySnapshotCache.requiredVersion()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("pollVersion: 누락된 pub/sub 메시지를 버전 키 조회로 따라잡는다")
+    void pollVersion_readsVersionKey() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(VERSION_KEY)).thenReturn("4");
+
+        adapter.pollVersion();
+
+        assertThat(categorySnapshotCache.requiredVersion()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("pollVersion: Redis 장애 시 예외를 전파하지 않는다")
+    void pollVersion_whenRedisFails_doesNotPropagate() {
+        when(stringRedisTemplate.opsForValue()).thenThrow(new RuntimeException("redis down"));
+
+        assertThatCode(() -> adapter.pollVersion()).doesNotThrowAnyException();
+        assertThat(categorySnapshotCache.requiredVersion()).isZero();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -2,69 +2,116 @@ package com.project.young.productservice.dataaccess.cache;
 
 import com.project.young.common.domain.valueobject.ProductId;
 import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.application.support.ContentVersions;
 import com.project.young.productservice.dataaccess.config.StorefrontProductCacheProperties;
 import com.project.young.productservice.domain.valueobject.ConditionType;
 import com.project.young.productservice.domain.valueobject.ProductStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 @ExtendWith(MockitoExtension.class)
 class RedisStorefrontProductDetailCacheAdapterTest {
 
     private static final String KEY_PREFIX = "ecomart:product:storefront:";
+    private static final String EVICT_CHANNEL = "ecomart:product:storefront:evicted";
+    private static final String FILL_CHANNEL = "ecomart:product:storefront:filled";
 
     @Mock
     private StringRedisTemplate stringRedisTemplate;
 
     @Mock
-    private ValueOperations<String, String> valueOperations;
+    private RedisTemplate<String, byte[]> valueRedisTemplate;
 
     @Mock
-    private ReadProductDetailViewJsonMapper jsonMapper;
+    private ValueOperations<String, byte[]> valueOperations;
+
+    @Mock
+    private ValueOperations<String, String> lockOperations;
+
+    @Mock
+    private ReadProductDetailViewCodec codec;
 
     private StorefrontProductCacheProperties properties;
     private RedisStorefrontProductDetailCacheAdapter adapter;
+    private StorefrontProductDetailLocalCache localCache;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
         properties = new StorefrontProductCacheProperties();
         properties.setKeyPrefix(KEY_PREFIX);
         properties.setTtlSeconds(900);
         properties.setTtlJitterSeconds(0);
         properties.setLockTtlSeconds(10);
-        properties.setLockWaitRetries(0);
-        properties.setLockWaitMillis(0);
+        properties.setFillChannel(FILL_CHANNEL);
+        properties.setFillWaitMillis(0);
 
         adapter = new RedisStorefrontProductDetailCacheAdapter(
                 stringRedisTemplate,
+                valueRedisTemplate,
                 properties,
-                jsonMapper
+                codec,
+                meterRegistry
         );
     }
 
     private void stubValueOperations() {
-        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    private void stubLockOperations() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(lockOperations);
     }
 
     @Test
@@ -78,39 +125,51 @@ class RedisStorefrontProductDetailCacheAdapterTest {
     }
 
     @Test
-    @DisplayName("findCached: blank JSON이면 empty를 반환한다")
-    void findCached_whenBlankJson_returnsEmpty() {
+    @DisplayName("findCached: 빈 값이면 empty를 반환한다")
+    void findCached_whenEmptyValue_returnsEmpty() {
+        stubValueOperations();
+        ProductId productId = new ProductId(UUID.randomUUID());
+        when(valueOperations.get(cacheKey(productId))).thenReturn(new byte[0]);
+
+        assertThat(adapter.findCached(productId)).isEmpty();
+        verify(codec, never()).decodeEntry(any());
+    }
+
+    @Test
+    @DisplayName("findCached: 읽을 수 없는 포맷의 값은 miss로 취급한다")
+    void findCached_whenUndecodable_returnsEmpty() {
         stubValueOperations();
         ProductId productId = new ProductId(UUID.randomUUID());
-        when(valueOperations.get(cacheKey(productId))).thenReturn("   ");
+        byte[] value = {ReadProductDetailViewCodec.MAGIC, 99, 0};
+        when(valueOperations.get(cacheKey(productId))).thenReturn(value);
+        when(codec.decodeEntry(value)).thenThrow(new IllegalStateException("Unknown storefront PDP cache format"));
 
         assertThat(adapter.findCached(productId)).isEmpty();
-        verify(jsonMapper, never()).fromJson(any());
     }
 
     @Test
-    @DisplayName("findCached: 캐시 hit이면 역직렬화한 view를 반환한다")
+    @DisplayName("findCached: 캐시 hit이면 디코딩한 view를 반환한다")
     void findCached_whenHit_returnsView() {
         stubValueOperations();
         ProductId productId = new ProductId(UUID.randomUUID());
         ReadProductDetailView view = sampleView(productId.getValue());
-        String json = "{\"id\":\"" + productId.getValue() + "\"}";
+        byte[] json = bytes("{\"id\":\"" + productId.getValue() + "\"}");
 
         when(valueOperations.get(cacheKey(productId))).thenReturn(json);
-        when(jsonMapper.fromJson(json)).thenReturn(view);
+        when(codec.decodeEntry(json)).thenReturn(StorefrontProductDetailCacheEntry.withoutRefreshMetadata(view));
 
         assertThat(adapter.findCached(productId)).contains(view);
     }
 
     @Test
-    @DisplayName("put: JSON과 TTL로 Redis에 저장한다")
+    @DisplayName("put: 인코딩한 값과 TTL로 Redis에 저장한다")
     void put_storesJsonWithTtl() {
         stubValueOperations();
         ProductId productId = new ProductId(UUID.randomUUID());
         ReadProductDetailView view = sampleView(productId.getValue());
-        String json = "{\"name\":\"Preview Product\"}";
+        byte[] json = bytes("{\"name\":\"Preview Product\"}");
 
-        when(jsonMapper.toJson(view)).thenReturn(json);
+        when(codec.encodeEntry(entryOf(view))).thenReturn(json);
 
         adapter.put(productId, view);
 
@@ -137,10 +196,10 @@ class RedisStorefrontProductDetailCacheAdapterTest {
         stubValueOperations();
         ProductId productId = new ProductId(UUID.randomUUID());
         ReadProductDetailView cached = sampleView(productId.getValue());
-        String json = "{\"cached\":true}";
+        byte[] json = bytes("{\"cached\":true}");
 
         when(valueOperations.get(cacheKey(productId))).thenReturn(json);
-        when(jsonMapper.fromJson(json)).thenReturn(cached);
+        when(codec.decodeEntry(json)).thenReturn(StorefrontProductDetailCacheEntry.withoutRefreshMetadata(cached));
 
         Supplier<Optional<ReadProductDetailView>> loader = () -> {
             throw new AssertionError("loader must not be called on cache hit");
@@ -153,34 +212,234 @@ class RedisStorefrontProductDetailCacheAdapterTest {
     @DisplayName("getOrLoad: miss 후 lock 획득 시 loader 결과를 캐시에 저장한다")
     void getOrLoad_whenLockAcquired_loadsAndCaches() {
         stubValueOperations();
+        stubLockOperations();
         ProductId productId = new ProductId(UUID.randomUUID());
         ReadProductDetailView loaded = sampleView(productId.getValue());
-        String json = "{\"loaded\":true}";
+        byte[] json = bytes("{\"loaded\":true}");
 
         when(valueOperations.get(cacheKey(productId))).thenReturn(null);
-        when(valueOperations.setIfAbsent(eq(lockKey(productId)), any(), eq(Duration.ofSeconds(10))))
+        when(lockOperations.setIfAbsent(eq(lockKey(productId)), any(), eq(Duration.ofSeconds(10))))
                 .thenReturn(true);
-        when(jsonMapper.toJson(loaded)).thenReturn(json);
+        when(codec.encodeEntry(entryOf(loaded))).thenReturn(json);
 
         Optional<ReadProductDetailView> result = adapter.getOrLoad(productId, () -> Optional.of(loaded));
 
         assertThat(result).contains(loaded);
         verify(valueOperations).set(cacheKey(productId), json, Duration.ofSeconds(900));
         verify(stringRedisTemplate).execute(any(DefaultRedisScript.class), eq(List.of(lockKey(productId))), any());
+        verify(stringRedisTemplate).convertAndSend(FILL_CHANNEL, productId.getValue().toString());
+    }
+
+    @Test
+    @DisplayName("getOrLoad: lock 미획득 시 다른 인스턴스의 fill 알림을 받으면 Redis 값을 읽고 loader를 호출하지 않는다")
+    void getOrLoad_whenLockNotAcquired_waitsForFillInsteadOfLoading() {
+        stubValueOperations();
+        stubLockOperations();
+        properties.setFillWaitMillis(5_000);
+        ProductId productId = new ProductId(UUID.randomUUID());
+        ReadProductDetailView filled = sampleView(productId.getValue());
+        byte[] json = bytes("{\"filled\":true}");
+
+        when(valueOperations.get(cacheKey(productId)))
+                .thenReturn(null)
+                .thenAnswer(invocation -> {
+                    // The lock holder on another instance stores the value and announces it while we wait.
+                    adapter.onMessage(new DefaultMessage(
+                            FILL_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                            productId.getValue().toString().getBytes(StandardCharsets.UTF_8)), null);
+                    return null;
+                })
+                .thenReturn(json);
+        when(lockOperations.setIfAbsent(eq(lockKey(productId)), any(), eq(Duration.ofSeconds(10))))
+                .thenReturn(false);
+        when(codec.decodeEntry(json)).thenReturn(StorefrontProductDetailCacheEntry.withoutRefreshMetadata(filled));
+
+        Optional<ReadProductDetailView> result = adapter.getOrLoad(productId, () -> {
+            throw new AssertionError("loader must not be called once another instance filled the cache");
+        });
+
+        assertThat(result).contains(filled);
+        verify(valueOperations, never()).set(eq(cacheKey(productId)), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("getOrLoad: 두 인스턴스에 동시에 몰린 수백 건의 miss도 DB 로드는 인스턴스당 최대 한 번, 전체 한 번이다")
+    void getOrLoad_concurrentMissesAcrossInstances_loadOncePerInstance() throws Exception {
+        properties.setFillWaitMillis(5_000);
+        Map<String, Object> redis = new ConcurrentHashMap<>();
+        List<RedisStorefrontProductDetailCacheAdapter> instances = new CopyOnWriteArrayList<>();
+        StringRedisTemplate sharedStrings = fakeStringRedis(redis, instances);
+        RedisTemplate<String, byte[]> sharedValues = fakeValueRedis(redis);
+        ReadProductDetailViewCodec realCodec = new ReadProductDetailViewCodec(
+                StorefrontProductDetailCacheFormat.BINARY, 2_048, new ReadProductDetailViewJsonMapper());
+        RedisStorefrontProductDetailCacheAdapter instanceA = new RedisStorefrontProductDetailCacheAdapter(
+                sharedStrings, sharedValues, properties, realCodec, new SimpleMeterRegistry());
+        RedisStorefrontProductDetailCacheAdapter instanceB = new RedisStorefrontProductDetailCacheAdapter(
+                sharedStrings, sharedValues, properties, realCodec, new SimpleMeterRegistry());
+        instances.add(instanceA);
+        instances.add(instanceB);
+
+        ProductId productId = new ProductId(UUID.randomUUID());
+        AtomicInteger loadsA = new AtomicInteger();
+        AtomicInteger loadsB = new AtomicInteger();
+        int callersPerInstance = 200;
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Optional<ReadProductDetailView>>> results = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < callersPerInstance; i++) {
+                results.add(callers.submit(() -> {
+                    start.await();
+                    return instanceA.getOrLoad(productId, slowLoader(productId, loadsA));
+                }));
+                results.add(callers.submit(() -> {
+                    start.await();
+                    return instanceB.getOrLoad(productId, slowLoader(productId, loadsB));
+                }));
+            }
+            start.countDown();
+            for (Future<Optional<ReadProductDetailView>> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS))
+                        .map(ReadProductDetailView::id)
+                        .contains(productId.getValue());
+            }
+        }
+
+        assertThat(loadsA.get()).isLessThanOrEqualTo(1);
+        assertThat(loadsB.get()).isLessThanOrEqualTo(1);
+        assertThat(loadsA.get() + loadsB.get()).isEqualTo(1);
+        assertThat(redis).containsKey(cacheKey(productId)).doesNotContainKey(lockKey(productId));
+    }
+
+    @Test
+    @DisplayName("metrics: 두 인스턴스에 몰린 stampede에서 모든 조회가 hit/miss로 집계되고 DB 로드·값 기록은 한 번, lock 대기 timeout은 없다")
+    void metrics_underStampede_countLookupsLockAndSingleLoad() throws Exception {
+        properties.setFillWaitMillis(5_000);
+        Map<String, Object> redis = new ConcurrentHashMap<>();
+        List<RedisStorefrontProductDetailCacheAdapter> instances = new CopyOnWriteArrayList<>();
+        StringRedisTemplate sharedStrings = fakeStringRedis(redis, instances);
+        RedisTemplate<String, byte[]> sharedValues = fakeValueRedis(redis);
+        ReadProductDetailViewCodec realCodec = new ReadProductDetailViewCodec(
+                StorefrontProductDetailCacheFormat.BINARY, 2_048, new ReadProductDetailViewJsonMapper());
+        SimpleMeterRegistry registryA = new SimpleMeterRegistry();
+        SimpleMeterRegistry registryB = new SimpleMeterRegistry();
+        RedisStorefrontProductDetailCacheAdapter instanceA = new RedisStorefrontProductDetailCacheAdapter(
+                sharedStrings, sharedValues, properties, realCodec, registryA);
+        RedisStorefrontProductDetailCacheAdapter instanceB = new RedisStorefrontProductDetailCacheAdapter(
+                sharedStrings, sharedValues, properties, realCodec, registryB);
+        instances.add(instanceA);
+        instances.add(instanceB);
+
+        ProductId productId = new ProductId(UUID.randomUUID());
+        AtomicInteger loads = new AtomicInteger();
+        int callersPerInstance = 200;
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Optional<ReadProductDetailView>>> results = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < callersPerInstance; i++) {
+                results.add(callers.submit(() -> {
+                    start.await();
+                    return instanceA.getOrLoad(productId, slowLoader(productId, loads));
+                }));
+                results.add(callers.submit(() -> {
+                    start.await();
+                    return instanceB.getOrLoad(productId, slowLoader(productId, loads));
+                }));
+            }
+            start.countDown();
+            for (Future<Optional<ReadProductDetailView>> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isPresent();
+            }
+        }
+
+        List<MeterRegistry> registries = List.of(registryA, registryB);
+        double l2Hits = counter(registries, StorefrontProductDetailCacheMetrics.LOOKUPS, "result", "l2_hit");
+        double misses = counter(registries, StorefrontProductDetailCacheMetrics.LOOKUPS, "result", "miss");
+        assertThat(l2Hits + misses).isEqualTo(2.0 * callersPerInstance);
+        assertThat(misses).isGreaterThanOrEqualTo(1.0);
+        assertThat(counter(registries, StorefrontProductDetailCacheMetrics.LOCK, "outcome", "acquired"))
+                .isGreaterThanOrEqualTo(1.0);
+        assertThat(counter(registries, StorefrontProductDetailCacheMetrics.LOCK, "outcome", "timed_out")).isZero();
+        assertThat(loads).hasValue(1);
+        assertThat(registries.stream()
+                .mapToLong(registry -> registry.get(StorefrontProductDetailCacheMetrics.LOAD)
+                        .tag("trigger", "miss").timer().count())
+                .sum()).isEqualTo(1L);
+        assertThat(registries.stream()
+                .mapToLong(registry -> registry.get(StorefrontProductDetailCacheMetrics.VALUE_SIZE)
+                        .summary().count())
+                .sum()).isEqualTo(1L);
+        assertThat(registries.stream()
+                .mapToDouble(registry -> registry.get(StorefrontProductDetailCacheMetrics.VALUE_SIZE)
+                        .summary().totalAmount())
+                .sum()).isEqualTo(((byte[]) redis.get(cacheKey(productId))).length);
+    }
+
+    @Test
+    @DisplayName("metrics: lock 경합 후 fill 대기가 끝나면 contended·timed_out·miss 로드와 기록한 값 크기를 남긴다")
+    void metrics_whenFillWaitExhausted_countsContendedAndTimedOut() {
+        stubValueOperations();
+        stubLockOperations();
+        ProductId productId = new ProductId(UUID.randomUUID());
+        ReadProductDetailView loaded = sampleView(productId.getValue());
+        byte[] json = bytes("{\"loaded\":true}");
+        when(valueOperations.get(cacheKey(productId))).thenReturn(null);
+        when(lockOperations.setIfAbsent(eq(lockKey(productId)), any(), eq(Duration.ofSeconds(10))))
+                .thenReturn(false);
+        when(codec.encodeEntry(entryOf(loaded))).thenReturn(json);
+
+        adapter.getOrLoad(productId, () -> Optional.of(loaded));
+
+        List<MeterRegistry> registries = List.of(meterRegistry);
+        assertThat(counter(registries, StorefrontProductDetailCacheMetrics.LOOKUPS, "result", "miss")).isEqualTo(1.0);
+        assertThat(counter(registries, StorefrontProductDetailCacheMetrics.LOCK, "outcome", "contended")).isEqualTo(1.0);
+        assertThat(counter(registries, StorefrontProductDetailCacheMetrics.LOCK, "outcome", "timed_out")).isEqualTo(1.0);
+        assertThat(counter(registries, StorefrontProductDetailCacheMetrics.LOCK, "outcome", "acquired")).isZero();
+        assertThat(meterRegistry.get(StorefrontProductDetailCacheMetrics.LOAD).tag("trigger", "miss").timer().count())
+                .isEqualTo(1L);
+        assertThat(meterRegistry.get(StorefrontProductDetailCacheMetrics.VALUE_SIZE).summary().totalAmount())
+                .isEqualTo(json.length);
     }
 
     @Test
-    @DisplayName("getOrLoad: lock 미획득 시 loader를 직접 호출한다")
+    @DisplayName("metrics: 삭제는 원인별로 집계된다 (무효화, refresh lock 경합, refresh 대상 없음)")
+    void metrics_countEvictionsByCause() {
+        stubLockOperations();
+        ProductId invalidated = new ProductId(UUID.randomUUID());
+        ProductId busy = new ProductId(UUID.randomUUID());
+        ProductId gone = new ProductId(UUID.randomUUID());
+        when(lockOperations.setIfAbsent(eq(lockKey(busy)), any(), eq(Duration.ofSeconds(10)))).thenReturn(false);
+        when(lockOperations.setIfAbsent(eq(lockKey(gone)), any(), eq(Duration.ofSeconds(10)))).thenReturn(true);
+
+        adapter.evict(invalidated);
+        adapter.refresh(busy, () -> Optional.of(sampleView(busy.getValue())));
+        adapter.refresh(gone, Optional::empty);
+
+        List<MeterRegistry> registries = List.of(meterRegistry);
+        assertThat(counter(registries, StorefrontProductDetailCacheMetrics.EVICTIONS, "cause", "invalidated"))
+                .isEqualTo(1.0);
+        assertThat(counter(registries, StorefrontProductDetailCacheMetrics.EVICTIONS, "cause", "refresh_lock_busy"))
+                .isEqualTo(1.0);
+        assertThat(counter(registries, StorefrontProductDetailCacheMetrics.EVICTIONS, "cause", "refresh_not_found"))
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get(StorefrontProductDetailCacheMetrics.LOAD).tag("trigger", "refresh").timer().count())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("getOrLoad: lock 미획득 후 fill 알림 없이 대기 시간이 지나면 loader를 직접 호출한다")
     void getOrLoad_whenLockNotAcquired_loadsWithoutBlocking() {
         stubValueOperations();
+        stubLockOperations();
         ProductId productId = new ProductId(UUID.randomUUID());
         ReadProductDetailView loaded = sampleView(productId.getValue());
-        String json = "{\"loaded\":true}";
+        byte[] json = bytes("{\"loaded\":true}");
 
         when(valueOperations.get(cacheKey(productId))).thenReturn(null);
-        when(valueOperations.setIfAbsent(eq(lockKey(productId)), any(), eq(Duration.ofSeconds(10))))
+        when(lockOperations.setIfAbsent(eq(lockKey(productId)), any(), eq(Duration.ofSeconds(10))))
                 .thenReturn(false);
-        when(jsonMapper.toJson(loaded)).thenReturn(json);
+        when(codec.encodeEntry(entryOf(loaded))).thenReturn(json);
 
         Optional<ReadProductDetailView> result = adapter.getOrLoad(productId, () -> Optional.of(loaded));
 
@@ -193,10 +452,11 @@ class RedisStorefrontProductDetailCacheAdapterTest {
     @DisplayName("getOrLoad: loader가 empty면 캐시에 저장하지 않는다")
     void getOrLoad_whenLoaderEmpty_doesNotPut() {
         stubValueOperations();
+        stubLockOperations();
         ProductId productId = new ProductId(UUID.randomUUID());
 
         when(valueOperations.get(cacheKey(productId))).thenReturn(null);
-        when(valueOperations.setIfAbsent(eq(lockKey(productId)), any(), eq(Duration.ofSeconds(10))))
+        when(lockOperations.setIfAbsent(eq(lockKey(productId)), any(), eq(Duration.ofSeconds(10))))
                 .thenReturn(true);
 
         assertThat(adapter.getOrLoad(productId, Optional::empty)).isEmpty();
@@ -204,6 +464,424 @@ class RedisStorefrontProductDetailCacheAdapterTest {
         verify(valueOperations, never()).set(eq(cacheKey(productId)), any(), any(Duration.class));
     }
 
+    @Test
+    @DisplayName("early refresh: 만료가 가깝고 로드가 느린 항목은 hit을 반환한 뒤 백그라운드에서 한 번 갱신한다")
+    void getOrLoad_nearExpiry_refreshesInBackground() {
+        stubValueOperations();
+        stubLockOperations();
+        RedisStorefrontProductDetailCacheAdapter earlyRefresh = earlyRefreshAdapter();
+        ProductId productId = new ProductId(UUID.randomUUID());
+        ReadProductDetailView cached = sampleView(productId.getValue());
+        ReadProductDetailView reloaded = sampleView(productId.getValue());
+        byte[] value = bytes("cached");
+        byte[] refreshed = bytes("refreshed");
+        when(valueOperations.get(cacheKey(productId))).thenReturn(value);
+        when(codec.decodeEntry(value)).thenReturn(new StorefrontProductDetailCacheEntry(
+                cached, 60_000, System.currentTimeMillis() + 1_000));
+        when(lockOperations.setIfAbsent(eq(lockKey(productId)), any(), eq(Duration.ofSeconds(10))))
+                .thenReturn(true);
+        when(codec.encodeEntry(entryOf(reloaded))).thenReturn(refreshed);
+        AtomicInteger loads = new AtomicInteger();
+
+        Optional<ReadProductDetailView> result = earlyRefresh.getOrLoad(productId, () -> {
+            loads.incrementAndGet();
+            return Optional.of(reloaded);
+        });
+
+        assertThat(result).containsSame(cached);
+        assertThat(loads).hasValue(1);
+        verify(valueOperations).set(eq(cacheKey(productId)), eq(refreshed), any(Duration.class));
+        verify(stringRedisTemplate).execute(any(DefaultRedisScript.class), eq(List.of(lockKey(productId))), any());
+        assertThat(earlyRefresh.stats().l2Hits()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("early refresh: 저장 시 만료 시각과 로드 시간을 값에 함께 기록한다")
+    void getOrLoad_storesExpiryAndLoadDuration() {
+        stubValueOperations();
+        stubLockOperations();
+        ProductId productId = new ProductId(UUID.randomUUID());
+        ReadProductDetailView loaded = sampleView(productId.getValue());
+        when(valueOperations.get(cacheKey(productId))).thenReturn(null);
+        when(lockOperations.setIfAbsent(eq(lockKey(productId)), any(), eq(Duration.ofSeconds(10))))
+                .thenReturn(true);
+        when(codec.encodeEntry(any())).thenReturn(bytes("{}"));
+        long before = System.currentTimeMillis();
+
+        adapter.getOrLoad(productId, () -> {
+            sleepQuietly(20);
+            return Optional.of(loaded);
+        });
+
+        ArgumentCaptor<StorefrontProductDetailCacheEntry> stored =
+                ArgumentCaptor.forClass(StorefrontProductDetailCacheEntry.class);
+        verify(codec).encodeEntry(stored.capture());
+        assertThat(stored.getValue().view()).isSameAs(loaded);
+        assertThat(stored.getValue().loadMillis()).isGreaterThanOrEqualTo(20L);
+        assertThat(stored.getValue().expiresAtEpochMillis())
+                .isBetween(before + 900_000, System.currentTimeMillis() + 900_000);
+    }
+
+    @Test
+    @DisplayName("early refresh: 만료까지 여유가 있거나 꺼져 있거나 다른 인스턴스가 lock을 쥐고 있으면 다시 로드하지 않는다")
+    void getOrLoad_earlyRefreshSkipped() {
+        stubValueOperations();
+        ProductId farFromExpiry = new ProductId(UUID.randomUUID());
+        ProductId locked = new ProductId(UUID.randomUUID());
+        byte[] farValue = bytes("far");
+        byte[] lockedValue = bytes("locked");
+        when(valueOperations.get(cacheKey(farFromExpiry))).thenReturn(farValue);
+        when(valueOperations.get(cacheKey(locked))).thenReturn(lockedValue);
+        when(codec.decodeEntry(farValue)).thenReturn(new StorefrontProductDetailCacheEntry(
+                sampleView(farFromExpiry.getValue()), 10, System.currentTimeMillis() + 900_000));
+        when(codec.decodeEntry(lockedValue)).thenReturn(new StorefrontProductDetailCacheEntry(
+                sampleView(locked.getValue()), 60_000, System.currentTimeMillis() + 1_000));
+        Supplier<Optional<ReadProductDetailView>> loader = () -> {
+            throw new AssertionError("loader must not be called");
+        };
+
+        assertThat(adapter.getOrLoad(locked, loader)).isPresent();
+
+        RedisStorefrontProductDetailCacheAdapter earlyRefresh = earlyRefreshAdapter();
+        assertThat(earlyRefresh.getOrLoad(farFromExpiry, loader)).isPresent();
+
+        stubLockOperations();
+        when(lockOperations.setIfAbsent(eq(lockKey(locked)), any(), eq(Duration.ofSeconds(10))))
+                .thenReturn(false);
+        assertThat(earlyRefresh.getOrLoad(locked, loader)).isPresent();
+
+        verify(valueOperations, never()).set(any(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("L1: Redis hit을 역직렬화된 채로 보관해 다음 조회는 Redis·JSON 파싱 없이 응답한다")
+    void getOrLoad_withLocalCache_servesRepeatHitsFromL1() {
+        stubValueOperations();
+        RedisStorefrontProductDetailCacheAdapter twoTier = twoTierAdapter();
+        ProductId productId = new ProductId(UUID.randomUUID());
+        ReadProductDetailView cached = sampleView(productId.getValue());
+        byte[] json = bytes("{\"cached\":true}");
+        when(valueOperations.get(cacheKey(productId))).thenReturn(json);
+        when(codec.decodeEntry(json)).thenReturn(StorefrontProductDetailCacheEntry.withoutRefreshMetadata(cached));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(twoTier.getOrLoad(productId, Optional::empty)).contains(cached);
+        }
+
+        verify(valueOperations, times(1)).get(cacheKey(productId));
+        verify(codec, times(1)).decodeEntry(json);
+        StorefrontProductDetailCacheStats stats = twoTier.stats();
+        assertThat(stats.l1Hits()).isEqualTo(2L);
+        assertThat(stats.l2Hits()).isEqualTo(1L);
+        assertThat(stats.misses()).isZero();
+        assertThat(stats.l1HitRatio()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    @DisplayName("L1: evict는 Redis 삭제와 함께 L1을 비우고 다른 인스턴스에 상품 id를 발행한다")
+    void evict_withLocalCache_dropsL1AndBroadcasts() {
+        RedisStorefrontProductDetailCacheAdapter twoTier = twoTierAdapter();
+        ProductId productId = new ProductId(UUID.randomUUID());
+        stubValueOperations();
+        when(codec.encodeEntry(any())).thenReturn(bytes("{}"));
+        twoTier.put(productId, sampleView(productId.getValue()));
+
+        twoTier.evict(productId);
+
+        verify(stringRedisTemplate).delete(cacheKey(productId));
+        verify(stringRedisTemplate).convertAndSend(EVICT_CHANNEL, productId.getValue().toString());
+        assertThat(localCache.get(productId.getValue())).isNull();
+    }
+
+    @Test
+    @DisplayName("refresh: lock을 잡고 다시 로드한 view로 키를 덮어쓰며, 삭제 없이 L1 eviction과 fill을 발행한다")
+    void refresh_overwritesKeyAndBroadcasts() {
+        RedisStorefrontProductDetailCacheAdapter twoTier = twoTierAdapter();
+        stubValueOperations();
+        stubLockOperations();
+        ProductId productId = new ProductId(UUID.randomUUID());
+        ReadProductDetailView stale = sampleView(productId.getValue());
+        ReadProductDetailView rebuilt = ReadProductDetailView.builder().id(productId.getValue()).name("Rebuilt").build();
+        byte[] rebuiltJson = bytes("{\"name\":\"Rebuilt\"}");
+        when(codec.encodeEntry(entryOf(stale))).thenReturn(bytes("{}"));
+        when(codec.encodeEntry(entryOf(rebuilt))).thenReturn(rebuiltJson);
+        when(lockOperations.setIfAbsent(eq(lockKey(productId)), any(), eq(Duration.ofSeconds(10))))
+                .thenReturn(true);
+        twoTier.put(productId, stale);
+
+        twoTier.refresh(productId, () -> Optional.of(rebuilt));
+
+        verify(valueOperations).set(cacheKey(productId), rebuiltJson, Duration.ofSeconds(900));
+        verify(stringRedisTemplate, never()).delete(anyString());
+        verify(stringRedisTemplate).convertAndSend(EVICT_CHANNEL, productId.getValue().toString());
+        verify(stringRedisTemplate).convertAndSend(FILL_CHANNEL, productId.getValue().toString());
+        verify(stringRedisTemplate).execute(any(DefaultRedisScript.class), eq(List.of(lockKey(productId))), any());
+        assertThat(localCache.get(productId.getValue())).isNull();
+    }
+
+    @Test
+    @DisplayName("refresh: 다시 로드한 결과가 없으면(삭제·비공개) 키를 삭제한다")
+    void refresh_whenLoaderEmpty_evicts() {
+        stubLockOperations();
+        ProductId productId = new ProductId(UUID.randomUUID());
+        when(lockOperations.setIfAbsent(eq(lockKey(productId)), any(), eq(Duration.ofSeconds(10))))
+                .thenReturn(true);
+
+        adapter.refresh(productId, Optional::empty);
+
+        verify(stringRedisTemplate).delete(cacheKey(productId));
+        verify(valueRedisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("refresh: 다른 로더가 lock을 놓지 않으면 변경 전 값이 덮어쓰지 않도록 로드 없이 키를 삭제한다")
+    void refresh_whenLockBusy_evictsWithoutLoading() {
+        stubLockOperations();
+        ProductId productId = new ProductId(UUID.randomUUID());
+        AtomicInteger loads = new AtomicInteger();
+        when(lockOperations.setIfAbsent(eq(lockKey(productId)), any(), eq(Duration.ofSeconds(10))))
+                .thenReturn(false);
+
+        adapter.refresh(productId, () -> {
+            loads.incrementAndGet();
+            return Optional.of(sampleView(productId.getValue()));
+        });
+
+        assertThat(loads).hasValue(0);
+        verify(stringRedisTemplate).delete(cacheKey(productId));
+        verify(stringRedisTemplate, never()).execute(any(DefaultRedisScript.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("findVersion: L1에 있으면 저장 시 계산한 content version을, 없으면 Redis 값의 앞부분만 읽어 반환한다")
+    void findVersion_readsL1OrValuePrefix() {
+        RedisStorefrontProductDetailCacheAdapter twoTier = twoTierAdapter();
+        stubValueOperations();
+        ProductId local = new ProductId(UUID.randomUUID());
+        ProductId remote = new ProductId(UUID.randomUUID());
+        ReadProductDetailView view = sampleView(local.getValue());
+        byte[] prefix = bytes("header");
+        when(codec.encodeEntry(argThat(entry -> entry != null
+                && ContentVersions.of(view).equals(entry.contentVersion())))).thenReturn(bytes("{}"));
+        when(valueRedisTemplate.execute(any(RedisCallback.class))).thenReturn(prefix);
+        when(codec.peekContentVersion(prefix)).thenReturn("remote-version");
+        twoTier.put(local, view);
+
+        assertThat(twoTier.findVersion(local)).contains(ContentVersions.of(view));
+        verify(valueRedisTemplate, never()).execute(any(RedisCallback.class));
+        assertThat(twoTier.findVersion(remote)).contains("remote-version");
+        verify(valueOperations, never()).get(anyString());
+        verify(codec, never()).decodeEntry(any());
+    }
+
+    @Test
+    @DisplayName("L1: 다른 인스턴스의 eviction 메시지를 받으면 해당 상품만 L1에서 제거한다")
+    void onMessage_dropsOnlyBroadcastProduct() {
+        RedisStorefrontProductDetailCacheAdapter twoTier = twoTierAdapter();
+        UUID evicted = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        localCache.putIfNotInvalidatedSince(evicted, sampleView(evicted), localCache.epoch(evicted));
+        localCache.putIfNotInvalidatedSince(kept, sampleView(kept), localCache.epoch(kept));
+
+        twoTier.onMessage(new DefaultMessage(
+                EVICT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                evicted.toString().getBytes(StandardCharsets.UTF_8)), null);
+        twoTier.onMessage(new DefaultMessage(
+                EVICT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "not-a-uuid".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(localCache.get(evicted)).isNull();
+        assertThat(localCache.get(kept)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("L1: 로드 도중 eviction이 오면 로드한 값을 L1에 남기지 않는다")
+    void getOrLoad_whenEvictedDuringLoad_doesNotKeepStaleViewInL1() {
+        stubValueOperations();
+        stubLockOperations();
+        RedisStorefrontProductDetailCacheAdapter twoTier = twoTierAdapter();
+        ProductId productId = new ProductId(UUID.randomUUID());
+        when(valueOperations.get(cacheKey(productId))).thenReturn(null);
+        when(lockOperations.setIfAbsent(eq(lockKey(productId)), any(), eq(Duration.ofSeconds(10))))
+                .thenReturn(true);
+        when(codec.encodeEntry(any())).thenReturn(bytes("{}"));
+
+        twoTier.getOrLoad(productId, () -> {
+            twoTier.onMessage(new DefaultMessage(
+                    EVICT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    productId.getValue().toString().getBytes(StandardCharsets.UTF_8)), null);
+            return Optional.of(sampleView(productId.getValue()));
+        });
+
+        assertThat(localCache.get(productId.getValue())).isNull();
+        assertThat(twoTier.stats().misses()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("getOrLoadAll: L1 hit은 건너뛰고 나머지를 MGET 한 번으로 읽은 뒤, miss만 loader로 한 번에 로드해 파이프라인으로 저장한다")
+    void getOrLoadAll_multiGetsAndPipelinesMisses() {
+        RedisStorefrontProductDetailCacheAdapter twoTier = twoTierAdapter();
+        stubValueOperations();
+        ProductId local = new ProductId(UUID.randomUUID());
+        ProductId remote = new ProductId(UUID.randomUUID());
+        ProductId missing = new ProductId(UUID.randomUUID());
+        ProductId unreadable = new ProductId(UUID.randomUUID());
+        ReadProductDetailView localView = sampleView(local.getValue());
+        ReadProductDetailView remoteView = sampleView(remote.getValue());
+        ReadProductDetailView missingView = sampleView(missing.getValue());
+        localCache.putIfNotInvalidatedSince(local.getValue(), localView, localCache.epoch(local.getValue()));
+        byte[] remoteJson = bytes("{\"remote\":true}");
+        byte[] corrupt = bytes("corrupt");
+        byte[] missingJson = bytes("{\"missing\":true}");
+        when(valueOperations.multiGet(List.of(cacheKey(remote), cacheKey(missing), cacheKey(unreadable))))
+                .thenReturn(Arrays.asList(remoteJson, null, corrupt));
+        when(codec.decodeEntry(remoteJson)).thenReturn(StorefrontProductDetailCacheEntry.withoutRefreshMetadata(remoteView));
+        when(codec.decodeEntry(corrupt)).thenThrow(new IllegalStateException("unknown format"));
+        when(codec.encodeEntry(entryOf(missingView))).thenReturn(missingJson);
+        List<Collection<ProductId>> loaderCalls = new ArrayList<>();
+
+        Map<ProductId, ReadProductDetailView> result = twoTier.getOrLoadAll(
+                List.of(local, remote, missing, unreadable, remote),
+                ids -> {
+                    loaderCalls.add(List.copyOf(ids));
+                    return Map.of(missing, missingView);
+                });
+
+        assertThat(result).containsOnly(
+                Map.entry(local, localView), Map.entry(remote, remoteView), Map.entry(missing, missingView));
+        assertThat(loaderCalls).containsExactly(List.of(missing, unreadable));
+        verify(valueOperations, never()).get(anyString());
+
+        ArgumentCaptor<RedisCallback<Object>> pipeline = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(valueRedisTemplate, times(1)).executePipelined(pipeline.capture());
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        pipeline.getValue().doInRedis(connection);
+        verify(stringCommands).set(
+                eq(cacheKey(missing).getBytes(StandardCharsets.UTF_8)),
+                eq(missingJson),
+                argThat(expiration -> expiration.getExpirationTimeInSeconds() == 900),
+                eq(RedisStringCommands.SetOption.upsert()));
+        verify(stringCommands, times(1)).set(any(), any(), any(), any());
+
+        assertThat(localCache.get(missing.getValue())).isEqualTo(missingView);
+        StorefrontProductDetailCacheStats stats = twoTier.stats();
+        assertThat(stats.l1Hits()).isEqualTo(1L);
+        assertThat(stats.l2Hits()).isEqualTo(1L);
+        assertThat(stats.misses()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("getOrLoadAll: 전부 Redis hit이면 loader를 호출하지 않고 쓰기도 하지 않는다")
+    void getOrLoadAll_whenAllHit_skipsLoaderAndWrite() {
+        stubValueOperations();
+        ProductId productId = new ProductId(UUID.randomUUID());
+        ReadProductDetailView cached = sampleView(productId.getValue());
+        byte[] json = bytes("{\"cached\":true}");
+        when(valueOperations.multiGet(List.of(cacheKey(productId)))).thenReturn(List.of(json));
+        when(codec.decodeEntry(json)).thenReturn(StorefrontProductDetailCacheEntry.withoutRefreshMetadata(cached));
+
+        Map<ProductId, ReadProductDetailView> result = adapter.getOrLoadAll(List.of(productId), ids -> {
+            throw new AssertionError("loader must not be called");
+        });
+
+        assertThat(result).containsExactly(Map.entry(productId, cached));
+        verify(valueRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    private static Supplier<Optional<ReadProductDetailView>> slowLoader(ProductId productId, AtomicInteger loads) {
+        return () -> {
+            loads.incrementAndGet();
+            try {
+                TimeUnit.MILLISECONDS.sleep(200);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.of(sampleView(productId.getValue()));
+        };
+    }
+
+    /**
+     * String side of a Redis shared by several adapters: SET NX locks, the release script and pub/sub delivered to
+     * every instance.
+     */
+    @SuppressWarnings("unchecked")
+    private static StringRedisTemplate fakeStringRedis(
+            Map<String, Object> redis,
+            List<RedisStorefrontProductDetailCacheAdapter> subscribers
+    ) {
+        StringRedisTemplate template = mock(StringRedisTemplate.class, withSettings().strictness(Strictness.LENIENT));
+        ValueOperations<String, String> locks =
+                mock(ValueOperations.class, withSettings().strictness(Strictness.LENIENT));
+        when(template.opsForValue()).thenReturn(locks);
+        when(locks.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenAnswer(invocation ->
+                redis.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        when(template.execute(any(DefaultRedisScript.class), anyList(), any())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(1);
+            return redis.remove(keys.getFirst(), invocation.getArgument(2)) ? 1L : 0L;
+        });
+        when(template.convertAndSend(anyString(), anyString())).thenAnswer(invocation -> {
+            DefaultMessage message = new DefaultMessage(
+                    invocation.<String>getArgument(0).getBytes(StandardCharsets.UTF_8),
+                    invocation.<String>getArgument(1).getBytes(StandardCharsets.UTF_8));
+            subscribers.forEach(subscriber -> subscriber.onMessage(message, null));
+            return (long) subscribers.size();
+        });
+        return template;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisTemplate<String, byte[]> fakeValueRedis(Map<String, Object> redis) {
+        RedisTemplate<String, byte[]> template =
+                mock(RedisTemplate.class, withSettings().strictness(Strictness.LENIENT));
+        ValueOperations<String, byte[]> values =
+                mock(ValueOperations.class, withSettings().strictness(Strictness.LENIENT));
+        when(template.opsForValue()).thenReturn(values);
+        when(values.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(values).set(anyString(), any(byte[].class), any(Duration.class));
+        return template;
+    }
+
+    private static double counter(List<MeterRegistry> registries, String name, String tagKey, String tagValue) {
+        return registries.stream()
+                .mapToDouble(registry -> registry.get(name).tag(tagKey, tagValue).counter().count())
+                .sum();
+    }
+
+    private RedisStorefrontProductDetailCacheAdapter twoTierAdapter() {
+        properties.setLocalEnabled(true);
+        properties.setEvictChannel(EVICT_CHANNEL);
+        localCache = new StorefrontProductDetailLocalCache(100, Duration.ofSeconds(30), System::nanoTime);
+        return new RedisStorefrontProductDetailCacheAdapter(
+                stringRedisTemplate, valueRedisTemplate, properties, codec, localCache, Runnable::run, meterRegistry);
+    }
+
+    private RedisStorefrontProductDetailCacheAdapter earlyRefreshAdapter() {
+        properties.setEarlyRefreshEnabled(true);
+        properties.setEarlyRefreshBeta(1.0);
+        return new RedisStorefrontProductDetailCacheAdapter(
+                stringRedisTemplate, valueRedisTemplate, properties, codec,
+                StorefrontProductDetailLocalCache.disabled(), Runnable::run, meterRegistry);
+    }
+
+    private static StorefrontProductDetailCacheEntry entryOf(ReadProductDetailView view) {
+        return argThat(entry -> entry != null && entry.view().equals(view));
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
     private static ReadProductDetailView sampleView(UUID productId) {
         return ReadProductDetailView.builder()
                 .id(productId)
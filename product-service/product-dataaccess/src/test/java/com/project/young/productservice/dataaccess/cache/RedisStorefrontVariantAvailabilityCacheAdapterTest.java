@@ -0,0 +1,130 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.common.domain.valueobject.ProductId;
+import com.project.young.productservice.dataaccess.config.StorefrontProductCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisStorefrontVariantAvailabilityCacheAdapterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisHashCommands hashCommands;
+
+    @Mock
+    private RedisKeyCommands keyCommands;
+
+    private StorefrontProductCacheProperties properties;
+    private RedisStorefrontVariantAvailabilityCacheAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StorefrontProductCacheProperties();
+        adapter = new RedisStorefrontVariantAvailabilityCacheAdapter(stringRedisTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("findAll: 파이프라인 HGETALL 결과 중 비어 있지 않은 hash만 variant별 가용 재고로 반환한다")
+    void findAll_parsesNonEmptyHashes() {
+        ProductId cached = new ProductId(UUID.randomUUID());
+        ProductId missing = new ProductId(UUID.randomUUID());
+        UUID variantId = UUID.randomUUID();
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(Arrays.asList(Map.of(variantId.toString(), "4"), Map.of()));
+
+        Map<ProductId, Map<UUID, Integer>> result = adapter.findAll(List.of(cached, missing, cached));
+
+        assertThat(result).containsOnlyKeys(cached);
+        assertThat(result.get(cached)).containsExactly(Map.entry(variantId, 4));
+    }
+
+    @Test
+    @DisplayName("findAll: 해석할 수 없는 hash는 miss로 취급한다")
+    void findAll_treatsUnreadableHashAsMiss() {
+        ProductId productId = new ProductId(UUID.randomUUID());
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.of(Map.of("not-a-uuid", "4")));
+
+        assertThat(adapter.findAll(List.of(productId))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("putAll: 상품별 hash를 HMSET하고 overlay TTL을 한 파이프라인에서 건다")
+    void putAll_writesHashAndTtlInOnePipeline() {
+        properties.setStockOverlayTtlSeconds(120);
+        ProductId productId = new ProductId(UUID.randomUUID());
+        ProductId empty = new ProductId(UUID.randomUUID());
+        UUID variantId = UUID.randomUUID();
+        when(connection.hashCommands()).thenReturn(hashCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+
+        adapter.putAll(Map.of(productId, Map.of(variantId, 3), empty, Map.of()));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<RedisCallback<Object>> pipeline = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(stringRedisTemplate).executePipelined(pipeline.capture());
+        pipeline.getValue().doInRedis(connection);
+
+        byte[] key = key(productId);
+        verify(hashCommands).hMSet(eq(key), argThat(fields -> fields.size() == 1
+                && fields.entrySet().stream().allMatch(field ->
+                        new String(field.getKey(), StandardCharsets.UTF_8).equals(variantId.toString())
+                                && new String(field.getValue(), StandardCharsets.UTF_8).equals("3"))));
+        verify(keyCommands).expire(key, 120L);
+        verify(hashCommands, never()).hMSet(eq(key(empty)), anyMap());
+    }
+
+    @Test
+    @DisplayName("putAll: 쓸 overlay가 없으면 Redis를 호출하지 않는다")
+    void putAll_skipsWhenNothingToWrite() {
+        adapter.putAll(Map.of(new ProductId(UUID.randomUUID()), Map.of()));
+
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("evict: 상품 overlay 키를 삭제한다")
+    void evict_deletesKey() {
+        ProductId productId = new ProductId(UUID.randomUUID());
+
+        adapter.evict(productId);
+
+        verify(stringRedisTemplate).delete(properties.getKeyPrefix() + "stock:" + productId.getValue());
+    }
+
+    private byte[] key(ProductId productId) {
+        return (properties.getKeyPrefix() + "stock:" + productId.getValue()).getBytes(StandardCharsets.UTF_8);
+    }
+}
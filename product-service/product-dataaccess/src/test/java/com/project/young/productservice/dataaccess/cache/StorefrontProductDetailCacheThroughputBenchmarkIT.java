@@ -0,0 +1,212 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.common.domain.valueobject.ProductId;
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.application.port.output.view.ReadProductOptionGroupView;
+import com.project.young.productservice.application.port.output.view.ReadProductOptionValueView;
+import com.project.young.productservice.application.port.output.view.ReadProductVariantView;
+import com.project.young.productservice.dataaccess.config.StorefrontProductCacheProperties;
+import com.project.young.productservice.domain.valueobject.ConditionType;
+import com.project.young.productservice.domain.valueobject.OptionStatus;
+import com.project.young.productservice.domain.valueobject.ProductStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * PDP 캐시 처리량 비교: Redis 단독(L2, 매 요청 GET + JSON 디코딩) vs L1 + Redis (수동 실행).
+ * Redis는 왕복 지연을 흉내 내는 stub이고, 디코딩은 JSON 포맷의 실제 {@link ReadProductDetailViewCodec}을 쓴다.
+ *
+ * <pre>
+ * cd product-dataaccess
+ * RUN_PDP_CACHE_BENCHMARK=true mvn test -Dtest=StorefrontProductDetailCacheThroughputBenchmarkIT
+ *
+ * Optional:
+ *   BENCHMARK_REDIS_RTT_MICROS=300   (default 200)
+ *   BENCHMARK_THREADS=16             (default 8)
+ *   BENCHMARK_SECONDS=10             (default 5)
+ * </pre>
+ */
+@EnabledIfEnvironmentVariable(named = "RUN_PDP_CACHE_BENCHMARK", matches = "true")
+class StorefrontProductDetailCacheThroughputBenchmarkIT {
+
+    private static final int CATALOG_SIZE = 10_000;
+    /** Top 1% of products receive 80% of the traffic. */
+    private static final int HOT_PRODUCTS = CATALOG_SIZE / 100;
+    private static final double HOT_TRAFFIC_SHARE = 0.8;
+    private static final long REDIS_RTT_NANOS = TimeUnit.MICROSECONDS.toNanos(envLong("BENCHMARK_REDIS_RTT_MICROS", 200));
+    private static final int THREADS = (int) envLong("BENCHMARK_THREADS", 8);
+    private static final long MEASURE_SECONDS = envLong("BENCHMARK_SECONDS", 5);
+
+    private final ReadProductDetailViewCodec codec = new ReadProductDetailViewCodec(
+            StorefrontProductDetailCacheFormat.JSON, 0, new ReadProductDetailViewJsonMapper());
+
+    @Test
+    @DisplayName("L1 + Redis는 Redis 단독보다 높은 처리량을 낸다 (상위 1% 상품이 트래픽 80%)")
+    void compareRedisOnlyAgainstTwoTier() throws Exception {
+        List<ProductId> productIds = new ArrayList<>(CATALOG_SIZE);
+        Map<String, byte[]> redis = new HashMap<>();
+        StorefrontProductCacheProperties properties = new StorefrontProductCacheProperties();
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            ProductId productId = new ProductId(UUID.randomUUID());
+            productIds.add(productId);
+            redis.put(properties.getKeyPrefix() + "detail:" + productId.getValue(),
+                    codec.encode(sampleView(productId.getValue())));
+        }
+        StringRedisTemplate strings = mock(StringRedisTemplate.class, withSettings().stubOnly());
+        RedisTemplate<String, byte[]> values = redisStub(redis);
+
+        RedisStorefrontProductDetailCacheAdapter redisOnly =
+                new RedisStorefrontProductDetailCacheAdapter(strings, values, properties, codec, new SimpleMeterRegistry());
+
+        StorefrontProductCacheProperties twoTierProperties = new StorefrontProductCacheProperties();
+        twoTierProperties.setLocalEnabled(true);
+        twoTierProperties.setLocalMaxEntries(2 * HOT_PRODUCTS);
+        RedisStorefrontProductDetailCacheAdapter twoTier =
+                new RedisStorefrontProductDetailCacheAdapter(strings, values, twoTierProperties, codec, new SimpleMeterRegistry());
+
+        measure(redisOnly, productIds, 1);
+        measure(twoTier, productIds, 1);
+        double redisOnlyOps = measure(redisOnly, productIds, MEASURE_SECONDS);
+        double twoTierOps = measure(twoTier, productIds, MEASURE_SECONDS);
+
+        StorefrontProductDetailCacheStats stats = twoTier.stats();
+        System.out.println("=== Storefront PDP cache throughput ===");
+        System.out.println("catalog=" + CATALOG_SIZE + ", hot=" + HOT_PRODUCTS + " (" + (int) (HOT_TRAFFIC_SHARE * 100)
+                + "% of traffic), threads=" + THREADS + ", redisRttMicros="
+                + TimeUnit.NANOSECONDS.toMicros(REDIS_RTT_NANOS));
+        System.out.printf("  Redis only  : %,.0f ops/s%n", redisOnlyOps);
+        System.out.printf("  L1 + Redis  : %,.0f ops/s (x%.1f)%n", twoTierOps, twoTierOps / redisOnlyOps);
+        System.out.printf("  L1 hit ratio=%.3f, L2 hit ratio=%.3f, overall=%.3f%n",
+                stats.l1HitRatio(), stats.l2HitRatio(), stats.overallHitRatio());
+
+        assertThat(twoTierOps).isGreaterThan(redisOnlyOps);
+    }
+
+    private static double measure(
+            RedisStorefrontProductDetailCacheAdapter adapter,
+            List<ProductId> productIds,
+            long seconds
+    ) throws InterruptedException {
+        LongAdder operations = new LongAdder();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                executor.execute(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        int index = random.nextDouble() < HOT_TRAFFIC_SHARE
+                                ? random.nextInt(HOT_PRODUCTS)
+                                : HOT_PRODUCTS + random.nextInt(CATALOG_SIZE - HOT_PRODUCTS);
+                        adapter.getOrLoad(productIds.get(index), Optional::empty);
+                        operations.increment();
+                    }
+                });
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(seconds + 30, TimeUnit.SECONDS)).isTrue();
+        }
+        return operations.sum() / (double) seconds;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisTemplate<String, byte[]> redisStub(Map<String, byte[]> redis) {
+        RedisTemplate<String, byte[]> template = mock(RedisTemplate.class, withSettings().stubOnly());
+        ValueOperations<String, byte[]> valueOperations = mock(ValueOperations.class, withSettings().stubOnly());
+        when(template.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> {
+            LockSupport.parkNanos(REDIS_RTT_NANOS);
+            return redis.get(invocation.<String>getArgument(0));
+        });
+        return template;
+    }
+
+    private static ReadProductDetailView sampleView(UUID productId) {
+        List<ReadProductOptionGroupView> optionGroups = new ArrayList<>();
+        List<UUID> valueIds = new ArrayList<>();
+        for (String groupKey : List.of("color", "size")) {
+            List<ReadProductOptionValueView> values = new ArrayList<>();
+            for (int v = 0; v < 4; v++) {
+                UUID valueId = UUID.randomUUID();
+                valueIds.add(valueId);
+                values.add(ReadProductOptionValueView.builder()
+                        .productOptionValueId(valueId)
+                        .optionValueId(UUID.randomUUID())
+                        .displayName(groupKey + "-" + v)
+                        .priceDelta(BigDecimal.valueOf(v * 1000L))
+                        .isDefault(v == 0)
+                        .status(OptionStatus.ACTIVE)
+                        .images(List.of())
+                        .build());
+            }
+            optionGroups.add(ReadProductOptionGroupView.builder()
+                    .productOptionGroupId(UUID.randomUUID())
+                    .optionGroupId(UUID.randomUUID())
+                    .groupKey(groupKey)
+                    .displayName(groupKey)
+                    .stepOrder(optionGroups.size() + 1)
+                    .required(true)
+                    .status(OptionStatus.ACTIVE)
+                    .optionValues(values)
+                    .build());
+        }
+        List<ReadProductVariantView> variants = new ArrayList<>();
+        for (int c = 0; c < 4; c++) {
+            for (int s = 4; s < 8; s++) {
+                variants.add(ReadProductVariantView.builder()
+                        .productVariantId(UUID.randomUUID())
+                        .sku("SKU-" + productId + "-" + c + s)
+                        .stockQuantity(10)
+                        .status(ProductStatus.ACTIVE)
+                        .calculatedPrice(new BigDecimal("59000"))
+                        .mainImageUrl("https://example.com/" + c + ".jpg")
+                        .selectedProductOptionValueIds(List.of(valueIds.get(c), valueIds.get(s)))
+                        .build());
+            }
+        }
+        return ReadProductDetailView.builder()
+                .id(productId)
+                .categoryId(4L)
+                .name("벤치마크 상품 " + productId)
+                .description("상세 설명 ".repeat(40))
+                .brand("브랜드A")
+                .mainImageUrl("https://example.com/main.jpg")
+                .basePrice(new BigDecimal("59000"))
+                .status(ProductStatus.ACTIVE)
+                .conditionType(ConditionType.NEW)
+                .images(List.of())
+                .optionGroups(optionGroups)
+                .variants(variants)
+                .build();
+    }
+
+    private static long envLong(String name, long defaultValue) {
+        String raw = System.getenv(name);
+        return raw == null || raw.isBlank() ? defaultValue : Long.parseLong(raw.trim());
+    }
+}
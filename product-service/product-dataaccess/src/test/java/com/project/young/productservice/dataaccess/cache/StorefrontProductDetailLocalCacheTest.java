@@ -0,0 +1,90 @@
+package com.project.young.productservice.dataaccess.cache;
+
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StorefrontProductDetailLocalCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 반환하지 않고 제거한다")
+    void get_afterTtl_returnsNull() {
+        StorefrontProductDetailLocalCache cache = new StorefrontProductDetailLocalCache(
+                10, Duration.ofSeconds(30), clock::get);
+        UUID productId = UUID.randomUUID();
+        cache.putIfNotInvalidatedSince(productId, view(productId), cache.epoch(productId));
+
+        clock.addAndGet(Duration.ofSeconds(29).toNanos());
+        assertThat(cache.get(productId)).isNotNull();
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cache.get(productId)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("maxEntries를 넘으면 항목을 내보내 크기를 유지한다")
+    void put_beyondMaxEntries_staysBounded() {
+        StorefrontProductDetailLocalCache cache = new StorefrontProductDetailLocalCache(
+                2, Duration.ofSeconds(30), clock::get);
+        for (int i = 0; i < 10; i++) {
+            UUID productId = UUID.randomUUID();
+            cache.putIfNotInvalidatedSince(productId, view(productId), cache.epoch(productId));
+        }
+
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("읽기 시작 후 무효화가 있었다면 저장하지 않는다")
+    void putIfNotInvalidatedSince_afterInvalidation_skipsStore() {
+        StorefrontProductDetailLocalCache cache = new StorefrontProductDetailLocalCache(
+                10, Duration.ofSeconds(30), clock::get);
+        UUID productId = UUID.randomUUID();
+        long epoch = cache.epoch(productId);
+
+        cache.invalidate(productId);
+        cache.putIfNotInvalidatedSince(productId, view(productId), epoch);
+
+        assertThat(cache.get(productId)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 상품의 무효화는 읽기 중인 상품의 저장을 막지 않는다")
+    void putIfNotInvalidatedSince_afterOtherProductInvalidated_stores() {
+        StorefrontProductDetailLocalCache cache = new StorefrontProductDetailLocalCache(
+                10, Duration.ofSeconds(30), clock::get);
+        UUID productId = new UUID(0, 1);
+        UUID otherProductId = new UUID(0, 2);
+        long epoch = cache.epoch(productId);
+
+        cache.invalidate(otherProductId);
+        cache.putIfNotInvalidatedSince(productId, view(productId), epoch);
+
+        assertThat(cache.get(productId)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("비활성 L1은 저장하지 않는다")
+    void disabled_neverStores() {
+        StorefrontProductDetailLocalCache cache = StorefrontProductDetailLocalCache.disabled();
+        UUID productId = UUID.randomUUID();
+
+        cache.putIfNotInvalidatedSince(productId, view(productId), cache.epoch(productId));
+
+        assertThat(cache.enabled()).isFalse();
+        assertThat(cache.get(productId)).isNull();
+    }
+
+    private static ReadProductDetailView view(UUID productId) {
+        return ReadProductDetailView.builder().id(productId).name("p").build();
+    }
+}
@@ -230,7 +230,8 @@ class AdminProductJpaRepositoryTest {
     }
 
     @Configuration
-    @Import({ProductDataAccessConfig.class, ProductDataAccessMapper.class, AdminProductSearchQueryRepository.class})
+    @Import({ProductDataAccessConfig.class, ProductDataAccessMapper.class, AdminProductSearchQueryRepository.class,
+            ProductSearchTotalCounter.class})
     static class Config {
     }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.project.young.productservice.dataaccess.repository;
+
+import com.project.young.productservice.application.dto.result.TotalCountMode;
+import com.project.young.productservice.dataaccess.config.ProductSearchCountProperties.CountSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchTotalCounterTest {
+
+    private static final List<String> FULL_PAGE = List.of("a", "b");
+
+    private final AtomicInteger exactCalls = new AtomicInteger();
+
+    private final LongSupplier exactCount = () -> {
+        exactCalls.incrementAndGet();
+        return 5_000L;
+    };
+
+    private final LongUnaryOperator countUpTo = limit -> Math.min(limit, 5_000L);
+
+    @Test
+    @DisplayName("첫 페이지가 꽉 차지 않으면 count 없이 EXACT")
+    void toPage_partialFirstPage_skipsCount() {
+        ProductSearchPage<String> page = counterEstimating(-1).toPage(
+                List.of("a"), PageRequest.of(0, 2), settings(ProductSearchCountStrategy.EXACT, 1000),
+                exactCount, countUpTo, this::source);
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getTotalCountMode()).isEqualTo(TotalCountMode.EXACT);
+        assertThat(exactCalls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("EXACT — 전체 count 결과를 그대로 사용")
+    void toPage_exact_usesFullCount() {
+        ProductSearchPage<String> page = counterEstimating(-1).toPage(
+                FULL_PAGE, PageRequest.of(0, 2), settings(ProductSearchCountStrategy.EXACT, 1000),
+                exactCount, countUpTo, this::source);
+
+        assertThat(page.getTotalElements()).isEqualTo(5_000L);
+        assertThat(page.getTotalCountMode()).isEqualTo(TotalCountMode.EXACT);
+        assertThat(exactCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("CAPPED — cap을 넘으면 cap과 CAPPED 모드")
+    void toPage_capped_overCap_reportsCap() {
+        ProductSearchPage<String> page = counterEstimating(-1).toPage(
+                FULL_PAGE, PageRequest.of(0, 2), settings(ProductSearchCountStrategy.CAPPED, 1000),
+                exactCount, countUpTo, this::source);
+
+        assertThat(page.getTotalElements()).isEqualTo(1000L);
+        assertThat(page.getTotalCountMode()).isEqualTo(TotalCountMode.CAPPED);
+        assertThat(exactCalls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("CAPPED — cap보다 깊은 페이지면 total을 현재 페이지 끝까지 올린다")
+    void toPage_capped_pageBeyondCap_keepsPageConsistent() {
+        ProductSearchPage<String> page = counterEstimating(-1).toPage(
+                FULL_PAGE, PageRequest.of(600, 2), settings(ProductSearchCountStrategy.CAPPED, 1000),
+                exactCount, countUpTo, this::source);
+
+        assertThat(page.getTotalElements()).isEqualTo(1202L);
+        assertThat(page.getTotalCountMode()).isEqualTo(TotalCountMode.CAPPED);
+    }
+
+    @Test
+    @DisplayName("ESTIMATED — cap보다 큰 추정치는 그대로 ESTIMATED")
+    void toPage_estimated_largeEstimate_reportsEstimate() {
+        ProductSearchPage<String> page = counterEstimating(12_345).toPage(
+                FULL_PAGE, PageRequest.of(0, 2), settings(ProductSearchCountStrategy.ESTIMATED, 1000),
+                exactCount, countUpTo, this::source);
+
+        assertThat(page.getTotalElements()).isEqualTo(12_345L);
+        assertThat(page.getTotalCountMode()).isEqualTo(TotalCountMode.ESTIMATED);
+        assertThat(exactCalls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("ESTIMATED — 추정치가 cap 이하이면 CAPPED 경로로 센다")
+    void toPage_estimated_smallEstimate_countsUpToCap() {
+        ProductSearchPage<String> page = counterEstimating(10).toPage(
+                FULL_PAGE, PageRequest.of(0, 2), settings(ProductSearchCountStrategy.ESTIMATED, 1000),
+                exactCount, limit -> 7L, this::source);
+
+        assertThat(page.getTotalElements()).isEqualTo(7L);
+        assertThat(page.getTotalCountMode()).isEqualTo(TotalCountMode.EXACT);
+    }
+
+    private static CountSettings settings(ProductSearchCountStrategy strategy, int cap) {
+        return new CountSettings(strategy, cap);
+    }
+
+    private ProductSearchTotalCounter.NativeCountSource source() {
+        return new ProductSearchTotalCounter.NativeCountSource("SELECT 1", Map.of());
+    }
+
+    private static ProductSearchTotalCounter counterEstimating(long estimate) {
+        return new ProductSearchTotalCounter() {
+            @Override
+            long estimateRows(NativeCountSource source) {
+                return estimate;
+            }
+        };
+    }
+}
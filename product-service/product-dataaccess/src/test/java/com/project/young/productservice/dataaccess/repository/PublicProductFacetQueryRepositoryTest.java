@@ -250,6 +250,76 @@ class PublicProductFacetQueryRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("SINGLE_PASS vs PER_FACET")
+    class AggregationStrategyParityTests {
+
+        @BeforeEach
+        void seedMixedCatalog() {
+            persistProduct("데님 자켓", "설명", "BrandM",
+                    activeCategory, ProductStatusEntity.ACTIVE, new BigDecimal("40"));
+            persistProduct("코튼 셔츠", "설명", "BrandM",
+                    activeCategory, ProductStatusEntity.ACTIVE, new BigDecimal("120"));
+            persistProduct("린넨 셔츠", "설명", "BrandN",
+                    activeCategory, ProductStatusEntity.ACTIVE, new BigDecimal("15"));
+            persistProduct("무브랜드 데님", "설명", null,
+                    activeCategory, ProductStatusEntity.ACTIVE, new BigDecimal("60"));
+            testEntityManager.flush();
+            testEntityManager.clear();
+        }
+
+        @Test
+        @DisplayName("필터가 없으면 두 전략의 결과가 같다")
+        void getFacets_noFilters_singlePassMatchesPerFacet() {
+            assertSameResult(baseQuery(List.of(PublicProductFacetType.BRAND, PublicProductFacetType.PRICE)));
+        }
+
+        @Test
+        @DisplayName("브랜드·가격 필터는 각 퍼싯에서만 제외되고 결과는 같다")
+        void getFacets_brandAndPriceFilters_singlePassMatchesPerFacet() {
+            assertSameResult(new PublicProductFacetQuery(
+                    activeCategory.getId(),
+                    null,
+                    List.of("BrandM"),
+                    new BigDecimal("20"),
+                    new BigDecimal("100"),
+                    List.of(PublicProductFacetType.BRAND, PublicProductFacetType.PRICE)
+            ));
+        }
+
+        @Test
+        @DisplayName("키워드와 단일 퍼싯 요청에서도 결과가 같다")
+        void getFacets_keywordAndSingleFacet_singlePassMatchesPerFacet() {
+            assertSameResult(new PublicProductFacetQuery(
+                    activeCategory.getId(),
+                    "데님",
+                    List.of(),
+                    null,
+                    null,
+                    List.of(PublicProductFacetType.BRAND)
+            ));
+            assertSameResult(new PublicProductFacetQuery(
+                    activeCategory.getId(),
+                    "셔츠",
+                    List.of("BrandN"),
+                    null,
+                    null,
+                    List.of(PublicProductFacetType.PRICE)
+            ));
+        }
+
+        private void assertSameResult(PublicProductFacetQuery query) {
+            PublicProductFacetResult singlePass = publicProductFacetQueryRepository.getFacets(
+                    query, PublicProductFacetAggregationStrategy.SINGLE_PASS);
+            PublicProductFacetResult perFacet = publicProductFacetQueryRepository.getFacets(
+                    query, PublicProductFacetAggregationStrategy.PER_FACET);
+
+            assertThat(singlePass.totalMatching()).isEqualTo(perFacet.totalMatching());
+            assertThat(singlePass.brands()).containsExactlyElementsOf(perFacet.brands());
+            assertThat(singlePass.priceBuckets()).containsExactlyElementsOf(perFacet.priceBuckets());
+        }
+    }
+
     private PublicProductFacetQuery baseQuery(List<PublicProductFacetType> facets) {
         return new PublicProductFacetQuery(
                 activeCategory.getId(),
@@ -0,0 +1,57 @@
+package com.project.young.productservice.dataaccess.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicProductFullTextQueryTest {
+
+    @Test
+    @DisplayName("WORD — 공백 구분 단어는 AND, 따옴표는 인접 구문")
+    void toTsQuery_word_andsTermsAndKeepsPhrases() {
+        assertThat(PublicProductFullTextQuery.toTsQuery(
+                "Wide \"Denim Pants\"", PublicProductFullTextTokenization.WORD, true))
+                .isEqualTo("('wide') & ('denim' <-> 'pants')");
+    }
+
+    @Test
+    @DisplayName("WORD — 설명 제외 시 name·brand 가중치(AB)로 제한")
+    void toTsQuery_word_restrictsToNameAndBrandWeights() {
+        assertThat(PublicProductFullTextQuery.toTsQuery("denim", PublicProductFullTextTokenization.WORD, false))
+                .isEqualTo("('denim':AB)");
+    }
+
+    @Test
+    @DisplayName("NGRAM — 단어를 인접 2-gram 연쇄로 바꾼다")
+    void toTsQuery_ngram_chainsBigrams() {
+        assertThat(PublicProductFullTextQuery.toTsQuery("와이드핏", PublicProductFullTextTokenization.NGRAM, false))
+                .isEqualTo("('와이':AB <-> '이드':AB <-> '드핏':AB)");
+        assertThat(PublicProductFullTextQuery.toTsQuery("데님 팬츠", PublicProductFullTextTokenization.NGRAM, true))
+                .isEqualTo("('데님') & ('팬츠')");
+    }
+
+    @Test
+    @DisplayName("NGRAM — 한 글자 단어는 접두어 매칭")
+    void toTsQuery_ngram_singleCharacterIsPrefix() {
+        assertThat(PublicProductFullTextQuery.toTsQuery("핏", PublicProductFullTextTokenization.NGRAM, false))
+                .isEqualTo("('핏':*AB)");
+    }
+
+    @Test
+    @DisplayName("구두점은 단어를 나누고 tsquery 연산자는 lexeme에 남지 않는다")
+    void toTsQuery_stripsOperatorsAndSplitsOnPunctuation() {
+        assertThat(PublicProductFullTextQuery.toTsQuery(
+                "t-shirt & it's!", PublicProductFullTextTokenization.WORD, true))
+                .isEqualTo("('t' <-> 'shirt') & ('it' <-> 's')");
+    }
+
+    @Test
+    @DisplayName("검색 가능한 단어가 없으면 null")
+    void toTsQuery_withoutWords_returnsNull() {
+        assertThat(PublicProductFullTextQuery.toTsQuery("!!! \"\"", PublicProductFullTextTokenization.NGRAM, false))
+                .isNull();
+        assertThat(PublicProductFullTextQuery.toTsQuery(null, PublicProductFullTextTokenization.NGRAM, false))
+                .isNull();
+    }
+}
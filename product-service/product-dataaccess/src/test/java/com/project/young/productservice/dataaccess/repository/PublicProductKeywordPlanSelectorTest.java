@@ -0,0 +1,101 @@
+package com.project.young.productservice.dataaccess.repository;
+
+import com.project.young.productservice.dataaccess.config.PublicProductSearchProperties;
+import com.project.young.productservice.dataaccess.repository.PublicProductKeywordPlanSelector.KeywordSample;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PublicProductKeywordPlanSelectorTest {
+
+    private final PublicProductKeywordPlanSelector selector = new PublicProductKeywordPlanSelector(
+            PublicProductSearchProperties.builder()
+                    .keywordSearch(PublicProductSearchProperties.KeywordSearch.builder()
+                            .strategy(PublicProductKeywordSearchStrategy.ADAPTIVE)
+                            .adaptive(new PublicProductSearchProperties.Adaptive(1_000, 600L, 0.02, 2))
+                            .build())
+                    .build()
+    );
+
+    /** 1,000건 중 "wide" 10건(1%), "denim" 100건(10%). */
+    private final KeywordSample sample = sampleOf(1_000, 10, 100);
+
+    @Test
+    @DisplayName("샘플 선택도가 임계값 이하인 희귀 키워드는 GIN 경로를 고른다")
+    void choose_rareKeyword_picksTrigramIndex() {
+        assertThat(selector.choose("wide", sample)).isEqualTo(PublicProductKeywordPlan.TRIGRAM_INDEX);
+        assertThat(selector.choose("xqzbenchuniq", sample)).isEqualTo(PublicProductKeywordPlan.TRIGRAM_INDEX);
+    }
+
+    @Test
+    @DisplayName("샘플 선택도가 임계값을 넘는 넓은 키워드는 순차 스캔 경로를 고른다")
+    void choose_broadKeyword_picksSequentialScan() {
+        assertThat(selector.choose("Denim", sample)).isEqualTo(PublicProductKeywordPlan.SEQUENTIAL_SCAN);
+    }
+
+    @Test
+    @DisplayName("2자 이하 키워드는 trigram이 없으므로 샘플과 무관하게 순차 스캔")
+    void choose_shortKeyword_alwaysScans() {
+        assertThat(selector.choose("데님", sample)).isEqualTo(PublicProductKeywordPlan.SEQUENTIAL_SCAN);
+        assertThat(selector.choose("zz", sample)).isEqualTo(PublicProductKeywordPlan.SEQUENTIAL_SCAN);
+    }
+
+    @Test
+    @DisplayName("키워드가 없거나 샘플이 비어 있으면 플래너 기본값")
+    void choose_withoutKeywordOrSample_usesPlannerDefault() {
+        assertThat(selector.choose(null)).isEqualTo(PublicProductKeywordPlan.PLANNER_DEFAULT);
+        assertThat(selector.choose("wide", new KeywordSample(List.of(), Instant.now())))
+                .isEqualTo(PublicProductKeywordPlan.PLANNER_DEFAULT);
+    }
+
+    @Test
+    @DisplayName("PLANNER_DEFAULT는 힌트 없이 그대로 실행한다")
+    void execute_plannerDefault_runsWithoutHints() {
+        assertThat(selector.execute(PublicProductKeywordPlan.PLANNER_DEFAULT, () -> "rows")).isEqualTo("rows");
+    }
+
+    @Test
+    @DisplayName("검색이 실패하면 설정 복원 실패는 suppressed로 붙고 원래 예외가 전파된다")
+    void execute_searchFails_keepsOriginalException() {
+        EntityManager entityManager = mock(EntityManager.class);
+        Query setLocal = mock(Query.class);
+        when(entityManager.createNativeQuery(anyString())).thenReturn(setLocal);
+        PersistenceException aborted = new PersistenceException("current transaction is aborted");
+        when(setLocal.executeUpdate()).thenReturn(0).thenThrow(aborted);
+        ReflectionTestUtils.setField(selector, "entityManager", entityManager);
+        IllegalStateException searchFailure = new IllegalStateException("statement timeout");
+
+        assertThatThrownBy(() -> selector.execute(PublicProductKeywordPlan.TRIGRAM_INDEX, () -> {
+            throw searchFailure;
+        }))
+                .isSameAs(searchFailure)
+                .hasSuppressedException(aborted);
+    }
+
+    private static KeywordSample sampleOf(int size, int wideCount, int denimCount) {
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (i < wideCount) {
+                texts.add("wide fit pants brand" + i);
+            } else if (i < wideCount + denimCount) {
+                texts.add("denim jacket brand" + i);
+            } else {
+                texts.add("cotton shirt brand" + i);
+            }
+        }
+        return new KeywordSample(texts, Instant.now());
+    }
+}
@@ -1,7 +1,11 @@
 package com.project.young.productservice.dataaccess.repository;
 
 import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductFacetQuery;
+import com.project.young.productservice.application.dto.query.PublicProductFacetType;
+import com.project.young.productservice.application.dto.query.PublicProductListCursor;
 import com.project.young.productservice.application.dto.query.PublicProductSort;
+import com.project.young.productservice.application.dto.result.PublicProductFacetResult;
 import com.project.young.productservice.dataaccess.config.ProductDataAccessConfig;
 import com.project.young.productservice.dataaccess.config.PublicProductSearchProperties;
 import com.project.young.productservice.dataaccess.entity.CategoryEntity;
@@ -54,6 +58,15 @@ import static org.assertj.core.api.Assertions.assertThat;
  *
  * Selectivity table only:
  *   RUN_KEYWORD_BENCHMARK=true mvn test -Dtest=PublicProductKeywordSearchBenchmarkIT#exportSelectivityComparisonReport
+ *
+ * Deep page offset vs keyset:
+ *   RUN_KEYWORD_BENCHMARK=true mvn test -Dtest=PublicProductKeywordSearchBenchmarkIT#compareDeepPageOffsetVsKeyset
+ *
+ * Facet aggregation single-pass vs per-facet (keyword 유무):
+ *   RUN_KEYWORD_BENCHMARK=true BENCHMARK_PRODUCT_COUNT=50000 mvn test -Dtest=PublicProductKeywordSearchBenchmarkIT#compareFacetAggregationStrategies
+ *
+ * ADAPTIVE vs 고정 플랜(GIN 강제 / Seq Scan 강제), 선택도 구간별:
+ *   RUN_KEYWORD_BENCHMARK=true BENCHMARK_PRODUCT_COUNT=50000 mvn test -Dtest=PublicProductKeywordSearchBenchmarkIT#compareAdaptiveKeywordPlanAgainstFixedPlans
  * </pre>
  *
  */
@@ -79,6 +92,10 @@ class PublicProductKeywordSearchBenchmarkIT {
             new SelectivityTier("~9% (데님·기존 시드)", "데님")
     );
 
+    /** FULL_TEXT 비교 기준: 한국어 2-gram, name·brand만. */
+    private static final PublicProductSearchProperties.FullText FULL_TEXT_SETTINGS =
+            new PublicProductSearchProperties.FullText(PublicProductFullTextTokenization.NGRAM, false);
+
     private record SelectivityTier(String label, String keyword) {
     }
 
@@ -115,6 +132,12 @@ class PublicProductKeywordSearchBenchmarkIT {
     @Autowired
     private PublicProductSearchQueryRepository publicProductSearchQueryRepository;
 
+    @Autowired
+    private PublicProductFacetQueryRepository publicProductFacetQueryRepository;
+
+    @Autowired
+    private PublicProductKeywordPlanSelector keywordPlanSelector;
+
     @Autowired
     private ProductJpaRepository productJpaRepository;
 
@@ -281,6 +304,8 @@ class PublicProductKeywordSearchBenchmarkIT {
                     explainNameBrandCountForKeyword(tier.keyword(), ExplainPlanMode.ISOLATED_GIN_FORCED, null));
             ExplainSnapshot seqScanForced = parseExplain(
                     explainNameBrandCountForKeyword(tier.keyword(), ExplainPlanMode.ISOLATED_SEQ_SCAN_FORCED, null));
+            long fullTextMatchCount = countFullTextMatches(tier.keyword());
+            String fullTextPlan = explainFullTextCountForKeyword(tier.keyword());
 
             rows.add(new PublicProductKeywordSelectivityReport.Row(
                     tier.label(),
@@ -303,7 +328,11 @@ class PublicProductKeywordSearchBenchmarkIT {
                     seqScanForced.plan(),
                     seqScanForced.seqScan(),
                     seqScanForced.usesGin(),
-                    seqScanForced.executionMs()
+                    seqScanForced.executionMs(),
+                    fullTextMatchCount,
+                    fullTextPlan,
+                    fullTextPlan.contains("idx_products_search_ngram_vector"),
+                    parseExplain(fullTextPlan).executionMs()
             ));
         }
 
@@ -328,6 +357,144 @@ class PublicProductKeywordSearchBenchmarkIT {
         assertThat(rows).hasSize(SELECTIVITY_TIERS.size());
     }
 
+    @Test
+    @DisplayName("깊은 페이지: OFFSET vs keyset(cursor) 실행 시간 비교")
+    void compareDeepPageOffsetVsKeyset() {
+        PublicProductSearchCondition condition = new PublicProductSearchCondition(
+                categoryId, null, null, null, null);
+        int pageSize = 24;
+        int deepPage = Math.max(1, Math.min(200, SEED_PRODUCT_COUNT / pageSize - 1));
+
+        // 커서는 앞 페이지를 순서대로 따라가야만 얻을 수 있으므로 측정 전에 미리 걸어 둔다.
+        PublicProductListCursor deepCursor = null;
+        for (int page = 0; page < deepPage; page++) {
+            var slice = publicProductSearchQueryRepository.searchAfter(
+                    condition, PublicProductSort.PRICE_ASC, deepCursor, pageSize);
+            PublicProductListProjection last = slice.getContent().getLast();
+            deepCursor = PublicProductListCursor.ofBasePrice(PublicProductSort.PRICE_ASC, last.basePrice(), last.id());
+        }
+        PublicProductListCursor cursor = deepCursor;
+        var offsetPageable = PageRequest.of(deepPage, pageSize);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            publicProductSearchQueryRepository.search(condition, PublicProductSort.PRICE_ASC, offsetPageable);
+            publicProductSearchQueryRepository.searchAfter(condition, PublicProductSort.PRICE_ASC, cursor, pageSize);
+        }
+
+        long offsetMs = measureMillis(() -> publicProductSearchQueryRepository.search(
+                condition, PublicProductSort.PRICE_ASC, offsetPageable));
+        long keysetMs = measureMillis(() -> publicProductSearchQueryRepository.searchAfter(
+                condition, PublicProductSort.PRICE_ASC, cursor, pageSize));
+
+        System.out.println("=== Deep page offset vs keyset (PRICE_ASC) ===");
+        System.out.println("seedProducts=" + SEED_PRODUCT_COUNT + ", page=" + deepPage + ", size=" + pageSize);
+        System.out.println("OFFSET + count avg ms (" + MEASURE_ITERATIONS + " runs): " + offsetMs);
+        System.out.println("keyset avg ms (" + MEASURE_ITERATIONS + " runs): " + keysetMs);
+
+        List<UUID> offsetIds = publicProductSearchQueryRepository
+                .search(condition, PublicProductSort.PRICE_ASC, offsetPageable)
+                .getContent().stream().map(PublicProductListProjection::id).toList();
+        List<UUID> keysetIds = publicProductSearchQueryRepository
+                .searchAfter(condition, PublicProductSort.PRICE_ASC, cursor, pageSize)
+                .getContent().stream().map(PublicProductListProjection::id).toList();
+        assertThat(keysetIds).isEqualTo(offsetIds);
+    }
+
+    @Test
+    @DisplayName("퍼싯 집계: SINGLE_PASS(GROUPING SETS + FILTER) vs PER_FACET(3 쿼리), 키워드 유무별")
+    void compareFacetAggregationStrategies() {
+        List<PublicProductFacetType> allFacets = List.of(PublicProductFacetType.BRAND, PublicProductFacetType.PRICE);
+        List<PublicProductFacetQuery> scenarios = List.of(
+                new PublicProductFacetQuery(categoryId, null, List.of(), null, null, allFacets),
+                new PublicProductFacetQuery(categoryId, keyword, List.of(), null, null, allFacets),
+                new PublicProductFacetQuery(categoryId, keyword, List.of("브랜드7"),
+                        BigDecimal.valueOf(10_000), BigDecimal.valueOf(30_000), allFacets)
+        );
+
+        System.out.println("=== Facet aggregation benchmark ===");
+        System.out.println("seedProducts=" + SEED_PRODUCT_COUNT);
+        for (PublicProductFacetQuery query : scenarios) {
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                publicProductFacetQueryRepository.getFacets(query, PublicProductFacetAggregationStrategy.PER_FACET);
+                publicProductFacetQueryRepository.getFacets(query, PublicProductFacetAggregationStrategy.SINGLE_PASS);
+            }
+
+            long perFacetMs = measureMillis(() -> publicProductFacetQueryRepository.getFacets(
+                    query, PublicProductFacetAggregationStrategy.PER_FACET));
+            long singlePassMs = measureMillis(() -> publicProductFacetQueryRepository.getFacets(
+                    query, PublicProductFacetAggregationStrategy.SINGLE_PASS));
+
+            System.out.println("q=" + query.q() + ", brands=" + query.brands()
+                    + ", price=" + query.minPrice() + ".." + query.maxPrice());
+            System.out.println("  PER_FACET avg ms (" + MEASURE_ITERATIONS + " runs, 3 statements): " + perFacetMs);
+            System.out.println("  SINGLE_PASS avg ms (" + MEASURE_ITERATIONS + " runs, 1 statement): " + singlePassMs);
+
+            PublicProductFacetResult perFacet = publicProductFacetQueryRepository.getFacets(
+                    query, PublicProductFacetAggregationStrategy.PER_FACET);
+            PublicProductFacetResult singlePass = publicProductFacetQueryRepository.getFacets(
+                    query, PublicProductFacetAggregationStrategy.SINGLE_PASS);
+            assertThat(singlePass.totalMatching()).isEqualTo(perFacet.totalMatching());
+            assertThat(singlePass.brands()).containsExactlyElementsOf(perFacet.brands());
+            assertThat(singlePass.priceBuckets()).containsExactlyElementsOf(perFacet.priceBuckets());
+        }
+    }
+
+    @Test
+    @DisplayName("ADAPTIVE는 선택도 구간마다 GIN 강제·Seq Scan 강제 중 빠른 쪽보다 느리지 않다")
+    void compareAdaptiveKeywordPlanAgainstFixedPlans() {
+        var pageable = PageRequest.of(0, 24);
+        /* 측정 잡음 허용: 빠른 고정 플랜 대비 25% + 2ms. */
+        double relativeTolerance = 1.25;
+        long absoluteToleranceMicros = 2_000L;
+
+        System.out.println("=== ADAPTIVE keyword plan vs fixed plans (list + count, Hibernate end-to-end) ===");
+        System.out.println("seedProducts=" + SEED_PRODUCT_COUNT);
+        System.out.println("| tier | keyword | adaptive plan | GIN forced µs | Seq Scan forced µs | ADAPTIVE µs |");
+        System.out.println("|---|---|---|---:|---:|---:|");
+        for (SelectivityTier tier : SELECTIVITY_TIERS) {
+            PublicProductSearchCondition condition = new PublicProductSearchCondition(
+                    categoryId, tier.keyword(), null, null, null);
+            Runnable ginForced = () -> keywordPlanSelector.execute(
+                    PublicProductKeywordPlan.TRIGRAM_INDEX,
+                    () -> publicProductSearchQueryRepository.search(
+                            condition, PublicProductSort.NEWEST, pageable, PublicProductKeywordSearchStrategy.NAME_BRAND));
+            Runnable seqScanForced = () -> keywordPlanSelector.execute(
+                    PublicProductKeywordPlan.SEQUENTIAL_SCAN,
+                    () -> publicProductSearchQueryRepository.search(
+                            condition, PublicProductSort.NEWEST, pageable, PublicProductKeywordSearchStrategy.NAME_BRAND));
+            Runnable adaptive = () -> publicProductSearchQueryRepository.search(
+                    condition, PublicProductSort.NEWEST, pageable, PublicProductKeywordSearchStrategy.ADAPTIVE);
+
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                ginForced.run();
+                seqScanForced.run();
+                adaptive.run();
+            }
+            long ginMicros = measureMicros(ginForced);
+            long seqScanMicros = measureMicros(seqScanForced);
+            long adaptiveMicros = measureMicros(adaptive);
+            PublicProductKeywordPlan chosen = keywordPlanSelector.choose(tier.keyword());
+
+            System.out.printf("| %s | %s | %s | %d | %d | %d |%n",
+                    tier.label(), tier.keyword(), chosen, ginMicros, seqScanMicros, adaptiveMicros);
+
+            long bestFixedMicros = Math.min(ginMicros, seqScanMicros);
+            assertThat(adaptiveMicros)
+                    .as("ADAPTIVE(%s) for %s must not lose to the faster fixed plan", chosen, tier.keyword())
+                    .isLessThanOrEqualTo((long) (bestFixedMicros * relativeTolerance) + absoluteToleranceMicros);
+        }
+    }
+
+    private long measureMicros(Runnable search) {
+        long total = 0L;
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            search.run();
+            total += (System.nanoTime() - start) / 1_000L;
+        }
+        return total / MEASURE_ITERATIONS;
+    }
+
     private static String resolveBenchmarkProductName(int i) {
         if (i % 997 == 0) {
             return "벤치 kwt0p1 " + i;
@@ -376,6 +543,36 @@ class PublicProductKeywordSearchBenchmarkIT {
         return count.longValue();
     }
 
+    private long countFullTextMatches(String searchKeyword) {
+        Number count = (Number) entityManager.createNativeQuery("""
+                SELECT count(*) FROM products p
+                WHERE p.status = 'ACTIVE'
+                  AND %s
+                """.formatted(PublicProductKeywordPredicates.keywordPredicateSql(
+                        "p", searchKeyword, PublicProductKeywordSearchStrategy.FULL_TEXT, FULL_TEXT_SETTINGS)))
+                .setParameter("pattern", PublicProductKeywordPredicates.keywordParameter(
+                        searchKeyword, PublicProductKeywordSearchStrategy.FULL_TEXT, FULL_TEXT_SETTINGS))
+                .getSingleResult();
+        return count.longValue();
+    }
+
+    /** FULL_TEXT, category scoped, planner default — NAME_BRAND 기본 플랜과 같은 조건. */
+    private String explainFullTextCountForKeyword(String searchKeyword) {
+        String sql = """
+                EXPLAIN (ANALYZE, BUFFERS, FORMAT TEXT)
+                SELECT count(p.id)
+                FROM products p
+                INNER JOIN categories c ON p.category_id = c.id
+                WHERE p.status = 'ACTIVE'
+                  AND c.status = 'ACTIVE'
+                  AND c.id = :categoryId
+                  AND %s
+                """.formatted(PublicProductKeywordPredicates.keywordPredicateSql(
+                        "p", searchKeyword, PublicProductKeywordSearchStrategy.FULL_TEXT, FULL_TEXT_SETTINGS));
+        return runExplain(sql, PublicProductKeywordPredicates.keywordParameter(
+                searchKeyword, PublicProductKeywordSearchStrategy.FULL_TEXT, FULL_TEXT_SETTINGS), categoryId);
+    }
+
     private String explainNameBrandCountForKeyword(
             String searchKeyword,
             ExplainPlanMode mode,
@@ -480,11 +677,9 @@ class PublicProductKeywordSearchBenchmarkIT {
             entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
         }
         try {
-            String pattern = PublicProductKeywordPredicates.likePattern(keyword);
-            String keywordPredicate = switch (strategy) {
-                case NAME_BRAND -> PublicProductKeywordPredicates.nameBrandSearchLikePredicate("p");
-                case NAME_DESCRIPTION_LEGACY -> "(lower(p.name) LIKE :pattern OR lower(p.description) LIKE :pattern)";
-            };
+            String pattern = PublicProductKeywordPredicates.keywordParameter(keyword, strategy, FULL_TEXT_SETTINGS);
+            String keywordPredicate = PublicProductKeywordPredicates.keywordPredicateSql(
+                    "p", keyword, strategy, FULL_TEXT_SETTINGS);
 
             String sql = """
                     EXPLAIN (ANALYZE, BUFFERS, FORMAT TEXT)
@@ -618,7 +813,14 @@ class PublicProductKeywordSearchBenchmarkIT {
     }
 
     @Configuration
-    @Import({ProductDataAccessConfig.class, PublicProductSearchQueryRepository.class})
+    @Import({
+            ProductDataAccessConfig.class,
+            PublicProductSearchQueryRepository.class,
+            PublicProductFacetQueryRepository.class,
+            ProductSearchTotalCounter.class,
+            PublicProductKeywordPlanSelector.class,
+            StorefrontProductListingQueryRepository.class
+    })
     @org.springframework.boot.context.properties.EnableConfigurationProperties(PublicProductSearchProperties.class)
     static class Config {
     }
@@ -37,7 +37,11 @@ record PublicProductKeywordSelectivityReport(
             String seqScanForcedPlan,
             boolean seqScanForcedSeqScan,
             boolean seqScanForcedUsesGin,
-            double seqScanForcedExecutionMs
+            double seqScanForcedExecutionMs,
+            long fullTextMatchCount,
+            String fullTextPlan,
+            boolean fullTextUsesGin,
+            double fullTextExecutionMs
     ) {
         double seqOverGinRatio() {
             if (ginForcedExecutionMs <= 0 || seqScanForcedExecutionMs < 0) {
@@ -45,6 +49,13 @@ record PublicProductKeywordSelectivityReport(
             }
             return seqScanForcedExecutionMs / ginForcedExecutionMs;
         }
+
+        double nameBrandOverFullTextRatio() {
+            if (fullTextExecutionMs <= 0 || defaultExecutionMs < 0) {
+                return -1;
+            }
+            return defaultExecutionMs / fullTextExecutionMs;
+        }
     }
 
     void writeTo(Path directory) throws java.io.IOException {
@@ -105,6 +116,23 @@ record PublicProductKeywordSelectivityReport(
         sb.append("- **Seq Scan 강제**: `SET LOCAL enable_bitmapscan = off`, `enable_indexscan = off`, `enable_seqscan = on`\n");
         sb.append("- **격리·플래너 기본**: 위 설정 없음 (키워드 조건만)\n\n");
 
+        sb.append("## FULL_TEXT (tsvector, 한국어 2-gram) vs NAME_BRAND (LIKE)\n\n");
+        sb.append("category scoped, 플래너 기본. FULL_TEXT는 `search_ngram_vector @@ to_tsquery('simple', ...)`")
+                .append(", 가중치 A/B(name·brand)만, GIN `idx_products_search_ngram_vector`.\n\n");
+        sb.append("| 구간 | 키워드 | 매칭 (NAME_BRAND) | 매칭 (FULL_TEXT) | ms (NAME_BRAND) | ms (FULL_TEXT) | NAME_BRAND÷FULL_TEXT | FULL_TEXT GIN |\n");
+        sb.append("|------|--------|-------------------|------------------|-----------------|----------------|----------------------|---------------|\n");
+        for (Row row : rows) {
+            sb.append('|').append(row.tierLabel()).append('|');
+            sb.append('`').append(row.keyword()).append('`').append('|');
+            sb.append(row.matchCount()).append('|');
+            sb.append(row.fullTextMatchCount()).append('|');
+            sb.append(formatMs(row.defaultExecutionMs())).append('|');
+            sb.append(formatMs(row.fullTextExecutionMs())).append('|');
+            sb.append(formatRatio(row.nameBrandOverFullTextRatio())).append('|');
+            sb.append(row.fullTextUsesGin() ? "yes" : "no").append("|\n");
+        }
+        sb.append("\n매칭 수 차이: 2-gram 연쇄는 단어 경계를 넘지 않으므로 LIKE 부분 문자열보다 좁을 수 있음.\n\n");
+
         sb.append("## Notes\n\n");
         sb.append("- **기본 플랜**: `status = ACTIVE` + category scope count EXPLAIN.\n");
         sb.append("- 선택도 ~5%% 이상에서 기본(카테고리)은 Seq Scan이 흔함. 격리·GIN 강제 ms는 훨씬 낮을 수 있음.\n");
@@ -117,6 +145,7 @@ record PublicProductKeywordSelectivityReport(
             appendPlanSection(sb, "Isolated — planner default", row.isolatedDefaultPlan());
             appendPlanSection(sb, "Isolated — GIN forced", row.ginForcedPlan());
             appendPlanSection(sb, "Isolated — Seq Scan forced", row.seqScanForcedPlan());
+            appendPlanSection(sb, "FULL_TEXT (category scoped)", row.fullTextPlan());
         }
         return sb.toString();
     }
@@ -162,7 +191,8 @@ record PublicProductKeywordSelectivityReport(
         sb.append("default_plan,default_seq_scan,default_uses_gin,default_execution_ms,");
         sb.append("isolated_default_plan,isolated_default_seq_scan,isolated_default_uses_gin,isolated_default_execution_ms,");
         sb.append("gin_forced_seq_scan,gin_forced_uses_gin,gin_forced_execution_ms,");
-        sb.append("seq_scan_forced_seq_scan,seq_scan_forced_uses_gin,seq_scan_forced_execution_ms,seq_over_gin_ratio\n");
+        sb.append("seq_scan_forced_seq_scan,seq_scan_forced_uses_gin,seq_scan_forced_execution_ms,seq_over_gin_ratio,");
+        sb.append("full_text_match_count,full_text_uses_gin,full_text_execution_ms,name_brand_over_full_text_ratio\n");
         for (Row row : rows) {
             sb.append(csv(row.tierLabel())).append(',');
             sb.append(csv(row.keyword())).append(',');
@@ -184,7 +214,11 @@ record PublicProductKeywordSelectivityReport(
             sb.append(row.seqScanForcedSeqScan()).append(',');
             sb.append(row.seqScanForcedUsesGin()).append(',');
             sb.append(String.format(Locale.US, "%.4f", row.seqScanForcedExecutionMs())).append(',');
-            sb.append(String.format(Locale.US, "%.4f", row.seqOverGinRatio())).append('\n');
+            sb.append(String.format(Locale.US, "%.4f", row.seqOverGinRatio())).append(',');
+            sb.append(row.fullTextMatchCount()).append(',');
+            sb.append(row.fullTextUsesGin()).append(',');
+            sb.append(String.format(Locale.US, "%.4f", row.fullTextExecutionMs())).append(',');
+            sb.append(String.format(Locale.US, "%.4f", row.nameBrandOverFullTextRatio())).append('\n');
         }
         return sb.toString();
     }
@@ -1,8 +1,12 @@
 package com.project.young.productservice.dataaccess.repository;
 
 import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductListCursor;
 import com.project.young.productservice.application.dto.query.PublicProductSort;
+import com.project.young.productservice.application.dto.result.TotalCountMode;
+import com.project.young.productservice.dataaccess.cache.PublicProductSearchIndex;
 import com.project.young.productservice.dataaccess.config.ProductDataAccessConfig;
+import com.project.young.productservice.dataaccess.config.ProductSearchCountProperties;
 import com.project.young.productservice.dataaccess.config.PublicProductSearchProperties;
 import com.project.young.productservice.dataaccess.entity.CategoryEntity;
 import com.project.young.productservice.dataaccess.entity.ProductEntity;
@@ -10,6 +14,7 @@ import com.project.young.productservice.dataaccess.enums.CategoryStatusEntity;
 import com.project.young.productservice.dataaccess.enums.ConditionTypeEntity;
 import com.project.young.productservice.dataaccess.enums.ProductStatusEntity;
 import com.project.young.productservice.dataaccess.projection.PublicProductListProjection;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,6 +28,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -32,7 +38,11 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -71,6 +81,21 @@ class PublicProductSearchQueryRepositoryTest {
     @Autowired
     private TestEntityManager testEntityManager;
 
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @Autowired
+    private PublicProductSearchProperties searchProperties;
+
+    @Autowired
+    private ProductSearchTotalCounter totalCounter;
+
+    @Autowired
+    private PublicProductKeywordPlanSelector keywordPlanSelector;
+
+    @Autowired
+    private StorefrontProductListingQueryRepository listingQueryRepository;
+
     private CategoryEntity activeCategory;
     private CategoryEntity inactiveCategory;
     private CategoryEntity otherActiveCategory;
@@ -209,6 +234,84 @@ class PublicProductSearchQueryRepositoryTest {
                     .doesNotContain("무관한 이름");
         }
 
+        @Test
+        @DisplayName("ADAPTIVE는 플랜 힌트만 바꾸고 NAME_BRAND와 같은 결과를 반환한다")
+        void search_adaptiveStrategy_matchesNameBrandResults() {
+            for (String keyword : List.of("데님", "와이드핏 데님", "브랜드a", "존재하지않는키워드")) {
+                PublicProductSearchCondition condition = new PublicProductSearchCondition(
+                        activeCategory.getId(), keyword, null, null, null);
+
+                Page<PublicProductListProjection> nameBrand = publicProductSearchQueryRepository.search(
+                        condition, PublicProductSort.NEWEST, PageRequest.of(0, 50),
+                        PublicProductKeywordSearchStrategy.NAME_BRAND);
+                Page<PublicProductListProjection> adaptive = publicProductSearchQueryRepository.search(
+                        condition, PublicProductSort.NEWEST, PageRequest.of(0, 50),
+                        PublicProductKeywordSearchStrategy.ADAPTIVE);
+
+                assertThat(adaptive.getContent()).isEqualTo(nameBrand.getContent());
+                assertThat(adaptive.getTotalElements()).isEqualTo(nameBrand.getTotalElements());
+            }
+        }
+
+        @Test
+        @DisplayName("FULL_TEXT(2-gram)는 단어 일부와 여러 단어(AND)를 찾는다")
+        void search_fullTextStrategy_matchesPartialWordsAndAllTerms() {
+            persistProduct("와이드핏 코튼 팬츠", "d", "브랜드Y",
+                    activeCategory, ProductStatusEntity.ACTIVE, new BigDecimal("20000"));
+            testEntityManager.flush();
+            testEntityManager.clear();
+
+            assertThat(fullTextNames("데님")).contains("와이드핏 데님").doesNotContain("와이드핏 코튼 팬츠");
+            assertThat(fullTextNames("와이드")).contains("와이드핏 데님", "와이드핏 코튼 팬츠");
+            assertThat(fullTextNames("와이드핏 코튼")).containsExactly("와이드핏 코튼 팬츠");
+            assertThat(fullTextNames("\"코튼 팬츠\"")).containsExactly("와이드핏 코튼 팬츠");
+            assertThat(fullTextNames("\"팬츠 코튼\"")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("FULL_TEXT는 설명만 매칭되는 상품을 기본으로 제외한다")
+        void search_fullTextStrategy_excludesDescriptionOnlyMatchByDefault() {
+            persistProduct("무관한 이름", "여기만 데님 키워드", "브랜드Z",
+                    activeCategory, ProductStatusEntity.ACTIVE, new BigDecimal("10000"));
+            testEntityManager.flush();
+            testEntityManager.clear();
+
+            assertThat(fullTextNames("데님")).doesNotContain("무관한 이름");
+        }
+
+        @Test
+        @DisplayName("FULL_TEXT RELEVANCE는 ts_rank_cd 순으로 정렬한다")
+        void search_fullTextStrategy_relevanceRanksByCoverDensity() {
+            persistProduct("데님 셔츠 그리고 여러 단어 재킷", "d", "브랜드Y",
+                    activeCategory, ProductStatusEntity.ACTIVE, new BigDecimal("20000"));
+            persistProduct("데님 재킷", "d", "브랜드Y",
+                    activeCategory, ProductStatusEntity.ACTIVE, new BigDecimal("20000"));
+            testEntityManager.flush();
+            testEntityManager.clear();
+
+            Page<PublicProductListProjection> page = publicProductSearchQueryRepository.search(
+                    new PublicProductSearchCondition(activeCategory.getId(), "데님 재킷", null, null, null),
+                    PublicProductSort.RELEVANCE,
+                    PageRequest.of(0, 10),
+                    PublicProductKeywordSearchStrategy.FULL_TEXT
+            );
+
+            assertThat(page.getContent())
+                    .extracting(PublicProductListProjection::name)
+                    .containsExactly("데님 재킷", "데님 셔츠 그리고 여러 단어 재킷");
+        }
+
+        private List<String> fullTextNames(String keyword) {
+            return publicProductSearchQueryRepository.search(
+                    new PublicProductSearchCondition(activeCategory.getId(), keyword, null, null, null),
+                    PublicProductSort.NEWEST,
+                    PageRequest.of(0, 50),
+                    PublicProductKeywordSearchStrategy.FULL_TEXT
+            ).getContent().stream()
+                    .map(PublicProductListProjection::name)
+                    .toList();
+        }
+
         @Test
         @DisplayName("NAME_DESCRIPTION_LEGACY는 설명 매칭 상품 포함")
         void search_legacyStrategy_includesDescriptionMatch() {
@@ -266,6 +369,46 @@ class PublicProductSearchQueryRepositoryTest {
             testEntityManager.clear();
         }
 
+        @Test
+        @DisplayName("RELEVANCE — 키워드가 온전한 단어로 들어간 상품이 단어 일부로만 포함된 상품보다 먼저 (TRIGRAM_SIMILARITY)")
+        void search_relevanceOrdersByWordSimilarity() {
+            persistProduct("Flarejeansset", "d", "브랜드Z",
+                    activeCategory, ProductStatusEntity.ACTIVE, new BigDecimal("5000"));
+            persistProduct("Flare jeans", "d", "브랜드Z",
+                    activeCategory, ProductStatusEntity.ACTIVE, new BigDecimal("5000"));
+            persistProduct("Kids flare", "d", "브랜드Z",
+                    activeCategory, ProductStatusEntity.ACTIVE, new BigDecimal("5000"));
+            testEntityManager.flush();
+            testEntityManager.clear();
+
+            PublicProductSearchCondition condition =
+                    new PublicProductSearchCondition(activeCategory.getId(), "flare", null, null, null);
+
+            List<String> names = publicProductSearchQueryRepository.search(
+                    condition, PublicProductSort.RELEVANCE, PageRequest.of(0, 10)
+            ).getContent().stream()
+                    .map(PublicProductListProjection::name)
+                    .toList();
+
+            assertThat(names).hasSize(3);
+            assertThat(names.getLast()).isEqualTo("Flarejeansset");
+        }
+
+        @Test
+        @DisplayName("RELEVANCE — 키워드가 없으면 최신순")
+        void search_relevanceWithoutKeyword_fallsBackToNewest() {
+            PublicProductSearchCondition condition =
+                    new PublicProductSearchCondition(activeCategory.getId(), null, null, null, null);
+
+            List<Instant> createdAts = publicProductSearchQueryRepository.search(
+                    condition, PublicProductSort.RELEVANCE, PageRequest.of(0, 10)
+            ).getContent().stream()
+                    .map(PublicProductListProjection::createdAt)
+                    .toList();
+
+            assertThat(createdAts).isSortedAccordingTo(Comparator.reverseOrder());
+        }
+
         @Test
         @DisplayName("PRICE_ASC — basePrice 오름차순")
         void search_sortsByPriceAsc() {
@@ -340,6 +483,276 @@ class PublicProductSearchQueryRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("커서(keyset) 페이지네이션")
+    class KeysetPaginationTests {
+
+        @BeforeEach
+        void seedKeysetProducts() {
+            for (int i = 0; i < 5; i++) {
+                persistProduct("키셋 상품 " + i, "d", "브랜드K",
+                        activeCategory, ProductStatusEntity.ACTIVE, new BigDecimal(i % 2 == 0 ? "5000" : "7000"));
+            }
+            testEntityManager.flush();
+            testEntityManager.clear();
+        }
+
+        @Test
+        @DisplayName("NEWEST — 커서를 따라가면 offset 전체 결과와 같은 순서로 중복 없이 순회한다")
+        void searchAfter_newest_walksAllRowsWithoutDuplicates() {
+            assertWalkMatchesFullOrder(PublicProductSort.NEWEST);
+        }
+
+        @Test
+        @DisplayName("PRICE_ASC — 동일 가격은 id 오름차순으로 이어진다")
+        void searchAfter_priceAsc_walksAllRowsInPriceOrder() {
+            List<PublicProductListProjection> walked = assertWalkMatchesFullOrder(PublicProductSort.PRICE_ASC);
+
+            assertThat(walked)
+                    .extracting(PublicProductListProjection::basePrice)
+                    .isSortedAccordingTo(BigDecimal::compareTo);
+        }
+
+        @Test
+        @DisplayName("PRICE_DESC — 가격 내림차순으로 순회한다")
+        void searchAfter_priceDesc_walksAllRowsInPriceOrder() {
+            List<PublicProductListProjection> walked = assertWalkMatchesFullOrder(PublicProductSort.PRICE_DESC);
+
+            assertThat(walked)
+                    .extracting(PublicProductListProjection::basePrice)
+                    .isSortedAccordingTo((a, b) -> b.compareTo(a));
+        }
+
+        @Test
+        @DisplayName("RELEVANCE는 keyset을 지원하지 않는다")
+        void searchAfter_relevance_throws() {
+            PublicProductSearchCondition condition =
+                    new PublicProductSearchCondition(activeCategory.getId(), null, null, null, null);
+
+            assertThatThrownBy(() -> publicProductSearchQueryRepository.searchAfter(
+                    condition, PublicProductSort.RELEVANCE, null, 2))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        private List<PublicProductListProjection> assertWalkMatchesFullOrder(PublicProductSort sort) {
+            PublicProductSearchCondition condition =
+                    new PublicProductSearchCondition(activeCategory.getId(), null, null, null, null);
+
+            List<PublicProductListProjection> walked = new ArrayList<>();
+            PublicProductListCursor cursor = null;
+            Slice<PublicProductListProjection> slice;
+            do {
+                slice = publicProductSearchQueryRepository.searchAfter(condition, sort, cursor, 2);
+                walked.addAll(slice.getContent());
+                PublicProductListProjection last = slice.getContent().getLast();
+                cursor = sort == PublicProductSort.NEWEST
+                        ? PublicProductListCursor.ofCreatedAt(last.createdAt(), last.id())
+                        : PublicProductListCursor.ofBasePrice(sort, last.basePrice(), last.id());
+            } while (slice.hasNext());
+
+            assertThat(walked).hasSize(6);
+            assertThat(walked).extracting(PublicProductListProjection::id).doesNotHaveDuplicates();
+            return walked;
+        }
+    }
+
+    @Nested
+    @DisplayName("total count 전략")
+    class CountStrategyTests {
+
+        @BeforeEach
+        void seedCountProducts() {
+            for (int i = 0; i < 3; i++) {
+                persistProduct("카운트 상품 " + i, "d", "브랜드C",
+                        activeCategory, ProductStatusEntity.ACTIVE, new BigDecimal("1000"));
+            }
+            testEntityManager.flush();
+            testEntityManager.clear();
+        }
+
+        @Test
+        @DisplayName("CAPPED — cap을 넘으면 cap을 하한값으로 반환하고 모드는 CAPPED")
+        void search_capped_overCap_returnsCapAsLowerBound() {
+            ProductSearchPage<PublicProductListProjection> page = repositoryWith(ProductSearchCountStrategy.CAPPED, 2)
+                    .search(activeCategoryCondition(), PublicProductSort.NEWEST, PageRequest.of(0, 1));
+
+            assertThat(page.getTotalElements()).isEqualTo(2);
+            assertThat(page.getTotalCountMode()).isEqualTo(TotalCountMode.CAPPED);
+        }
+
+        @Test
+        @DisplayName("CAPPED — cap 이하이면 정확한 total과 EXACT 모드")
+        void search_capped_underCap_returnsExactTotal() {
+            ProductSearchPage<PublicProductListProjection> page = repositoryWith(ProductSearchCountStrategy.CAPPED, 10)
+                    .search(activeCategoryCondition(), PublicProductSort.NEWEST, PageRequest.of(0, 1));
+
+            assertThat(page.getTotalElements()).isEqualTo(4);
+            assertThat(page.getTotalCountMode()).isEqualTo(TotalCountMode.EXACT);
+        }
+
+        @Test
+        @DisplayName("ESTIMATED — 추정치가 cap 이하이면 정확히 센다")
+        void search_estimated_smallEstimate_fallsBackToExactCount() {
+            ProductSearchPage<PublicProductListProjection> page = repositoryWith(ProductSearchCountStrategy.ESTIMATED, 1000)
+                    .search(activeCategoryCondition(), PublicProductSort.NEWEST, PageRequest.of(0, 1));
+
+            assertThat(page.getTotalElements()).isEqualTo(4);
+            assertThat(page.getTotalCountMode()).isEqualTo(TotalCountMode.EXACT);
+        }
+
+        @Test
+        @DisplayName("EXPLAIN 기반 추정 행 수를 읽는다")
+        void estimateRows_readsPlannerEstimate() {
+            long estimate = totalCounter.estimateRows(new ProductSearchTotalCounter.NativeCountSource(
+                    "SELECT p.id FROM products p WHERE p.category_id = :categoryId",
+                    Map.of("categoryId", activeCategory.getId())
+            ));
+
+            assertThat(estimate).isPositive();
+        }
+
+        @Test
+        @DisplayName("countUpTo는 limit까지만 세어 count 하나만 반환한다")
+        void countUpTo_countsAtMostLimit() {
+            ProductSearchTotalCounter.NativeCountSource source = new ProductSearchTotalCounter.NativeCountSource(
+                    "SELECT p.id FROM products p WHERE p.category_id = :categoryId\n",
+                    Map.of("categoryId", activeCategory.getId())
+            );
+
+            assertThat(totalCounter.countUpTo(source, 2)).isEqualTo(2);
+            assertThat(totalCounter.countUpTo(source, 100)).isEqualTo(4);
+        }
+
+        private PublicProductSearchCondition activeCategoryCondition() {
+            return new PublicProductSearchCondition(activeCategory.getId(), null, null, null, null);
+        }
+
+        private PublicProductSearchQueryRepository repositoryWith(ProductSearchCountStrategy strategy, int cap) {
+            ProductSearchCountProperties countProperties = new ProductSearchCountProperties(
+                    new ProductSearchCountProperties.CountSettings(strategy, cap),
+                    null
+            );
+            return new PublicProductSearchQueryRepository(
+                    queryFactory, searchProperties, countProperties, totalCounter, keywordPlanSelector,
+                    listingQueryRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("하위 카테고리 포함 (includeDescendants)")
+    class SubtreeTests {
+
+        private CategoryEntity childCategory;
+
+        @BeforeEach
+        void seedChildCategory() {
+            childCategory = persistCategory("데님", CategoryStatusEntity.ACTIVE, activeCategory);
+            persistProduct("하위 카테고리 데님", "d", "브랜드A",
+                    childCategory, ProductStatusEntity.ACTIVE, new BigDecimal("40000"));
+            testEntityManager.flush();
+            testEntityManager.clear();
+        }
+
+        @Test
+        @DisplayName("includeDescendants=false이면 직속 카테고리 상품만 조회")
+        void search_withoutDescendants_returnsDirectCategoryOnly() {
+            Page<PublicProductListProjection> page = publicProductSearchQueryRepository.search(
+                    new PublicProductSearchCondition(activeCategory.getId(), null, null, null, null, false),
+                    PublicProductSort.NEWEST, PageRequest.of(0, 10));
+
+            assertThat(page.getContent()).extracting(PublicProductListProjection::name)
+                    .containsExactly("와이드핏 데님");
+        }
+
+        @Test
+        @DisplayName("includeDescendants=true이면 하위 카테고리 상품까지 조회")
+        void search_withDescendants_includesChildCategoryProducts() {
+            Page<PublicProductListProjection> page = publicProductSearchQueryRepository.search(
+                    new PublicProductSearchCondition(activeCategory.getId(), null, null, null, null, true),
+                    PublicProductSort.NEWEST, PageRequest.of(0, 10));
+
+            assertThat(page.getTotalElements()).isEqualTo(2);
+            assertThat(page.getContent()).extracting(PublicProductListProjection::name)
+                    .containsExactlyInAnyOrder("와이드핏 데님", "하위 카테고리 데님");
+        }
+
+        @Test
+        @DisplayName("부모를 옮기면 closure가 갱신되어 이전 조상의 subtree에서 빠진다")
+        void search_afterReparent_followsNewAncestor() {
+            CategoryEntity moved = testEntityManager.find(CategoryEntity.class, childCategory.getId());
+            moved.setParent(testEntityManager.find(CategoryEntity.class, otherActiveCategory.getId()));
+            testEntityManager.flush();
+            testEntityManager.clear();
+
+            Page<PublicProductListProjection> oldTree = publicProductSearchQueryRepository.search(
+                    new PublicProductSearchCondition(activeCategory.getId(), null, null, null, null, true),
+                    PublicProductSort.NEWEST, PageRequest.of(0, 10));
+            Page<PublicProductListProjection> newTree = publicProductSearchQueryRepository.search(
+                    new PublicProductSearchCondition(otherActiveCategory.getId(), null, null, null, null, true),
+                    PublicProductSort.NEWEST, PageRequest.of(0, 10));
+
+            assertThat(oldTree.getContent()).extracting(PublicProductListProjection::name)
+                    .containsExactly("와이드핏 데님");
+            assertThat(newTree.getContent()).extracting(PublicProductListProjection::name)
+                    .containsExactlyInAnyOrder("다른 카테고리 상품", "하위 카테고리 데님");
+        }
+    }
+
+    @Nested
+    @DisplayName("인메모리 인덱스 로드")
+    class InMemoryIndexTests {
+
+        @Test
+        @DisplayName("findIndexRowsAfter는 카테고리가 있는 ACTIVE 상품을 id 순 배치로 반환 (카테고리 상태 무관)")
+        void findIndexRowsAfter_pagesListableRowsById() {
+            List<PublicProductListProjection> firstBatch = publicProductSearchQueryRepository.findIndexRowsAfter(null, 2);
+            List<PublicProductListProjection> rest =
+                    publicProductSearchQueryRepository.findIndexRowsAfter(firstBatch.getLast().id(), 10);
+
+            List<PublicProductListProjection> all = new ArrayList<>(firstBatch);
+            all.addAll(rest);
+            assertThat(firstBatch).hasSize(2);
+            assertThat(all).extracting(PublicProductListProjection::name)
+                    .containsExactlyInAnyOrder("와이드핏 데님", "게이밍 노트북", "다른 카테고리 상품");
+            assertThat(publicProductSearchQueryRepository.findIndexRowsByIds(
+                    all.stream().map(PublicProductListProjection::id).toList()))
+                    .hasSize(3);
+        }
+
+        @Test
+        @DisplayName("로드한 인덱스는 NAME_BRAND SQL과 같은 목록·순서·total을 반환")
+        void index_matchesNameBrandSql() {
+            persistProduct("데님 재킷", "d", "브랜드B",
+                    activeCategory, ProductStatusEntity.ACTIVE, new BigDecimal("30000"));
+            persistProduct("코튼 셔츠", "d", "데님랩",
+                    activeCategory, ProductStatusEntity.ACTIVE, new BigDecimal("12000.50"));
+            testEntityManager.flush();
+            testEntityManager.clear();
+
+            PublicProductSearchIndex index = PublicProductSearchIndex.build(
+                    publicProductSearchQueryRepository.findIndexRowsAfter(null, 100), Instant.now());
+            long categoryId = activeCategory.getId();
+
+            for (String keyword : Arrays.asList(null, "데님", "DENIM", "셔")) {
+                for (PublicProductSort sort : List.of(PublicProductSort.NEWEST, PublicProductSort.PRICE_ASC,
+                        PublicProductSort.PRICE_DESC)) {
+                    PublicProductSearchCondition condition = new PublicProductSearchCondition(
+                            categoryId, keyword, null, new BigDecimal("10000"), null);
+                    Page<PublicProductListProjection> sql = publicProductSearchQueryRepository.search(
+                            condition, sort, PageRequest.of(0, 10), PublicProductKeywordSearchStrategy.NAME_BRAND);
+                    PublicProductSearchIndex.Hits hits =
+                            index.search(condition, sort, 0, 10, candidate -> candidate == categoryId);
+
+                    assertThat(hits.content()).as("%s / %s", keyword, sort)
+                            .extracting(PublicProductListProjection::id)
+                            .containsExactlyElementsOf(sql.getContent().stream()
+                                    .map(PublicProductListProjection::id).toList());
+                    assertThat(hits.total()).isEqualTo(sql.getTotalElements());
+                }
+            }
+        }
+    }
+
     @Nested
     @DisplayName("입력 검증")
     class ValidationTests {
@@ -369,9 +782,14 @@ class PublicProductSearchQueryRepositoryTest {
     }
 
     private CategoryEntity persistCategory(String name, CategoryStatusEntity status) {
+        return persistCategory(name, status, null);
+    }
+
+    private CategoryEntity persistCategory(String name, CategoryStatusEntity status, CategoryEntity parent) {
         Instant now = Instant.now();
         return testEntityManager.persistAndFlush(CategoryEntity.builder()
                 .name(name + "-" + UUID.randomUUID())
+                .parent(parent)
                 .status(status)
                 .createdAt(now)
                 .updatedAt(now)
@@ -403,7 +821,8 @@ class PublicProductSearchQueryRepositoryTest {
     }
 
     @Configuration
-    @Import({ProductDataAccessConfig.class, PublicProductSearchQueryRepository.class})
+    @Import({ProductDataAccessConfig.class, PublicProductSearchQueryRepository.class, ProductSearchTotalCounter.class,
+            PublicProductKeywordPlanSelector.class, StorefrontProductListingQueryRepository.class})
     @org.springframework.boot.context.properties.EnableConfigurationProperties(PublicProductSearchProperties.class)
     static class Config {
     }
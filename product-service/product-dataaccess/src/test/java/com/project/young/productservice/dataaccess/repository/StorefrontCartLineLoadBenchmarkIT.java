@@ -0,0 +1,331 @@
+package com.project.young.productservice.dataaccess.repository;
+
+import com.project.young.productservice.application.port.output.view.ReadCartCatalogLineView;
+import com.project.young.productservice.dataaccess.adapter.PublicProductReadRepositoryImpl;
+import com.project.young.productservice.dataaccess.cache.InMemoryPublicProductSearchIndexAdapter;
+import com.project.young.productservice.dataaccess.config.ProductDataAccessConfig;
+import com.project.young.productservice.dataaccess.entity.InventoryReservationEntity;
+import com.project.young.productservice.dataaccess.entity.OptionGroupEntity;
+import com.project.young.productservice.dataaccess.entity.OptionValueEntity;
+import com.project.young.productservice.dataaccess.entity.ProductEntity;
+import com.project.young.productservice.dataaccess.entity.ProductOptionGroupEntity;
+import com.project.young.productservice.dataaccess.entity.ProductOptionValueEntity;
+import com.project.young.productservice.dataaccess.entity.ProductVariantEntity;
+import com.project.young.productservice.dataaccess.entity.VariantOptionValueEntity;
+import com.project.young.productservice.dataaccess.enums.ConditionTypeEntity;
+import com.project.young.productservice.dataaccess.enums.OptionStatusEntity;
+import com.project.young.productservice.dataaccess.enums.ProductStatusEntity;
+import com.project.young.productservice.dataaccess.mapper.ProductDataAccessMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 카트 catalog line 조회 지연 비교: ENTITY_FETCH(variant·옵션 그래프 fetch join + 전역 옵션 메타 조회 + hydration
+ * + 예약 합계 조회) vs PROJECTION(필요 컬럼 + jsonb_agg 옵션 라벨 + 가용 재고 한 statement) (수동 실행).
+ * variant id 1 / 10 / 50개(MAX_VARIANT_IDS)를 서로 다른 상품에 걸쳐 조회하고, 매 측정 전에 영속성 컨텍스트를 비운다.
+ *
+ * <pre>
+ * cd product-dataaccess
+ * RUN_CART_LINE_LOAD_BENCHMARK=true mvn test -Dtest=StorefrontCartLineLoadBenchmarkIT
+ *
+ * Optional:
+ *   BENCHMARK_ITERATIONS=200  (default 100)
+ * </pre>
+ */
+@DataJpaTest
+@Testcontainers
+@ContextConfiguration(classes = StorefrontCartLineLoadBenchmarkIT.Config.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "RUN_CART_LINE_LOAD_BENCHMARK", matches = "true")
+@SuppressWarnings("resource")
+class StorefrontCartLineLoadBenchmarkIT {
+
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURE_ITERATIONS = resolveIterations();
+    private static final int[] ID_COUNTS = {1, 10, 50};
+    private static final int COLORS = 5;
+    private static final int SIZES = 4;
+
+    @Container
+    static PostgreSQLContainer<?> postgresContainer = new PostgreSQLContainer<>("postgres:18-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("testuser")
+            .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void overrideProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresContainer::getUsername);
+        registry.add("spring.datasource.password", postgresContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("product-service.storefront-cart-lines.load-strategy", () -> "PROJECTION");
+    }
+
+    @Autowired
+    private StorefrontCartLineProjectionQueryRepository projectionQueryRepository;
+
+    @Autowired
+    private InventoryReservationJpaRepository inventoryReservationJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private ProductImageJpaRepository productImageJpaRepository;
+
+    @Autowired
+    private ProductOptionValueImageJpaRepository productOptionValueImageJpaRepository;
+
+    @Autowired
+    private OptionGroupJpaRepository optionGroupJpaRepository;
+
+    @Autowired
+    private ProductVariantJpaRepository productVariantJpaRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Test
+    @DisplayName("variant id 1 / 10 / 50개 카트 라인 조회 지연: ENTITY_FETCH + 예약 합계 vs PROJECTION")
+    void compareCartLineLatencyByIdCount() {
+        JpaRepositoryTestFixtures.truncateCompositionTables(testEntityManager);
+        OptionGroupEntity color = persistGlobalGroup("color", COLORS);
+        OptionGroupEntity size = persistGlobalGroup("size", SIZES);
+        Instant now = Instant.now();
+
+        List<UUID> variantIds = new ArrayList<>();
+        for (int i = 0; i < ID_COUNTS[ID_COUNTS.length - 1]; i++) {
+            variantIds.add(persistProduct(color, size, i, now));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        PublicProductReadRepositoryImpl entityFetch = repository(mock(StorefrontCartLineProjectionQueryRepository.class));
+        PublicProductReadRepositoryImpl projection = repository(projectionQueryRepository);
+
+        System.out.println("=== Storefront cart line latency (iterations=" + MEASURE_ITERATIONS
+                + ", variants/product=" + COLORS * SIZES + ") ===");
+        System.out.println("ids | ENTITY_FETCH + reservations p50 / p95 (ms) | PROJECTION p50 / p95 (ms)");
+        for (int idCount : ID_COUNTS) {
+            List<UUID> ids = List.copyOf(variantIds.subList(0, idCount));
+
+            List<ReadCartCatalogLineView> projected = loadProjection(projection, ids, now);
+            assertThat(projected).hasSize(idCount);
+            assertThat(projected).allSatisfy(line -> {
+                assertThat(line.stockQuantity()).isEqualTo(7);
+                assertThat(line.variantOptions()).hasSize(2);
+            });
+            assertThat(loadEntityFetch(entityFetch, ids, now)).hasSize(idCount);
+
+            long[] entityNanos = measure(() -> loadEntityFetch(entityFetch, ids, now));
+            long[] projectionNanos = measure(() -> loadProjection(projection, ids, now));
+            System.out.printf("%3d | %8.2f / %8.2f                       | %8.2f / %8.2f%n",
+                    idCount,
+                    millis(percentile(entityNanos, 50)), millis(percentile(entityNanos, 95)),
+                    millis(percentile(projectionNanos, 50)), millis(percentile(projectionNanos, 95)));
+        }
+    }
+
+    private long[] measure(Runnable load) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            testEntityManager.clear();
+            load.run();
+        }
+        long[] samples = new long[MEASURE_ITERATIONS];
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            testEntityManager.clear();
+            long start = System.nanoTime();
+            load.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        return samples;
+    }
+
+    /**
+     * What {@code PublicCartCatalogQueryService} runs without the projection: entity lines, then the reservation sum.
+     */
+    private List<ReadCartCatalogLineView> loadEntityFetch(
+            PublicProductReadRepositoryImpl repository,
+            List<UUID> ids,
+            Instant now
+    ) {
+        List<ReadCartCatalogLineView> lines = repository.findCartCatalogLinesByVariantIds(ids);
+        inventoryReservationJpaRepository.sumActiveQuantityByVariantIds(ids, now);
+        return lines;
+    }
+
+    private List<ReadCartCatalogLineView> loadProjection(
+            PublicProductReadRepositoryImpl repository,
+            List<UUID> ids,
+            Instant now
+    ) {
+        return repository.findAvailableCartCatalogLinesByVariantIds(ids, now).orElseThrow();
+    }
+
+    private PublicProductReadRepositoryImpl repository(StorefrontCartLineProjectionQueryRepository projectionRepository) {
+        return new PublicProductReadRepositoryImpl(
+                mock(PublicProductSearchQueryRepository.class),
+                productJpaRepository,
+                new ProductDataAccessMapper(),
+                productImageJpaRepository,
+                productOptionValueImageJpaRepository,
+                optionGroupJpaRepository,
+                productVariantJpaRepository,
+                mock(InMemoryPublicProductSearchIndexAdapter.class),
+                mock(StorefrontProductDetailJsonQueryRepository.class),
+                projectionRepository
+        );
+    }
+
+    private OptionGroupEntity persistGlobalGroup(String name, int valueCount) {
+        OptionGroupEntity group = testEntityManager.persist(OptionGroupEntity.builder()
+                .name(name + "-" + UUID.randomUUID())
+                .displayName(name)
+                .status(OptionStatusEntity.ACTIVE)
+                .build());
+        for (int i = 0; i < valueCount; i++) {
+            group.getOptionValues().add(testEntityManager.persist(OptionValueEntity.builder()
+                    .optionGroup(group)
+                    .value(name + i)
+                    .displayName(name + " " + i)
+                    .sortOrder(i)
+                    .status(OptionStatusEntity.ACTIVE)
+                    .build()));
+        }
+        testEntityManager.flush();
+        return group;
+    }
+
+    /**
+     * Product with {@code COLORS × SIZES} variants; returns the first variant's id, which holds 3 reserved units.
+     */
+    private UUID persistProduct(OptionGroupEntity color, OptionGroupEntity size, int index, Instant now) {
+        ProductEntity product = ProductEntity.builder()
+                .id(UUID.randomUUID())
+                .name("벤치마크 상품 " + index)
+                .description("상세 설명 ".repeat(40))
+                .basePrice(new BigDecimal("59000"))
+                .status(ProductStatusEntity.ACTIVE)
+                .conditionType(ConditionTypeEntity.NEW)
+                .brand("브랜드A")
+                .mainImageUrl("https://example.com/main.jpg")
+                .build();
+        List<UUID> colorValueIds = addProductOptionGroup(product, color, 1.0d, COLORS);
+        List<UUID> sizeValueIds = addProductOptionGroup(product, size, 2.0d, SIZES);
+        UUID variantId = null;
+        for (int c = 0; c < COLORS; c++) {
+            for (int s = 0; s < SIZES; s++) {
+                ProductVariantEntity variant = ProductVariantEntity.builder()
+                        .id(UUID.randomUUID())
+                        .sku("SKU-" + product.getId() + "-" + c + "-" + s)
+                        .stockQuantity(10)
+                        .status(ProductStatusEntity.ACTIVE)
+                        .calculatedPrice(new BigDecimal("59000"))
+                        .mainImageUrl("https://example.com/" + c + ".jpg")
+                        .build();
+                variant.addSelectedOptionValue(VariantOptionValueEntity.builder()
+                        .productOptionValueId(colorValueIds.get(c))
+                        .build());
+                variant.addSelectedOptionValue(VariantOptionValueEntity.builder()
+                        .productOptionValueId(sizeValueIds.get(s))
+                        .build());
+                product.addVariant(variant);
+                if (variantId == null) {
+                    variantId = variant.getId();
+                }
+            }
+        }
+        testEntityManager.persist(product);
+
+        testEntityManager.persist(InventoryReservationEntity.builder()
+                .id(UUID.randomUUID())
+                .checkoutId(UUID.randomUUID())
+                .productVariantId(variantId)
+                .quantity(3)
+                .status("ACTIVE")
+                .expiresAt(now.plus(Duration.ofHours(1)))
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        return variantId;
+    }
+
+    private static List<UUID> addProductOptionGroup(
+            ProductEntity product,
+            OptionGroupEntity globalGroup,
+            double stepOrder,
+            int valueCount
+    ) {
+        ProductOptionGroupEntity group = ProductOptionGroupEntity.builder()
+                .id(UUID.randomUUID())
+                .optionGroupId(globalGroup.getId())
+                .stepOrder(stepOrder)
+                .isRequired(true)
+                .drivesVariantImages(false)
+                .status(OptionStatusEntity.ACTIVE)
+                .build();
+        List<UUID> valueIds = new ArrayList<>();
+        for (int i = 0; i < valueCount; i++) {
+            UUID valueId = UUID.randomUUID();
+            group.addOptionValue(ProductOptionValueEntity.builder()
+                    .id(valueId)
+                    .optionValueId(globalGroup.getOptionValues().get(i).getId())
+                    .priceDelta(BigDecimal.valueOf(i * 1000L))
+                    .isDefault(i == 0)
+                    .status(OptionStatusEntity.ACTIVE)
+                    .build());
+            valueIds.add(valueId);
+        }
+        product.addOptionGroup(group);
+        return valueIds;
+    }
+
+    private static long percentile(long[] samples, int percentile) {
+        long[] sorted = Arrays.copyOf(samples, samples.length);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static int resolveIterations() {
+        String raw = System.getenv("BENCHMARK_ITERATIONS");
+        return raw == null || raw.isBlank() ? 100 : Integer.parseInt(raw.trim());
+    }
+
+    @Configuration
+    @Import({ProductDataAccessConfig.class, StorefrontCartLineProjectionQueryRepository.class})
+    static class Config {
+    }
+}
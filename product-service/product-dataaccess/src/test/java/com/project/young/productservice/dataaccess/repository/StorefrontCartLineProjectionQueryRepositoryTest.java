@@ -0,0 +1,162 @@
+package com.project.young.productservice.dataaccess.repository;
+
+import com.project.young.productservice.application.port.output.view.ReadCartCatalogLineView;
+import com.project.young.productservice.dataaccess.adapter.PublicProductReadRepositoryImpl;
+import com.project.young.productservice.dataaccess.cache.InMemoryPublicProductSearchIndexAdapter;
+import com.project.young.productservice.dataaccess.config.ProductDataAccessConfig;
+import com.project.young.productservice.dataaccess.entity.InventoryReservationEntity;
+import com.project.young.productservice.dataaccess.mapper.ProductDataAccessMapper;
+import com.project.young.productservice.dataaccess.projection.StorefrontCartLineProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@Testcontainers
+@ContextConfiguration(classes = StorefrontCartLineProjectionQueryRepositoryTest.Config.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@SuppressWarnings("resource")
+class StorefrontCartLineProjectionQueryRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T00:00:00Z");
+
+    @Container
+    static PostgreSQLContainer<?> postgresContainer = new PostgreSQLContainer<>("postgres:18-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("testuser")
+            .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void overrideProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresContainer::getUsername);
+        registry.add("spring.datasource.password", postgresContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+        registry.add("product-service.storefront-cart-lines.load-strategy", () -> "PROJECTION");
+    }
+
+    @Autowired
+    private StorefrontCartLineProjectionQueryRepository projectionQueryRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private ProductImageJpaRepository productImageJpaRepository;
+
+    @Autowired
+    private ProductOptionValueImageJpaRepository productOptionValueImageJpaRepository;
+
+    @Autowired
+    private OptionGroupJpaRepository optionGroupJpaRepository;
+
+    @Autowired
+    private ProductVariantJpaRepository productVariantJpaRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private JpaRepositoryTestFixtures.CompositionGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        JpaRepositoryTestFixtures.truncateCompositionTables(testEntityManager);
+        graph = JpaRepositoryTestFixtures.persistColorSizeProduct(testEntityManager);
+
+        persistReservation(3, "ACTIVE", NOW.plus(Duration.ofMinutes(10)));
+        persistReservation(4, "ACTIVE", NOW.minus(Duration.ofMinutes(1)));
+        persistReservation(2, "RELEASED", NOW.plus(Duration.ofMinutes(10)));
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    @DisplayName("한 statement로 읽은 라인이 엔티티 fetch 경로와 같고 재고는 활성 예약만 뺀 가용 수량이다")
+    void findByVariantIds_matchesEntityFetchPathWithAvailableStock() {
+        ReadCartCatalogLineView projected = repository(projectionQueryRepository)
+                .findAvailableCartCatalogLinesByVariantIds(List.of(graph.variantId()), NOW)
+                .orElseThrow()
+                .getFirst();
+        testEntityManager.clear();
+        ReadCartCatalogLineView fetched = repository(mock(StorefrontCartLineProjectionQueryRepository.class))
+                .findCartCatalogLinesByVariantIds(List.of(graph.variantId()))
+                .getFirst();
+
+        assertThat(projected).usingRecursiveComparison().ignoringFields("stockQuantity").isEqualTo(fetched);
+        assertThat(fetched.stockQuantity()).isEqualTo(10);
+        assertThat(projected.stockQuantity()).isEqualTo(7);
+        assertThat(projected.variantOptions())
+                .extracting(option -> option.optionGroupName() + ":" + option.optionValueName())
+                .containsExactly("색상:빨강", "사이즈:라지");
+    }
+
+    @Test
+    @DisplayName("DRAFT 상품의 variant와 없는 id는 결과에서 빠진다")
+    void findByVariantIds_skipsHiddenVariants() {
+        testEntityManager.getEntityManager()
+                .createNativeQuery("UPDATE products SET status = 'DRAFT' WHERE id = :id")
+                .setParameter("id", graph.productId())
+                .executeUpdate();
+
+        List<StorefrontCartLineProjection> rows = projectionQueryRepository
+                .findByVariantIds(List.of(graph.variantId(), UUID.randomUUID()), NOW)
+                .orElseThrow();
+
+        assertThat(rows).isEmpty();
+    }
+
+    private void persistReservation(int quantity, String status, Instant expiresAt) {
+        testEntityManager.persist(InventoryReservationEntity.builder()
+                .id(UUID.randomUUID())
+                .checkoutId(UUID.randomUUID())
+                .productVariantId(graph.variantId())
+                .quantity(quantity)
+                .status(status)
+                .expiresAt(expiresAt)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build());
+    }
+
+    private PublicProductReadRepositoryImpl repository(StorefrontCartLineProjectionQueryRepository projectionRepository) {
+        return new PublicProductReadRepositoryImpl(
+                mock(PublicProductSearchQueryRepository.class),
+                productJpaRepository,
+                new ProductDataAccessMapper(),
+                productImageJpaRepository,
+                productOptionValueImageJpaRepository,
+                optionGroupJpaRepository,
+                productVariantJpaRepository,
+                mock(InMemoryPublicProductSearchIndexAdapter.class),
+                mock(StorefrontProductDetailJsonQueryRepository.class),
+                projectionRepository
+        );
+    }
+
+    @Configuration
+    @Import({ProductDataAccessConfig.class, StorefrontCartLineProjectionQueryRepository.class})
+    static class Config {
+    }
+}
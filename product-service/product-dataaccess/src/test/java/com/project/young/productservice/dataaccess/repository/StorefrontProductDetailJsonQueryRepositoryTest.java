@@ -0,0 +1,173 @@
+package com.project.young.productservice.dataaccess.repository;
+
+import com.project.young.common.domain.valueobject.ProductId;
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.dataaccess.adapter.PublicProductReadRepositoryImpl;
+import com.project.young.productservice.dataaccess.cache.InMemoryPublicProductSearchIndexAdapter;
+import com.project.young.productservice.dataaccess.cache.ReadProductDetailViewJsonMapper;
+import com.project.young.productservice.dataaccess.config.ProductDataAccessConfig;
+import com.project.young.productservice.dataaccess.entity.ProductEntity;
+import com.project.young.productservice.dataaccess.entity.ProductImageEntity;
+import com.project.young.productservice.dataaccess.entity.ProductOptionValueEntity;
+import com.project.young.productservice.dataaccess.enums.OptionStatusEntity;
+import com.project.young.productservice.dataaccess.enums.ProductImageRoleEntity;
+import com.project.young.productservice.dataaccess.mapper.ProductDataAccessMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@Testcontainers
+@ContextConfiguration(classes = StorefrontProductDetailJsonQueryRepositoryTest.Config.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@SuppressWarnings("resource")
+class StorefrontProductDetailJsonQueryRepositoryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgresContainer = new PostgreSQLContainer<>("postgres:18-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("testuser")
+            .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void overrideProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresContainer::getUsername);
+        registry.add("spring.datasource.password", postgresContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+        registry.add("product-service.storefront-detail.load-strategy", () -> "JSON_AGGREGATION");
+    }
+
+    @Autowired
+    private StorefrontProductDetailJsonQueryRepository jsonQueryRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private ProductImageJpaRepository productImageJpaRepository;
+
+    @Autowired
+    private ProductOptionValueImageJpaRepository productOptionValueImageJpaRepository;
+
+    @Autowired
+    private OptionGroupJpaRepository optionGroupJpaRepository;
+
+    @Autowired
+    private ProductVariantJpaRepository productVariantJpaRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private JpaRepositoryTestFixtures.CompositionGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        JpaRepositoryTestFixtures.truncateCompositionTables(testEntityManager);
+        graph = JpaRepositoryTestFixtures.persistColorSizeProduct(testEntityManager);
+
+        ProductEntity product = testEntityManager.find(ProductEntity.class, graph.productId());
+        persistProductImage(product, "gallery.jpg", ProductImageRoleEntity.GALLERY, 1, OptionStatusEntity.ACTIVE);
+        persistProductImage(product, "main.jpg", ProductImageRoleEntity.MAIN, 2, OptionStatusEntity.ACTIVE);
+        persistProductImage(product, "deleted.jpg", ProductImageRoleEntity.GALLERY, 0, OptionStatusEntity.DELETED);
+        ProductOptionValueEntity red = testEntityManager.find(ProductOptionValueEntity.class, graph.redPovId());
+        testEntityManager.persist(JpaRepositoryTestFixtures.createPovImage(
+                red, "povs/" + graph.redPovId() + "/a.jpg", ProductImageRoleEntity.MAIN, 0, OptionStatusEntity.ACTIVE));
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    @DisplayName("한 statement로 읽은 상세가 엔티티 fetch 경로의 상세와 같다")
+    void findDetailsByIds_matchesEntityFetchPath() {
+        ReadProductDetailView aggregated = jsonQueryRepository.findDetailsByIds(List.of(graph.productId()))
+                .orElseThrow()
+                .get(graph.productId());
+        testEntityManager.clear();
+        ReadProductDetailView fetched = entityFetchRepository()
+                .findStorefrontProductDetailById(new ProductId(graph.productId()))
+                .orElseThrow();
+
+        assertThat(aggregated).usingRecursiveComparison().ignoringCollectionOrder().isEqualTo(fetched);
+        assertThat(aggregated.images()).extracting(image -> image.role()).containsExactly("MAIN", "GALLERY");
+        assertThat(aggregated.optionGroups()).extracting(group -> group.displayName()).containsExactly("색상", "사이즈");
+        assertThat(aggregated.variants().getFirst().selectedProductOptionValueIds())
+                .containsExactly(graph.redPovId(), graph.largePovId());
+    }
+
+    @Test
+    @DisplayName("DRAFT 상품과 없는 id는 결과에서 빠진다")
+    void findDetailsByIds_skipsHiddenProducts() {
+        testEntityManager.getEntityManager()
+                .createNativeQuery("UPDATE products SET status = 'DRAFT' WHERE id = :id")
+                .setParameter("id", graph.productId())
+                .executeUpdate();
+
+        Map<UUID, ReadProductDetailView> result =
+                jsonQueryRepository.findDetailsByIds(List.of(graph.productId(), UUID.randomUUID())).orElseThrow();
+
+        assertThat(result).isEmpty();
+    }
+
+    private PublicProductReadRepositoryImpl entityFetchRepository() {
+        return new PublicProductReadRepositoryImpl(
+                mock(PublicProductSearchQueryRepository.class),
+                productJpaRepository,
+                new ProductDataAccessMapper(),
+                productImageJpaRepository,
+                productOptionValueImageJpaRepository,
+                optionGroupJpaRepository,
+                productVariantJpaRepository,
+                mock(InMemoryPublicProductSearchIndexAdapter.class),
+                mock(StorefrontProductDetailJsonQueryRepository.class),
+                mock(StorefrontCartLineProjectionQueryRepository.class)
+        );
+    }
+
+    private void persistProductImage(
+            ProductEntity product,
+            String fileName,
+            ProductImageRoleEntity role,
+            int sortOrder,
+            OptionStatusEntity status
+    ) {
+        String storageKey = "products/" + product.getId() + "/" + fileName;
+        testEntityManager.persist(ProductImageEntity.builder()
+                .product(product)
+                .storageKey(storageKey)
+                .publicUrl("https://pub.example/" + storageKey)
+                .role(role)
+                .sortOrder(sortOrder)
+                .contentType("image/jpeg")
+                .fileSize(1024L)
+                .status(status)
+                .build());
+    }
+
+    @Configuration
+    @Import({ProductDataAccessConfig.class, StorefrontProductDetailJsonQueryRepository.class,
+            ReadProductDetailViewJsonMapper.class})
+    static class Config {
+    }
+}
@@ -0,0 +1,294 @@
+package com.project.young.productservice.dataaccess.repository;
+
+import com.project.young.common.domain.valueobject.ProductId;
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.dataaccess.adapter.PublicProductReadRepositoryImpl;
+import com.project.young.productservice.dataaccess.cache.InMemoryPublicProductSearchIndexAdapter;
+import com.project.young.productservice.dataaccess.cache.ReadProductDetailViewJsonMapper;
+import com.project.young.productservice.dataaccess.config.ProductDataAccessConfig;
+import com.project.young.productservice.dataaccess.entity.OptionGroupEntity;
+import com.project.young.productservice.dataaccess.entity.OptionValueEntity;
+import com.project.young.productservice.dataaccess.entity.ProductEntity;
+import com.project.young.productservice.dataaccess.entity.ProductImageEntity;
+import com.project.young.productservice.dataaccess.entity.ProductOptionGroupEntity;
+import com.project.young.productservice.dataaccess.entity.ProductOptionValueEntity;
+import com.project.young.productservice.dataaccess.entity.ProductVariantEntity;
+import com.project.young.productservice.dataaccess.entity.VariantOptionValueEntity;
+import com.project.young.productservice.dataaccess.enums.ConditionTypeEntity;
+import com.project.young.productservice.dataaccess.enums.OptionStatusEntity;
+import com.project.young.productservice.dataaccess.enums.ProductImageRoleEntity;
+import com.project.young.productservice.dataaccess.enums.ProductStatusEntity;
+import com.project.young.productservice.dataaccess.mapper.ProductDataAccessMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * PDP 캐시 miss 로딩 지연 비교: ENTITY_FETCH(fetch join 2회 + 이미지·옵션 메타 조회 + hydration) vs
+ * JSON_AGGREGATION(jsonb_agg 한 statement) (수동 실행). 매 측정 전에 영속성 컨텍스트를 비워 1차 캐시 hit를 배제한다.
+ *
+ * <pre>
+ * cd product-dataaccess
+ * RUN_PDP_LOAD_BENCHMARK=true mvn test -Dtest=StorefrontProductDetailLoadBenchmarkIT
+ *
+ * Optional:
+ *   BENCHMARK_ITERATIONS=200  (default 100)
+ * </pre>
+ */
+@DataJpaTest
+@Testcontainers
+@ContextConfiguration(classes = StorefrontProductDetailLoadBenchmarkIT.Config.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "RUN_PDP_LOAD_BENCHMARK", matches = "true")
+@SuppressWarnings("resource")
+class StorefrontProductDetailLoadBenchmarkIT {
+
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURE_ITERATIONS = resolveIterations();
+    /** (colors, sizes): variant 수 = colors × sizes. */
+    private static final int[][] VARIANT_SHAPES = {{1, 1}, {4, 5}, {20, 10}};
+
+    @Container
+    static PostgreSQLContainer<?> postgresContainer = new PostgreSQLContainer<>("postgres:18-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("testuser")
+            .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void overrideProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresContainer::getUsername);
+        registry.add("spring.datasource.password", postgresContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("product-service.storefront-detail.load-strategy", () -> "JSON_AGGREGATION");
+    }
+
+    @Autowired
+    private StorefrontProductDetailJsonQueryRepository jsonQueryRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private ProductImageJpaRepository productImageJpaRepository;
+
+    @Autowired
+    private ProductOptionValueImageJpaRepository productOptionValueImageJpaRepository;
+
+    @Autowired
+    private OptionGroupJpaRepository optionGroupJpaRepository;
+
+    @Autowired
+    private ProductVariantJpaRepository productVariantJpaRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Test
+    @DisplayName("variant 1 / 20 / 200개 상품의 PDP miss 지연: ENTITY_FETCH vs JSON_AGGREGATION")
+    void compareMissLatencyByVariantCount() {
+        JpaRepositoryTestFixtures.truncateCompositionTables(testEntityManager);
+        OptionGroupEntity color = persistGlobalGroup("color", 20);
+        OptionGroupEntity size = persistGlobalGroup("size", 10);
+
+        PublicProductReadRepositoryImpl entityFetch = repository(mock(StorefrontProductDetailJsonQueryRepository.class));
+        PublicProductReadRepositoryImpl jsonAggregation = repository(jsonQueryRepository);
+
+        System.out.println("=== Storefront PDP miss latency (iterations=" + MEASURE_ITERATIONS + ") ===");
+        System.out.println("variants | ENTITY_FETCH p50 / p95 (ms) | JSON_AGGREGATION p50 / p95 (ms)");
+        for (int[] shape : VARIANT_SHAPES) {
+            ProductId productId = new ProductId(persistProduct(color, size, shape[0], shape[1]));
+
+            ReadProductDetailView fetched = load(entityFetch, productId);
+            ReadProductDetailView aggregated = load(jsonAggregation, productId);
+            assertThat(aggregated).usingRecursiveComparison().ignoringCollectionOrder().isEqualTo(fetched);
+            assertThat(aggregated.variants()).hasSize(shape[0] * shape[1]);
+
+            long[] entityNanos = measure(entityFetch, productId);
+            long[] jsonNanos = measure(jsonAggregation, productId);
+            System.out.printf("%8d | %8.2f / %8.2f           | %8.2f / %8.2f%n",
+                    shape[0] * shape[1],
+                    millis(percentile(entityNanos, 50)), millis(percentile(entityNanos, 95)),
+                    millis(percentile(jsonNanos, 50)), millis(percentile(jsonNanos, 95)));
+        }
+    }
+
+    private long[] measure(PublicProductReadRepositoryImpl repository, ProductId productId) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            load(repository, productId);
+        }
+        long[] samples = new long[MEASURE_ITERATIONS];
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            testEntityManager.clear();
+            long start = System.nanoTime();
+            repository.findStorefrontProductDetailById(productId).orElseThrow();
+            samples[i] = System.nanoTime() - start;
+        }
+        return samples;
+    }
+
+    private ReadProductDetailView load(PublicProductReadRepositoryImpl repository, ProductId productId) {
+        testEntityManager.clear();
+        return repository.findStorefrontProductDetailById(productId).orElseThrow();
+    }
+
+    private PublicProductReadRepositoryImpl repository(StorefrontProductDetailJsonQueryRepository jsonRepository) {
+        return new PublicProductReadRepositoryImpl(
+                mock(PublicProductSearchQueryRepository.class),
+                productJpaRepository,
+                new ProductDataAccessMapper(),
+                productImageJpaRepository,
+                productOptionValueImageJpaRepository,
+                optionGroupJpaRepository,
+                productVariantJpaRepository,
+                mock(InMemoryPublicProductSearchIndexAdapter.class),
+                jsonRepository,
+                mock(StorefrontCartLineProjectionQueryRepository.class)
+        );
+    }
+
+    private OptionGroupEntity persistGlobalGroup(String name, int valueCount) {
+        OptionGroupEntity group = testEntityManager.persist(OptionGroupEntity.builder()
+                .name(name + "-" + UUID.randomUUID())
+                .displayName(name)
+                .status(OptionStatusEntity.ACTIVE)
+                .build());
+        for (int i = 0; i < valueCount; i++) {
+            group.getOptionValues().add(testEntityManager.persist(OptionValueEntity.builder()
+                    .optionGroup(group)
+                    .value(name + i)
+                    .displayName(name + " " + i)
+                    .sortOrder(i)
+                    .status(OptionStatusEntity.ACTIVE)
+                    .build()));
+        }
+        testEntityManager.flush();
+        return group;
+    }
+
+    private UUID persistProduct(OptionGroupEntity color, OptionGroupEntity size, int colors, int sizes) {
+        ProductEntity product = ProductEntity.builder()
+                .id(UUID.randomUUID())
+                .name("벤치마크 상품 " + colors * sizes)
+                .description("상세 설명 ".repeat(40))
+                .basePrice(new BigDecimal("59000"))
+                .status(ProductStatusEntity.ACTIVE)
+                .conditionType(ConditionTypeEntity.NEW)
+                .brand("브랜드A")
+                .mainImageUrl("https://example.com/main.jpg")
+                .build();
+        List<UUID> colorValueIds = addProductOptionGroup(product, color, 1.0d, colors);
+        List<UUID> sizeValueIds = addProductOptionGroup(product, size, 2.0d, sizes);
+        for (int c = 0; c < colors; c++) {
+            for (int s = 0; s < sizes; s++) {
+                ProductVariantEntity variant = ProductVariantEntity.builder()
+                        .id(UUID.randomUUID())
+                        .sku("SKU-" + product.getId() + "-" + c + "-" + s)
+                        .stockQuantity(10)
+                        .status(ProductStatusEntity.ACTIVE)
+                        .calculatedPrice(new BigDecimal("59000"))
+                        .mainImageUrl("https://example.com/" + c + ".jpg")
+                        .build();
+                variant.addSelectedOptionValue(VariantOptionValueEntity.builder()
+                        .productOptionValueId(colorValueIds.get(c))
+                        .build());
+                variant.addSelectedOptionValue(VariantOptionValueEntity.builder()
+                        .productOptionValueId(sizeValueIds.get(s))
+                        .build());
+                product.addVariant(variant);
+            }
+        }
+        testEntityManager.persist(product);
+        for (int i = 0; i < 5; i++) {
+            String storageKey = "products/" + product.getId() + "/" + i + ".jpg";
+            testEntityManager.persist(ProductImageEntity.builder()
+                    .product(product)
+                    .storageKey(storageKey)
+                    .publicUrl("https://pub.example/" + storageKey)
+                    .role(i == 0 ? ProductImageRoleEntity.MAIN : ProductImageRoleEntity.GALLERY)
+                    .sortOrder(i)
+                    .status(OptionStatusEntity.ACTIVE)
+                    .build());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        return product.getId();
+    }
+
+    private static List<UUID> addProductOptionGroup(
+            ProductEntity product,
+            OptionGroupEntity globalGroup,
+            double stepOrder,
+            int valueCount
+    ) {
+        ProductOptionGroupEntity group = ProductOptionGroupEntity.builder()
+                .id(UUID.randomUUID())
+                .optionGroupId(globalGroup.getId())
+                .stepOrder(stepOrder)
+                .isRequired(true)
+                .drivesVariantImages(false)
+                .status(OptionStatusEntity.ACTIVE)
+                .build();
+        List<UUID> valueIds = new ArrayList<>();
+        for (int i = 0; i < valueCount; i++) {
+            UUID valueId = UUID.randomUUID();
+            group.addOptionValue(ProductOptionValueEntity.builder()
+                    .id(valueId)
+                    .optionValueId(globalGroup.getOptionValues().get(i).getId())
+                    .priceDelta(BigDecimal.valueOf(i * 1000L))
+                    .isDefault(i == 0)
+                    .status(OptionStatusEntity.ACTIVE)
+                    .build());
+            valueIds.add(valueId);
+        }
+        product.addOptionGroup(group);
+        return valueIds;
+    }
+
+    private static long percentile(long[] samples, int percentile) {
+        long[] sorted = Arrays.copyOf(samples, samples.length);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static int resolveIterations() {
+        String raw = System.getenv("BENCHMARK_ITERATIONS");
+        return raw == null || raw.isBlank() ? 100 : Integer.parseInt(raw.trim());
+    }
+
+    @Configuration
+    @Import({ProductDataAccessConfig.class, StorefrontProductDetailJsonQueryRepository.class,
+            ReadProductDetailViewJsonMapper.class})
+    static class Config {
+    }
+}
@@ -0,0 +1,305 @@
+package com.project.young.productservice.dataaccess.repository;
+
+import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductFacetQuery;
+import com.project.young.productservice.application.dto.query.PublicProductFacetType;
+import com.project.young.productservice.application.dto.query.PublicProductSort;
+import com.project.young.productservice.application.dto.result.PublicProductBrandFacetValueResult;
+import com.project.young.productservice.application.dto.result.PublicProductFacetResult;
+import com.project.young.productservice.dataaccess.config.ProductDataAccessConfig;
+import com.project.young.productservice.dataaccess.config.ProductSearchCountProperties;
+import com.project.young.productservice.dataaccess.config.PublicProductSearchProperties;
+import com.project.young.productservice.dataaccess.entity.CategoryEntity;
+import com.project.young.productservice.dataaccess.entity.ProductEntity;
+import com.project.young.productservice.dataaccess.enums.CategoryStatusEntity;
+import com.project.young.productservice.dataaccess.enums.ConditionTypeEntity;
+import com.project.young.productservice.dataaccess.enums.ProductStatusEntity;
+import com.project.young.productservice.dataaccess.projection.PublicProductListProjection;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Testcontainers
+@ContextConfiguration(classes = StorefrontProductListingQueryRepositoryTest.Config.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class StorefrontProductListingQueryRepositoryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgresContainer = new PostgreSQLContainer<>("postgres:18-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("testuser")
+            .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void overrideProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresContainer::getUsername);
+        registry.add("spring.datasource.password", postgresContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+        registry.add("product-service.public-search.listing.source", () -> "LISTING_TABLE");
+    }
+
+    @Autowired
+    private PublicProductSearchQueryRepository listingSearchRepository;
+
+    @Autowired
+    private PublicProductFacetQueryRepository listingFacetRepository;
+
+    @Autowired
+    private StorefrontProductListingQueryRepository listingQueryRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @Autowired
+    private ProductSearchCountProperties countProperties;
+
+    @Autowired
+    private ProductSearchTotalCounter totalCounter;
+
+    @Autowired
+    private PublicProductKeywordPlanSelector keywordPlanSelector;
+
+    private CategoryEntity rootCategory;
+    private CategoryEntity childCategory;
+    private CategoryEntity otherCategory;
+
+    @BeforeEach
+    void setUp() {
+        productJpaRepository.deleteAll();
+        testEntityManager.flush();
+
+        rootCategory = persistCategory("의류", CategoryStatusEntity.ACTIVE, null);
+        childCategory = persistCategory("데님", CategoryStatusEntity.ACTIVE, rootCategory);
+        otherCategory = persistCategory("잡화", CategoryStatusEntity.ACTIVE, null);
+
+        persistProduct("와이드핏 데님", "브랜드A", rootCategory, ProductStatusEntity.ACTIVE, "30000");
+        persistProduct("스트레이트핏 데님", "브랜드A", rootCategory, ProductStatusEntity.INACTIVE, "25000");
+        persistProduct("코튼 셔츠", "브랜드B", rootCategory, ProductStatusEntity.ACTIVE, "45000");
+        persistProduct("하위 카테고리 데님", "브랜드B", childCategory, ProductStatusEntity.ACTIVE, "60000");
+        persistProduct("다른 카테고리 상품", "브랜드C", otherCategory, ProductStatusEntity.ACTIVE, "15000");
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Nested
+    @DisplayName("트리거 유지")
+    class TriggerMaintenanceTests {
+
+        @Test
+        @DisplayName("ACTIVE 카테고리의 ACTIVE 상품만 행을 가지며 조상 경로를 저장한다")
+        void insert_storesOnlyListableProductsWithCategoryPath() {
+            assertThat(listingCount()).isEqualTo(4L);
+            assertThat(categoryPath("하위 카테고리 데님"))
+                    .isEqualTo(rootCategory.getId() + "," + childCategory.getId());
+        }
+
+        @Test
+        @DisplayName("상품 비활성화는 행을 지우고 가격 변경은 행에 반영된다")
+        void productUpdate_syncsRow() {
+            executeUpdate("UPDATE products SET status = 'INACTIVE' WHERE name = '코튼 셔츠'");
+            executeUpdate("UPDATE products SET base_price = 35000 WHERE name = '와이드핏 데님'");
+
+            assertThat(listingCount()).isEqualTo(3L);
+            assertThat((BigDecimal) testEntityManager.getEntityManager().createNativeQuery(
+                            "SELECT base_price FROM storefront_product_listing WHERE name = '와이드핏 데님'")
+                    .getSingleResult()).isEqualByComparingTo("35000");
+        }
+
+        @Test
+        @DisplayName("카테고리 비활성화는 그 카테고리 상품 행을 지우고 재활성화하면 복원한다")
+        void categoryStatusChange_syncsOwnProducts() {
+            executeUpdate("UPDATE categories SET status = 'INACTIVE' WHERE id = " + rootCategory.getId());
+            assertThat(listingCount()).isEqualTo(2L);
+
+            executeUpdate("UPDATE categories SET status = 'ACTIVE' WHERE id = " + rootCategory.getId());
+            assertThat(listingCount()).isEqualTo(4L);
+        }
+
+        @Test
+        @DisplayName("카테고리 이동은 하위 트리 상품의 경로를 다시 만든다")
+        void categoryMove_rebuildsSubtreePaths() {
+            executeUpdate("UPDATE categories SET parent_id = " + otherCategory.getId()
+                    + " WHERE id = " + childCategory.getId());
+
+            assertThat(categoryPath("하위 카테고리 데님"))
+                    .isEqualTo(otherCategory.getId() + "," + childCategory.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("products 경로와의 일치")
+    class ParityTests {
+
+        @Test
+        @DisplayName("필터·정렬·하위 포함 조합에서 products 경로와 같은 순서를 반환한다")
+        void search_matchesProductsPath() {
+            PublicProductSearchQueryRepository productsRepository = productsRepository();
+            List<PublicProductSearchCondition> conditions = List.of(
+                    condition(rootCategory.getId(), null, null, false),
+                    condition(rootCategory.getId(), null, null, true),
+                    condition(rootCategory.getId(), "데님", null, true),
+                    condition(rootCategory.getId(), "브랜드b", null, true),
+                    condition(rootCategory.getId(), null, List.of("브랜드B"), true),
+                    new PublicProductSearchCondition(rootCategory.getId(), null, null,
+                            new BigDecimal("30000"), new BigDecimal("50000"), true)
+            );
+
+            for (PublicProductSearchCondition condition : conditions) {
+                for (PublicProductSort sort : PublicProductSort.values()) {
+                    assertThat(names(listingSearchRepository.search(condition, sort, PageRequest.of(0, 10))
+                            .getContent()))
+                            .as("%s / %s", condition, sort)
+                            .containsExactlyElementsOf(names(productsRepository.search(
+                                    condition, sort, PageRequest.of(0, 10)).getContent()));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("keyset 순회 결과가 products 경로와 같다")
+        void searchAfter_matchesProductsPath() {
+            PublicProductSearchCondition condition = condition(rootCategory.getId(), null, null, true);
+
+            Slice<PublicProductListProjection> listing =
+                    listingSearchRepository.searchAfter(condition, PublicProductSort.PRICE_ASC, null, 10);
+            Slice<PublicProductListProjection> products =
+                    productsRepository().searchAfter(condition, PublicProductSort.PRICE_ASC, null, 10);
+
+            assertThat(names(listing.getContent())).containsExactlyElementsOf(names(products.getContent()))
+                    .containsExactly("와이드핏 데님", "코튼 셔츠", "하위 카테고리 데님");
+        }
+
+        @Test
+        @DisplayName("listing 테이블 기준 facet 집계는 products 기준과 같은 건수를 낸다")
+        void getFacets_readsListingTable() {
+            PublicProductFacetResult result = listingFacetRepository.getFacets(new PublicProductFacetQuery(
+                    rootCategory.getId(), null, List.of("브랜드A"), null, null,
+                    List.of(PublicProductFacetType.BRAND, PublicProductFacetType.PRICE), true));
+
+            assertThat(result.totalMatching()).isEqualTo(1L);
+            assertThat(result.brands())
+                    .extracting(PublicProductBrandFacetValueResult::value, PublicProductBrandFacetValueResult::count)
+                    .containsExactlyInAnyOrder(tuple("브랜드A", 1L), tuple("브랜드B", 2L));
+        }
+
+        @Test
+        @DisplayName("FULL_TEXT 전략은 listing 테이블을 쓰지 않는다")
+        void appliesTo_onlyLikeBasedStrategies() {
+            assertThat(StorefrontProductListingSql.appliesTo(
+                    PublicProductListingSource.LISTING_TABLE, PublicProductKeywordSearchStrategy.NAME_BRAND)).isTrue();
+            assertThat(StorefrontProductListingSql.appliesTo(
+                    PublicProductListingSource.LISTING_TABLE, PublicProductKeywordSearchStrategy.FULL_TEXT)).isFalse();
+            assertThat(StorefrontProductListingSql.appliesTo(
+                    PublicProductListingSource.PRODUCTS, PublicProductKeywordSearchStrategy.NAME_BRAND)).isFalse();
+        }
+    }
+
+    private PublicProductSearchQueryRepository productsRepository() {
+        return new PublicProductSearchQueryRepository(
+                queryFactory, PublicProductSearchProperties.builder().build(), countProperties, totalCounter,
+                keywordPlanSelector, listingQueryRepository);
+    }
+
+    private static PublicProductSearchCondition condition(
+            long categoryId, String keyword, List<String> brands, boolean includeDescendants) {
+        return new PublicProductSearchCondition(categoryId, keyword, brands, null, null, includeDescendants);
+    }
+
+    private static List<String> names(List<PublicProductListProjection> rows) {
+        return rows.stream().map(PublicProductListProjection::name).toList();
+    }
+
+    private long listingCount() {
+        return ((Number) testEntityManager.getEntityManager()
+                .createNativeQuery("SELECT count(*) FROM storefront_product_listing")
+                .getSingleResult()).longValue();
+    }
+
+    private String categoryPath(String productName) {
+        return (String) testEntityManager.getEntityManager()
+                .createNativeQuery("SELECT array_to_string(category_path, ',') FROM storefront_product_listing"
+                        + " WHERE name = :name")
+                .setParameter("name", productName)
+                .getSingleResult();
+    }
+
+    private void executeUpdate(String sql) {
+        testEntityManager.getEntityManager().createNativeQuery(sql).executeUpdate();
+    }
+
+    private CategoryEntity persistCategory(String name, CategoryStatusEntity status, CategoryEntity parent) {
+        Instant now = Instant.now();
+        return testEntityManager.persistAndFlush(CategoryEntity.builder()
+                .name(name + "-" + UUID.randomUUID())
+                .parent(parent)
+                .status(status)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+    }
+
+    private void persistProduct(
+            String name,
+            String brand,
+            CategoryEntity category,
+            ProductStatusEntity status,
+            String basePrice
+    ) {
+        Instant now = Instant.now();
+        testEntityManager.persist(ProductEntity.builder()
+                .id(UUID.randomUUID())
+                .category(category)
+                .name(name)
+                .description(name + " 상세")
+                .basePrice(new BigDecimal(basePrice))
+                .status(status)
+                .conditionType(ConditionTypeEntity.NEW)
+                .brand(brand)
+                .mainImageUrl("https://example.com/" + UUID.randomUUID() + ".jpg")
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+    }
+
+    @Configuration
+    @Import({ProductDataAccessConfig.class, PublicProductSearchQueryRepository.class,
+            PublicProductFacetQueryRepository.class, ProductSearchTotalCounter.class,
+            PublicProductKeywordPlanSelector.class, StorefrontProductListingQueryRepository.class})
+    static class Config {
+    }
+}
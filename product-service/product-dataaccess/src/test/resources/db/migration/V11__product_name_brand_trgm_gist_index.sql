@@ -0,0 +1,10 @@
+-- Public PLP relevance sort: pg_trgm GiST on the same lower(name) || lower(brand) expression as
+-- idx_products_name_brand_search_trgm. GiST (unlike GIN) supports KNN ordering, so
+-- ORDER BY <expr> <->> :keyword LIMIT n reads the top-n by word similarity straight from the index.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_products_name_brand_search_trgm_gist
+    ON products USING gist (
+        (lower(coalesce(name, '')) || ' ' || lower(coalesce(brand, ''))) gist_trgm_ops
+    );
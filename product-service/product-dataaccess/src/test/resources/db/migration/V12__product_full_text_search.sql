@@ -0,0 +1,40 @@
+-- Public PLP FULL_TEXT keyword strategy: stored tsvector columns kept in sync by Postgres (generated columns),
+-- each with its own GIN index. Weights: name A, brand B, description D (queries restrict to :AB unless
+-- description search is enabled).
+--   search_vector        'simple' word lexemes (multi-term and phrase queries on whole words)
+--   search_ngram_vector  the same fields as per-word character bigrams, for Korean text without a morphological
+--                        analyzer: a query word matches as a chain of adjacent bigrams ('데님' <-> '님자' ...)
+-- Adding STORED generated columns rewrites products once.
+
+CREATE OR REPLACE FUNCTION product_search_bigrams(input text)
+    RETURNS text
+    LANGUAGE sql
+    IMMUTABLE
+    PARALLEL SAFE
+AS
+$$
+SELECT coalesce(string_agg(
+                        CASE WHEN char_length(w.word) < 2 THEN w.word ELSE substr(w.word, g.i, 2) END,
+                        ' ' ORDER BY w.ord, g.i), '')
+FROM regexp_split_to_table(lower(coalesce(input, '')), '[[:space:][:punct:]]+') WITH ORDINALITY AS w(word, ord)
+         CROSS JOIN LATERAL generate_series(1, greatest(char_length(w.word) - 1, 1)) AS g(i)
+WHERE w.word <> ''
+$$;
+
+ALTER TABLE products
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple'::regconfig, coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('simple'::regconfig, coalesce(brand, '')), 'B') ||
+        setweight(to_tsvector('simple'::regconfig, coalesce(description, '')), 'D')
+        ) STORED,
+    ADD COLUMN search_ngram_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple'::regconfig, product_search_bigrams(name)), 'A') ||
+        setweight(to_tsvector('simple'::regconfig, product_search_bigrams(brand)), 'B') ||
+        setweight(to_tsvector('simple'::regconfig, product_search_bigrams(description)), 'D')
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_products_search_vector
+    ON products USING gin (search_vector);
+
+CREATE INDEX IF NOT EXISTS idx_products_search_ngram_vector
+    ON products USING gin (search_ngram_vector);
@@ -0,0 +1,5 @@
+-- Category a product moved out of, so consumers can invalidate per-category caches (facets) of both categories.
+-- NULL unless the change moved the product to another category.
+
+ALTER TABLE product_catalog_outbox
+    ADD COLUMN previous_category_id BIGINT;
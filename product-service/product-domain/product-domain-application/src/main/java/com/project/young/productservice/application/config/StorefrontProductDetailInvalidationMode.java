@@ -0,0 +1,12 @@
+package com.project.young.productservice.application.config;
+
+public enum StorefrontProductDetailInvalidationMode {
+    /**
+     * Delete the PDP cache entry; the next visitor reloads it.
+     */
+    EVICT,
+    /**
+     * Rebuild the view and overwrite the entry (write-through); visitors keep hitting the cache.
+     */
+    RECOMPUTE
+}
@@ -0,0 +1,32 @@
+package com.project.young.productservice.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "product-service.storefront-cache.invalidation")
+public class StorefrontProductDetailInvalidationProperties {
+
+    private StorefrontProductDetailInvalidationMode mode = StorefrontProductDetailInvalidationMode.EVICT;
+
+    /**
+     * RECOMPUTE only: changes to one product within this window collapse into a single rebuild. Default 200ms.
+     */
+    private Duration recomputeWindow = Duration.ofMillis(200);
+
+    public StorefrontProductDetailInvalidationMode getMode() {
+        return mode;
+    }
+
+    public void setMode(StorefrontProductDetailInvalidationMode mode) {
+        this.mode = mode;
+    }
+
+    public Duration getRecomputeWindow() {
+        return recomputeWindow;
+    }
+
+    public void setRecomputeWindow(Duration recomputeWindow) {
+        this.recomputeWindow = recomputeWindow;
+    }
+}
@@ -5,18 +5,30 @@ import java.util.List;
 
 /**
  * Normalized storefront product list filters (category is always required at the API boundary).
+ * {@code includeDescendants} widens the category filter to the whole subtree rooted at {@code categoryId}.
  */
 public record PublicProductSearchCondition(
         long categoryId,
         String keyword,
         List<String> brands,
         BigDecimal minPrice,
-        BigDecimal maxPrice
+        BigDecimal maxPrice,
+        boolean includeDescendants
 ) {
     public PublicProductSearchCondition {
         brands = brands == null ? List.of() : List.copyOf(brands);
     }
 
+    public PublicProductSearchCondition(
+            long categoryId,
+            String keyword,
+            List<String> brands,
+            BigDecimal minPrice,
+            BigDecimal maxPrice
+    ) {
+        this(categoryId, keyword, brands, minPrice, maxPrice, false);
+    }
+
     public String normalizedKeyword() {
         return keyword == null || keyword.isBlank() ? null : keyword.trim();
     }
@@ -0,0 +1,14 @@
+package com.project.young.productservice.application.dto.event;
+
+/**
+ * Internal signal that the category tree (name, parent or status) changed; bumps the snapshot version after commit.
+ */
+public record CategoryTreeChangedEvent(
+        Long categoryId
+) {
+    public CategoryTreeChangedEvent {
+        if (categoryId == null) {
+            throw new IllegalArgumentException("categoryId must not be null");
+        }
+    }
+}
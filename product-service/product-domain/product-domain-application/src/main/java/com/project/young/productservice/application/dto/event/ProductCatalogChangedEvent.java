@@ -7,6 +7,7 @@ public record ProductCatalogChangedEvent(
         UUID eventId,
         UUID productId,
         Long categoryId,
+        Long previousCategoryId,
         ProductCatalogChangeType changeType,
         Instant occurredAt
 ) {
@@ -3,11 +3,16 @@ package com.project.young.productservice.application.dto.event;
 import java.util.UUID;
 
 /**
- * Internal signal to evict storefront PDP cache after the mutating transaction commits.
+ * Internal signal to evict storefront caches after the mutating transaction commits:
+ * the PDP entry for {@code productId}, its row in the in-memory search index, the cached PLP pages listing it and,
+ * when {@code categoryId} is known, that category's facet results. {@code previousCategoryId} is set only when the
+ * product moved out of another category, whose facet results are then stale too.
  */
 public record StorefrontProductDetailCacheEvictRequestedEvent(
         UUID productId,
-        ProductCatalogChangeType changeType
+        ProductCatalogChangeType changeType,
+        Long categoryId,
+        Long previousCategoryId
 ) {
     public StorefrontProductDetailCacheEvictRequestedEvent {
         if (productId == null) {
@@ -17,4 +22,16 @@ public record StorefrontProductDetailCacheEvictRequestedEvent(
             throw new IllegalArgumentException("changeType must not be null");
         }
     }
+
+    public StorefrontProductDetailCacheEvictRequestedEvent(
+            UUID productId,
+            ProductCatalogChangeType changeType,
+            Long categoryId
+    ) {
+        this(productId, changeType, categoryId, null);
+    }
+
+    public StorefrontProductDetailCacheEvictRequestedEvent(UUID productId, ProductCatalogChangeType changeType) {
+        this(productId, changeType, null, null);
+    }
 }
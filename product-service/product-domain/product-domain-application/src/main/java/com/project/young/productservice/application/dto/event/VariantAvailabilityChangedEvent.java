@@ -0,0 +1,19 @@
+package com.project.young.productservice.application.dto.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Internal signal that on-hand stock or active holds of these variants changed; the storefront availability overlay
+ * is recomputed for their products after the mutating transaction commits.
+ */
+public record VariantAvailabilityChangedEvent(
+        List<UUID> productVariantIds
+) {
+    public VariantAvailabilityChangedEvent {
+        if (productVariantIds == null || productVariantIds.isEmpty()) {
+            throw new IllegalArgumentException("productVariantIds must not be empty");
+        }
+        productVariantIds = List.copyOf(productVariantIds);
+    }
+}
@@ -0,0 +1,29 @@
+package com.project.young.productservice.application.dto.query;
+
+import java.util.List;
+
+/**
+ * Raw storefront PLP request returning the page and its facets together
+ * (validated in {@link com.project.young.productservice.application.service.PublicProductBrowseQueryService}).
+ * The facets aggregate over the same category, keyword, brand and price filters as the listing.
+ */
+public record PublicProductBrowseQuery(
+        PublicProductListQuery listing,
+        List<PublicProductFacetType> facets
+) {
+    public PublicProductBrowseQuery {
+        facets = facets == null ? List.of() : List.copyOf(facets);
+    }
+
+    public PublicProductFacetQuery toFacetQuery() {
+        return new PublicProductFacetQuery(
+                listing.categoryId(),
+                listing.q(),
+                listing.brands(),
+                listing.minPrice(),
+                listing.maxPrice(),
+                facets,
+                listing.includeDescendants()
+        );
+    }
+}
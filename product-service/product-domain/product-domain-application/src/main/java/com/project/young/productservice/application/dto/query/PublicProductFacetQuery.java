@@ -5,6 +5,7 @@ import java.util.List;
 
 /**
  * Raw storefront facet request (validated in application service).
+ * {@code includeDescendants} aggregates over the whole category subtree.
  */
 public record PublicProductFacetQuery(
         long categoryId,
@@ -12,10 +13,22 @@ public record PublicProductFacetQuery(
         List<String> brands,
         BigDecimal minPrice,
         BigDecimal maxPrice,
-        List<PublicProductFacetType> facets
+        List<PublicProductFacetType> facets,
+        boolean includeDescendants
 ) {
     public PublicProductFacetQuery {
         brands = brands == null ? List.of() : List.copyOf(brands);
         facets = facets == null ? List.of() : List.copyOf(facets);
     }
+
+    public PublicProductFacetQuery(
+            long categoryId,
+            String q,
+            List<String> brands,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            List<PublicProductFacetType> facets
+    ) {
+        this(categoryId, q, brands, minPrice, maxPrice, facets, false);
+    }
 }
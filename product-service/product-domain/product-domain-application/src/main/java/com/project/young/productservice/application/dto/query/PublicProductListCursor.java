@@ -0,0 +1,89 @@
+package com.project.young.productservice.application.dto.query;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset (seek) position for storefront PLP: the last row's sort key plus id, bound to the sort it was issued for.
+ * Wire format is opaque to clients: base64url of {@code v1|SORT|sortValue|id}.
+ */
+public record PublicProductListCursor(
+        PublicProductSort sort,
+        String sortValue,
+        UUID lastId
+) {
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    public PublicProductListCursor {
+        if (sort == null || !sort.supportsKeyset()) {
+            throw new IllegalArgumentException("cursor pagination supports sort: newest, price_asc, price_desc");
+        }
+        if (sortValue == null || sortValue.isBlank()) {
+            throw new IllegalArgumentException("cursor sortValue must not be blank");
+        }
+        if (lastId == null) {
+            throw new IllegalArgumentException("cursor lastId must not be null");
+        }
+    }
+
+    public static PublicProductListCursor ofCreatedAt(Instant createdAt, UUID lastId) {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("cursor createdAt must not be null");
+        }
+        return new PublicProductListCursor(PublicProductSort.NEWEST, createdAt.toString(), lastId);
+    }
+
+    public static PublicProductListCursor ofBasePrice(PublicProductSort sort, BigDecimal basePrice, UUID lastId) {
+        if (basePrice == null) {
+            throw new IllegalArgumentException("cursor basePrice must not be null");
+        }
+        return new PublicProductListCursor(sort, basePrice.toPlainString(), lastId);
+    }
+
+    public Instant createdAt() {
+        return Instant.parse(sortValue);
+    }
+
+    public BigDecimal basePrice() {
+        return new BigDecimal(sortValue);
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, sort.name(), sortValue, lastId.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PublicProductListCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("cursor must not be blank");
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("cursor is invalid");
+            }
+            PublicProductListCursor cursor = new PublicProductListCursor(
+                    PublicProductSort.valueOf(parts[1]),
+                    parts[2],
+                    UUID.fromString(parts[3])
+            );
+            cursor.validateSortValue();
+            return cursor;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("cursor is invalid", e);
+        }
+    }
+
+    private void validateSortValue() {
+        if (sort == PublicProductSort.NEWEST) {
+            createdAt();
+        } else {
+            basePrice();
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package com.project.young.productservice.application.dto.query;
 
+import lombok.Builder;
+
 import java.math.BigDecimal;
 import java.util.List;
 
 /**
  * Raw storefront product list request (validated in {@link com.project.young.productservice.application.service.PublicProductQueryService}).
+ * A non-null {@code cursor} switches to keyset pagination; blank means the first keyset page and {@code page} is ignored.
+ * {@code includeDescendants} lists the whole category subtree instead of the category alone.
+ * Build with {@link #builder()}; unset fields take their Java defaults (no cursor, category only).
  */
+@Builder
 public record PublicProductListQuery(
         long categoryId,
         int page,
@@ -14,9 +20,15 @@ public record PublicProductListQuery(
         String sort,
         List<String> brands,
         BigDecimal minPrice,
-        BigDecimal maxPrice
+        BigDecimal maxPrice,
+        String cursor,
+        boolean includeDescendants
 ) {
     public PublicProductListQuery {
         brands = brands == null ? List.of() : List.copyOf(brands);
     }
+
+    public boolean cursorMode() {
+        return cursor != null;
+    }
 }
@@ -21,6 +21,13 @@ public enum PublicProductSort {
         return apiValue;
     }
 
+    /**
+     * Sorts with a stable, indexable key usable for cursor (keyset) pagination.
+     */
+    public boolean supportsKeyset() {
+        return this != RELEVANCE;
+    }
+
     public static PublicProductSort fromApiValue(String value) {
         if (value == null || value.isBlank()) {
             return NEWEST;
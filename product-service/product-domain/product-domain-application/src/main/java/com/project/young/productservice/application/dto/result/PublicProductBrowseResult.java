@@ -0,0 +1,7 @@
+package com.project.young.productservice.application.dto.result;
+
+public record PublicProductBrowseResult(
+        PublicProductListPageResult page,
+        PublicProductFacetResult facets
+) {
+}
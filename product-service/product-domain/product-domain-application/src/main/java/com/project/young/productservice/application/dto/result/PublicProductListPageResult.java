@@ -4,14 +4,56 @@ import com.project.young.productservice.application.port.output.view.ReadPublicP
 
 import java.util.List;
 
+/**
+ * Storefront PLP page. In cursor (keyset) mode totals are not computed and reported as {@link #UNKNOWN_TOTAL};
+ * {@code nextCursor} is null on the last page and always null in offset mode.
+ * {@code totalCountMode} tells the client whether {@code totalElements} is exact, a capped lower bound or an estimate.
+ */
 public record PublicProductListPageResult(
         List<ReadPublicProductSummaryView> content,
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        String nextCursor,
+        TotalCountMode totalCountMode
 ) {
+    public static final int UNKNOWN_TOTAL = -1;
+
     public PublicProductListPageResult {
         content = content == null ? List.of() : List.copyOf(content);
+        if (totalCountMode == null) {
+            totalCountMode = TotalCountMode.EXACT;
+        }
+    }
+
+    public PublicProductListPageResult(
+            List<ReadPublicProductSummaryView> content,
+            int page,
+            int size,
+            long totalElements,
+            int totalPages
+    ) {
+        this(content, page, size, totalElements, totalPages, null, TotalCountMode.EXACT);
+    }
+
+    public PublicProductListPageResult(
+            List<ReadPublicProductSummaryView> content,
+            int page,
+            int size,
+            long totalElements,
+            int totalPages,
+            TotalCountMode totalCountMode
+    ) {
+        this(content, page, size, totalElements, totalPages, null, totalCountMode);
+    }
+
+    public static PublicProductListPageResult keyset(
+            List<ReadPublicProductSummaryView> content,
+            int size,
+            String nextCursor
+    ) {
+        return new PublicProductListPageResult(content, 0, size, UNKNOWN_TOTAL, UNKNOWN_TOTAL, nextCursor,
+                TotalCountMode.NONE);
     }
 }
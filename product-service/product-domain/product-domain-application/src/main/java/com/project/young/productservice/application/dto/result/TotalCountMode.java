@@ -0,0 +1,18 @@
+package com.project.young.productservice.application.dto.result;
+
+/**
+ * How a listing's {@code totalElements} was produced.
+ * <ul>
+ *   <li>{@link #EXACT} — full {@code count(*)}, or the page itself proved the total.</li>
+ *   <li>{@link #CAPPED} — counting stopped at the configured cap; the total is a lower bound ("1000+").</li>
+ *   <li>{@link #ESTIMATED} — planner row estimate; approximate ("약 12,000건").</li>
+ *   <li>{@link #NONE} — no total was computed (keyset/cursor pages).</li>
+ * </ul>
+ */
+public enum TotalCountMode {
+
+    EXACT,
+    CAPPED,
+    ESTIMATED,
+    NONE
+}
@@ -0,0 +1,37 @@
+package com.project.young.productservice.application.event;
+
+import com.project.young.productservice.application.dto.event.CategoryTreeChangedEvent;
+import com.project.young.productservice.application.port.output.CategorySnapshotVersionPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Bumps the category snapshot version only after the DB transaction commits, so other instances never
+ * rebuild from uncommitted rows. The snapshot max-age bounds staleness if this step fails.
+ */
+@Component
+@Slf4j
+public class CategorySnapshotInvalidationListener {
+
+    private final CategorySnapshotVersionPort categorySnapshotVersionPort;
+
+    public CategorySnapshotInvalidationListener(CategorySnapshotVersionPort categorySnapshotVersionPort) {
+        this.categorySnapshotVersionPort = categorySnapshotVersionPort;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCategoryTreeChanged(CategoryTreeChangedEvent event) {
+        try {
+            categorySnapshotVersionPort.bumpVersion();
+            log.debug("Post-commit category snapshot version bump for category {}", event.categoryId());
+        } catch (RuntimeException ex) {
+            log.error(
+                    "Post-commit category snapshot version bump failed for category {}; relying on snapshot max-age",
+                    event.categoryId(),
+                    ex
+            );
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.project.young.productservice.application.event;
+
+import com.project.young.productservice.application.dto.event.StorefrontProductDetailCacheEvictRequestedEvent;
+import com.project.young.productservice.application.service.PublicProductFacetQueryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Invalidates this instance's facet cache for the changed product's category (and the one it moved out of)
+ * after commit. Other instances are invalidated by the outbox event consumer.
+ */
+@Component
+@Slf4j
+public class PublicProductFacetCacheEvictListener {
+
+    private final PublicProductFacetQueryService publicProductFacetQueryService;
+
+    public PublicProductFacetCacheEvictListener(PublicProductFacetQueryService publicProductFacetQueryService) {
+        this.publicProductFacetQueryService = publicProductFacetQueryService;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStorefrontProductDetailCacheEvictRequested(StorefrontProductDetailCacheEvictRequestedEvent event) {
+        if (event.categoryId() == null && event.previousCategoryId() == null) {
+            return;
+        }
+        try {
+            publicProductFacetQueryService.evictProductCategories(event.categoryId(), event.previousCategoryId());
+            log.debug(
+                    "Post-commit facet cache evict for category {} (previously {}) ({})",
+                    event.categoryId(),
+                    event.previousCategoryId(),
+                    event.changeType()
+            );
+        } catch (RuntimeException ex) {
+            log.error(
+                    "Post-commit facet cache evict failed for category {} (previously {}) ({}); relying on outbox consumer",
+                    event.categoryId(),
+                    event.previousCategoryId(),
+                    event.changeType(),
+                    ex
+            );
+        }
+    }
+}
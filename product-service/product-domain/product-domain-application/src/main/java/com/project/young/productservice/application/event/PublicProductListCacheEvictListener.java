@@ -0,0 +1,40 @@
+package com.project.young.productservice.application.event;
+
+import com.project.young.productservice.application.dto.event.StorefrontProductDetailCacheEvictRequestedEvent;
+import com.project.young.productservice.application.port.output.PublicProductListCachePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Invalidates this instance's cached PLP pages listing the changed product after commit.
+ * Other instances are invalidated by the outbox event consumer.
+ */
+@Component
+@Slf4j
+public class PublicProductListCacheEvictListener {
+
+    private final PublicProductListCachePort publicProductListCachePort;
+
+    public PublicProductListCacheEvictListener(PublicProductListCachePort publicProductListCachePort) {
+        this.publicProductListCachePort = publicProductListCachePort;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStorefrontProductDetailCacheEvictRequested(StorefrontProductDetailCacheEvictRequestedEvent event) {
+        try {
+            publicProductListCachePort.evictProducts(List.of(event.productId()));
+            log.debug("Post-commit PLP cache evict for product {} ({})", event.productId(), event.changeType());
+        } catch (RuntimeException ex) {
+            log.error(
+                    "Post-commit PLP cache evict failed for product {} ({}); relying on outbox consumer",
+                    event.productId(),
+                    event.changeType(),
+                    ex
+            );
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.young.productservice.application.event;
+
+import com.project.young.productservice.application.dto.event.StorefrontProductDetailCacheEvictRequestedEvent;
+import com.project.young.productservice.application.port.output.PublicProductSearchIndexPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Refreshes the changed product in this instance's in-memory search index after commit, so the re-read sees
+ * the committed row. Other instances are refreshed by the outbox event consumer.
+ */
+@Component
+@Slf4j
+public class PublicProductSearchIndexRefreshListener {
+
+    private final PublicProductSearchIndexPort publicProductSearchIndexPort;
+
+    public PublicProductSearchIndexRefreshListener(PublicProductSearchIndexPort publicProductSearchIndexPort) {
+        this.publicProductSearchIndexPort = publicProductSearchIndexPort;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStorefrontProductDetailCacheEvictRequested(StorefrontProductDetailCacheEvictRequestedEvent event) {
+        try {
+            publicProductSearchIndexPort.refreshProducts(List.of(event.productId()));
+            log.debug("Post-commit search index refresh for product {} ({})", event.productId(), event.changeType());
+        } catch (RuntimeException ex) {
+            log.error(
+                    "Post-commit search index refresh failed for product {} ({}); relying on outbox consumer",
+                    event.productId(),
+                    event.changeType(),
+                    ex
+            );
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.project.young.productservice.application.event;
 import com.project.young.common.domain.valueobject.ProductId;
 import com.project.young.productservice.application.dto.event.StorefrontProductDetailCacheEvictRequestedEvent;
 import com.project.young.productservice.application.port.output.StorefrontProductDetailCachePort;
+import com.project.young.productservice.application.service.StorefrontProductDetailCacheRecomputeService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
@@ -10,6 +11,9 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Evicts Redis only after the DB transaction commits so Redis failures cannot roll back writes.
+ * The Redis adapter also broadcasts the eviction so every instance drops its in-process L1 copy.
+ * In RECOMPUTE mode the entry is rebuilt and overwritten instead
+ * (see {@link StorefrontProductDetailCacheRecomputeService}).
  * Kafka/Debezium consumer provides secondary eviction if this step fails.
  */
 @Component
@@ -17,11 +21,14 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class StorefrontProductDetailCacheEvictListener {
 
     private final StorefrontProductDetailCachePort storefrontProductDetailCachePort;
+    private final StorefrontProductDetailCacheRecomputeService storefrontProductDetailCacheRecomputeService;
 
     public StorefrontProductDetailCacheEvictListener(
-            StorefrontProductDetailCachePort storefrontProductDetailCachePort
+            StorefrontProductDetailCachePort storefrontProductDetailCachePort,
+            StorefrontProductDetailCacheRecomputeService storefrontProductDetailCacheRecomputeService
     ) {
         this.storefrontProductDetailCachePort = storefrontProductDetailCachePort;
+        this.storefrontProductDetailCacheRecomputeService = storefrontProductDetailCacheRecomputeService;
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -29,6 +36,15 @@ public class StorefrontProductDetailCacheEvictListener {
             StorefrontProductDetailCacheEvictRequestedEvent event
     ) {
         try {
+            if (storefrontProductDetailCacheRecomputeService.recomputeEnabled()) {
+                storefrontProductDetailCacheRecomputeService.scheduleRecompute(new ProductId(event.productId()));
+                log.debug(
+                        "Scheduled post-commit storefront PDP recompute: product {} ({})",
+                        event.productId(),
+                        event.changeType()
+                );
+                return;
+            }
             storefrontProductDetailCachePort.evict(new ProductId(event.productId()));
             log.debug(
                     "Post-commit Redis evict for storefront PDP cache: product {} ({})",
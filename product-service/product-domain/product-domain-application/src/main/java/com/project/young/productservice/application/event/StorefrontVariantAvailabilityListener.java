@@ -0,0 +1,59 @@
+package com.project.young.productservice.application.event;
+
+import com.project.young.common.domain.valueobject.ProductId;
+import com.project.young.common.domain.valueobject.ProductVariantId;
+import com.project.young.productservice.application.dto.event.StorefrontProductDetailCacheEvictRequestedEvent;
+import com.project.young.productservice.application.dto.event.VariantAvailabilityChangedEvent;
+import com.project.young.productservice.application.service.StorefrontVariantAvailabilityService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the storefront availability overlay in step with committed inventory changes: reservation, confirmation,
+ * release and expiry rewrite it, catalog changes (e.g. an admin stock edit or a removed variant) drop it.
+ * On failure the overlay TTL bounds staleness.
+ */
+@Component
+@Slf4j
+public class StorefrontVariantAvailabilityListener {
+
+    private final StorefrontVariantAvailabilityService storefrontVariantAvailabilityService;
+
+    public StorefrontVariantAvailabilityListener(
+            StorefrontVariantAvailabilityService storefrontVariantAvailabilityService
+    ) {
+        this.storefrontVariantAvailabilityService = storefrontVariantAvailabilityService;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onVariantAvailabilityChanged(VariantAvailabilityChangedEvent event) {
+        try {
+            storefrontVariantAvailabilityService.refreshForVariants(
+                    event.productVariantIds().stream().map(ProductVariantId::new).toList());
+            log.debug("Post-commit availability overlay refresh for {} variant(s)", event.productVariantIds().size());
+        } catch (RuntimeException ex) {
+            log.error(
+                    "Post-commit availability overlay refresh failed for variants {}; relying on overlay TTL",
+                    event.productVariantIds(),
+                    ex
+            );
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStorefrontProductDetailCacheEvictRequested(StorefrontProductDetailCacheEvictRequestedEvent event) {
+        try {
+            storefrontVariantAvailabilityService.evict(new ProductId(event.productId()));
+            log.debug("Post-commit availability overlay evict for product {} ({})", event.productId(), event.changeType());
+        } catch (RuntimeException ex) {
+            log.error(
+                    "Post-commit availability overlay evict failed for product {} ({}); relying on overlay TTL",
+                    event.productId(),
+                    event.changeType(),
+                    ex
+            );
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.project.young.productservice.application.port.output;
 import com.project.young.productservice.application.dto.query.AdminProductDetailQuery;
 import com.project.young.productservice.application.dto.result.AdminProductDetailResult;
 import com.project.young.productservice.application.dto.condition.AdminProductSearchCondition;
+import com.project.young.productservice.application.dto.result.TotalCountMode;
 import com.project.young.productservice.application.port.output.view.ReadProductView;
 import com.project.young.productservice.application.port.output.view.ReadProductVariantView;
 
@@ -25,7 +26,23 @@ public interface AdminProductReadRepository {
             int page,
             int size,
             long totalElements,
-            int totalPages
+            int totalPages,
+            TotalCountMode totalCountMode
     ) {
+        public AdminProductSearchResult {
+            if (totalCountMode == null) {
+                totalCountMode = TotalCountMode.EXACT;
+            }
+        }
+
+        public AdminProductSearchResult(
+                List<ReadProductView> content,
+                int page,
+                int size,
+                long totalElements,
+                int totalPages
+        ) {
+            this(content, page, size, totalElements, totalPages, TotalCountMode.EXACT);
+        }
     }
 }
@@ -14,4 +14,10 @@ public interface CategoryReadRepository {
      * @return true when an ACTIVE category exists with the given id (implemented in product-dataaccess).
      */
     boolean existsActiveById(long categoryId);
+
+    /**
+     * @return ids of the ACTIVE ancestors of the given category, nearest parent first; empty for roots and
+     * for categories that are not ACTIVE.
+     */
+    List<Long> findActiveAncestorIds(long categoryId);
 }
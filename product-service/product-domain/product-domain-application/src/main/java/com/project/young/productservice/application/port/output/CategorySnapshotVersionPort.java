@@ -0,0 +1,10 @@
+package com.project.young.productservice.application.port.output;
+
+public interface CategorySnapshotVersionPort {
+
+    /**
+     * Advances the category snapshot version so every product-service instance rebuilds its in-memory tree
+     * on the next read (implemented in product-dataaccess).
+     */
+    void bumpVersion();
+}
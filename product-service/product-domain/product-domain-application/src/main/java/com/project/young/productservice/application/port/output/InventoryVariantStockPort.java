@@ -1,9 +1,13 @@
 package com.project.young.productservice.application.port.output;
 
+import com.project.young.common.domain.valueobject.ProductId;
 import com.project.young.common.domain.valueobject.ProductVariantId;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Variant on-hand reads and optimistic-lock touches for soft-hold inventory.
@@ -25,6 +29,17 @@ public interface InventoryVariantStockPort {
      */
     List<VariantStockSnapshot> findOrderedByIds(Collection<ProductVariantId> variantIds);
 
+    /**
+     * On-hand stock of every variant of the given products, keyed by product and then variant id.
+     * Products without variants are omitted.
+     */
+    Map<ProductId, Map<UUID, Integer>> findOnHandByProductIds(Collection<ProductId> productIds);
+
+    /**
+     * Owning products of the given variants; missing ids are ignored.
+     */
+    Set<ProductId> findProductIdsByVariantIds(Collection<ProductVariantId> variantIds);
+
     /**
      * Force-increments {@code product_variants.version} in ascending id order so concurrent
      * soft-holds conflict. Call before availability checks when reserving.
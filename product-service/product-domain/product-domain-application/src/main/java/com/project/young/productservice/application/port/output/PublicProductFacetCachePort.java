@@ -0,0 +1,21 @@
+package com.project.young.productservice.application.port.output;
+
+import com.project.young.productservice.application.dto.query.PublicProductFacetQuery;
+import com.project.young.productservice.application.dto.result.PublicProductFacetResult;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+public interface PublicProductFacetCachePort {
+
+    /**
+     * Cache-aside keyed by the normalized query; may serve a stale entry while it is recomputed
+     * (implementation-defined).
+     */
+    PublicProductFacetResult getOrLoad(PublicProductFacetQuery query, Supplier<PublicProductFacetResult> loader);
+
+    /**
+     * Marks every cached facet result scoped to one of the given categories as stale.
+     */
+    void evictCategories(Collection<Long> categoryIds);
+}
@@ -0,0 +1,31 @@
+package com.project.young.productservice.application.port.output;
+
+import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductSort;
+import com.project.young.productservice.application.dto.result.PublicProductListPageResult;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+public interface PublicProductListCachePort {
+
+    /**
+     * Cache-aside for one offset page keyed by the normalized condition, sort, page and size; which pages are cached
+     * and whether a stale page may be served while it is recomputed is implementation-defined.
+     * <p>
+     * Called outside any transaction, so hits never hold a DB connection; {@code loader} opens its own.
+     */
+    PublicProductListPageResult getOrLoad(
+            PublicProductSearchCondition condition,
+            PublicProductSort sort,
+            int page,
+            int size,
+            Supplier<PublicProductListPageResult> loader
+    );
+
+    /**
+     * Marks every cached page listing one of the given products as stale.
+     */
+    void evictProducts(Collection<UUID> productIds);
+}
@@ -2,12 +2,16 @@ package com.project.young.productservice.application.port.output;
 
 import com.project.young.common.domain.valueobject.ProductId;
 import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductListCursor;
 import com.project.young.productservice.application.dto.query.PublicProductSort;
 import com.project.young.productservice.application.dto.result.PublicProductListPageResult;
 import com.project.young.productservice.application.port.output.view.ReadCartCatalogLineView;
 import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,11 +24,37 @@ public interface PublicProductReadRepository {
             int size
     );
 
+    /**
+     * Keyset page after {@code cursor} (null = first page). Skips the total count query.
+     */
+    PublicProductListPageResult searchByCursor(
+            PublicProductSearchCondition condition,
+            PublicProductSort sort,
+            PublicProductListCursor cursor,
+            int size
+    );
+
     Optional<ReadProductDetailView> findStorefrontProductDetailById(ProductId productId);
 
+    /**
+     * Loads storefront detail views for several products with a fixed number of set-based queries.
+     * Missing or non-visible products are absent from the returned map.
+     */
+    Map<ProductId, ReadProductDetailView> findStorefrontProductDetailsByIds(Collection<ProductId> productIds);
+
     /**
      * Resolves storefront cart snapshot fields for the given variant ids in one read.
      * Missing or non-visible variants are omitted from the result.
      */
     List<ReadCartCatalogLineView> findCartCatalogLinesByVariantIds(List<UUID> productVariantIds);
+
+    /**
+     * Same lines as {@link #findCartCatalogLinesByVariantIds(List)}, but with {@code stockQuantity} already net of
+     * reservations active at {@code asOf}, read in one statement. Empty when the configured read path cannot compute
+     * availability itself; callers then subtract reservations on their own.
+     */
+    Optional<List<ReadCartCatalogLineView>> findAvailableCartCatalogLinesByVariantIds(
+            List<UUID> productVariantIds,
+            Instant asOf
+    );
 }
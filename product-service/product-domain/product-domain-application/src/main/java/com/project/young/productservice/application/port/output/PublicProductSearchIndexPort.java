@@ -0,0 +1,13 @@
+package com.project.young.productservice.application.port.output;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface PublicProductSearchIndexPort {
+
+    /**
+     * Re-reads the given products into the in-memory storefront search index, if one is active.
+     * Asynchronous; the index may keep serving the previous rows for a short while.
+     */
+    void refreshProducts(Collection<UUID> productIds);
+}
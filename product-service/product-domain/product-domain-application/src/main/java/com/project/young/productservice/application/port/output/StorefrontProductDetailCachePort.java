@@ -3,7 +3,10 @@ package com.project.young.productservice.application.port.output;
 import com.project.young.common.domain.valueobject.ProductId;
 import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public interface StorefrontProductDetailCachePort {
@@ -12,8 +15,19 @@ public interface StorefrontProductDetailCachePort {
 
     void put(ProductId productId, ReadProductDetailView view);
 
+    /**
+     * {@link com.project.young.productservice.application.support.ContentVersions} version of the cached view,
+     * read from the entry's metadata without deserializing the view; empty when not cached.
+     */
+    Optional<String> findVersion(ProductId productId);
+
     void evict(ProductId productId);
 
+    /**
+     * Rebuilds the entry with {@code loader} and overwrites it in place (write-through); an empty result evicts.
+     */
+    void refresh(ProductId productId, Supplier<Optional<ReadProductDetailView>> loader);
+
     /**
      * Cache-aside with stampede protection (implementation-defined).
      */
@@ -21,4 +35,13 @@ public interface StorefrontProductDetailCachePort {
             ProductId productId,
             Supplier<Optional<ReadProductDetailView>> loader
     );
+
+    /**
+     * Batch cache-aside: one multi-get for all ids, {@code loader} called once with the misses only,
+     * and the loaded views written back in one round trip. Products the loader does not return are absent.
+     */
+    Map<ProductId, ReadProductDetailView> getOrLoadAll(
+            Collection<ProductId> productIds,
+            Function<Collection<ProductId>, Map<ProductId, ReadProductDetailView>> loader
+    );
 }
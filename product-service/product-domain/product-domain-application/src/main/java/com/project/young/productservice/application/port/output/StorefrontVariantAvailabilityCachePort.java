@@ -0,0 +1,26 @@
+package com.project.young.productservice.application.port.output;
+
+import com.project.young.common.domain.valueobject.ProductId;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-product overlay of variant availability (on-hand minus active holds), kept apart from the cached static PDP
+ * so that reservations and sales never rewrite the heavy entry.
+ */
+public interface StorefrontVariantAvailabilityCachePort {
+
+    /**
+     * Available quantity by variant id for each product that has an overlay entry; other products are absent.
+     */
+    Map<ProductId, Map<UUID, Integer>> findAll(Collection<ProductId> productIds);
+
+    /**
+     * Writes each product's availability, overwriting the given variants.
+     */
+    void putAll(Map<ProductId, Map<UUID, Integer>> availabilityByProduct);
+
+    void evict(ProductId productId);
+}
@@ -3,6 +3,7 @@ package com.project.young.productservice.application.service;
 import com.project.young.common.domain.valueobject.CategoryId;
 import com.project.young.productservice.application.dto.command.CreateCategoryCommand;
 import com.project.young.productservice.application.dto.command.UpdateCategoryCommand;
+import com.project.young.productservice.application.dto.event.CategoryTreeChangedEvent;
 import com.project.young.productservice.application.dto.result.CreateCategoryResult;
 import com.project.young.productservice.application.dto.result.DeleteCategoryResult;
 import com.project.young.productservice.application.dto.result.UpdateCategoryResult;
@@ -15,6 +16,7 @@ import com.project.young.productservice.domain.repository.CategoryRepository;
 import com.project.young.productservice.domain.service.CategoryDomainService;
 import com.project.young.productservice.domain.valueobject.CategoryStatus;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,13 +29,16 @@ public class CategoryApplicationService {
     private final CategoryRepository categoryRepository;
     private final CategoryDomainService categoryDomainService;
     private final CategoryDataMapper categoryDataMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public CategoryApplicationService(CategoryRepository categoryRepository,
                                       CategoryDomainService categoryDomainService,
-                                      CategoryDataMapper categoryDataMapper) {
+                                      CategoryDataMapper categoryDataMapper,
+                                      ApplicationEventPublisher applicationEventPublisher) {
         this.categoryRepository = categoryRepository;
         this.categoryDomainService = categoryDomainService;
         this.categoryDataMapper = categoryDataMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Transactional
@@ -64,6 +69,7 @@ public class CategoryApplicationService {
         Category savedCategory = persistCategory(newCategory);
 
         log.info("Category saved successfully with id: {}", savedCategory.getId().getValue());
+        publishCategoryTreeChanged(savedCategory.getId());
 
         return categoryDataMapper.toCreateCategoryResult(savedCategory);
     }
@@ -112,6 +118,10 @@ public class CategoryApplicationService {
             categoryRepository.update(mainCategory);
         }
 
+        if (nameOrParentChanged || statusChanged) {
+            publishCategoryTreeChanged(mainCategory.getId());
+        }
+
         return categoryDataMapper.toUpdateCategoryResult(mainCategory);
     }
 
@@ -137,6 +147,7 @@ public class CategoryApplicationService {
         Category rootCategory = categoriesToDelete.getFirst();
 
         log.info("{} categories (including sub-categories) marked as deleted.", categoriesToDelete.size());
+        publishCategoryTreeChanged(rootCategory.getId());
 
         return new DeleteCategoryResult(rootCategory.getId().getValue(), rootCategory.getName());
     }
@@ -205,6 +216,10 @@ public class CategoryApplicationService {
         throw new IllegalArgumentException("Invalid status: " + newStatus);
     }
 
+    private void publishCategoryTreeChanged(CategoryId categoryId) {
+        applicationEventPublisher.publishEvent(new CategoryTreeChangedEvent(categoryId.getValue()));
+    }
+
     private Category persistCategory(Category category) {
         Category savedCategory = categoryRepository.insert(category);
         if (savedCategory.getId() == null) {
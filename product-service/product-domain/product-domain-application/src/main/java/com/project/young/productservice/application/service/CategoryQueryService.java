@@ -3,6 +3,7 @@ package com.project.young.productservice.application.service;
 import com.project.young.productservice.application.port.output.view.ReadCategoryView;
 import com.project.young.productservice.application.port.output.CategoryReadRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -17,6 +18,10 @@ public class CategoryQueryService {
         this.categoryReadRepository = categoryReadRepository;
     }
 
+    /**
+     * Served from the in-memory category snapshot, so no transaction is opened unless the snapshot is rebuilt.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<ReadCategoryView> getAllActiveCategoryHierarchy() {
         return categoryReadRepository.findAllActiveCategoryHierarchy();
     }
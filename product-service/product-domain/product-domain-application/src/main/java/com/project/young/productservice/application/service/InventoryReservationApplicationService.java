@@ -3,6 +3,7 @@ package com.project.young.productservice.application.service;
 import com.project.young.common.domain.valueobject.CheckoutId;
 import com.project.young.common.domain.valueobject.ProductVariantId;
 import com.project.young.productservice.application.config.InventoryReservationProperties;
+import com.project.young.productservice.application.dto.event.VariantAvailabilityChangedEvent;
 import com.project.young.productservice.application.dto.command.ReserveInventoryCommand;
 import com.project.young.productservice.application.dto.result.ReserveInventoryResult;
 import com.project.young.productservice.application.port.output.IdGenerator;
@@ -19,6 +20,7 @@ import com.project.young.productservice.domain.valueobject.InventoryReservationS
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
@@ -26,6 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -55,19 +58,22 @@ public class InventoryReservationApplicationService {
     private final IdGenerator idGenerator;
     private final InventoryReservationProperties properties;
     private final InventoryReservationTxExecutor txExecutor;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public InventoryReservationApplicationService(
             InventoryReservationRepository inventoryReservationRepository,
             InventoryVariantStockPort inventoryVariantStockPort,
             IdGenerator idGenerator,
             InventoryReservationProperties properties,
-            InventoryReservationTxExecutor txExecutor
+            InventoryReservationTxExecutor txExecutor,
+            ApplicationEventPublisher applicationEventPublisher
     ) {
         this.inventoryReservationRepository = inventoryReservationRepository;
         this.inventoryVariantStockPort = inventoryVariantStockPort;
         this.idGenerator = idGenerator;
         this.properties = properties;
         this.txExecutor = txExecutor;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     public ReserveInventoryResult reserve(ReserveInventoryCommand command) {
@@ -148,6 +154,9 @@ public class InventoryReservationApplicationService {
         }
 
         inventoryReservationRepository.insertAll(toInsert);
+        Set<ProductVariantId> changedVariantIds = new HashSet<>(orderedIds);
+        activeExisting.forEach(reservation -> changedVariantIds.add(reservation.getProductVariantId()));
+        publishAvailabilityChanged(changedVariantIds);
 
         log.debug(
                 "Reserved inventory for checkout {} (lines={}, expiresAt={})",
@@ -217,6 +226,7 @@ public class InventoryReservationApplicationService {
             reservation.confirm(now);
             inventoryReservationRepository.update(reservation);
         }
+        publishAvailabilityChanged(ordered.stream().map(InventoryReservation::getProductVariantId).toList());
 
         log.debug("Confirmed inventory for checkout {} (lines={})", checkoutIdValue, ordered.size());
     }
@@ -240,6 +250,7 @@ public class InventoryReservationApplicationService {
         }
 
         releaseActive(active, now);
+        publishAvailabilityChanged(active.stream().map(InventoryReservation::getProductVariantId).toList());
         log.debug("Released inventory for checkout {} (lines={})", checkoutIdValue, active.size());
     }
 
@@ -253,6 +264,7 @@ public class InventoryReservationApplicationService {
             inventoryReservationRepository.update(reservation);
         }
         if (!due.isEmpty()) {
+            publishAvailabilityChanged(due.stream().map(InventoryReservation::getProductVariantId).toList());
             log.info("Expired {} inventory reservation(s)", due.size());
         }
         return due.size();
@@ -265,6 +277,15 @@ public class InventoryReservationApplicationService {
         }
     }
 
+    /**
+     * Delivered after the surrounding transaction commits (see {@code StorefrontVariantAvailabilityListener}).
+     */
+    private void publishAvailabilityChanged(Collection<ProductVariantId> variantIds) {
+        applicationEventPublisher.publishEvent(new VariantAvailabilityChangedEvent(
+                variantIds.stream().map(ProductVariantId::getValue).distinct().toList()
+        ));
+    }
+
     private static boolean sameLines(
             List<InventoryReservation> activeExisting,
             Map<ProductVariantId, Integer> requested
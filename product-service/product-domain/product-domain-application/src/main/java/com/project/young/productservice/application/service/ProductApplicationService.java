@@ -80,6 +80,7 @@ public class ProductApplicationService {
         validateProductCanBeUpdated(product);
 
         boolean isModified = false;
+        Long previousCategoryId = product.getCategoryId().map(CategoryId::getValue).orElse(null);
 
         isModified |= applyCategoryChange(product, command.getCategoryId());
         isModified |= applyNameChange(product, command.getName());
@@ -90,7 +91,11 @@ public class ProductApplicationService {
 
         if (isModified) {
             productRepository.update(product);
-            invalidateStorefrontCatalog(product, ProductCatalogChangeType.PRODUCT_UPDATED);
+            storefrontProductCatalogInvalidationService.invalidate(
+                    product,
+                    previousCategoryId,
+                    ProductCatalogChangeType.PRODUCT_UPDATED
+            );
             log.info("Product updated successfully. id: {}", product.getId().getValue());
         }
 
@@ -12,6 +12,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -43,13 +44,19 @@ public class PublicCartCatalogQueryService {
         }
 
         List<UUID> distinctVariantIds = productVariantIds.stream().distinct().toList();
+        Instant now = Instant.now();
+        Optional<List<ReadCartCatalogLineView>> availableLines =
+                publicProductReadRepository.findAvailableCartCatalogLinesByVariantIds(distinctVariantIds, now);
+        if (availableLines.isPresent()) {
+            return availableLines.get();
+        }
+
         List<ReadCartCatalogLineView> lines =
                 publicProductReadRepository.findCartCatalogLinesByVariantIds(distinctVariantIds);
         if (lines.isEmpty()) {
             return lines;
         }
 
-        Instant now = Instant.now();
         List<ProductVariantId> variantIds = lines.stream()
                 .map(line -> new ProductVariantId(line.productVariantId()))
                 .toList();
@@ -0,0 +1,82 @@
+package com.project.young.productservice.application.service;
+
+import com.project.young.productservice.application.dto.query.PublicProductBrowseQuery;
+import com.project.young.productservice.application.dto.result.PublicProductBrowseResult;
+import com.project.young.productservice.application.dto.result.PublicProductFacetResult;
+import com.project.young.productservice.application.dto.result.PublicProductListPageResult;
+import com.project.young.productservice.application.port.output.CategoryReadRepository;
+import com.project.young.productservice.domain.exception.CategoryNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Storefront PLP page and facets in one call. The category is checked once, then the page (with its total)
+ * and the facets load concurrently on virtual threads.
+ * <p>
+ * Deliberately not {@code @Transactional}: a branch that reaches the DB runs its own read-only transaction, so the
+ * two load over separate connections and the caller thread holds none while waiting.
+ */
+@Service
+public class PublicProductBrowseQueryService {
+
+    private final CategoryReadRepository categoryReadRepository;
+    private final PublicProductQueryService publicProductQueryService;
+    private final PublicProductFacetQueryService publicProductFacetQueryService;
+
+    public PublicProductBrowseQueryService(
+            CategoryReadRepository categoryReadRepository,
+            PublicProductQueryService publicProductQueryService,
+            PublicProductFacetQueryService publicProductFacetQueryService
+    ) {
+        this.categoryReadRepository = categoryReadRepository;
+        this.publicProductQueryService = publicProductQueryService;
+        this.publicProductFacetQueryService = publicProductFacetQueryService;
+    }
+
+    public PublicProductBrowseResult browse(PublicProductBrowseQuery query) {
+        if (query == null || query.listing() == null) {
+            throw new IllegalArgumentException("query must not be null");
+        }
+        long categoryId = query.listing().categoryId();
+        if (categoryId <= 0) {
+            throw new IllegalArgumentException("categoryId must be a positive integer");
+        }
+        if (!categoryReadRepository.existsActiveById(categoryId)) {
+            throw new CategoryNotFoundException("Category not found: " + categoryId);
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<PublicProductListPageResult> page = executor.submit(
+                    () -> publicProductQueryService.listProductsInActiveCategory(query.listing()));
+            Future<PublicProductFacetResult> facets = executor.submit(
+                    () -> publicProductFacetQueryService.getFacetsInActiveCategory(query.toFacetQuery()));
+
+            return new PublicProductBrowseResult(await(page, facets), await(facets, page));
+        }
+    }
+
+    /**
+     * Unwraps the branch's own exception (validation, not found) so callers see the same errors as the
+     * separate endpoints; the sibling branch is cancelled instead of being awaited for nothing.
+     */
+    private static <T> T await(Future<T> future, Future<?> sibling) {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            sibling.cancel(true);
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Storefront browse branch failed", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            sibling.cancel(true);
+            throw new IllegalStateException("Interrupted while loading storefront browse result", ex);
+        }
+    }
+}
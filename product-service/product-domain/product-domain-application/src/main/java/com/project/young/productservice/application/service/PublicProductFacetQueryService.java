@@ -4,14 +4,18 @@ import com.project.young.productservice.application.dto.query.PublicProductFacet
 import com.project.young.productservice.application.dto.query.PublicProductFacetType;
 import com.project.young.productservice.application.dto.result.PublicProductFacetResult;
 import com.project.young.productservice.application.port.output.CategoryReadRepository;
+import com.project.young.productservice.application.port.output.PublicProductFacetCachePort;
 import com.project.young.productservice.application.port.output.PublicProductFacetReadRepository;
 import com.project.young.productservice.domain.exception.CategoryNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @Transactional(readOnly = true)
@@ -19,13 +23,16 @@ public class PublicProductFacetQueryService {
 
     private final CategoryReadRepository categoryReadRepository;
     private final PublicProductFacetReadRepository publicProductFacetReadRepository;
+    private final PublicProductFacetCachePort publicProductFacetCachePort;
 
     public PublicProductFacetQueryService(
             CategoryReadRepository categoryReadRepository,
-            PublicProductFacetReadRepository publicProductFacetReadRepository
+            PublicProductFacetReadRepository publicProductFacetReadRepository,
+            PublicProductFacetCachePort publicProductFacetCachePort
     ) {
         this.categoryReadRepository = categoryReadRepository;
         this.publicProductFacetReadRepository = publicProductFacetReadRepository;
+        this.publicProductFacetCachePort = publicProductFacetCachePort;
     }
 
     public PublicProductFacetResult getFacets(PublicProductFacetQuery query) {
@@ -35,7 +42,46 @@ public class PublicProductFacetQueryService {
             throw new CategoryNotFoundException("Category not found: " + normalizedQuery.categoryId());
         }
 
-        return publicProductFacetReadRepository.getFacets(normalizedQuery);
+        return loadFacets(normalizedQuery);
+    }
+
+    /**
+     * {@link #getFacets} without the category check, for callers that already verified the category is active
+     * ({@link PublicProductBrowseQueryService}).
+     */
+    public PublicProductFacetResult getFacetsInActiveCategory(PublicProductFacetQuery query) {
+        return loadFacets(validate(query));
+    }
+
+    private PublicProductFacetResult loadFacets(PublicProductFacetQuery normalizedQuery) {
+        return publicProductFacetCachePort.getOrLoad(
+                normalizedQuery,
+                () -> publicProductFacetReadRepository.getFacets(normalizedQuery)
+        );
+    }
+
+    /**
+     * Invalidates facets of a changed product's category and, when it moved, of the category it left, together
+     * with their ancestors, whose {@code includeDescendants} results aggregate over them. Either id may be null.
+     */
+    public void evictProductCategories(Long categoryId, Long previousCategoryId) {
+        Set<Long> scope = new LinkedHashSet<>();
+        if (categoryId != null) {
+            scope.addAll(withAncestors(categoryId));
+        }
+        if (previousCategoryId != null) {
+            scope.addAll(withAncestors(previousCategoryId));
+        }
+        if (!scope.isEmpty()) {
+            publicProductFacetCachePort.evictCategories(scope);
+        }
+    }
+
+    private List<Long> withAncestors(long categoryId) {
+        List<Long> scope = new ArrayList<>();
+        scope.add(categoryId);
+        scope.addAll(categoryReadRepository.findActiveAncestorIds(categoryId));
+        return scope;
     }
 
     private static PublicProductFacetQuery validate(PublicProductFacetQuery query) {
@@ -69,7 +115,8 @@ public class PublicProductFacetQueryService {
                 normalizedBrands,
                 query.minPrice(),
                 query.maxPrice(),
-                List.copyOf(requested)
+                List.copyOf(requested),
+                query.includeDescendants()
         );
     }
 
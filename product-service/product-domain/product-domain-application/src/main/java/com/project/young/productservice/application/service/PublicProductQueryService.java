@@ -2,20 +2,28 @@ package com.project.young.productservice.application.service;
 
 import com.project.young.common.domain.valueobject.ProductId;
 import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductListCursor;
 import com.project.young.productservice.application.dto.query.PublicProductListQuery;
 import com.project.young.productservice.application.dto.query.PublicProductSort;
 import com.project.young.productservice.application.dto.result.PublicProductListPageResult;
 import com.project.young.productservice.application.port.output.CategoryReadRepository;
+import com.project.young.productservice.application.port.output.PublicProductListCachePort;
 import com.project.young.productservice.application.port.output.PublicProductReadRepository;
 import com.project.young.productservice.application.port.output.StorefrontProductDetailCachePort;
 import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.application.support.StorefrontStockOverlay;
 import com.project.young.productservice.domain.exception.CategoryNotFoundException;
 import com.project.young.productservice.domain.exception.ProductNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @Service
 @Transactional(readOnly = true)
@@ -24,19 +32,31 @@ public class PublicProductQueryService {
     public static final int DEFAULT_PAGE = 0;
     public static final int DEFAULT_SIZE = 24;
     public static final int MAX_SIZE = 48;
+    public static final int MAX_DETAIL_IDS = 50;
 
     private final CategoryReadRepository categoryReadRepository;
     private final PublicProductReadRepository publicProductReadRepository;
     private final StorefrontProductDetailCachePort storefrontProductDetailCachePort;
+    private final PublicProductListCachePort publicProductListCachePort;
+    private final StorefrontVariantAvailabilityService storefrontVariantAvailabilityService;
 
     public PublicProductQueryService(CategoryReadRepository categoryReadRepository,
                                      PublicProductReadRepository publicProductReadRepository,
-                                     StorefrontProductDetailCachePort storefrontProductDetailCachePort) {
+                                     StorefrontProductDetailCachePort storefrontProductDetailCachePort,
+                                     PublicProductListCachePort publicProductListCachePort,
+                                     StorefrontVariantAvailabilityService storefrontVariantAvailabilityService) {
         this.categoryReadRepository = categoryReadRepository;
         this.publicProductReadRepository = publicProductReadRepository;
         this.storefrontProductDetailCachePort = storefrontProductDetailCachePort;
+        this.publicProductListCachePort = publicProductListCachePort;
+        this.storefrontVariantAvailabilityService = storefrontVariantAvailabilityService;
     }
 
+    /**
+     * Opens no transaction of its own: the category check reads the in-memory snapshot, and pages served from the
+     * in-memory search index need no connection. SQL-backed loads run in the repository's own read-only transaction.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PublicProductListPageResult listProductsByCategory(PublicProductListQuery query) {
         ValidatedListCriteria criteria = validateListQuery(query);
 
@@ -44,23 +64,102 @@ public class PublicProductQueryService {
             throw new CategoryNotFoundException("Category not found: " + criteria.condition().categoryId());
         }
 
-        return publicProductReadRepository.search(
+        return loadPage(criteria);
+    }
+
+    /**
+     * {@link #listProductsByCategory} without the category check, for callers that already verified
+     * the category is active ({@link PublicProductBrowseQueryService}). Same transaction boundary.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public PublicProductListPageResult listProductsInActiveCategory(PublicProductListQuery query) {
+        return loadPage(validateListQuery(query));
+    }
+
+    private PublicProductListPageResult loadPage(ValidatedListCriteria criteria) {
+        if (criteria.cursorMode()) {
+            return publicProductReadRepository.searchByCursor(
+                    criteria.condition(),
+                    criteria.sort(),
+                    criteria.cursor(),
+                    criteria.size()
+            );
+        }
+
+        return publicProductListCachePort.getOrLoad(
                 criteria.condition(),
                 criteria.sort(),
                 criteria.page(),
-                criteria.size()
+                criteria.size(),
+                () -> publicProductReadRepository.search(
+                        criteria.condition(),
+                        criteria.sort(),
+                        criteria.page(),
+                        criteria.size()
+                )
         );
     }
 
+    /**
+     * Static view from the PDP cache (stored without stock) merged with the current availability overlay.
+     */
     public ReadProductDetailView getStorefrontProductDetail(ProductId productId) {
         if (productId == null) {
             throw new IllegalArgumentException("productId must not be null");
         }
-        return storefrontProductDetailCachePort.getOrLoad(
+        ReadProductDetailView staticView = storefrontProductDetailCachePort.getOrLoad(
                         productId,
                         () -> publicProductReadRepository.findStorefrontProductDetailById(productId)
+                                .map(StorefrontStockOverlay::withoutStock)
                 )
                 .orElseThrow(() -> new ProductNotFoundException("Product not found or not visible: " + productId));
+        return storefrontVariantAvailabilityService.applyTo(staticView);
+    }
+
+    /**
+     * Batch PDP read: one cache round trip for all ids and one set-based load for the misses. Views come back in
+     * request order with duplicates collapsed; missing or non-visible products are omitted.
+     */
+    public List<ReadProductDetailView> getStorefrontProductDetails(List<ProductId> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return List.of();
+        }
+        if (productIds.size() > MAX_DETAIL_IDS) {
+            throw new IllegalArgumentException("productId count must be <= " + MAX_DETAIL_IDS);
+        }
+        if (productIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("productId must not be null");
+        }
+
+        List<ProductId> distinctProductIds = productIds.stream().distinct().toList();
+        Map<ProductId, ReadProductDetailView> viewsById = storefrontProductDetailCachePort.getOrLoadAll(
+                distinctProductIds,
+                missedIds -> withoutStock(publicProductReadRepository.findStorefrontProductDetailsByIds(missedIds))
+        );
+        List<ReadProductDetailView> staticViews = distinctProductIds.stream()
+                .map(viewsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return storefrontVariantAvailabilityService.applyTo(staticViews);
+    }
+
+    /**
+     * {@link StorefrontStockOverlay#version} of the PDP for conditional GETs: the cached static entry's version
+     * (read from cache metadata) combined with the availability overlay; empty if the static view is not cached.
+     */
+    public Optional<String> findCachedStorefrontProductDetailVersion(ProductId productId) {
+        if (productId == null) {
+            throw new IllegalArgumentException("productId must not be null");
+        }
+        return storefrontProductDetailCachePort.findVersion(productId)
+                .map(staticVersion -> StorefrontStockOverlay.version(
+                        staticVersion, storefrontVariantAvailabilityService.findAvailability(productId)));
+    }
+
+    private static Map<ProductId, ReadProductDetailView> withoutStock(Map<ProductId, ReadProductDetailView> views) {
+        Map<ProductId, ReadProductDetailView> stripped = new HashMap<>();
+        views.forEach((productId, view) -> stripped.put(productId, StorefrontStockOverlay.withoutStock(view)));
+        return stripped;
     }
 
     private ValidatedListCriteria validateListQuery(PublicProductListQuery query) {
@@ -87,10 +186,28 @@ public class PublicProductQueryService {
                 query.q(),
                 normalizeBrands(query.brands()),
                 query.minPrice(),
-                query.maxPrice()
+                query.maxPrice(),
+                query.includeDescendants()
         );
 
-        return new ValidatedListCriteria(condition, sort, page, size);
+        if (!query.cursorMode()) {
+            return new ValidatedListCriteria(condition, sort, page, size, false, null);
+        }
+        return new ValidatedListCriteria(condition, sort, page, size, true, resolveCursor(query.cursor(), sort));
+    }
+
+    private static PublicProductListCursor resolveCursor(String token, PublicProductSort sort) {
+        if (!sort.supportsKeyset()) {
+            throw new IllegalArgumentException("cursor pagination supports sort: newest, price_asc, price_desc");
+        }
+        if (token.isBlank()) {
+            return null;
+        }
+        PublicProductListCursor cursor = PublicProductListCursor.decode(token);
+        if (cursor.sort() != sort) {
+            throw new IllegalArgumentException("cursor was issued for sort " + cursor.sort().apiValue());
+        }
+        return cursor;
     }
 
     private static void validatePriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
@@ -120,7 +237,9 @@ public class PublicProductQueryService {
             PublicProductSearchCondition condition,
             PublicProductSort sort,
             int page,
-            int size
+            int size,
+            boolean cursorMode,
+            PublicProductListCursor cursor
     ) {
     }
 
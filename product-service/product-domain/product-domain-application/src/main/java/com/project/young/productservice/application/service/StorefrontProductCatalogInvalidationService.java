@@ -13,6 +13,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -37,14 +38,32 @@ public class StorefrontProductCatalogInvalidationService {
     }
 
     public void invalidate(Product product, ProductCatalogChangeType changeType) {
+        invalidate(product, null, changeType);
+    }
+
+    /**
+     * @param previousCategoryId the product's category before this change; ignored unless it differs from the
+     *                           current one
+     */
+    public void invalidate(Product product, Long previousCategoryId, ProductCatalogChangeType changeType) {
         if (product == null || product.getId() == null) {
             throw new IllegalArgumentException("product must not be null");
         }
         Long categoryId = product.getCategoryId().map(CategoryId::getValue).orElse(null);
-        invalidate(product.getId(), categoryId, changeType);
+        Long movedFrom = Objects.equals(previousCategoryId, categoryId) ? null : previousCategoryId;
+        invalidate(product.getId(), categoryId, movedFrom, changeType);
     }
 
     public void invalidate(ProductId productId, Long categoryId, ProductCatalogChangeType changeType) {
+        invalidate(productId, categoryId, null, changeType);
+    }
+
+    private void invalidate(
+            ProductId productId,
+            Long categoryId,
+            Long previousCategoryId,
+            ProductCatalogChangeType changeType
+    ) {
         if (productId == null) {
             throw new IllegalArgumentException("productId must not be null");
         }
@@ -56,12 +75,16 @@ public class StorefrontProductCatalogInvalidationService {
                 idGenerator.generateId(),
                 productId.getValue(),
                 categoryId,
+                previousCategoryId,
                 changeType,
                 Instant.now()
         ));
-        applicationEventPublisher.publishEvent(
-                new StorefrontProductDetailCacheEvictRequestedEvent(productId.getValue(), changeType)
-        );
+        applicationEventPublisher.publishEvent(new StorefrontProductDetailCacheEvictRequestedEvent(
+                productId.getValue(),
+                changeType,
+                categoryId,
+                previousCategoryId
+        ));
         log.debug("Scheduled storefront catalog invalidation for product {} ({})", productId.getValue(), changeType);
     }
 
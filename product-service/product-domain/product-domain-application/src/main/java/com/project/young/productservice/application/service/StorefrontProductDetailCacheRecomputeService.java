@@ -0,0 +1,151 @@
+package com.project.young.productservice.application.service;
+
+import com.project.young.common.domain.valueobject.ProductId;
+import com.project.young.productservice.application.config.StorefrontProductDetailInvalidationMode;
+import com.project.young.productservice.application.config.StorefrontProductDetailInvalidationProperties;
+import com.project.young.productservice.application.port.output.PublicProductReadRepository;
+import com.project.young.productservice.application.port.output.StorefrontProductDetailCachePort;
+import com.project.young.productservice.application.support.StorefrontStockOverlay;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-through PDP cache invalidation ({@code invalidation.mode=RECOMPUTE}): after commit the view is rebuilt and
+ * overwrites the cached entry, so a hot product keeps being served from the cache instead of every visitor missing.
+ * <p>
+ * Changes to one product within {@code recompute-window} collapse into one rebuild. The rebuild runs after the
+ * window, so it reads every change committed in it; a change arriving once the rebuild started schedules another.
+ */
+@Service
+@Slf4j
+@EnableConfigurationProperties(StorefrontProductDetailInvalidationProperties.class)
+public class StorefrontProductDetailCacheRecomputeService {
+
+    private final StorefrontProductDetailCachePort storefrontProductDetailCachePort;
+    private final PublicProductReadRepository publicProductReadRepository;
+    private final StorefrontProductDetailInvalidationProperties properties;
+    private final ScheduledExecutorService scheduler;
+    private final Executor recomputeExecutor;
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+    public StorefrontProductDetailCacheRecomputeService(
+            StorefrontProductDetailCachePort storefrontProductDetailCachePort,
+            PublicProductReadRepository publicProductReadRepository,
+            StorefrontProductDetailInvalidationProperties properties
+    ) {
+        this(
+                storefrontProductDetailCachePort,
+                publicProductReadRepository,
+                properties,
+                Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name("pdp-recompute-scheduler").daemon().factory()),
+                Executors.newVirtualThreadPerTaskExecutor()
+        );
+    }
+
+    StorefrontProductDetailCacheRecomputeService(
+            StorefrontProductDetailCachePort storefrontProductDetailCachePort,
+            PublicProductReadRepository publicProductReadRepository,
+            StorefrontProductDetailInvalidationProperties properties,
+            ScheduledExecutorService scheduler,
+            Executor recomputeExecutor
+    ) {
+        this.storefrontProductDetailCachePort = storefrontProductDetailCachePort;
+        this.publicProductReadRepository = publicProductReadRepository;
+        this.properties = properties;
+        this.scheduler = scheduler;
+        this.recomputeExecutor = recomputeExecutor;
+    }
+
+    public boolean recomputeEnabled() {
+        return properties.getMode() == StorefrontProductDetailInvalidationMode.RECOMPUTE;
+    }
+
+    /**
+     * Schedules a rebuild after the recompute window unless one is already pending for the product.
+     */
+    public void scheduleRecompute(ProductId productId) {
+        if (productId == null) {
+            throw new IllegalArgumentException("productId must not be null");
+        }
+        UUID id = productId.getValue();
+        if (!pending.add(id)) {
+            log.debug("Storefront PDP recompute already pending for product {}", id);
+            return;
+        }
+        try {
+            scheduler.schedule(
+                    () -> startRecompute(productId),
+                    properties.getRecomputeWindow().toMillis(),
+                    TimeUnit.MILLISECONDS
+            );
+        } catch (RejectedExecutionException ex) {
+            pending.remove(id);
+            storefrontProductDetailCachePort.evict(productId);
+        }
+    }
+
+    /**
+     * Rebuilds the cached view now; a product that is gone or no longer visible is evicted.
+     */
+    public void recompute(ProductId productId) {
+        storefrontProductDetailCachePort.refresh(
+                productId,
+                () -> publicProductReadRepository.findStorefrontProductDetailById(productId)
+                        .map(StorefrontStockOverlay::withoutStock)
+        );
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        if (recomputeExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void startRecompute(ProductId productId) {
+        // Cleared before the rebuild reads, so a change committed from here on schedules a fresh rebuild.
+        pending.remove(productId.getValue());
+        try {
+            recomputeExecutor.execute(() -> recomputeOrEvict(productId));
+        } catch (RejectedExecutionException ex) {
+            evictQuietly(productId);
+        }
+    }
+
+    private void recomputeOrEvict(ProductId productId) {
+        try {
+            recompute(productId);
+            log.debug("Recomputed storefront PDP cache for product {}", productId.getValue());
+        } catch (RuntimeException ex) {
+            log.error("Storefront PDP recompute failed for product {}; evicting instead", productId.getValue(), ex);
+            evictQuietly(productId);
+        }
+    }
+
+    private void evictQuietly(ProductId productId) {
+        try {
+            storefrontProductDetailCachePort.evict(productId);
+        } catch (RuntimeException ex) {
+            log.error("Storefront PDP evict failed for product {}; relying on Kafka secondary invalidation",
+                    productId.getValue(), ex);
+        }
+    }
+}
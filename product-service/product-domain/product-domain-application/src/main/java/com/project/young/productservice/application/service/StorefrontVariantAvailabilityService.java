@@ -0,0 +1,138 @@
+package com.project.young.productservice.application.service;
+
+import com.project.young.common.domain.valueobject.ProductId;
+import com.project.young.common.domain.valueobject.ProductVariantId;
+import com.project.young.productservice.application.port.output.InventoryVariantStockPort;
+import com.project.young.productservice.application.port.output.StorefrontVariantAvailabilityCachePort;
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.application.support.StorefrontStockOverlay;
+import com.project.young.productservice.domain.inventory.InventoryAvailability;
+import com.project.young.productservice.domain.repository.InventoryReservationRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Variant availability overlay for storefront PDPs. The cached static view carries no stock; this service resolves
+ * the overlay from its own cache (computing misses from on-hand stock and active holds) and merges it in.
+ * <p>
+ * Inventory mutations rewrite the overlay after commit ({@link #refreshForVariants}), so the static entry survives
+ * sales. Concurrent refreshes are not ordered; the overlay TTL bounds how long a lost update can be served.
+ */
+@Service
+@Transactional(readOnly = true)
+public class StorefrontVariantAvailabilityService {
+
+    private final StorefrontVariantAvailabilityCachePort storefrontVariantAvailabilityCachePort;
+    private final InventoryVariantStockPort inventoryVariantStockPort;
+    private final InventoryReservationRepository inventoryReservationRepository;
+
+    public StorefrontVariantAvailabilityService(
+            StorefrontVariantAvailabilityCachePort storefrontVariantAvailabilityCachePort,
+            InventoryVariantStockPort inventoryVariantStockPort,
+            InventoryReservationRepository inventoryReservationRepository
+    ) {
+        this.storefrontVariantAvailabilityCachePort = storefrontVariantAvailabilityCachePort;
+        this.inventoryVariantStockPort = inventoryVariantStockPort;
+        this.inventoryReservationRepository = inventoryReservationRepository;
+    }
+
+    public ReadProductDetailView applyTo(ReadProductDetailView staticView) {
+        Objects.requireNonNull(staticView, "staticView must not be null");
+        return applyTo(List.of(staticView)).getFirst();
+    }
+
+    /**
+     * Merges the overlay into each view with one overlay lookup for the whole list.
+     */
+    public List<ReadProductDetailView> applyTo(List<ReadProductDetailView> staticViews) {
+        List<ProductId> productIds = staticViews.stream()
+                .filter(view -> !view.variants().isEmpty())
+                .map(view -> new ProductId(view.id()))
+                .toList();
+        if (productIds.isEmpty()) {
+            return staticViews;
+        }
+        Map<ProductId, Map<UUID, Integer>> availability = resolve(productIds);
+        return staticViews.stream()
+                .map(view -> view.variants().isEmpty()
+                        ? view
+                        : StorefrontStockOverlay.apply(
+                                view, availability.getOrDefault(new ProductId(view.id()), Map.of())))
+                .toList();
+    }
+
+    public Map<UUID, Integer> findAvailability(ProductId productId) {
+        Objects.requireNonNull(productId, "productId must not be null");
+        return resolve(List.of(productId)).getOrDefault(productId, Map.of());
+    }
+
+    /**
+     * Recomputes the overlay of every product owning one of these variants and overwrites it.
+     */
+    public void refreshForVariants(Collection<ProductVariantId> variantIds) {
+        if (variantIds == null || variantIds.isEmpty()) {
+            return;
+        }
+        Set<ProductId> productIds = inventoryVariantStockPort.findProductIdsByVariantIds(variantIds);
+        if (productIds.isEmpty()) {
+            return;
+        }
+        storefrontVariantAvailabilityCachePort.putAll(compute(productIds));
+    }
+
+    public void evict(ProductId productId) {
+        storefrontVariantAvailabilityCachePort.evict(productId);
+    }
+
+    private Map<ProductId, Map<UUID, Integer>> resolve(Collection<ProductId> productIds) {
+        Set<ProductId> distinctProductIds = new LinkedHashSet<>(productIds);
+        Map<ProductId, Map<UUID, Integer>> resolved =
+                new HashMap<>(storefrontVariantAvailabilityCachePort.findAll(distinctProductIds));
+        List<ProductId> missedIds = distinctProductIds.stream()
+                .filter(productId -> !resolved.containsKey(productId))
+                .toList();
+        if (missedIds.isEmpty()) {
+            return resolved;
+        }
+        Map<ProductId, Map<UUID, Integer>> computed = compute(missedIds);
+        if (!computed.isEmpty()) {
+            storefrontVariantAvailabilityCachePort.putAll(computed);
+            resolved.putAll(computed);
+        }
+        return resolved;
+    }
+
+    private Map<ProductId, Map<UUID, Integer>> compute(Collection<ProductId> productIds) {
+        Map<ProductId, Map<UUID, Integer>> onHandByProduct = inventoryVariantStockPort.findOnHandByProductIds(productIds);
+        List<ProductVariantId> variantIds = onHandByProduct.values().stream()
+                .flatMap(onHand -> onHand.keySet().stream())
+                .map(ProductVariantId::new)
+                .toList();
+        if (variantIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Integer> activeReserved =
+                inventoryReservationRepository.sumActiveQuantityByVariantIds(variantIds, Instant.now());
+
+        Map<ProductId, Map<UUID, Integer>> availabilityByProduct = new HashMap<>();
+        onHandByProduct.forEach((productId, onHand) -> {
+            Map<UUID, Integer> availability = new HashMap<>();
+            onHand.forEach((variantId, quantity) -> availability.put(
+                    variantId,
+                    InventoryAvailability.available(quantity, activeReserved.getOrDefault(variantId, 0))
+            ));
+            availabilityByProduct.put(productId, availability);
+        });
+        return availabilityByProduct;
+    }
+}
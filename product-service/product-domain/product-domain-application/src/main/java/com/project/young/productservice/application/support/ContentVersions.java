@@ -0,0 +1,42 @@
+package com.project.young.productservice.application.support;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Content versions for strong ETags: a truncated SHA-256 of a read model's {@code toString()}.
+ * Read models are records of value types and lists, whose {@code toString()} covers every component
+ * deterministically, so equal content yields the same version on every instance without a stored counter.
+ */
+public final class ContentVersions {
+
+    /** 128 bits; rendered as 22 base64url characters. */
+    public static final int LENGTH_BYTES = 16;
+
+    private ContentVersions() {
+    }
+
+    public static String of(Object readModel) {
+        return format(digest(readModel));
+    }
+
+    public static byte[] digest(Object readModel) {
+        if (readModel == null) {
+            throw new IllegalArgumentException("readModel must not be null");
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(readModel.toString().getBytes(StandardCharsets.UTF_8));
+            return Arrays.copyOf(hash, LENGTH_BYTES);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    public static String format(byte[] digest) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+}
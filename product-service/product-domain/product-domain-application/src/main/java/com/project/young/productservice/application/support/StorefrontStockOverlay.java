@@ -0,0 +1,79 @@
+package com.project.young.productservice.application.support;
+
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.application.port.output.view.ReadProductVariantView;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Splits a PDP into its static part, cached with every variant's stock zeroed, and the per-variant availability
+ * overlay merged in at response time. The response version combines both, so a sale changes the ETag without
+ * changing the static entry's {@link ContentVersions} version.
+ */
+public final class StorefrontStockOverlay {
+
+    private StorefrontStockOverlay() {
+    }
+
+    public static ReadProductDetailView withoutStock(ReadProductDetailView view) {
+        return apply(view, Map.of());
+    }
+
+    /**
+     * Sets each variant's stock to its overlay value; variants missing from the overlay show none.
+     */
+    public static ReadProductDetailView apply(ReadProductDetailView view, Map<UUID, Integer> availability) {
+        if (view == null) {
+            throw new IllegalArgumentException("view must not be null");
+        }
+        List<ReadProductVariantView> variants = view.variants().stream()
+                .map(variant -> withStock(variant, availability.getOrDefault(variant.productVariantId(), 0)))
+                .toList();
+        return ReadProductDetailView.builder()
+                .id(view.id())
+                .categoryId(view.categoryId())
+                .name(view.name())
+                .description(view.description())
+                .brand(view.brand())
+                .mainImageUrl(view.mainImageUrl())
+                .basePrice(view.basePrice())
+                .status(view.status())
+                .conditionType(view.conditionType())
+                .images(view.images())
+                .optionGroups(view.optionGroups())
+                .variants(variants)
+                .build();
+    }
+
+    /**
+     * Version of a merged view; equals {@link #version(String, Map)} of its static version and overlay.
+     */
+    public static String version(ReadProductDetailView mergedView) {
+        Map<UUID, Integer> availability = mergedView.variants().stream()
+                .collect(Collectors.toMap(ReadProductVariantView::productVariantId, ReadProductVariantView::stockQuantity));
+        return version(ContentVersions.of(withoutStock(mergedView)), availability);
+    }
+
+    public static String version(String staticVersion, Map<UUID, Integer> availability) {
+        return ContentVersions.of(staticVersion + new TreeMap<>(availability));
+    }
+
+    private static ReadProductVariantView withStock(ReadProductVariantView variant, int stockQuantity) {
+        if (variant.stockQuantity() == stockQuantity) {
+            return variant;
+        }
+        return ReadProductVariantView.builder()
+                .productVariantId(variant.productVariantId())
+                .sku(variant.sku())
+                .stockQuantity(stockQuantity)
+                .status(variant.status())
+                .calculatedPrice(variant.calculatedPrice())
+                .mainImageUrl(variant.mainImageUrl())
+                .selectedProductOptionValueIds(variant.selectedProductOptionValueIds())
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.young.productservice.application.dto.query;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PublicProductListCursorTest {
+
+    @Test
+    void encodeDecode_roundTripsCreatedAtCursor() {
+        UUID id = UUID.randomUUID();
+        Instant createdAt = Instant.parse("2025-03-01T10:15:30.123456Z");
+
+        PublicProductListCursor decoded = PublicProductListCursor.decode(
+                PublicProductListCursor.ofCreatedAt(createdAt, id).encode());
+
+        assertThat(decoded.sort()).isEqualTo(PublicProductSort.NEWEST);
+        assertThat(decoded.createdAt()).isEqualTo(createdAt);
+        assertThat(decoded.lastId()).isEqualTo(id);
+    }
+
+    @Test
+    void encodeDecode_roundTripsPriceCursor() {
+        UUID id = UUID.randomUUID();
+
+        PublicProductListCursor decoded = PublicProductListCursor.decode(
+                PublicProductListCursor.ofBasePrice(PublicProductSort.PRICE_DESC, new BigDecimal("12900.00"), id).encode());
+
+        assertThat(decoded.sort()).isEqualTo(PublicProductSort.PRICE_DESC);
+        assertThat(decoded.basePrice()).isEqualByComparingTo("12900");
+        assertThat(decoded.lastId()).isEqualTo(id);
+    }
+
+    @Test
+    void decode_rejectsMalformedToken() {
+        assertThatThrownBy(() -> PublicProductListCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cursor");
+    }
+
+    @Test
+    void constructor_rejectsRelevanceSort() {
+        assertThatThrownBy(() -> new PublicProductListCursor(PublicProductSort.RELEVANCE, "1", UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
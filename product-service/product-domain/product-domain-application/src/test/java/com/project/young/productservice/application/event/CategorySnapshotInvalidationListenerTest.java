@@ -0,0 +1,42 @@
+package com.project.young.productservice.application.event;
+
+import com.project.young.productservice.application.dto.event.CategoryTreeChangedEvent;
+import com.project.young.productservice.application.port.output.CategorySnapshotVersionPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CategorySnapshotInvalidationListenerTest {
+
+    @Mock
+    private CategorySnapshotVersionPort categorySnapshotVersionPort;
+
+    @InjectMocks
+    private CategorySnapshotInvalidationListener listener;
+
+    @Test
+    @DisplayName("post-commit category tree 변경 이벤트를 받으면 snapshot 버전을 올린다")
+    void onCategoryTreeChanged_bumpsSnapshotVersion() {
+        listener.onCategoryTreeChanged(new CategoryTreeChangedEvent(1L));
+
+        verify(categorySnapshotVersionPort).bumpVersion();
+    }
+
+    @Test
+    @DisplayName("버전 갱신 실패 시 예외를 전파하지 않는다")
+    void onCategoryTreeChanged_whenBumpFails_doesNotPropagate() {
+        doThrow(new RuntimeException("redis down")).when(categorySnapshotVersionPort).bumpVersion();
+
+        assertThatCode(() -> listener.onCategoryTreeChanged(new CategoryTreeChangedEvent(1L)))
+                .doesNotThrowAnyException();
+        verify(categorySnapshotVersionPort).bumpVersion();
+    }
+}
@@ -0,0 +1,67 @@
+package com.project.young.productservice.application.event;
+
+import com.project.young.productservice.application.dto.event.ProductCatalogChangeType;
+import com.project.young.productservice.application.dto.event.StorefrontProductDetailCacheEvictRequestedEvent;
+import com.project.young.productservice.application.service.PublicProductFacetQueryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PublicProductFacetCacheEvictListenerTest {
+
+    @Mock
+    private PublicProductFacetQueryService publicProductFacetQueryService;
+
+    @InjectMocks
+    private PublicProductFacetCacheEvictListener listener;
+
+    @Test
+    @DisplayName("post-commit 이벤트에 categoryId가 있으면 해당 카테고리 퍼싯 캐시를 무효화한다")
+    void onStorefrontProductDetailCacheEvictRequested_evictsCategoryFacets() {
+        listener.onStorefrontProductDetailCacheEvictRequested(new StorefrontProductDetailCacheEvictRequestedEvent(
+                UUID.randomUUID(), ProductCatalogChangeType.PRODUCT_UPDATED, 4L));
+
+        verify(publicProductFacetQueryService).evictProductCategories(4L, null);
+    }
+
+    @Test
+    @DisplayName("카테고리가 바뀐 상품이면 이전 카테고리 퍼싯 캐시도 함께 무효화한다")
+    void onStorefrontProductDetailCacheEvictRequested_movedProduct_evictsBothCategories() {
+        listener.onStorefrontProductDetailCacheEvictRequested(new StorefrontProductDetailCacheEvictRequestedEvent(
+                UUID.randomUUID(), ProductCatalogChangeType.PRODUCT_UPDATED, 4L, 3L));
+
+        verify(publicProductFacetQueryService).evictProductCategories(4L, 3L);
+    }
+
+    @Test
+    @DisplayName("categoryId가 없으면 아무것도 하지 않는다")
+    void onStorefrontProductDetailCacheEvictRequested_withoutCategory_skips() {
+        listener.onStorefrontProductDetailCacheEvictRequested(new StorefrontProductDetailCacheEvictRequestedEvent(
+                UUID.randomUUID(), ProductCatalogChangeType.PRODUCT_UPDATED));
+
+        verify(publicProductFacetQueryService, never()).evictProductCategories(any(), any());
+    }
+
+    @Test
+    @DisplayName("무효화 실패 시 예외를 전파하지 않는다")
+    void onStorefrontProductDetailCacheEvictRequested_whenEvictFails_doesNotPropagate() {
+        doThrow(new RuntimeException("boom")).when(publicProductFacetQueryService).evictProductCategories(4L, null);
+
+        assertThatCode(() -> listener.onStorefrontProductDetailCacheEvictRequested(
+                new StorefrontProductDetailCacheEvictRequestedEvent(
+                        UUID.randomUUID(), ProductCatalogChangeType.STATUS_CHANGED, 4L)))
+                .doesNotThrowAnyException();
+    }
+}
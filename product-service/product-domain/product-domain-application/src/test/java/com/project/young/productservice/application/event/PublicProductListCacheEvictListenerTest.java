@@ -0,0 +1,51 @@
+package com.project.young.productservice.application.event;
+
+import com.project.young.productservice.application.dto.event.ProductCatalogChangeType;
+import com.project.young.productservice.application.dto.event.StorefrontProductDetailCacheEvictRequestedEvent;
+import com.project.young.productservice.application.port.output.PublicProductListCachePort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PublicProductListCacheEvictListenerTest {
+
+    @Mock
+    private PublicProductListCachePort publicProductListCachePort;
+
+    @InjectMocks
+    private PublicProductListCacheEvictListener listener;
+
+    @Test
+    @DisplayName("post-commit 이벤트의 상품이 포함된 PLP 캐시 페이지를 무효화한다")
+    void onStorefrontProductDetailCacheEvictRequested_evictsPagesListingProduct() {
+        UUID productId = UUID.randomUUID();
+
+        listener.onStorefrontProductDetailCacheEvictRequested(new StorefrontProductDetailCacheEvictRequestedEvent(
+                productId, ProductCatalogChangeType.PRODUCT_UPDATED, 4L));
+
+        verify(publicProductListCachePort).evictProducts(List.of(productId));
+    }
+
+    @Test
+    @DisplayName("PLP 캐시 무효화 실패 시 예외를 전파하지 않는다")
+    void onStorefrontProductDetailCacheEvictRequested_whenEvictFails_doesNotPropagate() {
+        doThrow(new RuntimeException("boom")).when(publicProductListCachePort).evictProducts(anyCollection());
+
+        assertThatCode(() -> listener.onStorefrontProductDetailCacheEvictRequested(
+                new StorefrontProductDetailCacheEvictRequestedEvent(
+                        UUID.randomUUID(), ProductCatalogChangeType.STATUS_CHANGED)))
+                .doesNotThrowAnyException();
+    }
+}
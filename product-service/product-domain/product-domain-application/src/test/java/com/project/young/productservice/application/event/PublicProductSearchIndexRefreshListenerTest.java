@@ -0,0 +1,51 @@
+package com.project.young.productservice.application.event;
+
+import com.project.young.productservice.application.dto.event.ProductCatalogChangeType;
+import com.project.young.productservice.application.dto.event.StorefrontProductDetailCacheEvictRequestedEvent;
+import com.project.young.productservice.application.port.output.PublicProductSearchIndexPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PublicProductSearchIndexRefreshListenerTest {
+
+    @Mock
+    private PublicProductSearchIndexPort publicProductSearchIndexPort;
+
+    @InjectMocks
+    private PublicProductSearchIndexRefreshListener listener;
+
+    @Test
+    @DisplayName("post-commit 이벤트의 상품을 검색 인덱스에서 다시 읽도록 요청한다")
+    void onStorefrontProductDetailCacheEvictRequested_refreshesProduct() {
+        UUID productId = UUID.randomUUID();
+
+        listener.onStorefrontProductDetailCacheEvictRequested(new StorefrontProductDetailCacheEvictRequestedEvent(
+                productId, ProductCatalogChangeType.PRODUCT_UPDATED, 4L));
+
+        verify(publicProductSearchIndexPort).refreshProducts(List.of(productId));
+    }
+
+    @Test
+    @DisplayName("인덱스 갱신 실패 시 예외를 전파하지 않는다")
+    void onStorefrontProductDetailCacheEvictRequested_whenRefreshFails_doesNotPropagate() {
+        doThrow(new RuntimeException("boom")).when(publicProductSearchIndexPort).refreshProducts(anyCollection());
+
+        assertThatCode(() -> listener.onStorefrontProductDetailCacheEvictRequested(
+                new StorefrontProductDetailCacheEvictRequestedEvent(
+                        UUID.randomUUID(), ProductCatalogChangeType.STATUS_CHANGED)))
+                .doesNotThrowAnyException();
+    }
+}
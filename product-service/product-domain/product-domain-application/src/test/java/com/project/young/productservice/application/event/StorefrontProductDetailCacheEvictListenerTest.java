@@ -4,6 +4,7 @@ import com.project.young.common.domain.valueobject.ProductId;
 import com.project.young.productservice.application.dto.event.ProductCatalogChangeType;
 import com.project.young.productservice.application.dto.event.StorefrontProductDetailCacheEvictRequestedEvent;
 import com.project.young.productservice.application.port.output.StorefrontProductDetailCachePort;
+import com.project.young.productservice.application.service.StorefrontProductDetailCacheRecomputeService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,8 +17,11 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class StorefrontProductDetailCacheEvictListenerTest {
@@ -25,6 +29,9 @@ class StorefrontProductDetailCacheEvictListenerTest {
     @Mock
     private StorefrontProductDetailCachePort storefrontProductDetailCachePort;
 
+    @Mock
+    private StorefrontProductDetailCacheRecomputeService storefrontProductDetailCacheRecomputeService;
+
     @InjectMocks
     private StorefrontProductDetailCacheEvictListener listener;
 
@@ -45,6 +52,19 @@ class StorefrontProductDetailCacheEvictListenerTest {
         assertThat(productIdCaptor.getValue().getValue()).isEqualTo(productId);
     }
 
+    @Test
+    @DisplayName("RECOMPUTE 모드에서는 evict 대신 productId로 재계산을 예약한다")
+    void onStorefrontProductDetailCacheEvictRequested_whenRecomputeEnabled_schedulesRecompute() {
+        UUID productId = UUID.randomUUID();
+        when(storefrontProductDetailCacheRecomputeService.recomputeEnabled()).thenReturn(true);
+
+        listener.onStorefrontProductDetailCacheEvictRequested(
+                new StorefrontProductDetailCacheEvictRequestedEvent(productId, ProductCatalogChangeType.PRODUCT_UPDATED));
+
+        verify(storefrontProductDetailCacheRecomputeService).scheduleRecompute(new ProductId(productId));
+        verify(storefrontProductDetailCachePort, never()).evict(any());
+    }
+
     @Test
     @DisplayName("Redis evict 실패 시 예외를 전파하지 않는다")
     void onStorefrontProductDetailCacheEvictRequested_whenEvictFails_doesNotPropagate() {
@@ -5,6 +5,7 @@ import com.project.young.productservice.application.dto.command.CreateCategoryCo
 import com.project.young.productservice.application.dto.result.CreateCategoryResult;
 import com.project.young.productservice.application.dto.result.DeleteCategoryResult;
 import com.project.young.productservice.application.dto.command.UpdateCategoryCommand;
+import com.project.young.productservice.application.dto.event.CategoryTreeChangedEvent;
 import com.project.young.productservice.application.dto.result.UpdateCategoryResult;
 import com.project.young.productservice.application.mapper.CategoryDataMapper;
 import com.project.young.productservice.domain.entity.Category;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -41,6 +43,9 @@ class CategoryApplicationServiceTest {
     @Mock
     private CategoryDataMapper categoryDataMapper;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @InjectMocks
     private CategoryApplicationService categoryApplicationService;
 
@@ -91,6 +96,7 @@ class CategoryApplicationServiceTest {
             verify(categoryDomainService, never()).validateParentCategory(any());
             verify(categoryRepository).insert(toSave);
             verify(categoryDataMapper).toCreateCategoryResult(saved);
+            verify(applicationEventPublisher).publishEvent(new CategoryTreeChangedEvent(10L));
         }
 
         @Test
@@ -167,6 +173,7 @@ class CategoryApplicationServiceTest {
 
             verify(categoryRepository, never()).insert(any());
             verify(categoryDataMapper, never()).toCreateCategoryResult(any());
+            verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
         }
 
         @Test
@@ -267,6 +274,29 @@ class CategoryApplicationServiceTest {
             verify(categoryDomainService).isCategoryNameUniqueForUpdate("수정된 이름", id);
             verify(categoryRepository).update(main);
             verify(categoryDataMapper).toUpdateCategoryResult(main);
+            verify(applicationEventPublisher).publishEvent(new CategoryTreeChangedEvent(1L));
+        }
+
+        @Test
+        @DisplayName("변경 사항이 없으면 저장하지 않고 category tree 변경 이벤트도 발행하지 않는다")
+        void updateCategory_NoChange_DoesNotPublishTreeChanged() {
+            // Given
+            UpdateCategoryCommand command = UpdateCategoryCommand.builder()
+                    .name("기존 이름")
+                    .status(CategoryStatus.ACTIVE)
+                    .build();
+
+            CategoryId id = new CategoryId(1L);
+            Category main = Category.reconstitute(id, "기존 이름", null, CategoryStatus.ACTIVE);
+
+            when(categoryRepository.findById(id)).thenReturn(Optional.of(main));
+
+            // When
+            categoryApplicationService.updateCategory(1L, command);
+
+            // Then
+            verify(categoryRepository, never()).update(any());
+            verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
         }
 
         @Test
@@ -355,6 +385,7 @@ class CategoryApplicationServiceTest {
             verify(categoryRepository).findSubTreeByIdAndStatusIn(eq(rootId), anyList());
             verify(categoryDomainService).validateDeletionRules(toDelete);
             verify(categoryRepository).updateAll(toDelete);
+            verify(applicationEventPublisher).publishEvent(new CategoryTreeChangedEvent(1L));
         }
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.project.young.common.domain.valueobject.CheckoutId;
 import com.project.young.common.domain.valueobject.ProductVariantId;
 import com.project.young.productservice.application.config.InventoryReservationProperties;
 import com.project.young.productservice.application.dto.command.ReserveInventoryCommand;
+import com.project.young.productservice.application.dto.event.VariantAvailabilityChangedEvent;
 import com.project.young.productservice.application.dto.result.ReserveInventoryResult;
 import com.project.young.productservice.application.port.output.IdGenerator;
 import com.project.young.productservice.application.port.output.InventoryVariantStockPort;
@@ -24,6 +25,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.OptimisticLockingFailureException;
 
@@ -65,6 +67,9 @@ class InventoryReservationApplicationServiceTest {
     @Mock
     private InventoryReservationTxExecutor txExecutor;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     private InventoryReservationProperties properties;
     private InventoryReservationApplicationService service;
 
@@ -79,7 +84,8 @@ class InventoryReservationApplicationServiceTest {
                 inventoryVariantStockPort,
                 idGenerator,
                 properties,
-                txExecutor
+                txExecutor,
+                applicationEventPublisher
         );
 
         // Shared tx wiring: reserve uses execute*, confirm uses run*; other tests use neither.
@@ -115,6 +121,7 @@ class InventoryReservationApplicationServiceTest {
         inOrder.verify(inventoryVariantStockPort).touchVersions(any());
         inOrder.verify(inventoryVariantStockPort).findOrderedByIds(any());
         inOrder.verify(inventoryReservationRepository).insertAll(any());
+        verify(applicationEventPublisher).publishEvent(new VariantAvailabilityChangedEvent(List.of(VARIANT_ID)));
     }
 
     @Test
@@ -402,6 +409,7 @@ class InventoryReservationApplicationServiceTest {
 
         verify(inventoryVariantStockPort, never()).decreaseOnHandForConfirmedHold(any(), any(Integer.class));
         verify(inventoryReservationRepository, never()).update(any());
+        verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -542,6 +550,7 @@ class InventoryReservationApplicationServiceTest {
         verify(inventoryReservationRepository).update(existing);
         assertThat(existing.getStatus()).isEqualTo(InventoryReservationStatus.RELEASED);
         verify(inventoryVariantStockPort, never()).decreaseOnHandForConfirmedHold(any(), any(Integer.class));
+        verify(applicationEventPublisher).publishEvent(new VariantAvailabilityChangedEvent(List.of(VARIANT_ID)));
     }
 
     @Test
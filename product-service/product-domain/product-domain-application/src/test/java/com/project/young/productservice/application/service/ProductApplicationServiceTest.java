@@ -7,6 +7,7 @@ import com.project.young.common.domain.valueobject.ProductVariantId;
 import com.project.young.productservice.application.dto.command.CreateProductCommand;
 import com.project.young.productservice.application.dto.command.UpdateProductCommand;
 import com.project.young.productservice.application.dto.command.UpdateProductStatusCommand;
+import com.project.young.productservice.application.dto.event.ProductCatalogChangeType;
 import com.project.young.productservice.application.dto.result.CreateProductResult;
 import com.project.young.productservice.application.dto.result.DeleteProductResult;
 import com.project.young.productservice.application.dto.result.UpdateProductResult;
@@ -273,6 +274,43 @@ class ProductApplicationServiceTest {
             verify(productDataMapper).toUpdateProductResult(product);
         }
 
+        @Test
+        @DisplayName("카테고리 변경 시 이전 카테고리를 함께 넘겨 무효화한다")
+        void updateProduct_ChangeCategory_InvalidatesWithPreviousCategory() {
+            // Given
+            UUID rawId = UUID.randomUUID();
+            ProductId productId = new ProductId(rawId);
+
+            UpdateProductCommand command = UpdateProductCommand.builder()
+                    .categoryId(9L)
+                    .name("기존 이름")
+                    .build();
+
+            Product product = Product.reconstitute(
+                    productId,
+                    new CategoryId(5L),
+                    "기존 이름",
+                    "상품에 대한 설명입니다. 충분히 깁니다.",
+                    new Money(new BigDecimal("1000")),
+                    ProductStatus.ACTIVE,
+                    ConditionType.NEW,
+                    "브랜드",
+                    "url",
+                    List.of(),
+                    List.of()
+            );
+
+            when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+
+            // When
+            productApplicationService.updateProduct(rawId, command);
+
+            // Then
+            assertThat(product.getCategoryId()).contains(new CategoryId(9L));
+            verify(storefrontProductCatalogInvalidationService)
+                    .invalidate(product, 5L, ProductCatalogChangeType.PRODUCT_UPDATED);
+        }
+
     }
 
     @Nested
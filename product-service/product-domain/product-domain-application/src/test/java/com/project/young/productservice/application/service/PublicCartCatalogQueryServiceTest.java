@@ -15,11 +15,14 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -126,6 +129,23 @@ class PublicCartCatalogQueryServiceTest {
         assertThat(result.getFirst().stockQuantity()).isEqualTo(3);
     }
 
+    @Test
+    @DisplayName("resolveCartLines: 가용 재고까지 계산된 한 statement 결과가 있으면 예약 합계를 따로 조회하지 않는다")
+    void resolveCartLines_availableLinesFromRepository_skipsReservationSum() {
+        UUID variantId = UUID.randomUUID();
+        ReadCartCatalogLineView line = line(variantId, 3);
+
+        when(publicProductReadRepository.findAvailableCartCatalogLinesByVariantIds(
+                eq(List.of(variantId)), any(Instant.class)))
+                .thenReturn(Optional.of(List.of(line)));
+
+        List<ReadCartCatalogLineView> result = service.resolveCartLines(List.of(variantId, variantId));
+
+        assertThat(result).containsExactly(line);
+        verify(publicProductReadRepository, never()).findCartCatalogLinesByVariantIds(any());
+        verifyNoInteractions(inventoryReservationRepository);
+    }
+
     @Test
     @DisplayName("resolveCartLines: 50개 초과 variant id는 거부한다")
     void resolveCartLines_tooManyIds_throws() {
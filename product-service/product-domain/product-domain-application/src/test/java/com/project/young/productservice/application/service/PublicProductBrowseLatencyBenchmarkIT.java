@@ -0,0 +1,127 @@
+package com.project.young.productservice.application.service;
+
+import com.project.young.productservice.application.dto.query.PublicProductBrowseQuery;
+import com.project.young.productservice.application.dto.query.PublicProductFacetQuery;
+import com.project.young.productservice.application.dto.query.PublicProductFacetType;
+import com.project.young.productservice.application.dto.query.PublicProductListQuery;
+import com.project.young.productservice.application.dto.result.PublicProductFacetResult;
+import com.project.young.productservice.application.dto.result.PublicProductListPageResult;
+import com.project.young.productservice.application.port.output.CategoryReadRepository;
+import com.project.young.productservice.application.port.output.PublicProductFacetCachePort;
+import com.project.young.productservice.application.port.output.PublicProductFacetReadRepository;
+import com.project.young.productservice.application.port.output.PublicProductListCachePort;
+import com.project.young.productservice.application.port.output.PublicProductReadRepository;
+import com.project.young.productservice.application.port.output.StorefrontProductDetailCachePort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.mockito.stubbing.Answer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PLP 통합 조회({@link PublicProductBrowseQueryService#browse}) vs 목록 → facet 두 번 호출 순차 실행 지연 비교 (수동 실행).
+ * 포트는 고정 지연을 주는 stub이라 DB 없이 호출 구조(카테고리 확인 횟수, 목록·facet 병렬 여부)만 비교한다.
+ *
+ * <pre>
+ * cd product-domain/product-domain-application
+ * RUN_BROWSE_LATENCY_BENCHMARK=true mvn test -Dtest=PublicProductBrowseLatencyBenchmarkIT
+ *
+ * Optional:
+ *   BENCHMARK_QUERY_LATENCY_MS=50   (default 20, per stubbed port call)
+ *   BENCHMARK_ITERATIONS=100        (default 30, per call shape)
+ * </pre>
+ */
+@EnabledIfEnvironmentVariable(named = "RUN_BROWSE_LATENCY_BENCHMARK", matches = "true")
+class PublicProductBrowseLatencyBenchmarkIT {
+
+    private static final long CATEGORY_ID = 12L;
+    private static final long QUERY_LATENCY_MS = envLong("BENCHMARK_QUERY_LATENCY_MS", 20);
+    private static final int ITERATIONS = (int) envLong("BENCHMARK_ITERATIONS", 30);
+
+    @Test
+    @DisplayName("통합 호출은 목록 → facet 두 번 호출 순차 실행보다 p50 지연이 짧다")
+    void compareBrowseWithTwoCallSequence() {
+        CategoryReadRepository categoryReadRepository = mock(CategoryReadRepository.class);
+        PublicProductReadRepository publicProductReadRepository = mock(PublicProductReadRepository.class);
+        PublicProductFacetReadRepository publicProductFacetReadRepository = mock(PublicProductFacetReadRepository.class);
+        PublicProductListCachePort publicProductListCachePort = mock(PublicProductListCachePort.class);
+        PublicProductFacetCachePort publicProductFacetCachePort = mock(PublicProductFacetCachePort.class);
+
+        when(publicProductListCachePort.getOrLoad(any(), any(), anyInt(), anyInt(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<PublicProductListPageResult>>getArgument(4).get());
+        when(publicProductFacetCachePort.getOrLoad(any(PublicProductFacetQuery.class), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<PublicProductFacetResult>>getArgument(1).get());
+        when(categoryReadRepository.existsActiveById(anyLong())).thenAnswer(delayed(true));
+        when(publicProductReadRepository.search(any(), any(), anyInt(), anyInt()))
+                .thenAnswer(delayed(new PublicProductListPageResult(List.of(), 0, 24, 0L, 0)));
+        when(publicProductFacetReadRepository.getFacets(any(PublicProductFacetQuery.class)))
+                .thenAnswer(delayed(new PublicProductFacetResult(CATEGORY_ID, 0L, List.of(), List.of())));
+
+        PublicProductQueryService publicProductQueryService = new PublicProductQueryService(
+                categoryReadRepository, publicProductReadRepository, mock(StorefrontProductDetailCachePort.class),
+                publicProductListCachePort, mock(StorefrontVariantAvailabilityService.class));
+        PublicProductFacetQueryService publicProductFacetQueryService = new PublicProductFacetQueryService(
+                categoryReadRepository, publicProductFacetReadRepository, publicProductFacetCachePort);
+        PublicProductBrowseQueryService browseQueryService = new PublicProductBrowseQueryService(
+                categoryReadRepository, publicProductQueryService, publicProductFacetQueryService);
+        PublicProductBrowseQuery query = new PublicProductBrowseQuery(
+                PublicProductListQuery.builder().categoryId(CATEGORY_ID).size(24).q("denim").build(),
+                List.of(PublicProductFacetType.BRAND, PublicProductFacetType.PRICE));
+
+        long[] sequential = measure(() -> {
+            publicProductQueryService.listProductsByCategory(query.listing());
+            publicProductFacetQueryService.getFacets(query.toFacetQuery());
+        });
+        long[] combined = measure(() -> browseQueryService.browse(query));
+
+        System.out.println("=== PLP browse latency (each port call " + QUERY_LATENCY_MS + " ms, iterations="
+                + ITERATIONS + ") ===");
+        System.out.printf("%-58s %8s %8s%n", "shape", "p50 ms", "p95 ms");
+        System.out.printf("%-58s %8.1f %8.1f%n", "two calls, sequential (2 category checks + list + facets)",
+                percentileMs(sequential, 50), percentileMs(sequential, 95));
+        System.out.printf("%-58s %8.1f %8.1f%n", "combined (1 category check + list || facets)",
+                percentileMs(combined, 50), percentileMs(combined, 95));
+
+        assertThat(percentileMs(combined, 50)).isLessThan(percentileMs(sequential, 50));
+    }
+
+    private static long[] measure(Runnable call) {
+        call.run();
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            call.run();
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private static double percentileMs(long[] sortedNanos, int percentile) {
+        int index = Math.min(sortedNanos.length - 1, (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1);
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static <T> Answer<T> delayed(T value) {
+        return invocation -> {
+            TimeUnit.MILLISECONDS.sleep(QUERY_LATENCY_MS);
+            return value;
+        };
+    }
+
+    private static long envLong(String name, long defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : Long.parseLong(value.trim());
+    }
+}
@@ -0,0 +1,181 @@
+package com.project.young.productservice.application.service;
+
+import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductBrowseQuery;
+import com.project.young.productservice.application.dto.query.PublicProductFacetQuery;
+import com.project.young.productservice.application.dto.query.PublicProductFacetType;
+import com.project.young.productservice.application.dto.query.PublicProductListQuery;
+import com.project.young.productservice.application.dto.query.PublicProductSort;
+import com.project.young.productservice.application.dto.result.PublicProductBrowseResult;
+import com.project.young.productservice.application.dto.result.PublicProductFacetResult;
+import com.project.young.productservice.application.dto.result.PublicProductListPageResult;
+import com.project.young.productservice.application.port.output.CategoryReadRepository;
+import com.project.young.productservice.application.port.output.PublicProductFacetCachePort;
+import com.project.young.productservice.application.port.output.PublicProductFacetReadRepository;
+import com.project.young.productservice.application.port.output.PublicProductListCachePort;
+import com.project.young.productservice.application.port.output.PublicProductReadRepository;
+import com.project.young.productservice.application.port.output.StorefrontProductDetailCachePort;
+import com.project.young.productservice.domain.exception.CategoryNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PublicProductBrowseQueryServiceTest {
+
+    private static final long CATEGORY_ID = 12L;
+
+    @Mock
+    private CategoryReadRepository categoryReadRepository;
+
+    @Mock
+    private PublicProductReadRepository publicProductReadRepository;
+
+    @Mock
+    private PublicProductFacetReadRepository publicProductFacetReadRepository;
+
+    @Mock
+    private StorefrontProductDetailCachePort storefrontProductDetailCachePort;
+
+    @Mock
+    private PublicProductListCachePort publicProductListCachePort;
+
+    @Mock
+    private PublicProductFacetCachePort publicProductFacetCachePort;
+
+    @Mock
+    private StorefrontVariantAvailabilityService storefrontVariantAvailabilityService;
+
+    private PublicProductQueryService publicProductQueryService;
+    private PublicProductFacetQueryService publicProductFacetQueryService;
+    private PublicProductBrowseQueryService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(publicProductListCachePort.getOrLoad(any(), any(), anyInt(), anyInt(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<PublicProductListPageResult>>getArgument(4).get());
+        lenient().when(publicProductFacetCachePort.getOrLoad(any(PublicProductFacetQuery.class), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<PublicProductFacetResult>>getArgument(1).get());
+        publicProductQueryService = new PublicProductQueryService(
+                categoryReadRepository, publicProductReadRepository, storefrontProductDetailCachePort,
+                publicProductListCachePort, storefrontVariantAvailabilityService);
+        publicProductFacetQueryService = new PublicProductFacetQueryService(
+                categoryReadRepository, publicProductFacetReadRepository, publicProductFacetCachePort);
+        service = new PublicProductBrowseQueryService(
+                categoryReadRepository, publicProductQueryService, publicProductFacetQueryService);
+    }
+
+    @Test
+    @DisplayName("카테고리는 한 번만 확인하고 같은 필터로 목록과 facet을 함께 반환한다")
+    void browse_checksCategoryOnceAndSharesFilters() {
+        PublicProductListPageResult page = new PublicProductListPageResult(List.of(), 0, 24, 3L, 1);
+        PublicProductFacetResult facets = new PublicProductFacetResult(CATEGORY_ID, 3L, List.of(), List.of());
+        when(categoryReadRepository.existsActiveById(CATEGORY_ID)).thenReturn(true);
+        when(publicProductReadRepository.search(any(), eq(PublicProductSort.NEWEST), eq(0), eq(24))).thenReturn(page);
+        when(publicProductFacetReadRepository.getFacets(any(PublicProductFacetQuery.class))).thenReturn(facets);
+
+        PublicProductBrowseResult result = service.browse(browseQuery(" denim ", true));
+
+        assertThat(result.page()).isEqualTo(page);
+        assertThat(result.facets()).isEqualTo(facets);
+        verify(categoryReadRepository, times(1)).existsActiveById(anyLong());
+
+        ArgumentCaptor<PublicProductSearchCondition> conditionCaptor =
+                ArgumentCaptor.forClass(PublicProductSearchCondition.class);
+        verify(publicProductReadRepository).search(conditionCaptor.capture(), any(), anyInt(), anyInt());
+        ArgumentCaptor<PublicProductFacetQuery> facetCaptor = ArgumentCaptor.forClass(PublicProductFacetQuery.class);
+        verify(publicProductFacetReadRepository).getFacets(facetCaptor.capture());
+        assertThat(facetCaptor.getValue().q()).isEqualTo(conditionCaptor.getValue().normalizedKeyword());
+        assertThat(facetCaptor.getValue().brands()).isEqualTo(conditionCaptor.getValue().normalizedBrands());
+        assertThat(facetCaptor.getValue().minPrice()).isEqualTo(conditionCaptor.getValue().minPrice());
+        assertThat(facetCaptor.getValue().includeDescendants()).isTrue();
+    }
+
+    @Test
+    @DisplayName("활성 카테고리가 아니면 목록·facet 조회 없이 CategoryNotFoundException")
+    void browse_whenCategoryNotActive_throwsBeforeLoading() {
+        when(categoryReadRepository.existsActiveById(CATEGORY_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.browse(browseQuery(null, false)))
+                .isInstanceOf(CategoryNotFoundException.class);
+
+        verifyNoInteractions(publicProductReadRepository, publicProductFacetReadRepository);
+    }
+
+    @Test
+    @DisplayName("한쪽 조회의 검증 오류는 원래 예외 그대로 전달된다")
+    void browse_whenBranchRejectsQuery_rethrowsOriginalException() {
+        when(categoryReadRepository.existsActiveById(CATEGORY_ID)).thenReturn(true);
+        PublicProductBrowseQuery query = new PublicProductBrowseQuery(
+                PublicProductListQuery.builder()
+                        .categoryId(CATEGORY_ID)
+                        .page(-1)
+                        .size(24)
+                        .brands(List.of())
+                        .build(),
+                List.of());
+
+        assertThatThrownBy(() -> service.browse(query))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("page must be >= 0");
+    }
+
+    @Test
+    @DisplayName("목록과 facet 조회는 서로를 기다리지 않고 동시에 실행된다")
+    void browse_runsListingAndFacetsConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        when(categoryReadRepository.existsActiveById(CATEGORY_ID)).thenReturn(true);
+        when(publicProductReadRepository.search(any(), any(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return new PublicProductListPageResult(List.of(), 0, 24, 0L, 0);
+        });
+        when(publicProductFacetReadRepository.getFacets(any(PublicProductFacetQuery.class))).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return new PublicProductFacetResult(CATEGORY_ID, 0L, List.of(), List.of());
+        });
+
+        PublicProductBrowseResult result = service.browse(browseQuery(null, false));
+
+        assertThat(result.page().totalElements()).isZero();
+        assertThat(result.facets().totalMatching()).isZero();
+    }
+
+    private static PublicProductBrowseQuery browseQuery(String keyword, boolean includeDescendants) {
+        return new PublicProductBrowseQuery(
+                PublicProductListQuery.builder()
+                        .categoryId(CATEGORY_ID)
+                        .page(0)
+                        .size(24)
+                        .q(keyword)
+                        .brands(List.of(" BrandA ", "BrandA"))
+                        .minPrice(new BigDecimal("10"))
+                        .maxPrice(new BigDecimal("100"))
+                        .includeDescendants(includeDescendants)
+                        .build(),
+                List.of(PublicProductFacetType.BRAND, PublicProductFacetType.PRICE));
+    }
+}
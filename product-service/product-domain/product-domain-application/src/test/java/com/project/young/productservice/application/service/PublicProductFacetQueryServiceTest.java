@@ -4,6 +4,7 @@ import com.project.young.productservice.application.dto.query.PublicProductFacet
 import com.project.young.productservice.application.dto.query.PublicProductFacetType;
 import com.project.young.productservice.application.dto.result.PublicProductFacetResult;
 import com.project.young.productservice.application.port.output.CategoryReadRepository;
+import com.project.young.productservice.application.port.output.PublicProductFacetCachePort;
 import com.project.young.productservice.application.port.output.PublicProductFacetReadRepository;
 import com.project.young.productservice.domain.exception.CategoryNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,10 +17,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -35,11 +39,20 @@ class PublicProductFacetQueryServiceTest {
     @Mock
     private PublicProductFacetReadRepository publicProductFacetReadRepository;
 
+    @Mock
+    private PublicProductFacetCachePort publicProductFacetCachePort;
+
     private PublicProductFacetQueryService service;
 
     @BeforeEach
     void setUp() {
-        service = new PublicProductFacetQueryService(categoryReadRepository, publicProductFacetReadRepository);
+        lenient().when(publicProductFacetCachePort.getOrLoad(any(PublicProductFacetQuery.class), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<PublicProductFacetResult>>getArgument(1).get());
+        service = new PublicProductFacetQueryService(
+                categoryReadRepository,
+                publicProductFacetReadRepository,
+                publicProductFacetCachePort
+        );
     }
 
     @Test
@@ -70,6 +83,20 @@ class PublicProductFacetQueryServiceTest {
         assertThat(normalized.facets()).containsExactlyInAnyOrder(PublicProductFacetType.BRAND, PublicProductFacetType.PRICE);
     }
 
+    @Test
+    @DisplayName("includeDescendants 플래그를 정규화된 쿼리에 유지한다")
+    void getFacets_withIncludeDescendants_keepsFlag() {
+        when(categoryReadRepository.existsActiveById(CATEGORY_ID)).thenReturn(true);
+        when(publicProductFacetReadRepository.getFacets(any(PublicProductFacetQuery.class)))
+                .thenReturn(new PublicProductFacetResult(CATEGORY_ID, 0L, List.of(), List.of()));
+
+        service.getFacets(new PublicProductFacetQuery(CATEGORY_ID, null, List.of(), null, null, List.of(), true));
+
+        ArgumentCaptor<PublicProductFacetQuery> queryCaptor = ArgumentCaptor.forClass(PublicProductFacetQuery.class);
+        verify(publicProductFacetReadRepository).getFacets(queryCaptor.capture());
+        assertThat(queryCaptor.getValue().includeDescendants()).isTrue();
+    }
+
     @Test
     @DisplayName("카테고리가 없거나 비활성이면 CategoryNotFoundException")
     void getFacets_whenCategoryMissing_throws() {
@@ -81,4 +108,48 @@ class PublicProductFacetQueryServiceTest {
 
         verify(publicProductFacetReadRepository, never()).getFacets(any());
     }
+
+    @Test
+    @DisplayName("캐시 키는 정규화된 쿼리다")
+    void getFacets_usesNormalizedQueryAsCacheKey() {
+        when(categoryReadRepository.existsActiveById(CATEGORY_ID)).thenReturn(true);
+        when(publicProductFacetReadRepository.getFacets(any(PublicProductFacetQuery.class)))
+                .thenReturn(new PublicProductFacetResult(CATEGORY_ID, 0L, List.of(), List.of()));
+
+        service.getFacets(new PublicProductFacetQuery(CATEGORY_ID, "  ", List.of(" BrandA "), null, null, List.of()));
+
+        ArgumentCaptor<PublicProductFacetQuery> keyCaptor = ArgumentCaptor.forClass(PublicProductFacetQuery.class);
+        verify(publicProductFacetCachePort).getOrLoad(keyCaptor.capture(), any());
+        assertThat(keyCaptor.getValue().q()).isNull();
+        assertThat(keyCaptor.getValue().brands()).containsExactly("BrandA");
+    }
+
+    @Test
+    @DisplayName("evictProductCategories는 카테고리와 활성 조상 카테고리를 함께 무효화한다")
+    void evictProductCategories_evictsCategoryAndAncestors() {
+        when(categoryReadRepository.findActiveAncestorIds(CATEGORY_ID)).thenReturn(List.of(3L, 1L));
+
+        service.evictProductCategories(CATEGORY_ID, null);
+
+        verify(publicProductFacetCachePort).evictCategories(Set.of(CATEGORY_ID, 3L, 1L));
+    }
+
+    @Test
+    @DisplayName("카테고리를 옮긴 상품이면 이전 카테고리와 그 조상까지 한 번에 무효화한다")
+    void evictProductCategories_movedProduct_evictsBothChains() {
+        when(categoryReadRepository.findActiveAncestorIds(CATEGORY_ID)).thenReturn(List.of(3L, 1L));
+        when(categoryReadRepository.findActiveAncestorIds(7L)).thenReturn(List.of(1L));
+
+        service.evictProductCategories(CATEGORY_ID, 7L);
+
+        verify(publicProductFacetCachePort).evictCategories(Set.of(CATEGORY_ID, 3L, 1L, 7L));
+    }
+
+    @Test
+    @DisplayName("카테고리가 없는 상품이면 아무것도 무효화하지 않는다")
+    void evictProductCategories_withoutCategory_skips() {
+        service.evictProductCategories(null, null);
+
+        verify(publicProductFacetCachePort, never()).evictCategories(any());
+    }
 }
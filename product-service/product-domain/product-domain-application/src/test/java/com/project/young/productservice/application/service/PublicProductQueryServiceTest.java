@@ -2,16 +2,23 @@ package com.project.young.productservice.application.service;
 
 import com.project.young.common.domain.valueobject.ProductId;
 import com.project.young.productservice.application.dto.condition.PublicProductSearchCondition;
+import com.project.young.productservice.application.dto.query.PublicProductListCursor;
 import com.project.young.productservice.application.dto.query.PublicProductListQuery;
 import com.project.young.productservice.application.dto.query.PublicProductSort;
 import com.project.young.productservice.application.dto.result.PublicProductListPageResult;
 import com.project.young.productservice.application.port.output.CategoryReadRepository;
+import com.project.young.productservice.application.port.output.InventoryVariantStockPort;
+import com.project.young.productservice.application.port.output.PublicProductListCachePort;
 import com.project.young.productservice.application.port.output.PublicProductReadRepository;
 import com.project.young.productservice.application.port.output.StorefrontProductDetailCachePort;
+import com.project.young.productservice.application.port.output.StorefrontVariantAvailabilityCachePort;
 import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.application.port.output.view.ReadProductVariantView;
 import com.project.young.productservice.application.port.output.view.ReadPublicProductSummaryView;
+import com.project.young.productservice.application.support.StorefrontStockOverlay;
 import com.project.young.productservice.domain.exception.CategoryNotFoundException;
 import com.project.young.productservice.domain.exception.ProductNotFoundException;
+import com.project.young.productservice.domain.repository.InventoryReservationRepository;
 import com.project.young.productservice.domain.valueobject.ConditionType;
 import com.project.young.productservice.domain.valueobject.ProductStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,16 +30,24 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -51,6 +66,18 @@ class PublicProductQueryServiceTest {
     @Mock
     private StorefrontProductDetailCachePort storefrontProductDetailCachePort;
 
+    @Mock
+    private PublicProductListCachePort publicProductListCachePort;
+
+    @Mock
+    private StorefrontVariantAvailabilityCachePort storefrontVariantAvailabilityCachePort;
+
+    @Mock
+    private InventoryVariantStockPort inventoryVariantStockPort;
+
+    @Mock
+    private InventoryReservationRepository inventoryReservationRepository;
+
     private PublicProductQueryService publicProductQueryService;
 
     @BeforeEach
@@ -58,7 +85,13 @@ class PublicProductQueryServiceTest {
         publicProductQueryService = new PublicProductQueryService(
                 categoryReadRepository,
                 publicProductReadRepository,
-                storefrontProductDetailCachePort
+                storefrontProductDetailCachePort,
+                publicProductListCachePort,
+                new StorefrontVariantAvailabilityService(
+                        storefrontVariantAvailabilityCachePort,
+                        inventoryVariantStockPort,
+                        inventoryReservationRepository
+                )
         );
     }
 
@@ -69,9 +102,17 @@ class PublicProductQueryServiceTest {
         });
     }
 
+    private void stubListCachePassthrough() {
+        when(publicProductListCachePort.getOrLoad(any(), any(), anyInt(), anyInt(), any())).thenAnswer(invocation -> {
+            Supplier<PublicProductListPageResult> loader = invocation.getArgument(4);
+            return loader.get();
+        });
+    }
+
     @Test
     @DisplayName("ACTIVE 카테고리이면 repository 결과를 반환한다")
     void listProductsByCategory_whenCategoryActive_returnsPage() {
+        stubListCachePassthrough();
         PublicProductListPageResult expected = new PublicProductListPageResult(
                 List.of(sampleView()),
                 0,
@@ -84,7 +125,11 @@ class PublicProductQueryServiceTest {
                 .thenReturn(expected);
 
         PublicProductListPageResult result = publicProductQueryService.listProductsByCategory(
-                new PublicProductListQuery(CATEGORY_ID, 0, 24, null, null, null, null, null)
+                PublicProductListQuery.builder()
+                        .categoryId(CATEGORY_ID)
+                        .page(0)
+                        .size(24)
+                        .build()
         );
 
         assertThat(result).isEqualTo(expected);
@@ -93,21 +138,22 @@ class PublicProductQueryServiceTest {
     @Test
     @DisplayName("검색·정렬·퍼싯 파라미터를 condition과 sort로 전달한다")
     void listProductsByCategory_passesFiltersToRepository() {
+        stubListCachePassthrough();
         when(categoryReadRepository.existsActiveById(CATEGORY_ID)).thenReturn(true);
         when(publicProductReadRepository.search(any(), any(), eq(0), eq(24)))
                 .thenReturn(new PublicProductListPageResult(List.of(), 0, 24, 0L, 0));
 
         publicProductQueryService.listProductsByCategory(
-                new PublicProductListQuery(
-                        CATEGORY_ID,
-                        0,
-                        24,
-                        " denim ",
-                        "price_asc",
-                        List.of(" BrandA "),
-                        new BigDecimal("10000"),
-                        new BigDecimal("50000")
-                )
+                PublicProductListQuery.builder()
+                        .categoryId(CATEGORY_ID)
+                        .page(0)
+                        .size(24)
+                        .q(" denim ")
+                        .sort("price_asc")
+                        .brands(List.of(" BrandA "))
+                        .minPrice(new BigDecimal("10000"))
+                        .maxPrice(new BigDecimal("50000"))
+                        .build()
         );
 
         ArgumentCaptor<PublicProductSearchCondition> conditionCaptor =
@@ -125,29 +171,195 @@ class PublicProductQueryServiceTest {
         assertThat(condition.normalizedBrands()).containsExactly("BrandA");
         assertThat(condition.minPrice()).isEqualByComparingTo("10000");
         assertThat(condition.maxPrice()).isEqualByComparingTo("50000");
+        assertThat(condition.includeDescendants()).isFalse();
+    }
+
+    @Test
+    @DisplayName("includeDescendants=true이면 하위 카테고리 포함 condition으로 조회한다")
+    void listProductsByCategory_withIncludeDescendants_passesSubtreeFlag() {
+        stubListCachePassthrough();
+        when(categoryReadRepository.existsActiveById(CATEGORY_ID)).thenReturn(true);
+        when(publicProductReadRepository.search(any(), any(), eq(0), eq(24)))
+                .thenReturn(new PublicProductListPageResult(List.of(), 0, 24, 0L, 0));
+
+        publicProductQueryService.listProductsByCategory(
+                PublicProductListQuery.builder()
+                        .categoryId(CATEGORY_ID)
+                        .page(0)
+                        .size(24)
+                        .brands(List.of())
+                        .includeDescendants(true)
+                        .build()
+        );
+
+        ArgumentCaptor<PublicProductSearchCondition> conditionCaptor =
+                ArgumentCaptor.forClass(PublicProductSearchCondition.class);
+        verify(publicProductReadRepository).search(conditionCaptor.capture(), any(), eq(0), eq(24));
+        assertThat(conditionCaptor.getValue().includeDescendants()).isTrue();
     }
 
     @Test
     @DisplayName("size가 상한을 넘으면 MAX_SIZE로 clamp하여 repository를 호출한다")
     void listProductsByCategory_whenSizeAboveMax_clampsToMaxSize() {
+        stubListCachePassthrough();
         when(categoryReadRepository.existsActiveById(CATEGORY_ID)).thenReturn(true);
         when(publicProductReadRepository.search(any(), any(), eq(0), eq(PublicProductQueryService.MAX_SIZE)))
                 .thenReturn(new PublicProductListPageResult(List.of(), 0, PublicProductQueryService.MAX_SIZE, 0L, 0));
 
         publicProductQueryService.listProductsByCategory(
-                new PublicProductListQuery(CATEGORY_ID, 0, 100, null, null, null, null, null)
+                PublicProductListQuery.builder()
+                        .categoryId(CATEGORY_ID)
+                        .page(0)
+                        .size(100)
+                        .build()
         );
 
         verify(publicProductReadRepository).search(any(), any(), eq(0), eq(PublicProductQueryService.MAX_SIZE));
     }
 
+    @Test
+    @DisplayName("offset 페이지는 정규화된 condition·sort·page·size로 PLP 캐시를 거쳐 조회한다")
+    void listProductsByCategory_offsetPage_goesThroughListCache() {
+        PublicProductListPageResult cached = new PublicProductListPageResult(List.of(sampleView()), 1, 24, 25L, 2);
+        when(categoryReadRepository.existsActiveById(CATEGORY_ID)).thenReturn(true);
+        when(publicProductListCachePort.getOrLoad(any(), eq(PublicProductSort.PRICE_ASC), eq(1), eq(24), any()))
+                .thenReturn(cached);
+
+        PublicProductListPageResult result = publicProductQueryService.listProductsByCategory(
+                PublicProductListQuery.builder()
+                        .categoryId(CATEGORY_ID)
+                        .page(1)
+                        .size(24)
+                        .q(" denim ")
+                        .sort("price_asc")
+                        .brands(List.of(" BrandA "))
+                        .build()
+        );
+
+        assertThat(result).isSameAs(cached);
+        ArgumentCaptor<PublicProductSearchCondition> conditionCaptor =
+                ArgumentCaptor.forClass(PublicProductSearchCondition.class);
+        verify(publicProductListCachePort).getOrLoad(
+                conditionCaptor.capture(), eq(PublicProductSort.PRICE_ASC), eq(1), eq(24), any());
+        assertThat(conditionCaptor.getValue().normalizedKeyword()).isEqualTo("denim");
+        assertThat(conditionCaptor.getValue().brands()).containsExactly("BrandA");
+        verify(publicProductReadRepository, never()).search(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("cursor 모드는 PLP 캐시를 거치지 않는다")
+    void listProductsByCategory_cursorMode_bypassesListCache() {
+        when(categoryReadRepository.existsActiveById(CATEGORY_ID)).thenReturn(true);
+        when(publicProductReadRepository.searchByCursor(any(), any(), isNull(), eq(24)))
+                .thenReturn(PublicProductListPageResult.keyset(List.of(), 24, null));
+
+        publicProductQueryService.listProductsByCategory(
+                PublicProductListQuery.builder()
+                        .categoryId(CATEGORY_ID)
+                        .page(0)
+                        .size(24)
+                        .sort("newest")
+                        .cursor("")
+                        .build()
+        );
+
+        verify(publicProductListCachePort, never()).getOrLoad(any(), any(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("cursor가 빈 문자열이면 keyset 첫 페이지를 조회하고 offset 검색은 호출하지 않는다")
+    void listProductsByCategory_whenBlankCursor_searchesFirstKeysetPage() {
+        PublicProductListPageResult expected = PublicProductListPageResult.keyset(List.of(sampleView()), 24, "next");
+        when(categoryReadRepository.existsActiveById(CATEGORY_ID)).thenReturn(true);
+        when(publicProductReadRepository.searchByCursor(any(), eq(PublicProductSort.NEWEST), isNull(), eq(24)))
+                .thenReturn(expected);
+
+        PublicProductListPageResult result = publicProductQueryService.listProductsByCategory(
+                PublicProductListQuery.builder()
+                        .categoryId(CATEGORY_ID)
+                        .page(3)
+                        .size(24)
+                        .cursor("")
+                        .build()
+        );
+
+        assertThat(result.nextCursor()).isEqualTo("next");
+        assertThat(result.totalElements()).isEqualTo(PublicProductListPageResult.UNKNOWN_TOTAL);
+        verify(publicProductReadRepository, never()).search(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("cursor 토큰을 decode하여 repository에 전달한다")
+    void listProductsByCategory_whenCursorGiven_passesDecodedCursor() {
+        UUID lastId = UUID.randomUUID();
+        String token = PublicProductListCursor.ofCreatedAt(Instant.parse("2025-01-01T00:00:00Z"), lastId).encode();
+        when(categoryReadRepository.existsActiveById(CATEGORY_ID)).thenReturn(true);
+        when(publicProductReadRepository.searchByCursor(any(), any(), any(), anyInt()))
+                .thenReturn(PublicProductListPageResult.keyset(List.of(), 24, null));
+
+        publicProductQueryService.listProductsByCategory(
+                PublicProductListQuery.builder()
+                        .categoryId(CATEGORY_ID)
+                        .page(0)
+                        .size(24)
+                        .sort("newest")
+                        .cursor(token)
+                        .build()
+        );
+
+        ArgumentCaptor<PublicProductListCursor> cursorCaptor = ArgumentCaptor.forClass(PublicProductListCursor.class);
+        verify(publicProductReadRepository).searchByCursor(
+                any(), eq(PublicProductSort.NEWEST), cursorCaptor.capture(), eq(24));
+        assertThat(cursorCaptor.getValue().lastId()).isEqualTo(lastId);
+    }
+
+    @Test
+    @DisplayName("cursor와 sort가 다르면 IllegalArgumentException")
+    void listProductsByCategory_whenCursorSortMismatch_throws() {
+        String token = PublicProductListCursor.ofBasePrice(
+                PublicProductSort.PRICE_ASC, new BigDecimal("1000"), UUID.randomUUID()).encode();
+
+        assertThatThrownBy(() -> publicProductQueryService.listProductsByCategory(
+                PublicProductListQuery.builder()
+                        .categoryId(CATEGORY_ID)
+                        .page(0)
+                        .size(24)
+                        .sort("newest")
+                        .cursor(token)
+                        .build()
+        )).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cursor");
+
+        verify(categoryReadRepository, never()).existsActiveById(anyLong());
+    }
+
+    @Test
+    @DisplayName("relevance 정렬은 cursor 모드를 지원하지 않는다")
+    void listProductsByCategory_whenCursorWithRelevance_throws() {
+        assertThatThrownBy(() -> publicProductQueryService.listProductsByCategory(
+                PublicProductListQuery.builder()
+                        .categoryId(CATEGORY_ID)
+                        .page(0)
+                        .size(24)
+                        .q("denim")
+                        .sort("relevance")
+                        .cursor("")
+                        .build()
+        )).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cursor");
+    }
+
     @Test
     @DisplayName("카테고리가 없거나 비활성이면 CategoryNotFoundException")
     void listProductsByCategory_whenCategoryMissing_throwsNotFound() {
         when(categoryReadRepository.existsActiveById(CATEGORY_ID)).thenReturn(false);
 
         assertThatThrownBy(() -> publicProductQueryService.listProductsByCategory(
-                new PublicProductListQuery(CATEGORY_ID, 0, 24, null, null, null, null, null)
+                PublicProductListQuery.builder()
+                        .categoryId(CATEGORY_ID)
+                        .page(0)
+                        .size(24)
+                        .build()
         ))
                 .isInstanceOf(CategoryNotFoundException.class)
                 .hasMessageContaining(String.valueOf(CATEGORY_ID));
@@ -159,7 +371,11 @@ class PublicProductQueryServiceTest {
     @DisplayName("categoryId가 0 이하면 IllegalArgumentException")
     void listProductsByCategory_whenInvalidCategoryId_throws() {
         assertThatThrownBy(() -> publicProductQueryService.listProductsByCategory(
-                new PublicProductListQuery(0, 0, 24, null, null, null, null, null)
+                PublicProductListQuery.builder()
+                        .categoryId(0)
+                        .page(0)
+                        .size(24)
+                        .build()
         )).isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("categoryId");
 
@@ -170,7 +386,11 @@ class PublicProductQueryServiceTest {
     @DisplayName("page가 음수이면 IllegalArgumentException")
     void listProductsByCategory_whenNegativePage_throws() {
         assertThatThrownBy(() -> publicProductQueryService.listProductsByCategory(
-                new PublicProductListQuery(CATEGORY_ID, -1, 24, null, null, null, null, null)
+                PublicProductListQuery.builder()
+                        .categoryId(CATEGORY_ID)
+                        .page(-1)
+                        .size(24)
+                        .build()
         )).isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("page");
     }
@@ -179,7 +399,11 @@ class PublicProductQueryServiceTest {
     @DisplayName("size가 1 미만이면 IllegalArgumentException")
     void listProductsByCategory_whenSizeBelowOne_throws() {
         assertThatThrownBy(() -> publicProductQueryService.listProductsByCategory(
-                new PublicProductListQuery(CATEGORY_ID, 0, 0, null, null, null, null, null)
+                PublicProductListQuery.builder()
+                        .categoryId(CATEGORY_ID)
+                        .page(0)
+                        .size(0)
+                        .build()
         )).isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("size");
     }
@@ -188,7 +412,12 @@ class PublicProductQueryServiceTest {
     @DisplayName("잘못된 sort이면 IllegalArgumentException")
     void listProductsByCategory_whenInvalidSort_throws() {
         assertThatThrownBy(() -> publicProductQueryService.listProductsByCategory(
-                new PublicProductListQuery(CATEGORY_ID, 0, 24, null, "invalid", null, null, null)
+                PublicProductListQuery.builder()
+                        .categoryId(CATEGORY_ID)
+                        .page(0)
+                        .size(24)
+                        .sort("invalid")
+                        .build()
         )).isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("sort");
     }
@@ -197,9 +426,13 @@ class PublicProductQueryServiceTest {
     @DisplayName("minPrice > maxPrice이면 IllegalArgumentException")
     void listProductsByCategory_whenInvalidPriceRange_throws() {
         assertThatThrownBy(() -> publicProductQueryService.listProductsByCategory(
-                new PublicProductListQuery(
-                        CATEGORY_ID, 0, 24, null, null, null, new BigDecimal("100"), new BigDecimal("50")
-                )
+                PublicProductListQuery.builder()
+                        .categoryId(CATEGORY_ID)
+                        .page(0)
+                        .size(24)
+                        .minPrice(new BigDecimal("100"))
+                        .maxPrice(new BigDecimal("50"))
+                        .build()
         )).isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("minPrice");
     }
@@ -242,6 +475,40 @@ class PublicProductQueryServiceTest {
         assertThat(result).isEqualTo(detail);
     }
 
+    @Test
+    @DisplayName("상품 상세 조회 - 캐시에는 재고를 뺀 정적 뷰를 넣고, 응답에는 가용 재고 overlay를 합친다")
+    void getStorefrontProductDetail_cachesStaticViewAndAppliesStockOverlay() {
+        ProductId productId = new ProductId(UUID.randomUUID());
+        UUID variantId = UUID.randomUUID();
+        ReadProductDetailView loaded = detailWithVariant(productId, variantId, 10);
+        when(publicProductReadRepository.findStorefrontProductDetailById(productId)).thenReturn(Optional.of(loaded));
+        stubCachePassthrough();
+        when(storefrontVariantAvailabilityCachePort.findAll(any())).thenReturn(Map.of(productId, Map.of(variantId, 7)));
+
+        ReadProductDetailView result = publicProductQueryService.getStorefrontProductDetail(productId);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Supplier<Optional<ReadProductDetailView>>> loaderCaptor = ArgumentCaptor.forClass(Supplier.class);
+        verify(storefrontProductDetailCachePort).getOrLoad(eq(productId), loaderCaptor.capture());
+        assertThat(loaderCaptor.getValue().get().orElseThrow().variants().getFirst().stockQuantity()).isZero();
+        assertThat(result.variants().getFirst().stockQuantity()).isEqualTo(7);
+        verify(inventoryVariantStockPort, never()).findOnHandByProductIds(any());
+    }
+
+    @Test
+    @DisplayName("캐시된 상세 version은 정적 version과 가용 재고 overlay를 함께 반영한다")
+    void findCachedStorefrontProductDetailVersion_combinesStaticVersionAndOverlay() {
+        ProductId productId = new ProductId(UUID.randomUUID());
+        UUID variantId = UUID.randomUUID();
+        when(storefrontProductDetailCachePort.findVersion(productId)).thenReturn(Optional.of("static-v1"));
+        when(storefrontVariantAvailabilityCachePort.findAll(any())).thenReturn(Map.of(productId, Map.of(variantId, 3)));
+
+        Optional<String> version = publicProductQueryService.findCachedStorefrontProductDetailVersion(productId);
+
+        assertThat(version).contains(StorefrontStockOverlay.version("static-v1", Map.of(variantId, 3)));
+        assertThat(version).isNotEqualTo(Optional.of(StorefrontStockOverlay.version("static-v1", Map.of(variantId, 2))));
+    }
+
     @Test
     @DisplayName("상품 상세 조회 - DRAFT/DELETED/없음은 ProductNotFoundException")
     void getStorefrontProductDetail_whenMissing_throwsNotFound() {
@@ -263,4 +530,68 @@ class PublicProductQueryServiceTest {
                 .hasMessageContaining("productId");
         verify(publicProductReadRepository, never()).findStorefrontProductDetailById(any());
     }
+
+    @Test
+    @DisplayName("상품 상세 일괄 조회 - 중복 id는 한 번만 캐시에 묻고, 결과는 요청 순서대로 없는 상품을 빼고 반환한다")
+    void getStorefrontProductDetails_dedupesAndKeepsRequestOrder() {
+        ProductId first = new ProductId(UUID.randomUUID());
+        ProductId missing = new ProductId(UUID.randomUUID());
+        ProductId second = new ProductId(UUID.randomUUID());
+        ReadProductDetailView firstView = ReadProductDetailView.builder().id(first.getValue()).name("첫번째").build();
+        ReadProductDetailView secondView = ReadProductDetailView.builder().id(second.getValue()).name("두번째").build();
+        when(storefrontProductDetailCachePort.getOrLoadAll(eq(List.of(second, missing, first)), any()))
+                .thenReturn(Map.of(first, firstView, second, secondView));
+
+        List<ReadProductDetailView> result =
+                publicProductQueryService.getStorefrontProductDetails(List.of(second, missing, first, second));
+
+        assertThat(result).containsExactly(secondView, firstView);
+    }
+
+    @Test
+    @DisplayName("상품 상세 일괄 조회 - 캐시 miss는 DB 일괄 조회 loader로 위임된다")
+    void getStorefrontProductDetails_loadsMissesThroughBatchRepository() {
+        ProductId productId = new ProductId(UUID.randomUUID());
+        ReadProductDetailView view = ReadProductDetailView.builder().id(productId.getValue()).name("상품").build();
+        when(publicProductReadRepository.findStorefrontProductDetailsByIds(List.of(productId)))
+                .thenReturn(Map.of(productId, view));
+        when(storefrontProductDetailCachePort.getOrLoadAll(any(), any())).thenAnswer(invocation -> {
+            Function<Collection<ProductId>, Map<ProductId, ReadProductDetailView>> loader = invocation.getArgument(1);
+            return loader.apply(invocation.getArgument(0));
+        });
+
+        assertThat(publicProductQueryService.getStorefrontProductDetails(List.of(productId))).containsExactly(view);
+        verify(publicProductReadRepository, never()).findStorefrontProductDetailById(any());
+    }
+
+    @Test
+    @DisplayName("상품 상세 일괄 조회 - 최대 개수를 넘거나 null id가 있으면 IllegalArgumentException")
+    void getStorefrontProductDetails_whenInvalid_throwsIllegalArgument() {
+        List<ProductId> tooMany = IntStream.rangeClosed(0, PublicProductQueryService.MAX_DETAIL_IDS)
+                .mapToObj(i -> new ProductId(UUID.randomUUID()))
+                .toList();
+
+        assertThatThrownBy(() -> publicProductQueryService.getStorefrontProductDetails(tooMany))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("<= " + PublicProductQueryService.MAX_DETAIL_IDS);
+        assertThatThrownBy(() -> publicProductQueryService.getStorefrontProductDetails(
+                Arrays.asList(new ProductId(UUID.randomUUID()), null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("productId");
+        verify(storefrontProductDetailCachePort, never()).getOrLoadAll(any(), any());
+    }
+
+    private static ReadProductDetailView detailWithVariant(ProductId productId, UUID variantId, int stockQuantity) {
+        return ReadProductDetailView.builder()
+                .id(productId.getValue())
+                .name("상품")
+                .basePrice(new BigDecimal("10000"))
+                .variants(List.of(ReadProductVariantView.builder()
+                        .productVariantId(variantId)
+                        .sku("SKU-1")
+                        .stockQuantity(stockQuantity)
+                        .calculatedPrice(new BigDecimal("10000"))
+                        .build()))
+                .build();
+    }
 }
@@ -0,0 +1,132 @@
+package com.project.young.productservice.application.service;
+
+import com.project.young.common.domain.valueobject.ProductId;
+import com.project.young.productservice.application.dto.query.PublicProductListQuery;
+import com.project.young.productservice.application.dto.result.PublicProductListPageResult;
+import com.project.young.productservice.application.port.output.CategoryReadRepository;
+import com.project.young.productservice.application.port.output.PublicProductListCachePort;
+import com.project.young.productservice.application.port.output.PublicProductReadRepository;
+import com.project.young.productservice.application.port.output.StorefrontProductDetailCachePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Transaction boundaries of {@link PublicProductQueryService} through the real {@code @Transactional} proxy.
+ */
+@SpringJUnitConfig(PublicProductQueryServiceTransactionTest.Config.class)
+class PublicProductQueryServiceTransactionTest {
+
+    private static final long CATEGORY_ID = 12L;
+
+    @Autowired
+    private PublicProductQueryService publicProductQueryService;
+
+    @Autowired
+    private RecordingTransactionManager transactionManager;
+
+    @MockitoBean
+    private CategoryReadRepository categoryReadRepository;
+
+    @MockitoBean
+    private PublicProductReadRepository publicProductReadRepository;
+
+    @MockitoBean
+    private StorefrontProductDetailCachePort storefrontProductDetailCachePort;
+
+    @MockitoBean
+    private PublicProductListCachePort publicProductListCachePort;
+
+    @MockitoBean
+    private StorefrontVariantAvailabilityService storefrontVariantAvailabilityService;
+
+    @BeforeEach
+    void resetTransactions() {
+        transactionManager.begun.clear();
+    }
+
+    @Test
+    @DisplayName("PLP 캐시 적중은 트랜잭션을 시작하지 않고 응답한다")
+    void listProductsByCategory_cacheHit_beginsNoTransaction() {
+        PublicProductListPageResult cached = new PublicProductListPageResult(List.of(), 0, 24, 0L, 0);
+        when(categoryReadRepository.existsActiveById(CATEGORY_ID)).thenReturn(true);
+        when(publicProductListCachePort.getOrLoad(any(), any(), anyInt(), anyInt(), any())).thenReturn(cached);
+
+        PublicProductListPageResult result = publicProductQueryService.listProductsByCategory(
+                PublicProductListQuery.builder().categoryId(CATEGORY_ID).size(24).sort("newest").build());
+
+        assertThat(result).isSameAs(cached);
+        assertThat(transactionManager.begun).isEmpty();
+        verifyNoInteractions(publicProductReadRepository);
+    }
+
+    @Test
+    @DisplayName("PDP 버전 조회는 클래스 기본값대로 읽기 전용 트랜잭션 안에서 실행된다")
+    void findCachedStorefrontProductDetailVersion_runsInReadOnlyTransaction() {
+        ProductId productId = new ProductId(UUID.randomUUID());
+        when(storefrontProductDetailCachePort.findVersion(productId)).thenReturn(Optional.empty());
+
+        publicProductQueryService.findCachedStorefrontProductDetailVersion(productId);
+
+        assertThat(transactionManager.begun).singleElement()
+                .satisfies(definition -> assertThat(definition.isReadOnly()).isTrue());
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import(PublicProductQueryService.class)
+    static class Config {
+
+        @Bean
+        RecordingTransactionManager transactionManager() {
+            return new RecordingTransactionManager();
+        }
+    }
+
+    /**
+     * Records physical transaction begins; {@code SUPPORTS} without an outer transaction never reaches {@link #doBegin}.
+     */
+    static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+        final List<TransactionDefinition> begun = new ArrayList<>();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            begun.add(definition);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
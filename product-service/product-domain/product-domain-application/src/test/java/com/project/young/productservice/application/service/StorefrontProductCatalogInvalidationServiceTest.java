@@ -1,10 +1,16 @@
 package com.project.young.productservice.application.service;
 
+import com.project.young.common.domain.valueobject.CategoryId;
+import com.project.young.common.domain.valueobject.Money;
 import com.project.young.common.domain.valueobject.ProductId;
 import com.project.young.productservice.application.dto.event.ProductCatalogChangeType;
+import com.project.young.productservice.application.dto.event.ProductCatalogChangedEvent;
 import com.project.young.productservice.application.dto.event.StorefrontProductDetailCacheEvictRequestedEvent;
 import com.project.young.productservice.application.port.output.IdGenerator;
 import com.project.young.productservice.application.port.output.ProductCatalogOutboxPort;
+import com.project.young.productservice.domain.entity.Product;
+import com.project.young.productservice.domain.valueobject.ConditionType;
+import com.project.young.productservice.domain.valueobject.ProductStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +20,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -56,5 +64,60 @@ class StorefrontProductCatalogInvalidationServiceTest {
         verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
         assertThat(eventCaptor.getValue().productId()).isEqualTo(productId);
         assertThat(eventCaptor.getValue().changeType()).isEqualTo(ProductCatalogChangeType.PRODUCT_UPDATED);
+        assertThat(eventCaptor.getValue().categoryId()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("카테고리를 옮긴 상품이면 이전 카테고리를 outbox와 evict 이벤트에 함께 싣는다")
+    void invalidate_movedProduct_carriesPreviousCategory() {
+        when(idGenerator.generateId()).thenReturn(UUID.randomUUID());
+
+        storefrontProductCatalogInvalidationService.invalidate(
+                product(9L),
+                5L,
+                ProductCatalogChangeType.PRODUCT_UPDATED
+        );
+
+        ArgumentCaptor<ProductCatalogChangedEvent> outboxCaptor = ArgumentCaptor.forClass(ProductCatalogChangedEvent.class);
+        verify(productCatalogOutboxPort).enqueue(outboxCaptor.capture());
+        assertThat(outboxCaptor.getValue().categoryId()).isEqualTo(9L);
+        assertThat(outboxCaptor.getValue().previousCategoryId()).isEqualTo(5L);
+
+        ArgumentCaptor<StorefrontProductDetailCacheEvictRequestedEvent> eventCaptor =
+                ArgumentCaptor.forClass(StorefrontProductDetailCacheEvictRequestedEvent.class);
+        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().previousCategoryId()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("이전 카테고리가 현재와 같으면 이동으로 보지 않는다")
+    void invalidate_sameCategory_dropsPreviousCategory() {
+        when(idGenerator.generateId()).thenReturn(UUID.randomUUID());
+
+        storefrontProductCatalogInvalidationService.invalidate(
+                product(9L),
+                9L,
+                ProductCatalogChangeType.PRODUCT_UPDATED
+        );
+
+        ArgumentCaptor<ProductCatalogChangedEvent> outboxCaptor = ArgumentCaptor.forClass(ProductCatalogChangedEvent.class);
+        verify(productCatalogOutboxPort).enqueue(outboxCaptor.capture());
+        assertThat(outboxCaptor.getValue().previousCategoryId()).isNull();
+    }
+
+    private static Product product(long categoryId) {
+        return Product.reconstitute(
+                new ProductId(UUID.randomUUID()),
+                new CategoryId(categoryId),
+                "상품",
+                "상품에 대한 설명입니다. 충분히 깁니다.",
+                new Money(new BigDecimal("1000")),
+                ProductStatus.ACTIVE,
+                ConditionType.NEW,
+                "브랜드",
+                "url",
+                List.of(),
+                List.of()
+        );
     }
 }
@@ -0,0 +1,140 @@
+package com.project.young.productservice.application.service;
+
+import com.project.young.common.domain.valueobject.ProductId;
+import com.project.young.productservice.application.config.StorefrontProductDetailInvalidationMode;
+import com.project.young.productservice.application.config.StorefrontProductDetailInvalidationProperties;
+import com.project.young.productservice.application.port.output.PublicProductReadRepository;
+import com.project.young.productservice.application.port.output.StorefrontProductDetailCachePort;
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StorefrontProductDetailCacheRecomputeServiceTest {
+
+    @Mock
+    private StorefrontProductDetailCachePort storefrontProductDetailCachePort;
+
+    @Mock
+    private PublicProductReadRepository publicProductReadRepository;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    private StorefrontProductDetailInvalidationProperties properties;
+    private StorefrontProductDetailCacheRecomputeService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StorefrontProductDetailInvalidationProperties();
+        properties.setMode(StorefrontProductDetailInvalidationMode.RECOMPUTE);
+        properties.setRecomputeWindow(Duration.ofMillis(150));
+        service = new StorefrontProductDetailCacheRecomputeService(
+                storefrontProductDetailCachePort,
+                publicProductReadRepository,
+                properties,
+                scheduler,
+                Runnable::run
+        );
+    }
+
+    @Test
+    @DisplayName("기본 모드는 EVICT이고 RECOMPUTE로 설정하면 재계산이 활성화된다")
+    void recomputeEnabled_followsMode() {
+        assertThat(new StorefrontProductDetailInvalidationProperties().getMode())
+                .isEqualTo(StorefrontProductDetailInvalidationMode.EVICT);
+        assertThat(service.recomputeEnabled()).isTrue();
+
+        properties.setMode(StorefrontProductDetailInvalidationMode.EVICT);
+
+        assertThat(service.recomputeEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("윈도 안의 같은 상품 변경은 한 번의 재계산으로 합쳐진다")
+    void scheduleRecompute_collapsesChangesWithinWindow() {
+        ProductId productId = new ProductId(UUID.randomUUID());
+
+        service.scheduleRecompute(productId);
+        service.scheduleRecompute(productId);
+        service.scheduleRecompute(productId);
+
+        verify(scheduler, times(1)).schedule(any(Runnable.class), eq(150L), eq(TimeUnit.MILLISECONDS));
+        assertThat(service.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("윈도가 지나면 DB에서 다시 읽은 뷰로 캐시를 덮어쓰고, 이후 변경은 새 재계산을 예약한다")
+    void scheduledRecompute_refreshesFromRepository() {
+        ProductId productId = new ProductId(UUID.randomUUID());
+        ReadProductDetailView view = ReadProductDetailView.builder().id(productId.getValue()).name("상품").build();
+        when(publicProductReadRepository.findStorefrontProductDetailById(productId)).thenReturn(Optional.of(view));
+
+        service.scheduleRecompute(productId);
+        runScheduled(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Supplier<Optional<ReadProductDetailView>>> loaderCaptor = ArgumentCaptor.forClass(Supplier.class);
+        verify(storefrontProductDetailCachePort).refresh(eq(productId), loaderCaptor.capture());
+        assertThat(loaderCaptor.getValue().get()).contains(view);
+        assertThat(service.pendingCount()).isZero();
+
+        service.scheduleRecompute(productId);
+
+        verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("재계산이 실패하면 캐시를 삭제한다")
+    void scheduledRecompute_whenRefreshFails_evicts() {
+        ProductId productId = new ProductId(UUID.randomUUID());
+        doThrow(new RuntimeException("redis down"))
+                .when(storefrontProductDetailCachePort).refresh(eq(productId), any());
+
+        service.scheduleRecompute(productId);
+        runScheduled(1);
+
+        verify(storefrontProductDetailCachePort).evict(productId);
+    }
+
+    @Test
+    @DisplayName("스케줄러가 작업을 거부하면 즉시 캐시를 삭제한다")
+    void scheduleRecompute_whenRejected_evicts() {
+        ProductId productId = new ProductId(UUID.randomUUID());
+        when(scheduler.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+                .thenThrow(new RejectedExecutionException("shut down"));
+
+        service.scheduleRecompute(productId);
+
+        verify(storefrontProductDetailCachePort).evict(productId);
+        assertThat(service.pendingCount()).isZero();
+    }
+
+    private void runScheduled(int expectedCalls) {
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, times(expectedCalls)).schedule(taskCaptor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        taskCaptor.getValue().run();
+    }
+}
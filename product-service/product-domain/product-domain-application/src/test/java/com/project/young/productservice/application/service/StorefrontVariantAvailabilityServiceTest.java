@@ -0,0 +1,117 @@
+package com.project.young.productservice.application.service;
+
+import com.project.young.common.domain.valueobject.ProductId;
+import com.project.young.common.domain.valueobject.ProductVariantId;
+import com.project.young.productservice.application.port.output.InventoryVariantStockPort;
+import com.project.young.productservice.application.port.output.StorefrontVariantAvailabilityCachePort;
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.application.port.output.view.ReadProductVariantView;
+import com.project.young.productservice.domain.repository.InventoryReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StorefrontVariantAvailabilityServiceTest {
+
+    private static final UUID VARIANT_ID = UUID.randomUUID();
+
+    @Mock
+    private StorefrontVariantAvailabilityCachePort storefrontVariantAvailabilityCachePort;
+
+    @Mock
+    private InventoryVariantStockPort inventoryVariantStockPort;
+
+    @Mock
+    private InventoryReservationRepository inventoryReservationRepository;
+
+    private StorefrontVariantAvailabilityService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new StorefrontVariantAvailabilityService(
+                storefrontVariantAvailabilityCachePort,
+                inventoryVariantStockPort,
+                inventoryReservationRepository
+        );
+    }
+
+    @Test
+    @DisplayName("overlay가 캐시에 있으면 DB를 읽지 않고 재고를 합친다")
+    void applyTo_whenCached_usesOverlay() {
+        ProductId productId = new ProductId(UUID.randomUUID());
+        when(storefrontVariantAvailabilityCachePort.findAll(any())).thenReturn(Map.of(productId, Map.of(VARIANT_ID, 5)));
+
+        ReadProductDetailView result = service.applyTo(view(productId));
+
+        assertThat(result.variants().getFirst().stockQuantity()).isEqualTo(5);
+        verifyNoInteractions(inventoryVariantStockPort, inventoryReservationRepository);
+    }
+
+    @Test
+    @DisplayName("overlay miss는 on-hand에서 활성 hold를 뺀 가용 재고로 계산해 캐시에 넣는다")
+    void applyTo_whenMissing_computesAndStores() {
+        ProductId productId = new ProductId(UUID.randomUUID());
+        when(inventoryVariantStockPort.findOnHandByProductIds(List.of(productId)))
+                .thenReturn(Map.of(productId, Map.of(VARIANT_ID, 10)));
+        when(inventoryReservationRepository.sumActiveQuantityByVariantIds(anyList(), any()))
+                .thenReturn(Map.of(VARIANT_ID, 3));
+
+        ReadProductDetailView result = service.applyTo(view(productId));
+
+        assertThat(result.variants().getFirst().stockQuantity()).isEqualTo(7);
+        verify(storefrontVariantAvailabilityCachePort).putAll(Map.of(productId, Map.of(VARIANT_ID, 7)));
+    }
+
+    @Test
+    @DisplayName("variant가 없는 뷰는 overlay를 조회하지 않는다")
+    void applyTo_withoutVariants_skipsOverlay() {
+        ReadProductDetailView view = ReadProductDetailView.builder().id(UUID.randomUUID()).name("상품").build();
+
+        assertThat(service.applyTo(view)).isSameAs(view);
+        verifyNoInteractions(storefrontVariantAvailabilityCachePort);
+    }
+
+    @Test
+    @DisplayName("refreshForVariants: variant가 속한 상품의 overlay를 다시 계산해 덮어쓴다")
+    void refreshForVariants_overwritesOwningProducts() {
+        ProductId productId = new ProductId(UUID.randomUUID());
+        List<ProductVariantId> variantIds = List.of(new ProductVariantId(VARIANT_ID));
+        when(inventoryVariantStockPort.findProductIdsByVariantIds(variantIds)).thenReturn(Set.of(productId));
+        when(inventoryVariantStockPort.findOnHandByProductIds(Set.of(productId)))
+                .thenReturn(Map.of(productId, Map.of(VARIANT_ID, 2)));
+        when(inventoryReservationRepository.sumActiveQuantityByVariantIds(anyList(), any())).thenReturn(Map.of());
+
+        service.refreshForVariants(variantIds);
+
+        verify(storefrontVariantAvailabilityCachePort).putAll(Map.of(productId, Map.of(VARIANT_ID, 2)));
+        verify(storefrontVariantAvailabilityCachePort, never()).findAll(any());
+    }
+
+    private static ReadProductDetailView view(ProductId productId) {
+        return ReadProductDetailView.builder()
+                .id(productId.getValue())
+                .name("상품")
+                .variants(List.of(ReadProductVariantView.builder()
+                        .productVariantId(VARIANT_ID)
+                        .sku("SKU-1")
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.project.young.productservice.application.support;
+
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.application.port.output.view.ReadProductVariantView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentVersionsTest {
+
+    @Test
+    @DisplayName("내용이 같은 read model은 인스턴스가 달라도 같은 version, 하위 항목 하나만 바뀌어도 다른 version이 된다")
+    void of_dependsOnlyOnContent() {
+        UUID productId = UUID.randomUUID();
+        UUID variantId = UUID.randomUUID();
+
+        String version = ContentVersions.of(view(productId, variantId, 10));
+
+        assertThat(ContentVersions.of(view(productId, variantId, 10))).isEqualTo(version);
+        assertThat(ContentVersions.of(view(productId, variantId, 9))).isNotEqualTo(version);
+        assertThat(version).hasSize(22).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("null은 version을 만들 수 없다")
+    void of_rejectsNull() {
+        assertThatThrownBy(() -> ContentVersions.of(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ReadProductDetailView view(UUID productId, UUID variantId, int stockQuantity) {
+        return ReadProductDetailView.builder()
+                .id(productId)
+                .name("상품")
+                .basePrice(new BigDecimal("59000.00"))
+                .variants(List.of(ReadProductVariantView.builder()
+                        .productVariantId(variantId)
+                        .sku("SKU-1")
+                        .stockQuantity(stockQuantity)
+                        .calculatedPrice(new BigDecimal("59000.00"))
+                        .build()))
+                .build();
+    }
+}
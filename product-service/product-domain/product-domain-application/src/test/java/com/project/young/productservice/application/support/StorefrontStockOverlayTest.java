@@ -0,0 +1,65 @@
+package com.project.young.productservice.application.support;
+
+import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
+import com.project.young.productservice.application.port.output.view.ReadProductVariantView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StorefrontStockOverlayTest {
+
+    private static final UUID PRODUCT_ID = UUID.randomUUID();
+    private static final UUID FIRST_VARIANT_ID = UUID.randomUUID();
+    private static final UUID SECOND_VARIANT_ID = UUID.randomUUID();
+
+    @Test
+    @DisplayName("재고만 다른 뷰는 정적 부분이 같아 같은 정적 version을 가진다")
+    void withoutStock_ignoresStockQuantities() {
+        assertThat(ContentVersions.of(StorefrontStockOverlay.withoutStock(view(10, 3))))
+                .isEqualTo(ContentVersions.of(StorefrontStockOverlay.withoutStock(view(0, 8))));
+    }
+
+    @Test
+    @DisplayName("overlay 값으로 variant 재고를 채우고, overlay에 없는 variant는 0으로 둔다")
+    void apply_setsStockFromOverlay() {
+        ReadProductDetailView merged = StorefrontStockOverlay.apply(
+                StorefrontStockOverlay.withoutStock(view(10, 3)), Map.of(FIRST_VARIANT_ID, 4));
+
+        assertThat(merged.variants()).extracting(ReadProductVariantView::stockQuantity).containsExactly(4, 0);
+        assertThat(merged.name()).isEqualTo("상품");
+    }
+
+    @Test
+    @DisplayName("합친 뷰의 version은 정적 version과 overlay로 계산한 version과 같고, 재고가 바뀌면 달라진다")
+    void version_matchesStaticVersionPlusOverlay() {
+        String staticVersion = ContentVersions.of(StorefrontStockOverlay.withoutStock(view(0, 0)));
+
+        assertThat(StorefrontStockOverlay.version(view(4, 0)))
+                .isEqualTo(StorefrontStockOverlay.version(staticVersion, Map.of(SECOND_VARIANT_ID, 0, FIRST_VARIANT_ID, 4)))
+                .isNotEqualTo(StorefrontStockOverlay.version(view(3, 0)));
+    }
+
+    private static ReadProductDetailView view(int firstStock, int secondStock) {
+        return ReadProductDetailView.builder()
+                .id(PRODUCT_ID)
+                .name("상품")
+                .basePrice(new BigDecimal("59000.00"))
+                .variants(List.of(variant(FIRST_VARIANT_ID, "SKU-1", firstStock), variant(SECOND_VARIANT_ID, "SKU-2", secondStock)))
+                .build();
+    }
+
+    private static ReadProductVariantView variant(UUID variantId, String sku, int stockQuantity) {
+        return ReadProductVariantView.builder()
+                .productVariantId(variantId)
+                .sku(sku)
+                .stockQuantity(stockQuantity)
+                .calculatedPrice(new BigDecimal("59000.00"))
+                .build();
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
@@ -56,4 +57,25 @@ public class ProductCatalogKafkaConsumerConfig {
         factory.setConcurrency(1);
         return factory;
     }
+
+    /**
+     * For state every instance holds for itself (facet and PLP caches, the in-memory search index), so every
+     * instance must read the whole outbox stream. Listeners assign the partitions named in
+     * {@code product-service.catalog-events.partitions} manually, without a consumer group (nothing is left behind
+     * on restart), and seek to the end on start (older events predate that state). The list must name every
+     * partition of the topic; one left out is never read. Without a group nothing can be committed, so auto commit
+     * is off and the container acks manually (the listeners never ack).
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ProductCatalogChangedMessage>
+    productCatalogBroadcastKafkaListenerContainerFactory() {
+        Map<String, Object> props = new HashMap<>(productCatalogConsumerFactory().getConfigurationProperties());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        ConcurrentKafkaListenerContainerFactory<String, ProductCatalogChangedMessage> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setConcurrency(1);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
 }
@@ -12,6 +12,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 
 import java.util.HashMap;
@@ -51,4 +52,21 @@ public class ProductCatalogPollingKafkaConsumerConfig {
         factory.setConcurrency(1);
         return factory;
     }
+
+    /**
+     * Avro counterpart of
+     * {@link ProductCatalogKafkaConsumerConfig#productCatalogBroadcastKafkaListenerContainerFactory()}.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ProductCatalogChangedAvroModel>
+    productCatalogBroadcastKafkaListenerContainerFactory() {
+        Map<String, Object> props = new HashMap<>(productCatalogConsumerFactory().getConfigurationProperties());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        ConcurrentKafkaListenerContainerFactory<String, ProductCatalogChangedAvroModel> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setConcurrency(1);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
 }
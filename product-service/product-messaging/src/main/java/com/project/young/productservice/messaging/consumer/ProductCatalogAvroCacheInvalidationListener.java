@@ -3,6 +3,7 @@ package com.project.young.productservice.messaging.consumer;
 import com.project.young.common.domain.valueobject.ProductId;
 import com.project.young.kafka.product.avro.model.ProductCatalogChangedAvroModel;
 import com.project.young.productservice.application.port.output.StorefrontProductDetailCachePort;
+import com.project.young.productservice.application.service.StorefrontProductDetailCacheRecomputeService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -19,11 +20,14 @@ import java.util.UUID;
 public class ProductCatalogAvroCacheInvalidationListener {
 
     private final StorefrontProductDetailCachePort storefrontProductDetailCachePort;
+    private final StorefrontProductDetailCacheRecomputeService storefrontProductDetailCacheRecomputeService;
 
     public ProductCatalogAvroCacheInvalidationListener(
-            StorefrontProductDetailCachePort storefrontProductDetailCachePort
+            StorefrontProductDetailCachePort storefrontProductDetailCachePort,
+            StorefrontProductDetailCacheRecomputeService storefrontProductDetailCacheRecomputeService
     ) {
         this.storefrontProductDetailCachePort = storefrontProductDetailCachePort;
+        this.storefrontProductDetailCacheRecomputeService = storefrontProductDetailCacheRecomputeService;
     }
 
     @KafkaListener(
@@ -33,6 +37,16 @@ public class ProductCatalogAvroCacheInvalidationListener {
     )
     public void onProductCatalogChanged(ProductCatalogChangedAvroModel message) {
         UUID productId = UUID.fromString(message.getProductId().toString());
+        if (storefrontProductDetailCacheRecomputeService.recomputeEnabled()) {
+            // An evict here would undo the post-commit recompute; the pending rebuild absorbs the duplicate.
+            storefrontProductDetailCacheRecomputeService.scheduleRecompute(new ProductId(productId));
+            log.info(
+                    "Kafka-scheduled storefront PDP recompute for product {} ({})",
+                    productId,
+                    message.getChangeType()
+            );
+            return;
+        }
         storefrontProductDetailCachePort.evict(new ProductId(productId));
         log.info(
                 "Kafka-evicted storefront PDP cache for product {} ({})",
@@ -2,6 +2,7 @@ package com.project.young.productservice.messaging.consumer;
 
 import com.project.young.common.domain.valueobject.ProductId;
 import com.project.young.productservice.application.port.output.StorefrontProductDetailCachePort;
+import com.project.young.productservice.application.service.StorefrontProductDetailCacheRecomputeService;
 import com.project.young.productservice.messaging.dto.ProductCatalogChangedMessage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -9,7 +10,8 @@ import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 /**
- * Idempotent secondary eviction — primary eviction runs post-commit via Spring events.
+ * Idempotent secondary eviction (a recompute in RECOMPUTE mode) — primary eviction runs post-commit via Spring
+ * events.
  * Consumes Debezium JSON from {@code product.catalog.changed}.
  */
 @Component
@@ -23,11 +25,14 @@ import org.springframework.stereotype.Component;
 public class ProductCatalogCacheInvalidationListener {
 
     private final StorefrontProductDetailCachePort storefrontProductDetailCachePort;
+    private final StorefrontProductDetailCacheRecomputeService storefrontProductDetailCacheRecomputeService;
 
     public ProductCatalogCacheInvalidationListener(
-            StorefrontProductDetailCachePort storefrontProductDetailCachePort
+            StorefrontProductDetailCachePort storefrontProductDetailCachePort,
+            StorefrontProductDetailCacheRecomputeService storefrontProductDetailCacheRecomputeService
     ) {
         this.storefrontProductDetailCachePort = storefrontProductDetailCachePort;
+        this.storefrontProductDetailCacheRecomputeService = storefrontProductDetailCacheRecomputeService;
     }
 
     @KafkaListener(
@@ -40,6 +45,16 @@ public class ProductCatalogCacheInvalidationListener {
             log.warn("Skipping catalog invalidation message with missing productId");
             return;
         }
+        if (storefrontProductDetailCacheRecomputeService.recomputeEnabled()) {
+            // An evict here would undo the post-commit recompute; the pending rebuild absorbs the duplicate.
+            storefrontProductDetailCacheRecomputeService.scheduleRecompute(new ProductId(message.productId()));
+            log.info(
+                    "Kafka-scheduled storefront PDP recompute for product {} ({})",
+                    message.productId(),
+                    message.changeType()
+            );
+            return;
+        }
         storefrontProductDetailCachePort.evict(new ProductId(message.productId()));
         log.info(
                 "Kafka-evicted storefront PDP cache for product {} ({})",
@@ -0,0 +1,49 @@
+package com.project.young.productservice.messaging.consumer;
+
+import com.project.young.kafka.product.avro.model.ProductCatalogChangedAvroModel;
+import com.project.young.productservice.application.service.PublicProductFacetQueryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.PartitionOffset;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Component;
+
+/**
+ * Avro counterpart of {@link PublicProductFacetCacheInvalidationListener} for the polling outbox relay.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "product-service.catalog-events", name = "relay", havingValue = "polling")
+public class PublicProductFacetAvroCacheInvalidationListener {
+
+    private final PublicProductFacetQueryService publicProductFacetQueryService;
+
+    public PublicProductFacetAvroCacheInvalidationListener(PublicProductFacetQueryService publicProductFacetQueryService) {
+        this.publicProductFacetQueryService = publicProductFacetQueryService;
+    }
+
+    @KafkaListener(
+            topicPartitions = @TopicPartition(
+                    topic = "${product-service.catalog-events.topic-name}",
+                    partitionOffsets = @PartitionOffset(
+                            partition = "${product-service.catalog-events.partitions}",
+                            initialOffset = "0",
+                            seekPosition = "END"
+                    )
+            ),
+            containerFactory = "productCatalogBroadcastKafkaListenerContainerFactory"
+    )
+    public void onProductCatalogChanged(ProductCatalogChangedAvroModel message) {
+        if (message.getCategoryId() == null && message.getPreviousCategoryId() == null) {
+            return;
+        }
+        publicProductFacetQueryService.evictProductCategories(message.getCategoryId(), message.getPreviousCategoryId());
+        log.info(
+                "Kafka-evicted facet cache for category {} (previously {}) ({})",
+                message.getCategoryId(),
+                message.getPreviousCategoryId(),
+                message.getChangeType()
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package com.project.young.productservice.messaging.consumer;
+
+import com.project.young.productservice.application.service.PublicProductFacetQueryService;
+import com.project.young.productservice.messaging.config.ProductCatalogKafkaConsumerConfig;
+import com.project.young.productservice.messaging.dto.ProductCatalogChangedMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.PartitionOffset;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Component;
+
+/**
+ * Facet results are cached per instance, so every instance reads the whole outbox stream
+ * (see {@link ProductCatalogKafkaConsumerConfig#productCatalogBroadcastKafkaListenerContainerFactory()}).
+ * Consumes Debezium JSON from {@code product.catalog.changed}.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(
+        prefix = "product-service.catalog-events",
+        name = "relay",
+        havingValue = "debezium",
+        matchIfMissing = true
+)
+public class PublicProductFacetCacheInvalidationListener {
+
+    private final PublicProductFacetQueryService publicProductFacetQueryService;
+
+    public PublicProductFacetCacheInvalidationListener(PublicProductFacetQueryService publicProductFacetQueryService) {
+        this.publicProductFacetQueryService = publicProductFacetQueryService;
+    }
+
+    @KafkaListener(
+            topicPartitions = @TopicPartition(
+                    topic = "${product-service.catalog-events.topic-name}",
+                    partitionOffsets = @PartitionOffset(
+                            partition = "${product-service.catalog-events.partitions}",
+                            initialOffset = "0",
+                            seekPosition = "END"
+                    )
+            ),
+            containerFactory = "productCatalogBroadcastKafkaListenerContainerFactory"
+    )
+    public void onProductCatalogChanged(ProductCatalogChangedMessage message) {
+        if (message == null || (message.categoryId() == null && message.previousCategoryId() == null)) {
+            log.debug("Skipping facet invalidation for catalog message without categoryId");
+            return;
+        }
+        publicProductFacetQueryService.evictProductCategories(message.categoryId(), message.previousCategoryId());
+        log.info(
+                "Kafka-evicted facet cache for category {} (previously {}) ({})",
+                message.categoryId(),
+                message.previousCategoryId(),
+                message.changeType()
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.young.productservice.messaging.consumer;
+
+import com.project.young.productservice.application.port.output.PublicProductListCachePort;
+import com.project.young.productservice.messaging.config.ProductCatalogKafkaConsumerConfig;
+import com.project.young.productservice.messaging.dto.ProductCatalogChangedMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.PartitionOffset;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * PLP pages are cached per instance, so every instance reads the whole outbox stream
+ * (see {@link ProductCatalogKafkaConsumerConfig#productCatalogBroadcastKafkaListenerContainerFactory()}).
+ * Consumes Debezium JSON from {@code product.catalog.changed}.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(
+        prefix = "product-service.catalog-events",
+        name = "relay",
+        havingValue = "debezium",
+        matchIfMissing = true
+)
+public class PublicProductListCacheInvalidationListener {
+
+    private final PublicProductListCachePort publicProductListCachePort;
+
+    public PublicProductListCacheInvalidationListener(PublicProductListCachePort publicProductListCachePort) {
+        this.publicProductListCachePort = publicProductListCachePort;
+    }
+
+    @KafkaListener(
+            topicPartitions = @TopicPartition(
+                    topic = "${product-service.catalog-events.topic-name}",
+                    partitionOffsets = @PartitionOffset(
+                            partition = "${product-service.catalog-events.partitions}",
+                            initialOffset = "0",
+                            seekPosition = "END"
+                    )
+            ),
+            containerFactory = "productCatalogBroadcastKafkaListenerContainerFactory"
+    )
+    public void onProductCatalogChanged(ProductCatalogChangedMessage message) {
+        if (message == null || message.productId() == null) {
+            log.debug("Skipping PLP cache invalidation for catalog message without productId");
+            return;
+        }
+        publicProductListCachePort.evictProducts(List.of(message.productId()));
+        log.debug("Kafka-evicted PLP cache pages for product {} ({})", message.productId(), message.changeType());
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.young.productservice.messaging.consumer;
+
+import com.project.young.kafka.product.avro.model.ProductCatalogChangedAvroModel;
+import com.project.young.productservice.application.port.output.PublicProductSearchIndexPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.PartitionOffset;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Avro counterpart of {@link PublicProductSearchIndexRefreshListener} for the polling outbox relay.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "product-service.catalog-events", name = "relay", havingValue = "polling")
+public class PublicProductSearchIndexAvroRefreshListener {
+
+    private final PublicProductSearchIndexPort publicProductSearchIndexPort;
+
+    public PublicProductSearchIndexAvroRefreshListener(PublicProductSearchIndexPort publicProductSearchIndexPort) {
+        this.publicProductSearchIndexPort = publicProductSearchIndexPort;
+    }
+
+    @KafkaListener(
+            topicPartitions = @TopicPartition(
+                    topic = "${product-service.catalog-events.topic-name}",
+                    partitionOffsets = @PartitionOffset(
+                            partition = "${product-service.catalog-events.partitions}",
+                            initialOffset = "0",
+                            seekPosition = "END"
+                    )
+            ),
+            containerFactory = "productCatalogBroadcastKafkaListenerContainerFactory"
+    )
+    public void onProductCatalogChanged(ProductCatalogChangedAvroModel message) {
+        if (message.getProductId() == null) {
+            return;
+        }
+        UUID productId = UUID.fromString(message.getProductId().toString());
+        publicProductSearchIndexPort.refreshProducts(List.of(productId));
+        log.debug("Kafka-refreshed search index for product {} ({})", productId, message.getChangeType());
+    }
+}
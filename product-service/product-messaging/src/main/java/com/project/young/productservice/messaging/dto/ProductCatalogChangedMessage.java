@@ -15,6 +15,7 @@ public record ProductCatalogChangedMessage(
         UUID eventId,
         UUID productId,
         Long categoryId,
+        Long previousCategoryId,
         String changeType,
         Instant occurredAt,
         Instant publishedAt,
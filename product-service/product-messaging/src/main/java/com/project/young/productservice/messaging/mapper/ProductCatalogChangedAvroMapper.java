@@ -12,6 +12,7 @@ public class ProductCatalogChangedAvroMapper {
                 .setEventId(entity.getEventId().toString())
                 .setProductId(entity.getProductId().toString())
                 .setCategoryId(entity.getCategoryId())
+                .setPreviousCategoryId(entity.getPreviousCategoryId())
                 .setChangeType(entity.getChangeType())
                 .setOccurredAt(entity.getOccurredAt().toEpochMilli())
                 .build();
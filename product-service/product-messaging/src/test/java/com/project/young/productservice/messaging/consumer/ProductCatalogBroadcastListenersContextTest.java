@@ -0,0 +1,86 @@
+package com.project.young.productservice.messaging.consumer;
+
+import com.project.young.kafka.config.KafkaConfigData;
+import com.project.young.productservice.application.port.output.PublicProductListCachePort;
+import com.project.young.productservice.application.port.output.PublicProductSearchIndexPort;
+import com.project.young.productservice.application.service.PublicProductFacetQueryService;
+import com.project.young.productservice.messaging.config.ProductCatalogKafkaConsumerConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.TopicPartitionOffset;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the per-instance cache listener containers the way the application does, so a listener definition
+ * Spring Kafka rejects fails here instead of at startup. No broker is needed: partitions are assigned without a group.
+ */
+@SpringJUnitConfig(ProductCatalogBroadcastListenersContextTest.Config.class)
+@TestPropertySource(properties = {
+        "product-service.catalog-events.topic-name=product.catalog.changed",
+        "product-service.catalog-events.partitions=0-2"
+})
+class ProductCatalogBroadcastListenersContextTest {
+
+    @Autowired
+    private KafkaListenerEndpointRegistry registry;
+
+    @MockitoBean
+    private PublicProductFacetQueryService publicProductFacetQueryService;
+
+    @MockitoBean
+    private PublicProductSearchIndexPort publicProductSearchIndexPort;
+
+    @MockitoBean
+    private PublicProductListCachePort publicProductListCachePort;
+
+    @Test
+    @DisplayName("리스너 컨테이너가 모두 기동되고, 설정된 모든 파티션을 그룹 없이 끝 오프셋부터 할당받는다")
+    void listenerContainers_startWithEveryConfiguredPartitionAtEnd() {
+        assertThat(registry.getListenerContainers()).hasSize(3).allSatisfy(container -> {
+            assertThat(container.isRunning()).isTrue();
+            assertThat(container.getGroupId()).isNull();
+            assertThat(partitions(container))
+                    .extracting(TopicPartitionOffset::getPartition)
+                    .containsExactly(0, 1, 2);
+            assertThat(partitions(container))
+                    .extracting(TopicPartitionOffset::getPosition)
+                    .containsOnly(TopicPartitionOffset.SeekPosition.END);
+        });
+    }
+
+    private static TopicPartitionOffset[] partitions(MessageListenerContainer container) {
+        TopicPartitionOffset[] partitions = container.getContainerProperties().getTopicPartitions();
+        return partitions == null ? new TopicPartitionOffset[0] : Arrays.copyOf(partitions, partitions.length);
+    }
+
+    @Configuration
+    @EnableKafka
+    @Import({
+            ProductCatalogKafkaConsumerConfig.class,
+            PublicProductFacetCacheInvalidationListener.class,
+            PublicProductSearchIndexRefreshListener.class,
+            PublicProductListCacheInvalidationListener.class
+    })
+    static class Config {
+
+        @Bean
+        KafkaConfigData kafkaConfigData() {
+            KafkaConfigData kafkaConfigData = new KafkaConfigData();
+            kafkaConfigData.setBootstrapServers("localhost:9");
+            return kafkaConfigData;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.project.young.productservice.messaging.consumer;
 
 import com.project.young.common.domain.valueobject.ProductId;
 import com.project.young.productservice.application.port.output.StorefrontProductDetailCachePort;
+import com.project.young.productservice.application.service.StorefrontProductDetailCacheRecomputeService;
 import com.project.young.productservice.messaging.dto.ProductCatalogChangedMessage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ProductCatalogCacheInvalidationListenerTest {
@@ -25,6 +27,9 @@ class ProductCatalogCacheInvalidationListenerTest {
     @Mock
     private StorefrontProductDetailCachePort storefrontProductDetailCachePort;
 
+    @Mock
+    private StorefrontProductDetailCacheRecomputeService storefrontProductDetailCacheRecomputeService;
+
     @InjectMocks
     private ProductCatalogCacheInvalidationListener listener;
 
@@ -41,6 +46,18 @@ class ProductCatalogCacheInvalidationListenerTest {
         assertThat(productIdCaptor.getValue().getValue()).isEqualTo(productId);
     }
 
+    @Test
+    @DisplayName("RECOMPUTE 모드에서는 evict 대신 productId로 재계산을 예약한다")
+    void onProductCatalogChanged_whenRecomputeEnabled_schedulesRecompute() {
+        UUID productId = UUID.randomUUID();
+        when(storefrontProductDetailCacheRecomputeService.recomputeEnabled()).thenReturn(true);
+
+        listener.onProductCatalogChanged(sampleMessage(productId));
+
+        verify(storefrontProductDetailCacheRecomputeService).scheduleRecompute(new ProductId(productId));
+        verify(storefrontProductDetailCachePort, never()).evict(any());
+    }
+
     @Test
     @DisplayName("message가 null이면 evict를 건너뛴다")
     void onProductCatalogChanged_whenMessageNull_skipsEvict() {
@@ -57,6 +74,7 @@ class ProductCatalogCacheInvalidationListenerTest {
                 UUID.randomUUID(),
                 null,
                 4L,
+                null,
                 "PRODUCT_UPDATED",
                 Instant.parse("2026-06-13T08:03:10.343300Z"),
                 null,
@@ -74,6 +92,7 @@ class ProductCatalogCacheInvalidationListenerTest {
                 UUID.randomUUID(),
                 productId,
                 4L,
+                null,
                 "PRODUCT_UPDATED",
                 Instant.parse("2026-06-13T08:03:10.343300Z"),
                 null,
@@ -0,0 +1,66 @@
+package com.project.young.productservice.messaging.consumer;
+
+import com.project.young.productservice.application.service.PublicProductFacetQueryService;
+import com.project.young.productservice.messaging.dto.ProductCatalogChangedMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PublicProductFacetCacheInvalidationListenerTest {
+
+    @Mock
+    private PublicProductFacetQueryService publicProductFacetQueryService;
+
+    @InjectMocks
+    private PublicProductFacetCacheInvalidationListener listener;
+
+    @Test
+    @DisplayName("Debezium catalog 메시지를 받으면 categoryId로 퍼싯 캐시를 무효화한다")
+    void onProductCatalogChanged_evictsFacetCacheByCategoryId() {
+        listener.onProductCatalogChanged(message(4L, null));
+
+        verify(publicProductFacetQueryService).evictProductCategories(4L, null);
+    }
+
+    @Test
+    @DisplayName("카테고리를 옮긴 상품 메시지면 이전 카테고리 퍼싯 캐시도 함께 무효화한다")
+    void onProductCatalogChanged_movedProduct_evictsBothCategories() {
+        listener.onProductCatalogChanged(message(4L, 3L));
+
+        verify(publicProductFacetQueryService).evictProductCategories(4L, 3L);
+    }
+
+    @Test
+    @DisplayName("categoryId가 null이면 무효화를 건너뛴다")
+    void onProductCatalogChanged_whenCategoryIdNull_skipsEvict() {
+        listener.onProductCatalogChanged(message(null, null));
+        listener.onProductCatalogChanged(null);
+
+        verify(publicProductFacetQueryService, never()).evictProductCategories(any(), any());
+    }
+
+    private static ProductCatalogChangedMessage message(Long categoryId, Long previousCategoryId) {
+        return new ProductCatalogChangedMessage(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                categoryId,
+                previousCategoryId,
+                "PRODUCT_UPDATED",
+                Instant.parse("2026-06-13T08:03:10.343300Z"),
+                null,
+                Instant.parse("2026-06-13T08:03:10.345273Z")
+        );
+    }
+}
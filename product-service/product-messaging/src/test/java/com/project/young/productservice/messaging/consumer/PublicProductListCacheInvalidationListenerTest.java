@@ -0,0 +1,61 @@
+package com.project.young.productservice.messaging.consumer;
+
+import com.project.young.productservice.application.port.output.PublicProductListCachePort;
+import com.project.young.productservice.messaging.dto.ProductCatalogChangedMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PublicProductListCacheInvalidationListenerTest {
+
+    @Mock
+    private PublicProductListCachePort publicProductListCachePort;
+
+    @InjectMocks
+    private PublicProductListCacheInvalidationListener listener;
+
+    @Test
+    @DisplayName("Debezium catalog 메시지를 받으면 productId가 포함된 PLP 캐시 페이지를 무효화한다")
+    void onProductCatalogChanged_evictsPagesListingProduct() {
+        UUID productId = UUID.randomUUID();
+
+        listener.onProductCatalogChanged(message(productId));
+
+        verify(publicProductListCachePort).evictProducts(List.of(productId));
+    }
+
+    @Test
+    @DisplayName("productId가 없으면 무효화를 건너뛴다")
+    void onProductCatalogChanged_whenProductIdNull_skipsEvict() {
+        listener.onProductCatalogChanged(message(null));
+        listener.onProductCatalogChanged(null);
+
+        verify(publicProductListCachePort, never()).evictProducts(anyCollection());
+    }
+
+    private static ProductCatalogChangedMessage message(UUID productId) {
+        return new ProductCatalogChangedMessage(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                productId,
+                4L,
+                null,
+                "PRODUCT_UPDATED",
+                Instant.parse("2026-06-13T08:03:10.343300Z"),
+                null,
+                Instant.parse("2026-06-13T08:03:10.345273Z")
+        );
+    }
+}
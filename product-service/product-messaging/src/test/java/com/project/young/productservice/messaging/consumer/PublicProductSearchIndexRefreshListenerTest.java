@@ -0,0 +1,61 @@
+package com.project.young.productservice.messaging.consumer;
+
+import com.project.young.productservice.application.port.output.PublicProductSearchIndexPort;
+import com.project.young.productservice.messaging.dto.ProductCatalogChangedMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PublicProductSearchIndexRefreshListenerTest {
+
+    @Mock
+    private PublicProductSearchIndexPort publicProductSearchIndexPort;
+
+    @InjectMocks
+    private PublicProductSearchIndexRefreshListener listener;
+
+    @Test
+    @DisplayName("Debezium catalog 메시지를 받으면 productId를 검색 인덱스에서 다시 읽는다")
+    void onProductCatalogChanged_refreshesProduct() {
+        UUID productId = UUID.randomUUID();
+
+        listener.onProductCatalogChanged(message(productId));
+
+        verify(publicProductSearchIndexPort).refreshProducts(List.of(productId));
+    }
+
+    @Test
+    @DisplayName("productId가 없으면 갱신을 건너뛴다")
+    void onProductCatalogChanged_whenProductIdNull_skipsRefresh() {
+        listener.onProductCatalogChanged(message(null));
+        listener.onProductCatalogChanged(null);
+
+        verify(publicProductSearchIndexPort, never()).refreshProducts(anyCollection());
+    }
+
+    private static ProductCatalogChangedMessage message(UUID productId) {
+        return new ProductCatalogChangedMessage(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                productId,
+                4L,
+                null,
+                "PRODUCT_UPDATED",
+                Instant.parse("2026-06-13T08:03:10.343300Z"),
+                null,
+                Instant.parse("2026-06-13T08:03:10.345273Z")
+        );
+    }
+}
@@ -0,0 +1,72 @@
+-- Precomputed ancestor/descendant pairs for storefront subtree listing (includeDescendants).
+-- Each category has a self row (depth 0); a subtree filter is one index range scan on (ancestor_id).
+CREATE TABLE category_closure
+(
+    ancestor_id   BIGINT NOT NULL REFERENCES categories (id) ON DELETE CASCADE,
+    descendant_id BIGINT NOT NULL REFERENCES categories (id) ON DELETE CASCADE,
+    depth         INT    NOT NULL CHECK (depth >= 0),
+    PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+CREATE INDEX idx_category_closure_descendant ON category_closure (descendant_id);
+
+INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE paths AS (
+    SELECT id AS ancestor_id, id AS descendant_id, 0 AS depth
+    FROM categories
+    UNION ALL
+    SELECT p.ancestor_id, c.id, p.depth + 1
+    FROM paths p
+    INNER JOIN categories c ON c.parent_id = p.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth
+FROM paths;
+
+-- Maintained by triggers so every writer (JPA, Flyway seed data, manual SQL) keeps the closure in sync.
+CREATE OR REPLACE FUNCTION category_closure_on_insert() RETURNS TRIGGER AS
+$$
+BEGIN
+    INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+    SELECT cc.ancestor_id, NEW.id, cc.depth + 1
+    FROM category_closure cc
+    WHERE cc.descendant_id = NEW.parent_id
+    UNION ALL
+    SELECT NEW.id, NEW.id, 0;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION category_closure_on_parent_change() RETURNS TRIGGER AS
+$$
+BEGIN
+    -- Detach the moved subtree from its old ancestors (keep paths inside the subtree).
+    DELETE
+    FROM category_closure cc
+    WHERE cc.descendant_id IN (SELECT s.descendant_id FROM category_closure s WHERE s.ancestor_id = NEW.id)
+      AND cc.ancestor_id NOT IN (SELECT s.descendant_id FROM category_closure s WHERE s.ancestor_id = NEW.id);
+
+    -- Attach it under every ancestor of the new parent.
+    IF NEW.parent_id IS NOT NULL THEN
+        INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+        SELECT p.ancestor_id, s.descendant_id, p.depth + s.depth + 1
+        FROM category_closure p
+                 CROSS JOIN category_closure s
+        WHERE p.descendant_id = NEW.parent_id
+          AND s.ancestor_id = NEW.id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_category_closure_insert
+    AFTER INSERT
+    ON categories
+    FOR EACH ROW
+EXECUTE FUNCTION category_closure_on_insert();
+
+CREATE TRIGGER trg_category_closure_parent_change
+    AFTER UPDATE OF parent_id
+    ON categories
+    FOR EACH ROW
+    WHEN (OLD.parent_id IS DISTINCT FROM NEW.parent_id)
+EXECUTE FUNCTION category_closure_on_parent_change();
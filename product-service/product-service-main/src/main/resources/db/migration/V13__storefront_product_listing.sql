@@ -0,0 +1,145 @@
+-- Storefront PLP read model: one row per ACTIVE product whose category is ACTIVE, denormalized so listing,
+-- count and facet queries read a single table without joining categories or the closure.
+--   category_path  ancestor ids root → own category (from category_closure); subtree filter is category_path @> {id}
+--   search_text    the NAME_BRAND keyword text, precomputed (same expression as idx_products_name_brand_search_trgm)
+-- Covering indexes let single-category pages in NEWEST and price order run as index-only scans.
+
+CREATE TABLE storefront_product_listing
+(
+    product_id     UUID PRIMARY KEY REFERENCES products (id) ON DELETE CASCADE,
+    category_id    BIGINT         NOT NULL,
+    category_path  BIGINT[]       NOT NULL,
+    name           VARCHAR(255)   NOT NULL,
+    brand          VARCHAR(100),
+    main_image_url VARCHAR(500)   NOT NULL,
+    base_price     DECIMAL(12, 2) NOT NULL,
+    created_at     TIMESTAMPTZ,
+    search_text    TEXT GENERATED ALWAYS AS (lower(coalesce(name, '')) || ' ' || lower(coalesce(brand, ''))) STORED
+);
+
+CREATE INDEX idx_storefront_listing_category_newest
+    ON storefront_product_listing (category_id, created_at DESC, product_id DESC)
+    INCLUDE (name, brand, main_image_url, base_price);
+
+CREATE INDEX idx_storefront_listing_category_price
+    ON storefront_product_listing (category_id, base_price, product_id)
+    INCLUDE (name, brand, main_image_url, created_at);
+
+-- Brand facet and brand-filtered pages: (category, brand) groups with the price for bucket counts.
+CREATE INDEX idx_storefront_listing_category_brand_price
+    ON storefront_product_listing (category_id, brand, base_price);
+
+CREATE INDEX idx_storefront_listing_category_path
+    ON storefront_product_listing USING gin (category_path);
+
+CREATE INDEX idx_storefront_listing_search_text_trgm
+    ON storefront_product_listing USING gin (search_text gin_trgm_ops);
+
+CREATE INDEX idx_storefront_listing_search_text_trgm_gist
+    ON storefront_product_listing USING gist (search_text gist_trgm_ops);
+
+-- Re-derives the listing rows of the given products from products/categories/category_closure:
+-- deletes the ones no longer listable and upserts the rest.
+CREATE OR REPLACE FUNCTION storefront_product_listing_sync(target_product_ids UUID[]) RETURNS VOID AS
+$$
+BEGIN
+    DELETE
+    FROM storefront_product_listing l
+    WHERE l.product_id = ANY (target_product_ids)
+      AND NOT EXISTS (SELECT 1
+                      FROM products p
+                               INNER JOIN categories c ON c.id = p.category_id
+                      WHERE p.id = l.product_id
+                        AND p.status = 'ACTIVE'
+                        AND c.status = 'ACTIVE');
+
+    INSERT INTO storefront_product_listing (product_id, category_id, category_path, name, brand, main_image_url,
+                                            base_price, created_at)
+    SELECT p.id,
+           p.category_id,
+           ARRAY(SELECT cc.ancestor_id
+                 FROM category_closure cc
+                 WHERE cc.descendant_id = p.category_id
+                 ORDER BY cc.depth DESC),
+           p.name,
+           p.brand,
+           p.main_image_url,
+           p.base_price,
+           p.created_at
+    FROM products p
+             INNER JOIN categories c ON c.id = p.category_id
+    WHERE p.id = ANY (target_product_ids)
+      AND p.status = 'ACTIVE'
+      AND c.status = 'ACTIVE'
+    ON CONFLICT (product_id) DO UPDATE
+        SET category_id    = EXCLUDED.category_id,
+            category_path  = EXCLUDED.category_path,
+            name           = EXCLUDED.name,
+            brand          = EXCLUDED.brand,
+            main_image_url = EXCLUDED.main_image_url,
+            base_price     = EXCLUDED.base_price,
+            created_at     = EXCLUDED.created_at;
+END;
+$$ LANGUAGE plpgsql;
+
+INSERT INTO storefront_product_listing (product_id, category_id, category_path, name, brand, main_image_url,
+                                        base_price, created_at)
+SELECT p.id,
+       p.category_id,
+       ARRAY(SELECT cc.ancestor_id
+             FROM category_closure cc
+             WHERE cc.descendant_id = p.category_id
+             ORDER BY cc.depth DESC),
+       p.name,
+       p.brand,
+       p.main_image_url,
+       p.base_price,
+       p.created_at
+FROM products p
+         INNER JOIN categories c ON c.id = p.category_id
+WHERE p.status = 'ACTIVE'
+  AND c.status = 'ACTIVE';
+
+-- Maintained by triggers in the writing transaction, like category_closure, so every writer keeps it in sync.
+-- Product deletes cascade through the foreign key.
+CREATE OR REPLACE FUNCTION storefront_product_listing_on_product_change() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM storefront_product_listing_sync(ARRAY [NEW.id]);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- A status change affects only the category's own products; a move changes category_path for the whole subtree.
+CREATE OR REPLACE FUNCTION storefront_product_listing_on_category_change() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF OLD.parent_id IS DISTINCT FROM NEW.parent_id THEN
+        PERFORM storefront_product_listing_sync(ARRAY(
+                SELECT p.id
+                FROM products p
+                WHERE p.category_id IN (SELECT cc.descendant_id FROM category_closure cc WHERE cc.ancestor_id = NEW.id)));
+    ELSE
+        PERFORM storefront_product_listing_sync(ARRAY(
+                SELECT p.id
+                FROM products p
+                WHERE p.category_id = NEW.id));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_storefront_product_listing_product
+    AFTER INSERT OR UPDATE OF category_id, name, brand, main_image_url, base_price, status, created_at
+    ON products
+    FOR EACH ROW
+EXECUTE FUNCTION storefront_product_listing_on_product_change();
+
+-- Fires after trg_category_closure_parent_change (same event, triggers run in name order), so the closure
+-- already reflects the move when category_path is rebuilt.
+CREATE TRIGGER trg_storefront_product_listing_category
+    AFTER UPDATE OF status, parent_id
+    ON categories
+    FOR EACH ROW
+    WHEN (OLD.status IS DISTINCT FROM NEW.status OR OLD.parent_id IS DISTINCT FROM NEW.parent_id)
+EXECUTE FUNCTION storefront_product_listing_on_category_change();
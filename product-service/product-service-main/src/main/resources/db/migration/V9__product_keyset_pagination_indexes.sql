@@ -0,0 +1,6 @@
+-- Public PLP keyset (seek) pagination on price sorts: (base_price, id) row comparison.
+-- NEWEST seeks on the existing idx_products_created_at_id (created_at DESC, id DESC).
+
+CREATE INDEX IF NOT EXISTS idx_products_price_id
+    ON products (base_price, id)
+    WHERE status = 'ACTIVE';
@@ -43,10 +43,12 @@ public class SecurityConfig {
                         "/categories/**",
                         "/queries/categories/hierarchy",
                         "/queries/option-groups/**",
-                        "/public/**"
+                        "/public/**",
+                        "/actuator/health"
                 ).permitAll()
                 .requestMatchers(HttpMethod.POST,
-                        "/public/catalog/cart-lines/search"
+                        "/public/catalog/cart-lines/search",
+                        "/public/products/details/search"
                 ).permitAll()
                 .anyRequest().authenticated());
 
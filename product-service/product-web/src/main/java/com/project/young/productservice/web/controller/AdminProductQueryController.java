@@ -81,7 +81,8 @@ public class AdminProductQueryController {
                 result.page(),
                 result.size(),
                 result.totalElements(),
-                result.totalPages()
+                result.totalPages(),
+                result.totalCountMode()
         );
 
         return ResponseEntity.ok(response);
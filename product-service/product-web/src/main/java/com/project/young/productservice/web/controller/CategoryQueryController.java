@@ -2,6 +2,7 @@ package com.project.young.productservice.web.controller;
 
 import com.project.young.productservice.application.port.output.view.ReadCategoryView;
 import com.project.young.productservice.application.service.CategoryQueryService;
+import com.project.young.productservice.application.support.ContentVersions;
 import com.project.young.productservice.web.dto.ReadCategoryResponse;
 import com.project.young.productservice.web.mapper.CategoryQueryResponseMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -27,11 +28,16 @@ public class CategoryQueryController {
         this.categoryQueryResponseMapper = categoryQueryResponseMapper;
     }
 
+    /**
+     * Carries a strong ETag of the tree; SPA refetches with a matching {@code If-None-Match} get 304 without a body.
+     */
     @GetMapping("/hierarchy")
     public ResponseEntity<ReadCategoryResponse> getAllActiveCategoryHierarchy() {
         log.info("REST request to get category hierarchy.");
         List<ReadCategoryView> categoryHierarchy = categoryQueryService.getAllActiveCategoryHierarchy();
-        return ResponseEntity.ok(categoryQueryResponseMapper.toReadCategoryResponse(categoryHierarchy));
+        return ResponseEntity.ok()
+                .eTag(ContentVersions.of(categoryHierarchy))
+                .body(categoryQueryResponseMapper.toReadCategoryResponse(categoryHierarchy));
     }
 
     @GetMapping("/admin/hierarchy")
@@ -10,7 +10,8 @@ public record AdminProductPageResponse(
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        String totalCountMode
 ) {
     public AdminProductPageResponse {
         content = content == null ? List.of() : content;
@@ -1,6 +1,7 @@
 package com.project.young.productservice.web.mapper;
 
 import com.project.young.productservice.application.dto.result.AdminProductDetailResult;
+import com.project.young.productservice.application.dto.result.TotalCountMode;
 import com.project.young.productservice.application.port.output.view.ReadProductImageView;
 import com.project.young.productservice.application.port.output.view.ReadProductOptionGroupView;
 import com.project.young.productservice.application.port.output.view.ReadProductOptionValueView;
@@ -108,7 +109,8 @@ public class AdminProductQueryResponseMapper {
             int page,
             int size,
             long totalElements,
-            int totalPages
+            int totalPages,
+            TotalCountMode totalCountMode
     ) {
         List<AdminProductListItemResponse> items = content.stream()
                 .map(this::toAdminProductListItemResponse)
@@ -120,6 +122,7 @@ public class AdminProductQueryResponseMapper {
                 .size(size)
                 .totalElements(totalElements)
                 .totalPages(totalPages)
+                .totalCountMode(totalCountMode != null ? totalCountMode.name() : TotalCountMode.EXACT.name())
                 .build();
     }
 
@@ -0,0 +1,91 @@
+package com.project.young.productservice.web.publicapi.controller;
+
+import com.project.young.productservice.application.dto.query.PublicProductBrowseQuery;
+import com.project.young.productservice.application.dto.query.PublicProductFacetType;
+import com.project.young.productservice.application.dto.query.PublicProductListQuery;
+import com.project.young.productservice.application.dto.result.PublicProductBrowseResult;
+import com.project.young.productservice.application.service.PublicProductBrowseQueryService;
+import com.project.young.productservice.application.support.ContentVersions;
+import com.project.young.productservice.web.publicapi.dto.PublicProductBrowseResponse;
+import com.project.young.productservice.web.publicapi.mapper.PublicProductFacetResponseMapper;
+import com.project.young.productservice.web.publicapi.mapper.PublicProductQueryResponseMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Storefront PLP page and facets in one response. Gateway path: {@code /api/v1/product_service/public/products/browse}.
+ * Accepts the listing parameters of {@code public/products} plus {@code facet} of {@code public/products/facets}.
+ * Carries a strong ETag of the result; a matching {@code If-None-Match} gets 304 without a body.
+ */
+@RestController
+@RequestMapping("public/products/browse")
+@Slf4j
+public class PublicProductBrowseQueryController {
+
+    private final PublicProductBrowseQueryService publicProductBrowseQueryService;
+    private final PublicProductQueryResponseMapper publicProductQueryResponseMapper;
+    private final PublicProductFacetResponseMapper publicProductFacetResponseMapper;
+
+    public PublicProductBrowseQueryController(
+            PublicProductBrowseQueryService publicProductBrowseQueryService,
+            PublicProductQueryResponseMapper publicProductQueryResponseMapper,
+            PublicProductFacetResponseMapper publicProductFacetResponseMapper
+    ) {
+        this.publicProductBrowseQueryService = publicProductBrowseQueryService;
+        this.publicProductQueryResponseMapper = publicProductQueryResponseMapper;
+        this.publicProductFacetResponseMapper = publicProductFacetResponseMapper;
+    }
+
+    @GetMapping
+    public ResponseEntity<PublicProductBrowseResponse> browse(
+            @RequestParam(name = "categoryId") long categoryId,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "24") int size,
+            @RequestParam(name = "q", required = false) String q,
+            @RequestParam(name = "sort", required = false) String sort,
+            @RequestParam(name = "brands", required = false) List<String> brands,
+            @RequestParam(name = "minPrice", required = false) BigDecimal minPrice,
+            @RequestParam(name = "maxPrice", required = false) BigDecimal maxPrice,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "facet", required = false) List<PublicProductFacetType> facets,
+            @RequestParam(name = "includeDescendants", defaultValue = "false") boolean includeDescendants
+    ) {
+        List<String> normalizedBrands = brands == null ? List.of() : List.copyOf(brands);
+
+        log.info(
+                "REST request to browse public products: categoryId={}, page={}, size={}, q={}, sort={}, brands={}, minPrice={}, maxPrice={}, cursorMode={}, facets={}, includeDescendants={}",
+                categoryId, page, size, q, sort, normalizedBrands, minPrice, maxPrice, cursor != null, facets,
+                includeDescendants
+        );
+
+        PublicProductBrowseResult result = publicProductBrowseQueryService.browse(new PublicProductBrowseQuery(
+                PublicProductListQuery.builder()
+                        .categoryId(categoryId)
+                        .page(page)
+                        .size(size)
+                        .q(q)
+                        .sort(sort)
+                        .brands(normalizedBrands)
+                        .minPrice(minPrice)
+                        .maxPrice(maxPrice)
+                        .cursor(cursor)
+                        .includeDescendants(includeDescendants)
+                        .build(),
+                facets
+        ));
+
+        return ResponseEntity.ok()
+                .eTag(ContentVersions.of(result))
+                .body(PublicProductBrowseResponse.builder()
+                        .page(publicProductQueryResponseMapper.toPublicProductPageResponse(result.page()))
+                        .facets(publicProductFacetResponseMapper.toResponse(result.facets()))
+                        .build());
+    }
+}
@@ -46,11 +46,12 @@ public class PublicProductFacetQueryController {
             @RequestParam(name = "brands", required = false) List<String> brands,
             @RequestParam(name = "minPrice", required = false) BigDecimal minPrice,
             @RequestParam(name = "maxPrice", required = false) BigDecimal maxPrice,
-            @RequestParam(name = "facet", required = false) List<PublicProductFacetType> facets
+            @RequestParam(name = "facet", required = false) List<PublicProductFacetType> facets,
+            @RequestParam(name = "includeDescendants", defaultValue = "false") boolean includeDescendants
     ) {
         log.info(
-                "REST request to get public product facets: categoryId={}, q={}, brands={}, minPrice={}, maxPrice={}, facets={}",
-                categoryId, q, brands, minPrice, maxPrice, facets
+                "REST request to get public product facets: categoryId={}, q={}, brands={}, minPrice={}, maxPrice={}, facets={}, includeDescendants={}",
+                categoryId, q, brands, minPrice, maxPrice, facets, includeDescendants
         );
 
         PublicProductFacetRequest request = new PublicProductFacetRequest(
@@ -59,7 +60,8 @@ public class PublicProductFacetQueryController {
                 brands,
                 minPrice,
                 maxPrice,
-                facets
+                facets,
+                includeDescendants
         );
 
         PublicProductFacetResult result = publicProductFacetQueryService.getFacets(
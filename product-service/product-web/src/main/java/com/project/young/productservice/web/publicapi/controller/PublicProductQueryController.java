@@ -6,22 +6,43 @@ import com.project.young.productservice.application.port.output.view.ReadProduct
 import com.project.young.productservice.application.dto.result.PublicProductListPageResult;
 import com.project.young.productservice.application.service.PublicProductQueryService;
 import com.project.young.productservice.web.publicapi.dto.PublicProductDetailResponse;
+import com.project.young.productservice.web.publicapi.dto.PublicProductDetailsResponse;
+import com.project.young.productservice.web.publicapi.dto.PublicProductDetailsSearchRequest;
 import com.project.young.productservice.web.publicapi.dto.PublicProductPageResponse;
 import com.project.young.productservice.web.publicapi.mapper.PublicProductQueryResponseMapper;
+import com.project.young.productservice.application.support.ContentVersions;
+import com.project.young.productservice.application.support.StorefrontStockOverlay;
+import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Storefront read API. Gateway path: {@code /api/v1/product_service/public/products}.
+ * Listing supports offset ({@code page}) and keyset ({@code cursor}; send {@code cursor=} for the first page) modes.
+ * {@code includeDescendants=true} lists the whole category subtree.
+ * <p>
+ * Responses carry a strong ETag ({@link ContentVersions} of the read model); a matching {@code If-None-Match} gets
+ * 304 without a body. The PDP's ETag is {@link StorefrontStockOverlay#version}, which also covers variant availability;
+ * the match is checked against the cached static entry's version and the overlay before the view is read.
+ * <p>
+ * {@code POST details/search} returns up to {@value PublicProductQueryService#MAX_DETAIL_IDS} PDPs in one call
+ * (request order, duplicates collapsed, missing or hidden products omitted).
  */
 @RestController
 @RequestMapping("public/products")
@@ -48,26 +69,74 @@ public class PublicProductQueryController {
             @RequestParam(name = "sort", required = false) String sort,
             @RequestParam(name = "brands", required = false) List<String> brands,
             @RequestParam(name = "minPrice", required = false) BigDecimal minPrice,
-            @RequestParam(name = "maxPrice", required = false) BigDecimal maxPrice
+            @RequestParam(name = "maxPrice", required = false) BigDecimal maxPrice,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "includeDescendants", defaultValue = "false") boolean includeDescendants
     ) {
         List<String> normalizedBrands = brands == null ? List.of() : List.copyOf(brands);
 
         log.info(
-                "REST request to list public products: categoryId={}, page={}, size={}, q={}, sort={}, brands={}, minPrice={}, maxPrice={}",
-                categoryId, page, size, q, sort, normalizedBrands, minPrice, maxPrice
+                "REST request to list public products: categoryId={}, page={}, size={}, q={}, sort={}, brands={}, minPrice={}, maxPrice={}, cursorMode={}, includeDescendants={}",
+                categoryId, page, size, q, sort, normalizedBrands, minPrice, maxPrice, cursor != null, includeDescendants
         );
 
         PublicProductListPageResult result = publicProductQueryService.listProductsByCategory(
-                new PublicProductListQuery(categoryId, page, size, q, sort, normalizedBrands, minPrice, maxPrice)
+                PublicProductListQuery.builder()
+                        .categoryId(categoryId)
+                        .page(page)
+                        .size(size)
+                        .q(q)
+                        .sort(sort)
+                        .brands(normalizedBrands)
+                        .minPrice(minPrice)
+                        .maxPrice(maxPrice)
+                        .cursor(cursor)
+                        .includeDescendants(includeDescendants)
+                        .build()
         );
 
-        return ResponseEntity.ok(publicProductQueryResponseMapper.toPublicProductPageResponse(result));
+        return ResponseEntity.ok()
+                .eTag(ContentVersions.of(result))
+                .body(publicProductQueryResponseMapper.toPublicProductPageResponse(result));
     }
 
     @GetMapping("/{productId}")
-    public ResponseEntity<PublicProductDetailResponse> getProductDetail(@PathVariable("productId") UUID productId) {
+    public ResponseEntity<PublicProductDetailResponse> getProductDetail(
+            @PathVariable("productId") UUID productId,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         log.info("REST request to get public product detail: productId={}", productId);
+        if (ifNoneMatch != null) {
+            Optional<String> cachedVersion =
+                    publicProductQueryService.findCachedStorefrontProductDetailVersion(new ProductId(productId));
+            if (cachedVersion.isPresent() && matchesAny(ifNoneMatch, cachedVersion.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cachedVersion.get()).build();
+            }
+        }
         ReadProductDetailView detail = publicProductQueryService.getStorefrontProductDetail(new ProductId(productId));
-        return ResponseEntity.ok(publicProductQueryResponseMapper.toPublicProductDetailResponse(detail));
+        return ResponseEntity.ok()
+                .eTag(StorefrontStockOverlay.version(detail))
+                .body(publicProductQueryResponseMapper.toPublicProductDetailResponse(detail));
+    }
+
+    @PostMapping("/details/search")
+    public ResponseEntity<PublicProductDetailsResponse> searchProductDetails(
+            @Valid @RequestBody PublicProductDetailsSearchRequest request
+    ) {
+        log.info("REST request to search public product details: productCount={}", request.productIds().size());
+
+        List<ReadProductDetailView> details = publicProductQueryService.getStorefrontProductDetails(
+                request.productIds().stream().map(ProductId::new).toList()
+        );
+        return ResponseEntity.ok(publicProductQueryResponseMapper.toPublicProductDetailsResponse(details));
+    }
+
+    /**
+     * Weak comparison, as RFC 9110 prescribes for {@code If-None-Match}.
+     */
+    private static boolean matchesAny(String ifNoneMatch, String version) {
+        ETag current = new ETag(version, false);
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(candidate -> candidate.isWildcard() || candidate.compare(current, false));
     }
 }
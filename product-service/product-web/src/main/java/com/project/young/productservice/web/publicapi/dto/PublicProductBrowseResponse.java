@@ -0,0 +1,10 @@
+package com.project.young.productservice.web.publicapi.dto;
+
+import lombok.Builder;
+
+@Builder
+public record PublicProductBrowseResponse(
+        PublicProductPageResponse page,
+        PublicProductFacetResponse facets
+) {
+}
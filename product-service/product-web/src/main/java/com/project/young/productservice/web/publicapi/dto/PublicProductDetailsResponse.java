@@ -0,0 +1,14 @@
+package com.project.young.productservice.web.publicapi.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record PublicProductDetailsResponse(
+        List<PublicProductDetailResponse> products
+) {
+    public PublicProductDetailsResponse {
+        products = products == null ? List.of() : List.copyOf(products);
+    }
+}
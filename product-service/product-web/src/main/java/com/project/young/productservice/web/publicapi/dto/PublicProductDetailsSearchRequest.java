@@ -0,0 +1,19 @@
+package com.project.young.productservice.web.publicapi.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+public record PublicProductDetailsSearchRequest(
+        @NotNull
+        @Size(max = 50)
+        List<@NotNull UUID> productIds
+) {
+    public PublicProductDetailsSearchRequest {
+        productIds = productIds == null ? List.of() : List.copyOf(productIds);
+    }
+}
@@ -14,10 +14,22 @@ public record PublicProductFacetRequest(
         List<String> brands,
         BigDecimal minPrice,
         BigDecimal maxPrice,
-        List<PublicProductFacetType> facets
+        List<PublicProductFacetType> facets,
+        boolean includeDescendants
 ) {
     public PublicProductFacetRequest {
         brands = brands == null ? List.of() : List.copyOf(brands);
         facets = facets == null ? List.of() : List.copyOf(facets);
     }
+
+    public PublicProductFacetRequest(
+            long categoryId,
+            String q,
+            List<String> brands,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            List<PublicProductFacetType> facets
+    ) {
+        this(categoryId, q, brands, minPrice, maxPrice, facets, false);
+    }
 }
@@ -1,5 +1,6 @@
 package com.project.young.productservice.web.publicapi.dto;
 
+import com.project.young.productservice.application.dto.result.TotalCountMode;
 import lombok.Builder;
 
 import java.util.List;
@@ -10,7 +11,9 @@ public record PublicProductPageResponse(
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        String nextCursor,
+        String totalCountMode
 ) {
     public PublicProductPageResponse {
         content = content == null ? List.of() : content;
@@ -23,6 +26,7 @@ public record PublicProductPageResponse(
                 .size(size)
                 .totalElements(0L)
                 .totalPages(0)
+                .totalCountMode(TotalCountMode.EXACT.name())
                 .build();
     }
 }
@@ -14,7 +14,8 @@ public class PublicProductFacetRequestMapper {
                 request.brands(),
                 request.minPrice(),
                 request.maxPrice(),
-                request.facets()
+                request.facets(),
+                request.includeDescendants()
         );
     }
 }
@@ -11,6 +11,7 @@ import com.project.young.productservice.application.port.output.view.ReadPublicP
 import com.project.young.productservice.web.converter.ConditionTypeWebConverter;
 import com.project.young.productservice.web.converter.ProductStatusWebConverter;
 import com.project.young.productservice.web.publicapi.dto.PublicProductDetailResponse;
+import com.project.young.productservice.web.publicapi.dto.PublicProductDetailsResponse;
 import com.project.young.productservice.web.publicapi.dto.PublicProductImageResponse;
 import com.project.young.productservice.web.publicapi.dto.PublicProductOptionGroupResponse;
 import com.project.young.productservice.web.publicapi.dto.PublicProductOptionValueResponse;
@@ -44,6 +45,8 @@ public class PublicProductQueryResponseMapper {
                 .size(result.size())
                 .totalElements(result.totalElements())
                 .totalPages(result.totalPages())
+                .nextCursor(result.nextCursor())
+                .totalCountMode(result.totalCountMode().name())
                 .build();
     }
 
@@ -57,6 +60,12 @@ public class PublicProductQueryResponseMapper {
                 .build();
     }
 
+    public PublicProductDetailsResponse toPublicProductDetailsResponse(List<ReadProductDetailView> views) {
+        return PublicProductDetailsResponse.builder()
+                .products(views.stream().map(this::toPublicProductDetailResponse).toList())
+                .build();
+    }
+
     public PublicProductDetailResponse toPublicProductDetailResponse(ReadProductDetailView view) {
         return PublicProductDetailResponse.builder()
                 .id(view.id())
@@ -1,6 +1,7 @@
 package com.project.young.productservice.web.controller;
 
 import com.project.young.productservice.application.dto.result.AdminProductDetailResult;
+import com.project.young.productservice.application.dto.result.TotalCountMode;
 import com.project.young.productservice.application.dto.query.AdminProductDetailQuery;
 import com.project.young.productservice.application.dto.condition.AdminProductSearchCondition;
 import com.project.young.productservice.application.port.output.AdminProductReadRepository;
@@ -141,7 +142,8 @@ class AdminProductQueryControllerTest {
                             0,
                             20,
                             1,
-                            1
+                            1,
+                            TotalCountMode.CAPPED
                     );
 
             AdminProductListItemResponse item = AdminProductListItemResponse.builder()
@@ -161,12 +163,13 @@ class AdminProductQueryControllerTest {
                     .size(20)
                     .totalElements(1)
                     .totalPages(1)
+                    .totalCountMode("CAPPED")
                     .build();
 
             when(adminProductQueryService.search(any(AdminProductSearchCondition.class), anyInt(), anyInt(), anyString(), anyBoolean()))
                     .thenReturn(serviceResult);
             when(adminProductQueryResponseMapper.toAdminProductPageResponse(
-                    anyList(), anyInt(), anyInt(), anyLong(), anyInt()))
+                    anyList(), anyInt(), anyInt(), anyLong(), anyInt(), eq(TotalCountMode.CAPPED)))
                     .thenReturn(response);
 
             // When & Then
@@ -186,11 +189,12 @@ class AdminProductQueryControllerTest {
                     .andExpect(jsonPath("$.page").value(0))
                     .andExpect(jsonPath("$.size").value(20))
                     .andExpect(jsonPath("$.totalElements").value(1))
-                    .andExpect(jsonPath("$.totalPages").value(1));
+                    .andExpect(jsonPath("$.totalPages").value(1))
+                    .andExpect(jsonPath("$.totalCountMode").value("CAPPED"));
 
             verify(adminProductQueryService).search(any(AdminProductSearchCondition.class), anyInt(), anyInt(), anyString(), anyBoolean());
             verify(adminProductQueryResponseMapper).toAdminProductPageResponse(
-                    anyList(), anyInt(), anyInt(), anyLong(), anyInt());
+                    anyList(), anyInt(), anyInt(), anyLong(), anyInt(), eq(TotalCountMode.CAPPED));
         }
 
         @Test
@@ -201,7 +205,7 @@ class AdminProductQueryControllerTest {
                     .andExpect(status().isForbidden());
 
             verify(adminProductQueryService, never()).search(any(), anyInt(), anyInt(), anyString(), anyBoolean());
-            verify(adminProductQueryResponseMapper, never()).toAdminProductPageResponse(anyList(), anyInt(), anyInt(), anyLong(), anyInt());
+            verify(adminProductQueryResponseMapper, never()).toAdminProductPageResponse(anyList(), anyInt(), anyInt(), anyLong(), anyInt(), any());
         }
     }
 
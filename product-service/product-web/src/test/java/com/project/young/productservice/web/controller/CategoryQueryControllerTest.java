@@ -2,6 +2,7 @@ package com.project.young.productservice.web.controller;
 
 import com.project.young.productservice.application.port.output.view.ReadCategoryView;
 import com.project.young.productservice.application.service.CategoryQueryService;
+import com.project.young.productservice.application.support.ContentVersions;
 import com.project.young.productservice.domain.valueobject.CategoryStatus;
 import com.project.young.productservice.web.config.SecurityConfig;
 import com.project.young.productservice.web.dto.ReadCategoryNodeResponse;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -80,6 +82,25 @@ class CategoryQueryControllerTest {
             verify(categoryQueryService).getAllActiveCategoryHierarchy();
             verify(categoryQueryResponseMapper).toReadCategoryResponse(anyList());
         }
+
+        @Test
+        @DisplayName("계층이 바뀌지 않았으면 If-None-Match 재요청에 본문 없이 304 반환")
+        void getAllActiveCategoryHierarchy_WhenETagMatches_Returns304() throws Exception {
+            // Given
+            List<ReadCategoryView> hierarchy = List.of(new ReadCategoryView(1L, "전자제품", null, CategoryStatus.ACTIVE));
+            when(categoryQueryService.getAllActiveCategoryHierarchy()).thenReturn(hierarchy);
+            when(categoryQueryResponseMapper.toReadCategoryResponse(anyList()))
+                    .thenReturn(ReadCategoryResponse.builder().categories(List.of()).build());
+            String eTag = "\"" + ContentVersions.of(hierarchy) + "\"";
+
+            // When & Then
+            mockMvc.perform(get("/queries/categories/hierarchy"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTag));
+            mockMvc.perform(get("/queries/categories/hierarchy").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
     }
 
     @Nested
@@ -1,6 +1,7 @@
 package com.project.young.productservice.web.mapper;
 
 import com.project.young.productservice.application.dto.result.AdminProductDetailResult;
+import com.project.young.productservice.application.dto.result.TotalCountMode;
 import com.project.young.productservice.application.port.output.view.ReadProductOptionGroupView;
 import com.project.young.productservice.application.port.output.view.ReadProductOptionValueView;
 import com.project.young.productservice.application.port.output.view.ReadProductVariantView;
@@ -61,7 +62,8 @@ class AdminProductQueryResponseMapperTest {
                 0,
                 20,
                 1L,
-                1
+                1,
+                TotalCountMode.ESTIMATED
         );
 
         // Then
@@ -70,6 +72,7 @@ class AdminProductQueryResponseMapperTest {
         assertThat(response.size()).isEqualTo(20);
         assertThat(response.totalElements()).isEqualTo(1L);
         assertThat(response.totalPages()).isEqualTo(1);
+        assertThat(response.totalCountMode()).isEqualTo("ESTIMATED");
 
         assertThat(response.content()).hasSize(1);
         AdminProductListItemResponse item = response.content().getFirst();
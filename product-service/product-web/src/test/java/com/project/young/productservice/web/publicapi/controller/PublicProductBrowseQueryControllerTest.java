@@ -0,0 +1,128 @@
+package com.project.young.productservice.web.publicapi.controller;
+
+import com.project.young.common.application.web.GlobalExceptionHandler;
+import com.project.young.productservice.application.dto.query.PublicProductBrowseQuery;
+import com.project.young.productservice.application.dto.query.PublicProductFacetType;
+import com.project.young.productservice.application.dto.result.PublicProductBrowseResult;
+import com.project.young.productservice.application.dto.result.PublicProductFacetResult;
+import com.project.young.productservice.application.dto.result.PublicProductListPageResult;
+import com.project.young.productservice.application.service.PublicProductBrowseQueryService;
+import com.project.young.productservice.domain.exception.CategoryNotFoundException;
+import com.project.young.productservice.web.config.SecurityConfig;
+import com.project.young.productservice.web.controller.TestConfig;
+import com.project.young.productservice.web.exception.handler.ProductServiceGlobalExceptionHandler;
+import com.project.young.productservice.web.publicapi.dto.PublicProductFacetResponse;
+import com.project.young.productservice.web.publicapi.dto.PublicProductPageResponse;
+import com.project.young.productservice.web.publicapi.mapper.PublicProductFacetResponseMapper;
+import com.project.young.productservice.web.publicapi.mapper.PublicProductQueryResponseMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PublicProductBrowseQueryController.class)
+@Import({SecurityConfig.class, TestConfig.class, GlobalExceptionHandler.class, ProductServiceGlobalExceptionHandler.class})
+class PublicProductBrowseQueryControllerTest {
+
+    private static final long CATEGORY_ID = 12L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PublicProductBrowseQueryService publicProductBrowseQueryService;
+
+    @MockitoBean
+    private PublicProductQueryResponseMapper publicProductQueryResponseMapper;
+
+    @MockitoBean
+    private PublicProductFacetResponseMapper publicProductFacetResponseMapper;
+
+    @Test
+    @DisplayName("GET /public/products/browse returns page and facets in one response")
+    void browse_returnsPageAndFacets() throws Exception {
+        PublicProductListPageResult page = new PublicProductListPageResult(List.of(), 0, 24, 2L, 1);
+        PublicProductFacetResult facets = new PublicProductFacetResult(CATEGORY_ID, 2L, List.of(), List.of());
+        when(publicProductBrowseQueryService.browse(any(PublicProductBrowseQuery.class)))
+                .thenReturn(new PublicProductBrowseResult(page, facets));
+        when(publicProductQueryResponseMapper.toPublicProductPageResponse(page)).thenReturn(
+                PublicProductPageResponse.builder().content(List.of()).page(0).size(24).totalElements(2L).totalPages(1)
+                        .build());
+        when(publicProductFacetResponseMapper.toResponse(facets)).thenReturn(
+                PublicProductFacetResponse.builder().categoryId(CATEGORY_ID).totalMatching(2L).facets(List.of())
+                        .build());
+
+        mockMvc.perform(get("/public/products/browse").param("categoryId", String.valueOf(CATEGORY_ID)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(2))
+                .andExpect(jsonPath("$.page.content").isArray())
+                .andExpect(jsonPath("$.facets.categoryId").value(CATEGORY_ID))
+                .andExpect(jsonPath("$.facets.totalMatching").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /public/products/browse binds listing and facet params into one query")
+    void browse_withFilterParams_passesQueryToService() throws Exception {
+        PublicProductListPageResult page = new PublicProductListPageResult(List.of(), 1, 12, 0L, 0);
+        PublicProductFacetResult facets = new PublicProductFacetResult(CATEGORY_ID, 0L, List.of(), List.of());
+        when(publicProductBrowseQueryService.browse(any(PublicProductBrowseQuery.class)))
+                .thenReturn(new PublicProductBrowseResult(page, facets));
+
+        mockMvc.perform(get("/public/products/browse")
+                        .param("categoryId", String.valueOf(CATEGORY_ID))
+                        .param("page", "1")
+                        .param("size", "12")
+                        .param("q", "denim")
+                        .param("sort", "price_asc")
+                        .param("brands", "Nike", "Puma")
+                        .param("minPrice", "10")
+                        .param("maxPrice", "999")
+                        .param("facet", "brand")
+                        .param("includeDescendants", "true"))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<PublicProductBrowseQuery> captor = ArgumentCaptor.forClass(PublicProductBrowseQuery.class);
+        verify(publicProductBrowseQueryService).browse(captor.capture());
+        PublicProductBrowseQuery query = captor.getValue();
+        assertThat(query.listing().page()).isEqualTo(1);
+        assertThat(query.listing().size()).isEqualTo(12);
+        assertThat(query.listing().sort()).isEqualTo("price_asc");
+        assertThat(query.listing().brands()).containsExactly("Nike", "Puma");
+        assertThat(query.listing().includeDescendants()).isTrue();
+        assertThat(query.facets()).containsExactly(PublicProductFacetType.BRAND);
+        assertThat(query.toFacetQuery().q()).isEqualTo("denim");
+        assertThat(query.toFacetQuery().maxPrice()).isEqualByComparingTo(new BigDecimal("999"));
+    }
+
+    @Test
+    @DisplayName("GET /public/products/browse returns 400 when categoryId missing")
+    void browse_withoutCategoryId_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/public/products/browse"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /public/products/browse returns 404 when category is not active")
+    void browse_whenCategoryMissing_returnsNotFound() throws Exception {
+        when(publicProductBrowseQueryService.browse(any(PublicProductBrowseQuery.class)))
+                .thenThrow(new CategoryNotFoundException("Category not found: " + CATEGORY_ID));
+
+        mockMvc.perform(get("/public/products/browse").param("categoryId", String.valueOf(CATEGORY_ID)))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -128,7 +128,8 @@ class PublicProductFacetQueryControllerTest {
                         .param("minPrice", "10")
                         .param("maxPrice", "999")
                         .param("facet", "brand")
-                        .param("facet", "price"))
+                        .param("facet", "price")
+                        .param("includeDescendants", "true"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.totalMatching").value(2));
 
@@ -142,6 +143,7 @@ class PublicProductFacetQueryControllerTest {
         assertThat(captured.minPrice()).isEqualByComparingTo("10");
         assertThat(captured.maxPrice()).isEqualByComparingTo("999");
         assertThat(captured.facets()).containsExactlyInAnyOrder(PublicProductFacetType.BRAND, PublicProductFacetType.PRICE);
+        assertThat(captured.includeDescendants()).isTrue();
 
         verify(publicProductFacetQueryService).getFacets(query);
     }
@@ -1,15 +1,19 @@
 package com.project.young.productservice.web.publicapi.controller;
 
+import com.project.young.common.domain.valueobject.ProductId;
 import com.project.young.productservice.application.dto.query.PublicProductListQuery;
 import com.project.young.productservice.application.dto.result.PublicProductListPageResult;
 import com.project.young.productservice.application.port.output.view.ReadProductDetailView;
 import com.project.young.productservice.application.service.PublicProductQueryService;
+import com.project.young.productservice.application.support.ContentVersions;
+import com.project.young.productservice.application.support.StorefrontStockOverlay;
 import com.project.young.common.application.web.GlobalExceptionHandler;
 import com.project.young.productservice.domain.exception.ProductNotFoundException;
 import com.project.young.productservice.web.config.SecurityConfig;
 import com.project.young.productservice.web.controller.TestConfig;
 import com.project.young.productservice.web.exception.handler.ProductServiceGlobalExceptionHandler;
 import com.project.young.productservice.web.publicapi.dto.PublicProductDetailResponse;
+import com.project.young.productservice.web.publicapi.dto.PublicProductDetailsResponse;
 import com.project.young.productservice.web.publicapi.dto.PublicProductPageResponse;
 import com.project.young.productservice.web.publicapi.mapper.PublicProductQueryResponseMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -17,16 +21,25 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -110,6 +123,40 @@ class PublicProductQueryControllerTest {
         .andExpect(jsonPath("$.size").value(10));
   }
 
+  @Test
+  @DisplayName("GET /public/products — cursor 파라미터로 keyset 모드, nextCursor 반환")
+  void listProducts_withCursor_passesCursorAndReturnsNextCursor() throws Exception {
+    PublicProductListPageResult serviceResult =
+        PublicProductListPageResult.keyset(List.of(), 24, "next-token");
+    when(publicProductQueryService.listProductsByCategory(any(PublicProductListQuery.class)))
+        .thenReturn(serviceResult);
+    when(publicProductQueryResponseMapper.toPublicProductPageResponse(serviceResult))
+        .thenReturn(
+            PublicProductPageResponse.builder()
+                .content(List.of())
+                .page(0)
+                .size(24)
+                .totalElements(-1L)
+                .totalPages(-1)
+                .nextCursor("next-token")
+                .totalCountMode("NONE")
+                .build());
+
+    mockMvc
+        .perform(
+            get("/public/products")
+                .param("categoryId", String.valueOf(CATEGORY_ID))
+                .param("cursor", "prev-token")
+                .param("includeDescendants", "true"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.nextCursor").value("next-token"))
+        .andExpect(jsonPath("$.totalCountMode").value("NONE"));
+
+    verify(publicProductQueryService)
+        .listProductsByCategory(
+            argThat(query -> "prev-token".equals(query.cursor()) && query.includeDescendants()));
+  }
+
   @Test
   @DisplayName("GET /public/products/{productId} — 상세 조회")
   void getProductDetail_returnsOk() throws Exception {
@@ -169,4 +216,127 @@ class PublicProductQueryControllerTest {
         .perform(get("/public/products/{productId}", productId))
         .andExpect(status().isNotFound());
   }
+
+  @Test
+  @DisplayName("GET /public/products/{productId} — 응답에 정적 version과 재고 overlay를 합친 strong ETag를 싣는다")
+  void getProductDetail_returnsStrongETag() throws Exception {
+    UUID productId = UUID.randomUUID();
+    ReadProductDetailView view = ReadProductDetailView.builder().id(productId).name("Preview Product").build();
+    when(publicProductQueryService.getStorefrontProductDetail(any())).thenReturn(view);
+    when(publicProductQueryResponseMapper.toPublicProductDetailResponse(view))
+        .thenReturn(PublicProductDetailResponse.builder().id(productId).build());
+
+    mockMvc
+        .perform(get("/public/products/{productId}", productId))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"" + StorefrontStockOverlay.version(view) + "\""));
+
+    verify(publicProductQueryService, never()).findCachedStorefrontProductDetailVersion(any());
+  }
+
+  @Test
+  @DisplayName("GET /public/products/{productId} — If-None-Match가 캐시 version과 같으면 view를 읽지 않고 304")
+  void getProductDetail_whenCachedVersionMatches_returnsNotModifiedWithoutLoading() throws Exception {
+    UUID productId = UUID.randomUUID();
+    when(publicProductQueryService.findCachedStorefrontProductDetailVersion(new ProductId(productId)))
+        .thenReturn(Optional.of("v1"));
+
+    mockMvc
+        .perform(
+            get("/public/products/{productId}", productId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"v0\", W/\"v1\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
+        .andExpect(content().string(""));
+
+    verify(publicProductQueryService, never()).getStorefrontProductDetail(any());
+  }
+
+  @Test
+  @DisplayName("GET /public/products/{productId} — 캐시 version이 다르면 view를 읽고 새 ETag로 200")
+  void getProductDetail_whenCachedVersionDiffers_returnsBody() throws Exception {
+    UUID productId = UUID.randomUUID();
+    ReadProductDetailView view = ReadProductDetailView.builder().id(productId).name("Changed").build();
+    when(publicProductQueryService.findCachedStorefrontProductDetailVersion(new ProductId(productId)))
+        .thenReturn(Optional.of("v2"));
+    when(publicProductQueryService.getStorefrontProductDetail(any())).thenReturn(view);
+    when(publicProductQueryResponseMapper.toPublicProductDetailResponse(view))
+        .thenReturn(PublicProductDetailResponse.builder().id(productId).name("Changed").build());
+
+    mockMvc
+        .perform(get("/public/products/{productId}", productId).header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"" + StorefrontStockOverlay.version(view) + "\""))
+        .andExpect(jsonPath("$.name").value("Changed"));
+  }
+
+  @Test
+  @DisplayName("GET /public/products — 같은 목록을 If-None-Match로 다시 요청하면 본문 없이 304")
+  void listProducts_whenETagMatches_returnsNotModified() throws Exception {
+    PublicProductListPageResult serviceResult =
+        new PublicProductListPageResult(List.of(), 0, 24, 0L, 0);
+    when(publicProductQueryService.listProductsByCategory(any(PublicProductListQuery.class)))
+        .thenReturn(serviceResult);
+    when(publicProductQueryResponseMapper.toPublicProductPageResponse(serviceResult))
+        .thenReturn(PublicProductPageResponse.builder().content(List.of()).build());
+
+    mockMvc
+        .perform(
+            get("/public/products")
+                .param("categoryId", String.valueOf(CATEGORY_ID))
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + ContentVersions.of(serviceResult) + "\""))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  @DisplayName("POST /public/products/details/search — 인증 없이 여러 상품 상세를 요청 순서대로 반환한다")
+  void searchProductDetails_returnsDetailsInServiceOrder() throws Exception {
+    UUID first = UUID.fromString("018f0000-0000-7000-8000-000000000301");
+    UUID second = UUID.fromString("018f0000-0000-7000-8000-000000000302");
+    List<ReadProductDetailView> details =
+        List.of(
+            ReadProductDetailView.builder().id(second).name("두번째").build(),
+            ReadProductDetailView.builder().id(first).name("첫번째").build());
+    when(publicProductQueryService.getStorefrontProductDetails(
+            List.of(new ProductId(second), new ProductId(first))))
+        .thenReturn(details);
+    when(publicProductQueryResponseMapper.toPublicProductDetailsResponse(details))
+        .thenReturn(
+            PublicProductDetailsResponse.builder()
+                .products(
+                    List.of(
+                        PublicProductDetailResponse.builder().id(second).name("두번째").build(),
+                        PublicProductDetailResponse.builder().id(first).name("첫번째").build()))
+                .build());
+
+    mockMvc
+        .perform(
+            post("/public/products/details/search")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"productIds\":[\"" + second + "\",\"" + first + "\"]}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.products[0].id").value(second.toString()))
+        .andExpect(jsonPath("$.products[1].id").value(first.toString()));
+  }
+
+  @Test
+  @DisplayName("POST /public/products/details/search — 상품 id가 50개를 넘으면 400")
+  void searchProductDetails_whenTooManyIds_returnsBadRequest() throws Exception {
+    String ids =
+        String.join(
+            ",",
+            IntStream.range(0, 51)
+                .mapToObj(i -> "\"" + UUID.randomUUID() + "\"")
+                .toList());
+
+    mockMvc
+        .perform(
+            post("/public/products/details/search")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"productIds\":[" + ids + "]}"))
+        .andExpect(status().isBadRequest());
+
+    verify(publicProductQueryService, never()).getStorefrontProductDetails(any());
+  }
 }